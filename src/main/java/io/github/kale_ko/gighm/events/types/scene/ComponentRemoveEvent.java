@@ -0,0 +1,70 @@
+package io.github.kale_ko.gighm.events.types.scene;
+
+import io.github.kale_ko.gighm.events.types.Event;
+import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.components.Component;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A component remove event
+ * Fires every time a component is removed from a game object that is part of a scene (Fires on the thread that removed it)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ComponentRemoveEvent extends Event {
+    /**
+     * The object the component was removed from
+     * 
+     * @since 2.6.0
+     */
+    protected @NotNull GameObject object;
+
+    /**
+     * The component that was removed
+     * 
+     * @since 2.6.0
+     */
+    protected @NotNull Component component;
+
+    /**
+     * Create a component remove event
+     * 
+     * @param object The object the component was removed from
+     * @param component The component that was removed
+     * 
+     * @since 2.6.0
+     */
+    public ComponentRemoveEvent(@NotNull GameObject object, @NotNull Component component) {
+        NullUtils.checkNulls(object, "object");
+        NullUtils.checkNulls(component, "component");
+
+        this.object = object;
+        this.component = component;
+    }
+
+    /**
+     * Get the object the component was removed from
+     * 
+     * @return The object the component was removed from
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull GameObject getObject() {
+        return this.object;
+    }
+
+    /**
+     * Get the component that was removed
+     * 
+     * @return The component that was removed
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Component getComponent() {
+        return this.component;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package io.github.kale_ko.gighm.events.types.scene;
+
+import io.github.kale_ko.gighm.events.types.Event;
+import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.Scene;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * An object add event
+ * Fires every time a game object is added to a scene (Fires on the thread that added it)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ObjectAddEvent extends Event {
+    /**
+     * The scene the object was added to
+     * 
+     * @since 2.6.0
+     */
+    protected @NotNull Scene scene;
+
+    /**
+     * The object that was added
+     * 
+     * @since 2.6.0
+     */
+    protected @NotNull GameObject object;
+
+    /**
+     * Create an object add event
+     * 
+     * @param scene The scene the object was added to
+     * @param object The object that was added
+     * 
+     * @since 2.6.0
+     */
+    public ObjectAddEvent(@NotNull Scene scene, @NotNull GameObject object) {
+        NullUtils.checkNulls(scene, "scene");
+        NullUtils.checkNulls(object, "object");
+
+        this.scene = scene;
+        this.object = object;
+    }
+
+    /**
+     * Get the scene the object was added to
+     * 
+     * @return The scene the object was added to
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Scene getScene() {
+        return this.scene;
+    }
+
+    /**
+     * Get the object that was added
+     * 
+     * @return The object that was added
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull GameObject getObject() {
+        return this.object;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package io.github.kale_ko.gighm.rendering;
+
+import static org.lwjgl.opengl.GL33C.*;
+import java.nio.FloatBuffer;
+import org.joml.Matrix4f;
+import org.lwjgl.BufferUtils;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderProgram;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A uniform buffer holding the std140 camera block shared by every shader in a frame (Only used internally)
+ * The block is laid out as {@code mat4 view; mat4 projection; mat4 viewProjection;}
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class CameraBuffer {
+    /**
+     * The number of floats in the block
+     * 
+     * @since 2.6.0
+     */
+    public static final int BLOCK_FLOATS = 16 * 3;
+
+    /**
+     * The number of bytes in the block
+     * 
+     * @since 2.6.0
+     */
+    public static final int BLOCK_BYTES = BLOCK_FLOATS * Float.BYTES;
+
+    /**
+     * The device the buffer is created on
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * The gl buffer id (0 until the first upload)
+     * 
+     * @since 2.6.0
+     */
+    private int bufferId = 0;
+
+    /**
+     * The cpu side staging data
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull FloatBuffer staging = BufferUtils.createFloatBuffer(BLOCK_FLOATS);
+
+    /**
+     * The last uploaded data (Used to skip uploading an unchanged camera)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull float[] uploaded = new float[BLOCK_FLOATS];
+
+    /**
+     * Create a camera buffer
+     * 
+     * @param device The device to create the buffer on
+     * 
+     * @since 2.6.0
+     */
+    public CameraBuffer(@NotNull RenderDevice device) {
+        NullUtils.checkNulls(device, "device");
+
+        this.device = device;
+    }
+
+    /**
+     * Upload the camera matrices if they changed and bind the buffer to {@link ShaderProgram#CAMERA_BINDING} (Must be called from a {@link Window})
+     * 
+     * @param view The view matrix of the camera
+     * @param projection The projection matrix of the camera
+     * @param viewProjection The combined view projection matrix of the camera
+     * 
+     * @since 2.6.0
+     */
+    public void upload(@NotNull Matrix4f view, @NotNull Matrix4f projection, @NotNull Matrix4f viewProjection) {
+        boolean created = false;
+        if (this.bufferId == 0) {
+            this.bufferId = this.device.createBuffer();
+
+            created = true;
+        }
+
+        // Binding to an indexed target also binds the generic target for the upload
+        this.device.bindBufferBase(GL_UNIFORM_BUFFER, ShaderProgram.CAMERA_BINDING, this.bufferId);
+
+        if (created) {
+            this.device.bufferData(GL_UNIFORM_BUFFER, BLOCK_BYTES, GL_DYNAMIC_DRAW);
+        }
+
+        view.get(0, this.staging);
+        projection.get(16, this.staging);
+        viewProjection.get(32, this.staging);
+
+        boolean changed = created;
+        for (int i = 0; i < BLOCK_FLOATS; i++) {
+            float value = this.staging.get(i);
+
+            if (this.uploaded[i] != value) {
+                this.uploaded[i] = value;
+
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            this.staging.position(0).limit(BLOCK_FLOATS);
+            this.device.bufferSubData(GL_UNIFORM_BUFFER, 0, this.staging);
+        }
+    }
+
+    /**
+     * Get the gl buffer id
+     * 
+     * @return The gl buffer id
+     * 
+     * @since 2.6.0
+     */
+    public int getBufferId() {
+        return this.bufferId;
+    }
+
+    /**
+     * Delete the gl buffer (Must be called from a {@link Window})
+     * 
+     * @since 2.6.0
+     */
+    public void delete() {
+        if (this.bufferId != 0) {
+            this.device.deleteBuffer(this.bufferId);
+
+            this.bufferId = 0;
+        }
+    }
+}
\ No newline at end of file
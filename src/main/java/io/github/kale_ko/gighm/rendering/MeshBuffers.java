@@ -0,0 +1,299 @@
+package io.github.kale_ko.gighm.rendering;
+
+import static org.lwjgl.opengl.GL33C.*;
+import io.github.kale_ko.gighm.rendering.batching.InstanceBuffer;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.rendering.resources.GPUResource;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderProgram;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.ArrayUtils;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * The gl buffers and vertex array of an uploaded mesh (Only used internally)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class MeshBuffers extends GPUResource {
+    /**
+     * The device the buffers were uploaded to
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * The gl vertex array id, capturing all the buffer bindings of the mesh
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer vertArrayId;
+
+    /**
+     * The gl vertex buffer id
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer vertBufferId;
+
+    /**
+     * The gl uv buffer id (0 if the mesh has no uvs)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer uvBufferId = 0;
+
+    /**
+     * The gl triangle buffer id (0 if the mesh has no triangles)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer triBufferId = 0;
+
+    /**
+     * The number of vertices to draw
+     * 
+     * @since 2.6.0
+     */
+    private int vertexCount;
+
+    /**
+     * The number of triangle indices to draw
+     * 
+     * @since 2.6.0
+     */
+    private int indexCount;
+
+    /**
+     * The number of bytes uploaded to the buffers
+     * 
+     * @since 2.6.0
+     */
+    private long bytes;
+
+    /**
+     * Weather the instance matrix attributes are enabled in the vertex array
+     * 
+     * @since 2.6.0
+     */
+    private boolean instanceAttributes = false;
+
+    /**
+     * Upload a mesh into new gl buffers and record their bindings in a vertex array (Must be called from a {@link Window})
+     * 
+     * @param device The device to upload to
+     * @param mesh The mesh to upload
+     * 
+     * @since 2.6.0
+     */
+    public MeshBuffers(@NotNull RenderDevice device, @NotNull Mesh mesh) {
+        NullUtils.checkNulls(device, "device");
+        NullUtils.checkNulls(mesh, "mesh");
+
+        this.device = device;
+        this.upload(ArrayUtils.toPrimitive(mesh.getVertices()), mesh.getVerticeSize(), mesh.getUVs() != null ? ArrayUtils.toPrimitive(mesh.getUVs()) : null, mesh.getTriangles() != null ? ArrayUtils.toPrimitive(mesh.getTriangles()) : null);
+    }
+
+    /**
+     * Upload raw geometry into new gl buffers and record their bindings in a vertex array (Must be called from a {@link Window})
+     * 
+     * @param device The device to upload to
+     * @param vertices The vertices to upload
+     * @param verticeSize How many numbers define a point
+     * @param uvs The uvs to upload
+     * @param triangles The triangles to upload
+     * 
+     * @since 2.6.0
+     */
+    public MeshBuffers(@NotNull RenderDevice device, @NotNull float[] vertices, @NotNull Integer verticeSize, @Nullable float[] uvs, @Nullable int[] triangles) {
+        NullUtils.checkNulls(device, "device");
+        NullUtils.checkNulls(vertices, "vertices");
+        NullUtils.checkNulls(verticeSize, "verticeSize");
+
+        this.device = device;
+        this.upload(vertices, verticeSize, uvs, triangles);
+    }
+
+    /**
+     * Upload geometry into new gl buffers and record their bindings in a vertex array
+     * 
+     * @param vertices The vertices to upload
+     * @param verticeSize How many numbers define a point
+     * @param uvs The uvs to upload
+     * @param triangles The triangles to upload
+     * 
+     * @since 2.6.0
+     */
+    private void upload(@NotNull float[] vertices, int verticeSize, @Nullable float[] uvs, @Nullable int[] triangles) {
+        this.vertArrayId = this.device.createVertexArray();
+        this.device.bindVertexArray(this.vertArrayId);
+
+        this.vertBufferId = this.device.createBuffer();
+        this.device.bindBuffer(GL_ARRAY_BUFFER, this.vertBufferId);
+        this.device.bufferData(GL_ARRAY_BUFFER, vertices, GL_STATIC_DRAW);
+
+        this.device.enableVertexAttribArray(ShaderProgram.VERTICES_LOCATION);
+        this.device.vertexAttribPointer(ShaderProgram.VERTICES_LOCATION, verticeSize, GL_FLOAT, false, 0, 0);
+
+        this.vertexCount = vertices.length / verticeSize;
+        this.bytes = (long) vertices.length * Float.BYTES;
+
+        if (uvs != null) {
+            this.uvBufferId = this.device.createBuffer();
+            this.device.bindBuffer(GL_ARRAY_BUFFER, this.uvBufferId);
+            this.device.bufferData(GL_ARRAY_BUFFER, uvs, GL_STATIC_DRAW);
+            this.bytes += (long) uvs.length * Float.BYTES;
+
+            this.device.enableVertexAttribArray(ShaderProgram.UVS_LOCATION);
+            this.device.vertexAttribPointer(ShaderProgram.UVS_LOCATION, 2, GL_FLOAT, false, 0, 0);
+        }
+
+        if (triangles != null) {
+            this.triBufferId = this.device.createBuffer();
+            this.device.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.triBufferId);
+            this.device.bufferData(GL_ELEMENT_ARRAY_BUFFER, triangles, GL_STATIC_DRAW);
+
+            this.indexCount = triangles.length;
+            this.bytes += (long) triangles.length * Integer.BYTES;
+        }
+
+        this.device.bindVertexArray(0);
+        this.device.bindBuffer(GL_ARRAY_BUFFER, 0);
+        this.device.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
+    }
+
+    /**
+     * Bind the vertex array of the mesh
+     * 
+     * @since 2.6.0
+     */
+    public void bind() {
+        this.device.bindVertexArray(this.vertArrayId);
+    }
+
+    /**
+     * Draw the mesh (The vertex array must be bound)
+     * 
+     * @since 2.6.0
+     */
+    public void draw() {
+        if (this.triBufferId != 0) {
+            this.device.drawElements(GL_TRIANGLES, this.indexCount, GL_UNSIGNED_INT, 0);
+        } else {
+            this.device.drawArrays(GL_TRIANGLES, 0, this.vertexCount);
+        }
+    }
+
+    /**
+     * Draw multiple instances of the mesh (The vertex array must be bound and have an instance buffer set)
+     * 
+     * @param instances The number of instances to draw
+     * 
+     * @since 2.6.0
+     */
+    public void drawInstanced(int instances) {
+        if (this.triBufferId != 0) {
+            this.device.drawElementsInstanced(GL_TRIANGLES, this.indexCount, GL_UNSIGNED_INT, 0, instances);
+        } else {
+            this.device.drawArraysInstanced(GL_TRIANGLES, 0, this.vertexCount, instances);
+        }
+    }
+
+    /**
+     * Point the instance matrix attributes of the vertex array at a range of an instance buffer (The vertex array must be bound)
+     * 
+     * @param bufferId The gl id of the instance buffer
+     * @param offset The byte offset of the first instance
+     * 
+     * @since 2.6.0
+     */
+    public void setInstanceBuffer(int bufferId, long offset) {
+        this.device.bindBuffer(GL_ARRAY_BUFFER, bufferId);
+
+        for (int i = 0; i < 4; i++) {
+            int location = ShaderProgram.INSTANCE_MATRIX_LOCATION + i;
+
+            if (!this.instanceAttributes) {
+                this.device.enableVertexAttribArray(location);
+                this.device.vertexAttribDivisor(location, 1);
+            }
+
+            this.device.vertexAttribPointer(location, 4, GL_FLOAT, false, InstanceBuffer.INSTANCE_BYTES, offset + i * 4 * Float.BYTES);
+        }
+
+        this.instanceAttributes = true;
+    }
+
+    /**
+     * Disable the instance matrix attributes of the vertex array if they are enabled (The vertex array must be bound)
+     * 
+     * @since 2.6.0
+     */
+    public void disableInstancing() {
+        if (this.instanceAttributes) {
+            for (int i = 0; i < 4; i++) {
+                this.device.disableVertexAttribArray(ShaderProgram.INSTANCE_MATRIX_LOCATION + i);
+            }
+
+            this.instanceAttributes = false;
+        }
+    }
+
+    /**
+     * Get weather the mesh was uploaded with uvs
+     * 
+     * @return Weather the mesh was uploaded with uvs
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean hasUVs() {
+        return this.uvBufferId != 0;
+    }
+
+    /**
+     * Get the gl vertex array id
+     * 
+     * @return The gl vertex array id
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getVertArrayId() {
+        return this.vertArrayId;
+    }
+
+    /**
+     * Get the number of bytes uploaded to the buffers
+     * 
+     * @return The number of bytes uploaded to the buffers
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public long getBytes() {
+        return this.bytes;
+    }
+
+    /**
+     * Delete the gl buffers and vertex array (Must be called from a {@link Window})
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void delete() {
+        this.device.deleteVertexArray(this.vertArrayId);
+        this.device.deleteBuffer(this.vertBufferId);
+
+        if (this.uvBufferId != 0) {
+            this.device.deleteBuffer(this.uvBufferId);
+        }
+
+        if (this.triBufferId != 0) {
+            this.device.deleteBuffer(this.triBufferId);
+        }
+    }
+}
\ No newline at end of file
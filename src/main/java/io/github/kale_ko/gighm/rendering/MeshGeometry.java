@@ -0,0 +1,92 @@
+package io.github.kale_ko.gighm.rendering;
+
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A key identifying the geometry arrays of a mesh (Only used internally)
+ * Copies of a mesh share their arrays so they share one set of gl buffers
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class MeshGeometry {
+    /**
+     * The vertices of the mesh
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float[] vertices;
+
+    /**
+     * How many numbers define a point in the mesh
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer verticeSize;
+
+    /**
+     * The uvs of the mesh
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Float[] uvs;
+
+    /**
+     * The triangles of the mesh
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Integer[] triangles;
+
+    /**
+     * Create a key for the geometry of a mesh
+     * 
+     * @param mesh The mesh to create a key for
+     * 
+     * @since 2.6.0
+     */
+    public MeshGeometry(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        this.vertices = mesh.getVertices();
+        this.verticeSize = mesh.getVerticeSize();
+        this.uvs = mesh.getUVs();
+        this.triangles = mesh.getTriangles();
+    }
+
+    /**
+     * Get weather another object is the same geometry (The same arrays, not equal arrays)
+     * 
+     * @param other The object to compare to
+     * 
+     * @return Weather the other object is the same geometry
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (!(other instanceof MeshGeometry)) {
+            return false;
+        }
+
+        MeshGeometry geometry = (MeshGeometry) other;
+        return this.vertices == geometry.vertices && this.verticeSize.equals(geometry.verticeSize) && this.uvs == geometry.uvs && this.triangles == geometry.triangles;
+    }
+
+    /**
+     * Get a hash code of the geometry
+     * 
+     * @return A hash code of the geometry
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int hashCode() {
+        return ((System.identityHashCode(this.vertices) * 31 + this.verticeSize) * 31 + System.identityHashCode(this.uvs)) * 31 + System.identityHashCode(this.triangles);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package io.github.kale_ko.gighm.rendering;
+
+import static org.lwjgl.opengl.GL33C.*;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.rendering.queue.RenderPass;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A set of gpu timer queries measuring how long each render pass takes on the device (Only used internally)
+ * Each frame uses its own queries and results are only read once they are available, so the times reported are from a few frames ago but reading them never stalls
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class PassTimer {
+    /**
+     * The number of frames of queries kept in flight
+     * 
+     * @since 2.6.0
+     */
+    public static final int FRAMES = 3;
+
+    /**
+     * The render passes (Cached so they are not copied every frame)
+     * 
+     * @since 2.6.0
+     */
+    private static final @NotNull RenderPass[] PASSES = RenderPass.values();
+
+    /**
+     * The device the queries are created on
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * The queries of each frame and pass (0 until first used)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull int[][] queries = new int[FRAMES][PASSES.length];
+
+    /**
+     * Weather each query was started and its result has not been read yet
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull boolean[][] pending = new boolean[FRAMES][PASSES.length];
+
+    /**
+     * The frame whose queries are being recorded
+     * 
+     * @since 2.6.0
+     */
+    private int frame = 0;
+
+    /**
+     * The pass currently being timed (-1 if none)
+     * 
+     * @since 2.6.0
+     */
+    private int running = -1;
+
+    /**
+     * Create a pass timer
+     * 
+     * @param device The device to create queries on
+     * 
+     * @since 2.6.0
+     */
+    public PassTimer(@NotNull RenderDevice device) {
+        NullUtils.checkNulls(device, "device");
+
+        this.device = device;
+    }
+
+    /**
+     * Read the results of earlier frames that are available into the stats and move on to the next frame's queries (Must be called from a {@link Window})
+     * 
+     * @param stats The stats to report times to
+     * 
+     * @return Weather any new time was read
+     * 
+     * @since 2.6.0
+     */
+    public boolean begin(@NotNull RenderStats stats) {
+        this.frame = (this.frame + 1) % FRAMES;
+
+        boolean read = false;
+
+        // The oldest frame is read first so the newest available time of each pass is the one kept
+        for (int i = 0; i < FRAMES; i++) {
+            int frame = (this.frame + i) % FRAMES;
+
+            for (int pass = 0; pass < PASSES.length; pass++) {
+                if (this.pending[frame][pass] && this.device.getQueryAvailable(this.queries[frame][pass])) {
+                    stats.setPassGpuTime(PASSES[pass], this.device.getQueryResult(this.queries[frame][pass]));
+
+                    this.pending[frame][pass] = false;
+                    read = true;
+                }
+            }
+        }
+
+        return read;
+    }
+
+    /**
+     * Start timing a pass, ending the one before it (Must be called from a {@link Window})
+     * 
+     * @param pass The pass to time
+     * 
+     * @since 2.6.0
+     */
+    public void start(@NotNull RenderPass pass) {
+        this.end();
+
+        int index = pass.ordinal();
+
+        // A query that is still in flight from the last time this frame slot was used can not be restarted
+        if (this.pending[this.frame][index]) {
+            return;
+        }
+
+        if (this.queries[this.frame][index] == 0) {
+            this.queries[this.frame][index] = this.device.createQuery();
+        }
+
+        this.device.beginQuery(GL_TIME_ELAPSED, this.queries[this.frame][index]);
+
+        this.running = index;
+    }
+
+    /**
+     * End timing the current pass (Must be called from a {@link Window}, does nothing if no pass is being timed)
+     * 
+     * @since 2.6.0
+     */
+    public void end() {
+        if (this.running != -1) {
+            this.device.endQuery(GL_TIME_ELAPSED);
+
+            this.pending[this.frame][this.running] = true;
+            this.running = -1;
+        }
+    }
+
+    /**
+     * Delete every query (Must be called from a {@link Window})
+     * 
+     * @since 2.6.0
+     */
+    public void delete() {
+        this.end();
+
+        for (int frame = 0; frame < FRAMES; frame++) {
+            for (int pass = 0; pass < PASSES.length; pass++) {
+                if (this.queries[frame][pass] != 0) {
+                    this.device.deleteQuery(this.queries[frame][pass]);
+
+                    this.queries[frame][pass] = 0;
+                    this.pending[frame][pass] = false;
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
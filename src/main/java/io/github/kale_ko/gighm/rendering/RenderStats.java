@@ -0,0 +1,412 @@
+package io.github.kale_ko.gighm.rendering;
+
+import java.util.Arrays;
+import io.github.kale_ko.gighm.rendering.queue.RenderPass;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * Counters describing the work done to render the last frame
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class RenderStats {
+    /**
+     * The number of draw packets submitted
+     * 
+     * @since 2.6.0
+     */
+    private int packets;
+
+    /**
+     * The number of draw calls issued
+     * 
+     * @since 2.6.0
+     */
+    private int drawCalls;
+
+    /**
+     * The number of times the shader program changed
+     * 
+     * @since 2.6.0
+     */
+    private int programChanges;
+
+    /**
+     * The number of times the bound texture changed
+     * 
+     * @since 2.6.0
+     */
+    private int textureChanges;
+
+    /**
+     * The number of times the bound vertex array changed
+     * 
+     * @since 2.6.0
+     */
+    private int vertexArrayChanges;
+
+    /**
+     * The number of objects that passed culling
+     * 
+     * @since 2.6.0
+     */
+    private int visible;
+
+    /**
+     * The number of objects rejected by culling
+     * 
+     * @since 2.6.0
+     */
+    private int culled;
+
+    /**
+     * The number of objects that passed frustum culling but were hidden behind occluders
+     * 
+     * @since 2.6.0
+     */
+    private int occluded;
+
+    /**
+     * The cpu time spent submitting each pass in nanoseconds
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull long[] passTimes = new long[RenderPass.values().length];
+
+    /**
+     * The gpu time of each pass in nanoseconds, from the newest frame whose timings are available
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull long[] passGpuTimes = new long[RenderPass.values().length];
+
+    /**
+     * The width the scene was drawn at
+     * 
+     * @since 2.6.0
+     */
+    private int width;
+
+    /**
+     * The height the scene was drawn at
+     * 
+     * @since 2.6.0
+     */
+    private int height;
+
+    /**
+     * Create render stats
+     * 
+     * @since 2.6.0
+     */
+    public RenderStats() {}
+
+    /**
+     * Reset all the counters (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    public void reset() {
+        this.packets = 0;
+        this.drawCalls = 0;
+        this.programChanges = 0;
+        this.textureChanges = 0;
+        this.vertexArrayChanges = 0;
+        this.visible = 0;
+        this.culled = 0;
+        this.occluded = 0;
+
+        Arrays.fill(this.passTimes, 0);
+    }
+
+    /**
+     * Count submitted draw packets (Only used internally)
+     * 
+     * @param count The number of packets submitted
+     * 
+     * @since 2.6.0
+     */
+    public void countPackets(int count) {
+        this.packets += count;
+    }
+
+    /**
+     * Count an issued draw call (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    public void countDrawCall() {
+        this.drawCalls++;
+    }
+
+    /**
+     * Count a shader program change (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    public void countProgramChange() {
+        this.programChanges++;
+    }
+
+    /**
+     * Count a texture change (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    public void countTextureChange() {
+        this.textureChanges++;
+    }
+
+    /**
+     * Count a vertex array change (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    public void countVertexArrayChange() {
+        this.vertexArrayChanges++;
+    }
+
+    /**
+     * Count the result of culling (Only used internally)
+     * 
+     * @param visible The number of objects that passed culling
+     * @param culled The number of objects rejected by culling
+     * 
+     * @since 2.6.0
+     */
+    public void countCulling(int visible, int culled) {
+        this.visible += visible;
+        this.culled += culled;
+    }
+
+    /**
+     * Count objects hidden by occlusion culling (Only used internally)
+     * 
+     * @param occluded The number of objects hidden behind occluders
+     * 
+     * @since 2.6.0
+     */
+    public void countOcclusion(int occluded) {
+        this.occluded += occluded;
+    }
+
+    /**
+     * Get the number of draw packets submitted
+     * 
+     * @return The number of draw packets submitted
+     * 
+     * @since 2.6.0
+     */
+    public int getPackets() {
+        return this.packets;
+    }
+
+    /**
+     * Get the number of draw calls issued
+     * 
+     * @return The number of draw calls issued
+     * 
+     * @since 2.6.0
+     */
+    public int getDrawCalls() {
+        return this.drawCalls;
+    }
+
+    /**
+     * Get the number of times the shader program changed
+     * 
+     * @return The number of times the shader program changed
+     * 
+     * @since 2.6.0
+     */
+    public int getProgramChanges() {
+        return this.programChanges;
+    }
+
+    /**
+     * Get the number of times the bound texture changed
+     * 
+     * @return The number of times the bound texture changed
+     * 
+     * @since 2.6.0
+     */
+    public int getTextureChanges() {
+        return this.textureChanges;
+    }
+
+    /**
+     * Get the number of times the bound vertex array changed
+     * 
+     * @return The number of times the bound vertex array changed
+     * 
+     * @since 2.6.0
+     */
+    public int getVertexArrayChanges() {
+        return this.vertexArrayChanges;
+    }
+
+    /**
+     * Get the number of objects that passed culling
+     * 
+     * @return The number of objects that passed culling
+     * 
+     * @since 2.6.0
+     */
+    public int getVisible() {
+        return this.visible;
+    }
+
+    /**
+     * Get the number of objects rejected by culling
+     * 
+     * @return The number of objects rejected by culling
+     * 
+     * @since 2.6.0
+     */
+    public int getCulled() {
+        return this.culled;
+    }
+
+    /**
+     * Get the number of objects that passed frustum culling but were hidden behind occluders
+     * 
+     * @return The number of objects hidden by occlusion culling
+     * 
+     * @since 2.6.0
+     */
+    public int getOccluded() {
+        return this.occluded;
+    }
+
+    /**
+     * Count cpu time spent submitting a pass (Only used internally)
+     * 
+     * @param pass The pass
+     * @param time The time in nanoseconds
+     * 
+     * @since 2.6.0
+     */
+    public void countPassTime(@NotNull RenderPass pass, long time) {
+        this.passTimes[pass.ordinal()] += time;
+    }
+
+    /**
+     * Set the gpu time of a pass (Only used internally)
+     * 
+     * @param pass The pass
+     * @param time The time in nanoseconds
+     * 
+     * @since 2.6.0
+     */
+    public void setPassGpuTime(@NotNull RenderPass pass, long time) {
+        this.passGpuTimes[pass.ordinal()] = time;
+    }
+
+    /**
+     * Get the cpu time spent submitting a pass
+     * 
+     * @param pass The pass
+     * 
+     * @return The time in nanoseconds
+     * 
+     * @since 2.6.0
+     */
+    public long getPassTime(@NotNull RenderPass pass) {
+        NullUtils.checkNulls(pass, "pass");
+
+        return this.passTimes[pass.ordinal()];
+    }
+
+    /**
+     * Get the gpu time of a pass (Measured a few frames ago so waiting for it does not stall rendering)
+     * 
+     * @param pass The pass
+     * 
+     * @return The time in nanoseconds (0 if the pass has not been timed yet)
+     * 
+     * @since 2.6.0
+     */
+    public long getPassGpuTime(@NotNull RenderPass pass) {
+        NullUtils.checkNulls(pass, "pass");
+
+        return this.passGpuTimes[pass.ordinal()];
+    }
+
+    /**
+     * Get the gpu time of every pass together (Measured a few frames ago so waiting for it does not stall rendering)
+     * 
+     * @return The time in nanoseconds (0 if no pass has been timed yet)
+     * 
+     * @since 2.6.0
+     */
+    public long getGpuTime() {
+        long time = 0;
+        for (int i = 0; i < this.passGpuTimes.length; i++) {
+            time += this.passGpuTimes[i];
+        }
+
+        return time;
+    }
+
+    /**
+     * Set the resolution the scene was drawn at (Only used internally)
+     * 
+     * @param width The width
+     * @param height The height
+     * 
+     * @since 2.6.0
+     */
+    public void setResolution(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Get the width the scene was drawn at
+     * 
+     * @return The width (0 if the size of the window is not known)
+     * 
+     * @since 2.6.0
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Get the height the scene was drawn at
+     * 
+     * @return The height (0 if the size of the window is not known)
+     * 
+     * @since 2.6.0
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Get the total number of state changes (Program, texture, and vertex array changes)
+     * 
+     * @return The total number of state changes
+     * 
+     * @since 2.6.0
+     */
+    public int getStateChanges() {
+        return this.programChanges + this.textureChanges + this.vertexArrayChanges;
+    }
+
+    /**
+     * Get a string representing the object
+     * 
+     * @return A string representing the object
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull String toString() {
+        return "RenderStats{packets=" + this.packets + ", drawCalls=" + this.drawCalls + ", programChanges=" + this.programChanges + ", textureChanges=" + this.textureChanges + ", vertexArrayChanges=" + this.vertexArrayChanges + ", visible=" + this.visible + ", culled=" + this.culled + ", occluded=" + this.occluded + "}";
+    }
+}
\ No newline at end of file
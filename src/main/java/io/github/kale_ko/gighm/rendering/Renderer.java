@@ -1,41 +1,84 @@
 package io.github.kale_ko.gighm.rendering;
 
 import static org.lwjgl.opengl.GL33C.*;
-import static org.lwjgl.system.MemoryUtil.NULL;
 import java.awt.Color;
-import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import org.joml.Matrix4f;
-import org.joml.Vector3f;
-import org.lwjgl.BufferUtils;
-import org.lwjgl.opengl.GL;
+import io.github.kale_ko.gighm.events.types.scene.ComponentAddEvent;
+import io.github.kale_ko.gighm.events.types.scene.ComponentRemoveEvent;
+import io.github.kale_ko.gighm.events.types.scene.ObjectAddEvent;
+import io.github.kale_ko.gighm.events.types.scene.ObjectRemoveEvent;
 import io.github.kale_ko.gighm.exception.AlreadyInitializedException;
 import io.github.kale_ko.gighm.exception.GLCompileException;
 import io.github.kale_ko.gighm.exception.IncorrectThreadException;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
 import io.github.kale_ko.gighm.exception.NotInitializedException;
+import io.github.kale_ko.gighm.rendering.batching.InstanceBuffer;
+import io.github.kale_ko.gighm.rendering.batching.SpriteBatcher;
+import io.github.kale_ko.gighm.rendering.batching.StaticBatch;
+import io.github.kale_ko.gighm.rendering.batching.StaticBatcher;
+import io.github.kale_ko.gighm.rendering.culling.FrustumCuller;
+import io.github.kale_ko.gighm.rendering.culling.OcclusionCuller;
+import io.github.kale_ko.gighm.rendering.device.GLRenderDevice;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.rendering.device.StateCachingRenderDevice;
 import io.github.kale_ko.gighm.rendering.objects.Skybox;
+import io.github.kale_ko.gighm.rendering.pipeline.FramePipeline;
+import io.github.kale_ko.gighm.rendering.pipeline.FrameSnapshot;
+import io.github.kale_ko.gighm.rendering.queue.CommandList;
+import io.github.kale_ko.gighm.rendering.queue.DrawPacket;
+import io.github.kale_ko.gighm.rendering.queue.RenderPass;
+import io.github.kale_ko.gighm.rendering.queue.RenderQueue;
+import io.github.kale_ko.gighm.rendering.queue.SortKey;
+import io.github.kale_ko.gighm.rendering.resources.ResourceManager;
+import io.github.kale_ko.gighm.rendering.shaders.ProgramCache;
 import io.github.kale_ko.gighm.rendering.shaders.Shader;
-import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderProgram;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderVariants;
+import io.github.kale_ko.gighm.rendering.targets.RenderTarget;
+import io.github.kale_ko.gighm.rendering.targets.ResolutionScaler;
 import io.github.kale_ko.gighm.scene.GameObject;
 import io.github.kale_ko.gighm.scene.Scene;
 import io.github.kale_ko.gighm.scene.components.Camera;
+import io.github.kale_ko.gighm.scene.components.LevelOfDetail;
 import io.github.kale_ko.gighm.scene.components.Mesh;
-import io.github.kale_ko.gighm.scene.components.Transform;
-import io.github.kale_ko.gighm.util.ArrayUtils;
 import io.github.kale_ko.gighm.util.NotNull;
 import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+import io.github.kale_ko.gighm.util.ParallelLoop;
 
 /**
  * A renderer for rendering scenes to windows
  * 
  * @author Kale Ko
  * 
- * @version 1.5.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Renderer {
+    /**
+     * The number of culled objects at which recording draws is split across threads
+     * 
+     * @since 2.6.0
+     */
+    public static final int PARALLEL_THRESHOLD = 4096;
+
+    /**
+     * The number of culled objects recorded by one thread at a time
+     * 
+     * @since 2.6.0
+     */
+    public static final int CHUNK_SIZE = 1024;
+
+    /**
+     * The render passes (Cached so they are not copied every frame)
+     * 
+     * @since 2.6.0
+     */
+    private static final @NotNull RenderPass[] PASSES = RenderPass.values();
+
     /**
      * The scene to be rendered
      * 
@@ -71,6 +114,20 @@ public class Renderer {
      */
     private @NotNull Color clearColor;
 
+    /**
+     * The device to render with
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device = new GLRenderDevice();
+
+    /**
+     * The device wrapped with a state cache, used for everything submitted by the renderer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull StateCachingRenderDevice state;
+
     /**
      * Weather the window is initialized
      * 
@@ -79,53 +136,277 @@ public class Renderer {
     private @NotNull Boolean initialized = false;
 
     /**
-     * A map of shaders to their gl program ids (Only used internally)
+     * A map of shaders to their linked programs (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Shader, ShaderProgram> shaderPrograms = new HashMap<Shader, ShaderProgram>();
+
+    /**
+     * The cache to load shader programs from instead of compiling them (Null to always compile them)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable ProgramCache programCache = null;
+
+    /**
+     * The program the scene was last drawn with, drawn with again while the current shader's program is still compiling (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable ShaderProgram program = null;
+
+    /**
+     * The variants meshes are drawn with instead of the shader when they are ready (Null to draw everything with the shader)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable ShaderVariants variants = null;
+
+    /**
+     * The variants the programs in {@link #variantPrograms} were created from (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable ShaderVariants drawnVariants = null;
+
+    /**
+     * The program of each combination of variant features that has been drawn with (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull ShaderProgram[] variantPrograms = new ShaderProgram[ShaderVariants.COUNT];
+
+    /**
+     * The manager of the buffers and textures uploaded for the scene
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Shader, Integer> shaderPrograms = new HashMap<Shader, Integer>();
+    private @NotNull ResourceManager resources = new ResourceManager();
 
     /**
-     * A map of shaders to their gl vertex shader ids (Only used internally)
+     * The id of the object add listener on the scene (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Shader, Integer> shaderVertexShaders = new HashMap<Shader, Integer>();
+    private @NotNull Integer addListener;
 
     /**
-     * A map of shaders to their gl fragment shader ids (Only used internally)
+     * The id of the object remove listener on the scene (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Shader, Integer> shaderFragmentShaders = new HashMap<Shader, Integer>();
+    private @NotNull Integer removeListener;
 
     /**
-     * A map of meshes to their gl vertex buffer ids (Only used internally)
+     * The id of the component add listener on the scene (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Mesh, Integer> meshVertBuffers = new HashMap<Mesh, Integer>();
+    private @NotNull Integer componentAddListener;
 
     /**
-     * A map of meshes to their gl uv buffer ids (Only used internally)
+     * The id of the component remove listener on the scene (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Mesh, Integer> meshUvBuffers = new HashMap<Mesh, Integer>();
+    private @NotNull Integer componentRemoveListener;
 
     /**
-     * A map of meshes to their gl triangle buffer ids (Only used internally)
+     * The renderer used to draw the skybox (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Mesh, Integer> meshTriBuffers = new HashMap<Mesh, Integer>();
+    private @NotNull SkyboxRenderer skyboxRenderer;
 
     /**
-     * A map of textures to their gl texture ids (Only used internally)
+     * The queue draws are sorted in before being submitted (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Texture2D, Integer> textures = new HashMap<Texture2D, Integer>();
+    private @NotNull RenderQueue queue = new RenderQueue();
+
+    /**
+     * The batcher merging static game objects (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull StaticBatcher staticBatcher;
+
+    /**
+     * The batcher drawing 2d meshes for orthographic cameras (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull SpriteBatcher spriteBatcher;
+
+    /**
+     * The culler rejecting objects outside of the camera frustum (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull FrustumCuller culler = new FrustumCuller();
+
+    /**
+     * The culler rejecting objects hidden behind occluders (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull OcclusionCuller occlusion = new OcclusionCuller(256, 128);
+
+    /**
+     * Weather objects hidden behind occluders are culled
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean occlusionCulling = false;
+
+    /**
+     * The command lists each chunk of the scene is recorded into before being merged into the queue (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull CommandList[] lists = new CommandList[] { new CommandList() };
+
+    /**
+     * The index in the snapshot of each object added to the culler (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] indices = new int[0];
+
+    /**
+     * The snapshot being recorded by the record loop (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable FrameSnapshot recording = null;
+
+    /**
+     * Weather the record loop draws 2d meshes as sprites (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private boolean recordSprites = false;
+
+    /**
+     * Weather the record loop tests objects against the occluders (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private boolean recordOccluding = false;
+
+    /**
+     * The loop recording chunks of the culler into their command lists on several threads (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull ParallelLoop recordLoop = new ParallelLoop(chunk -> this.record(this.recording, this.lists[chunk], chunk * CHUNK_SIZE, Math.min(this.culler.size(), (chunk + 1) * CHUNK_SIZE), this.recordSprites, this.recordOccluding));
+
+    /**
+     * The buffer of instance matrices for instanced draws (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull InstanceBuffer instances;
+
+    /**
+     * The snapshots of the scene being captured and drawn (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull FramePipeline pipeline = new FramePipeline();
+
+    /**
+     * A reusable matrix for the camera view (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f view = new Matrix4f();
+
+    /**
+     * A reusable matrix for the camera projection (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f projection = new Matrix4f();
+
+    /**
+     * A reusable matrix for the camera view projection (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f viewProjection = new Matrix4f();
+
+    /**
+     * The uniform buffer holding the camera block (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull CameraBuffer cameraBuffer;
+
+    /**
+     * The gpu timer queries of each pass (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull PassTimer timer;
+
+    /**
+     * A reusable matrix for per draw projections (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f matrix = new Matrix4f();
+
+    /**
+     * The offscreen target scaled frames are drawn into (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderTarget target;
+
+    /**
+     * The controller picking the scale when using dynamic resolution
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull ResolutionScaler scaler = new ResolutionScaler();
+
+    /**
+     * Weather the scale is picked from recent gpu frame times
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean dynamicResolution = false;
+
+    /**
+     * The scale to draw at when not using dynamic resolution
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float renderScale = 1f;
+
+    /**
+     * The width of the window being drawn to (0 if not known)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer width = 0;
+
+    /**
+     * The height of the window being drawn to (0 if not known)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer height = 0;
+
+    /**
+     * The stats of the last rendered frame
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderStats stats = new RenderStats();
 
     /**
      * Create a renderer
@@ -198,7 +479,7 @@ public class Renderer {
      * @since 1.0.0
      */
     public void init() throws AlreadyInitializedException, IncorrectThreadException {
-        if (!Thread.currentThread().getName().startsWith("GIGHM-")) {
+        if (this.device.getRequiresWindow() && !Thread.currentThread().getName().startsWith("GIGHM-")) {
             throw new IncorrectThreadException("You can only call this method from a Window");
         }
 
@@ -208,13 +489,25 @@ public class Renderer {
 
         this.initialized = true;
 
-        GL.createCapabilities();
-        glEnable(GL_DEPTH_TEST);
-        glEnable(GL_TEXTURE_2D);
+        this.state = new StateCachingRenderDevice(this.device);
+        this.state.init();
+        this.state.enable(GL_DEPTH_TEST);
+        this.state.enable(GL_TEXTURE_2D);
+
+        this.resources.init(this.state);
+        this.attach(this.scene);
+
+        this.skyboxRenderer = new SkyboxRenderer(this.state);
+        this.staticBatcher = new StaticBatcher(this.state, this.resources);
+        this.spriteBatcher = new SpriteBatcher(this.state, this.resources);
+        this.instances = new InstanceBuffer(this.state);
+        this.cameraBuffer = new CameraBuffer(this.state);
+        this.timer = new PassTimer(this.state);
+        this.target = new RenderTarget(this.state);
     }
 
     /**
-     * Render the scene to the window (Must be called from a {@link Window})
+     * Capture the scene and render it to the window (Must be called from a {@link Window})
      * 
      * @throws NotInitializedException If the renderer is not initialized
      * @throws IncorrectThreadException If the method is not called from the window
@@ -222,7 +515,30 @@ public class Renderer {
      * @since 1.0.0
      */
     public void render() throws NotInitializedException, IncorrectThreadException {
-        if (!Thread.currentThread().getName().startsWith("GIGHM-")) {
+        this.capture();
+        this.draw();
+    }
+
+    /**
+     * Capture the scene and camera to be drawn by the next {@link #draw()} (Must be called while no other thread can change the scene, such as while holding the pipeline's lock)
+     * 
+     * @since 2.6.0
+     */
+    public void capture() {
+        this.pipeline.capture(this.scene, this.camera, this.resources.getReleases());
+    }
+
+    /**
+     * Render the last captured snapshot of the scene to the window (Must be called from a {@link Window})
+     * Only the snapshot is read so the scene can be changed by other threads while drawing
+     * 
+     * @throws NotInitializedException If the renderer is not initialized
+     * @throws IncorrectThreadException If the method is not called from the window
+     * 
+     * @since 2.6.0
+     */
+    public void draw() throws NotInitializedException, IncorrectThreadException {
+        if (this.device.getRequiresWindow() && !Thread.currentThread().getName().startsWith("GIGHM-")) {
             throw new IncorrectThreadException("You can only call this method from a Window");
         }
 
@@ -230,392 +546,548 @@ public class Renderer {
             throw new NotInitializedException("The renderer is not initialized");
         }
 
-        glClearColor(((float) this.clearColor.getRed()) / 255f, ((float) this.clearColor.getGreen()) / 255f, ((float) this.clearColor.getBlue()) / 255f, 1.0f);
-
-        glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);
+        FrameSnapshot snapshot = this.pipeline.acquire();
+        try {
+            this.draw(snapshot);
+        } finally {
+            this.pipeline.release();
+        }
+    }
 
-        if (!this.shaderPrograms.containsKey(shader)) {
-            Integer programId = glCreateProgram();
-            this.shaderPrograms.put(shader, programId);
+    /**
+     * Render a snapshot of the scene to the window
+     * 
+     * @param snapshot The snapshot to render
+     * 
+     * @since 2.6.0
+     */
+    private void draw(@NotNull FrameSnapshot snapshot) {
+        this.stats.reset();
 
-            Integer vertexId = glCreateShader(GL_VERTEX_SHADER);
-            this.shaderVertexShaders.put(shader, vertexId);
-            glShaderSource(vertexId, shader.getVertexSource());
-            glCompileShader(vertexId);
-            if (glGetShaderi(vertexId, GL_COMPILE_STATUS) != GL_TRUE) {
-                System.err.println(glGetShaderInfoLog(vertexId));
+        // Gpu times only arrive every few frames, the scaler is only told about new ones
+        if (this.timer.begin(this.stats) && this.dynamicResolution) {
+            this.scaler.update(this.stats.getGpuTime());
+        }
 
-                throw new GLCompileException("Failed to compile vertex shader");
+        // Scaled frames are drawn into the render target and stretched to the window at the end
+        float scale = this.dynamicResolution ? this.scaler.getScale() : this.renderScale;
+        boolean scaled = scale != 1f && this.width > 0 && this.height > 0;
+        if (scaled) {
+            this.target.resize(Math.max(1, Math.round(this.width * scale)), Math.max(1, Math.round(this.height * scale)));
+            this.target.bind();
+
+            this.stats.setResolution(this.target.getWidth(), this.target.getHeight());
+        } else {
+            this.state.bindFramebuffer(GL_FRAMEBUFFER, 0);
+            if (this.width > 0 && this.height > 0) {
+                this.state.viewport(0, 0, this.width, this.height);
             }
 
-            Integer fragmentId = glCreateShader(GL_FRAGMENT_SHADER);
-            this.shaderFragmentShaders.put(shader, fragmentId);
-            glShaderSource(fragmentId, shader.getFragmentSource());
-            glCompileShader(fragmentId);
-            if (glGetShaderi(fragmentId, GL_COMPILE_STATUS) != GL_TRUE) {
-                System.err.println(glGetShaderInfoLog(fragmentId));
+            this.stats.setResolution(this.width, this.height);
+        }
 
-                throw new GLCompileException("Failed to compile fragment shader");
-            }
+        this.state.clearColor(((float) this.clearColor.getRed()) / 255f, ((float) this.clearColor.getGreen()) / 255f, ((float) this.clearColor.getBlue()) / 255f, 1.0f);
 
-            glAttachShader(programId, vertexId);
-            glAttachShader(programId, fragmentId);
+        this.state.clear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);
 
-            glBindAttribLocation(programId, 0, "vertices");
-            glBindAttribLocation(programId, 1, "uvs");
+        // Resources released after this snapshot was captured are still drawn by it so they are kept until a later one
+        this.resources.collect(snapshot.getReleases());
 
-            glLinkProgram(programId);
-            if (glGetProgrami(programId, GL_LINK_STATUS) != GL_TRUE) {
-                System.err.println(glGetProgramInfoLog(programId));
+        ShaderProgram program = this.getProgram(this.shader);
+        if (!this.poll(program)) {
+            if (this.program != null) {
+                // Keeps drawing with the last shader instead of stalling until the new one has compiled
+                program = this.program;
+            } else {
+                // Nothing has been drawn yet so there is nothing to fall back to
+                program.finish();
+            }
+        }
 
-                throw new GLCompileException("Failed to compile shader program");
+        if (program != this.program) {
+            // The last shader's program is only deleted once the new one has replaced it
+            if (this.program != null) {
+                this.shaderPrograms.remove(this.program.getShader());
+                this.resources.queueDelete(this.program);
             }
-            glValidateProgram(programId);
-            if (glGetProgrami(programId, GL_VALIDATE_STATUS) != GL_TRUE) {
-                System.err.println(glGetProgramInfoLog(programId));
 
-                throw new GLCompileException("Failed to compile shader program");
+            this.program = program;
+        }
+
+        ShaderVariants variants = this.variants;
+        if (variants != this.drawnVariants) {
+            for (int i = 0; i < this.variantPrograms.length; i++) {
+                if (this.variantPrograms[i] != null) {
+                    this.resources.queueDelete(this.variantPrograms[i]);
+                    this.variantPrograms[i] = null;
+                }
             }
+
+            this.drawnVariants = variants;
         }
 
-        glUseProgram(this.shaderPrograms.get(shader));
-
-        if (this.skybox != null) {
-            glDisable(GL_DEPTH_TEST);
-
-            Float size = this.camera.getNear() * 2;
-            Mesh[] skyboxMeshes = new Mesh[] {
-                new Mesh(new Float[] {
-                    -size, size, size,
-                    size, size, size,
-                    size, -size, size,
-
-                    -size, size, size,
-                    -size, -size, size,
-                    size, -size, size
-                }, 3, this.skybox.front, new Float[] {
-                    0f, 0f,
-                    1f, 0f,
-                    1f, 1f,
-
-                    0f, 0f,
-                    0f, 1f,
-                    1f, 1f
-                }),
-                new Mesh(new Float[] {
-                    -size, size, -size,
-                    size, size, -size,
-                    size, -size, -size,
-
-                    -size, size, -size,
-                    -size, -size, -size,
-                    size, -size, -size
-                }, 3, this.skybox.back, new Float[] {
-                    1f, 0f,
-                    0f, 0f,
-                    0f, 1f,
-
-                    1f, 0f,
-                    1f, 1f,
-                    0f, 1f
-                }),
-                new Mesh(new Float[] {
-                    -size, -size, size,
-                    -size, size, size,
-                    -size, size, -size,
-
-                    -size, -size, size,
-                    -size, -size, -size,
-                    -size, size, -size
-                }, 3, this.skybox.left, new Float[] {
-                    1f, 1f,
-                    1f, 0f,
-                    0f, 0f,
-
-                    1f, 1f,
-                    0f, 1f,
-                    0f, 0f
-                }),
-                new Mesh(new Float[] {
-                    size, -size, size,
-                    size, size, size,
-                    size, size, -size,
-
-                    size, -size, size,
-                    size, -size, -size,
-                    size, size, -size
-                }, 3, this.skybox.right, new Float[] {
-                    0f, 1f,
-                    0f, 0f,
-                    1f, 0f,
-
-                    0f, 1f,
-                    1f, 1f,
-                    1f, 0f
-                }),
-                new Mesh(new Float[] {
-                    -size, size, size,
-                    size, size, size,
-                    size, size, -size,
-
-                    -size, size, size,
-                    -size, size, -size,
-                    size, size, -size
-                }, 3, this.skybox.top, new Float[] {
-                    0f, 1f,
-                    1f, 1f,
-                    1f, 0f,
-
-                    0f, 1f,
-                    0f, 0f,
-                    1f, 0f
-                }),
-                new Mesh(new Float[] {
-                    -size, -size, size,
-                    size, -size, size,
-                    size, -size, -size,
-
-                    -size, -size, size,
-                    -size, -size, -size,
-                    size, -size, -size
-                }, 3, this.skybox.bottom, new Float[] {
-                    0f, 1f,
-                    1f, 1f,
-                    1f, 0f,
-
-                    0f, 1f,
-                    0f, 0f,
-                    1f, 0f
-                })
-            };
-
-            for (Mesh mesh : skyboxMeshes) {
-                if (!this.meshVertBuffers.containsKey(mesh)) {
-                    Integer vertId = glGenBuffers();
-                    this.meshVertBuffers.put(mesh, vertId);
-
-                    FloatBuffer vertBuffer = BufferUtils.createFloatBuffer(mesh.getVertices().length);
-                    vertBuffer.put(ArrayUtils.toPrimitive(mesh.getVertices()));
-                    vertBuffer.flip();
-
-                    glBindBuffer(GL_ARRAY_BUFFER, vertId);
-                    glBufferData(GL_ARRAY_BUFFER, vertBuffer, GL_STATIC_DRAW);
-
-                    glBindBuffer(GL_ARRAY_BUFFER, 0);
-
-                    if (mesh.getUVs() != null) {
-                        Integer uvId = glGenBuffers();
-                        this.meshUvBuffers.put(mesh, uvId);
-
-                        FloatBuffer uvBuffer = BufferUtils.createFloatBuffer(mesh.getUVs().length);
-                        uvBuffer.put(ArrayUtils.toPrimitive(mesh.getUVs()));
-                        uvBuffer.flip();
-
-                        glBindBuffer(GL_ARRAY_BUFFER, uvId);
-                        glBufferData(GL_ARRAY_BUFFER, uvBuffer, GL_STATIC_DRAW);
-
-                        glBindBuffer(GL_ARRAY_BUFFER, 0);
-                    }
+        // Variants without the per fragment texture branch replace the shader once they have compiled
+        ShaderProgram textured = program;
+        ShaderProgram colored = program;
+        if (variants != null) {
+            textured = this.getVariant(variants, ShaderVariants.TEXTURED | ShaderVariants.INSTANCED, program);
+            colored = this.getVariant(variants, ShaderVariants.COLORED | ShaderVariants.INSTANCED, program);
+        }
 
-                    if (mesh.getTriangles() != null) {
-                        Integer triId = glGenBuffers();
-                        this.meshTriBuffers.put(mesh, triId);
+        this.queue.clear();
 
-                        IntBuffer triBuffer = BufferUtils.createIntBuffer(mesh.getTriangles().length);
-                        triBuffer.put(ArrayUtils.toPrimitive(mesh.getTriangles()));
-                        triBuffer.flip();
+        this.view.set(snapshot.getView());
+        this.projection.set(snapshot.getProjection());
+        Matrix4f viewProjection = this.projection.mul(this.view, this.viewProjection);
 
-                        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, triId);
-                        glBufferData(GL_ELEMENT_ARRAY_BUFFER, triBuffer, GL_STATIC_DRAW);
+        // Shaders with a camera block read the matrices from one shared buffer instead of per draw uniforms
+        this.cameraBuffer.upload(this.view, this.projection, viewProjection);
 
-                        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
-                    }
-                }
+        // Orthographic cameras draw 2d meshes through the sprite batcher instead of one draw each
+        boolean sprites = snapshot.getCameraType() == Camera.CameraType.ORTHOGRAPHIC;
 
-                Texture2D texture = mesh.getTexture();
-                if (texture != null) {
-                    if (!this.textures.containsKey(texture)) {
-                        Integer textureId = glGenTextures();
-                        this.textures.put(texture, textureId);
-                        glBindTexture(GL_TEXTURE_2D, textureId);
+        this.staticBatcher.begin();
+        this.spriteBatcher.begin();
 
-                        glTexParameterf(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
-                        glTexParameterf(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+        this.culler.begin(viewProjection);
 
-                        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, texture.getWidth(), texture.getHeight(), 0, GL_RGBA, GL_UNSIGNED_BYTE, texture.getRawData());
-                    }
+        boolean occluding = this.occlusionCulling;
+        if (occluding) {
+            this.occlusion.begin(viewProjection);
+        }
 
-                    Integer loc = glGetUniformLocation(this.shaderPrograms.get(shader), "sampler");
-                    glUniform1i(loc, this.textures.get(texture));
+        for (int i = 0; i < snapshot.size(); i++) {
+            GameObject object = snapshot.getObject(i);
+            Mesh mesh = snapshot.getMesh(i);
+            boolean isStatic = snapshot.getStatic(i);
+
+            // Static objects are merged once so they keep their mesh instead of switching levels
+            // The level is picked while recording, until then the last level picked is culled
+            LevelOfDetail lod = snapshot.getLevelOfDetail(i);
+            if (lod != null && !isStatic) {
+                mesh = lod.getMesh();
+            } else if (lod != null && mesh == null) {
+                mesh = lod.getLevel(0);
+            }
 
-                    glActiveTexture(GL_TEXTURE0 + this.textures.get(texture));
-                    glBindTexture(GL_TEXTURE_2D, this.textures.get(texture));
-                } else {
-                    Integer loc = glGetUniformLocation(this.shaderPrograms.get(shader), "sampler");
-                    glUniform1i(loc, -1);
+            if (mesh != null && occluding && snapshot.getOccluder(i)) {
+                this.occlusion.addOccluder(mesh, snapshot.getMatrix(i, this.matrix));
+            }
 
-                    glActiveTexture(0);
-                    glBindTexture(GL_TEXTURE_2D, 0);
+            if (mesh != null && isStatic) {
+                this.staticBatcher.add(object, mesh, snapshot.getMatrix(i, this.matrix));
+            } else if (mesh != null) {
+                if (this.culler.size() == this.indices.length) {
+                    int[] indices = new int[Math.max(256, this.indices.length * 2)];
+                    System.arraycopy(this.indices, 0, indices, 0, this.indices.length);
+                    this.indices = indices;
                 }
+                this.indices[this.culler.size()] = i;
 
-                Integer projectionLoc = glGetUniformLocation(this.shaderPrograms.get(shader), "projection");
-                FloatBuffer projectionBuffer = BufferUtils.createFloatBuffer(16);
-                camera.getProjection().mul(new Matrix4f().translate(new Vector3f(-camera.getGameObject().getComponent(Transform.class).getPosition().x, -camera.getGameObject().getComponent(Transform.class).getPosition().y, -camera.getGameObject().getComponent(Transform.class).getPosition().z))).get(projectionBuffer);
-                glUniformMatrix4fv(projectionLoc, false, projectionBuffer);
+                this.culler.add(object, mesh, snapshot.getMatrix(i, this.matrix));
+            }
+        }
 
-                glEnableVertexAttribArray(0);
-                glEnableVertexAttribArray(1);
+        int visible = this.culler.cull();
+        this.stats.countCulling(visible, this.culler.size() - visible);
 
-                glBindBuffer(GL_ARRAY_BUFFER, this.meshVertBuffers.get(mesh));
-                glVertexAttribPointer(0, mesh.getVerticeSize(), GL_FLOAT, false, 0, NULL);
+        // Occluders are rasterized after frustum culling so the pool is free for the tiles
+        if (occluding) {
+            this.occlusion.rasterize();
+        }
 
-                Integer hasSamplerLoc = glGetUniformLocation(this.shaderPrograms.get(shader), "hasSampler");
-                glUniform1i(hasSamplerLoc, this.meshUvBuffers.containsKey(mesh) ? 1 : 0);
+        // Large scenes are recorded in chunks on the common pool, only the merge below touches the device
+        int size = this.culler.size();
+        int chunks = size >= PARALLEL_THRESHOLD ? (size + CHUNK_SIZE - 1) / CHUNK_SIZE : 1;
 
-                if (this.meshUvBuffers.containsKey(mesh)) {
-                    glBindBuffer(GL_ARRAY_BUFFER, this.meshUvBuffers.get(mesh));
-                    glVertexAttribPointer(1, 2, GL_FLOAT, false, 0, NULL);
-                } else {
-                    Integer colorLoc = glGetUniformLocation(this.shaderPrograms.get(shader), "color");
-                    if (mesh.getColor() != null) {
-                        glUniform3f(colorLoc, mesh.getColor().getRed(), mesh.getColor().getGreen(), mesh.getColor().getBlue());
-                    } else {
-                        glUniform3f(colorLoc, 255, 255, 255);
-                    }
-                }
+        if (this.lists.length < chunks) {
+            CommandList[] lists = new CommandList[chunks];
+            System.arraycopy(this.lists, 0, lists, 0, this.lists.length);
+            for (int i = this.lists.length; i < chunks; i++) {
+                lists[i] = new CommandList();
+            }
+            this.lists = lists;
+        }
 
-                if (this.meshTriBuffers.containsKey(mesh)) {
-                    glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.meshTriBuffers.get(mesh));
+        if (chunks > 1) {
+            // Passed through fields so the loop is created once instead of a capturing lambda every frame
+            this.recording = snapshot;
+            this.recordSprites = sprites;
+            this.recordOccluding = occluding;
 
-                    glDrawElements(GL_TRIANGLES, mesh.getTriangles().length, GL_UNSIGNED_INT, 0);
+            this.recordLoop.run(chunks);
 
-                    glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
-                } else {
-                    glDrawArrays(GL_TRIANGLES, 0, mesh.getVertices().length / mesh.getVerticeSize());
-                }
+            this.recording = null;
+        } else {
+            this.record(snapshot, this.lists[0], 0, size, sprites, occluding);
+        }
+
+        int occluded = 0;
 
-                glBindBuffer(GL_ARRAY_BUFFER, 0);
+        // Lists are merged in chunk order so sprites are batched in the same order as the scene
+        for (int i = 0; i < chunks; i++) {
+            CommandList list = this.lists[i];
 
-                glDisableVertexAttribArray(0);
-                glDisableVertexAttribArray(1);
+            occluded += list.getOccluded();
+
+            for (int j = 0; j < list.getSpriteCount(); j++) {
+                this.spriteBatcher.add(list.getSpriteObject(j), list.getSpriteMesh(j), list.getSpriteMatrix(j, this.matrix));
             }
-        }
 
-        glEnable(GL_DEPTH_TEST);
+            for (int j = 0; j < list.size(); j++) {
+                DrawPacket packet = this.queue.add(list, j);
+                Mesh mesh = packet.getMesh();
 
-        for (GameObject object : this.scene.getObjects()) {
-            Mesh mesh = object.getComponent(Mesh.class);
+                MeshBuffers buffers = this.resources.getBuffers(mesh);
+                int textureId = mesh.getTexture() != null ? this.resources.getTextureId(mesh.getTexture()) : 0;
 
-            if (mesh != null) {
-                if (!this.meshVertBuffers.containsKey(mesh)) {
-                    Integer vertId = glGenBuffers();
-                    this.meshVertBuffers.put(mesh, vertId);
+                packet.set(packet.getObject(), mesh, buffers, textureId);
+                packet.setKey(SortKey.create(mesh.getPass(), (buffers.hasUVs() ? textured : colored).getProgramId(), textureId, buffers.getVertArrayId(), packet.getDepth()));
+            }
 
-                    FloatBuffer vertBuffer = BufferUtils.createFloatBuffer(mesh.getVertices().length);
-                    vertBuffer.put(ArrayUtils.toPrimitive(mesh.getVertices()));
-                    vertBuffer.flip();
+            list.clear();
+        }
 
-                    glBindBuffer(GL_ARRAY_BUFFER, vertId);
-                    glBufferData(GL_ARRAY_BUFFER, vertBuffer, GL_STATIC_DRAW);
+        this.stats.countOcclusion(occluded);
 
-                    glBindBuffer(GL_ARRAY_BUFFER, 0);
+        this.staticBatcher.end();
 
-                    if (mesh.getUVs() != null) {
-                        Integer uvId = glGenBuffers();
-                        this.meshUvBuffers.put(mesh, uvId);
+        for (int i = 0; i < this.staticBatcher.size(); i++) {
+            StaticBatch batch = this.staticBatcher.get(i);
+            int textureId = batch.getTexture() != null ? this.resources.getTextureId(batch.getTexture()) : 0;
 
-                        FloatBuffer uvBuffer = BufferUtils.createFloatBuffer(mesh.getUVs().length);
-                        uvBuffer.put(ArrayUtils.toPrimitive(mesh.getUVs()));
-                        uvBuffer.flip();
+            DrawPacket packet = this.queue.add().set(batch.getFirstObject(), batch.getFirstMesh(), batch.getBuffers(), textureId);
+            packet.getMatrix().identity();
 
-                        glBindBuffer(GL_ARRAY_BUFFER, uvId);
-                        glBufferData(GL_ARRAY_BUFFER, uvBuffer, GL_STATIC_DRAW);
+            // Batches are already in world space and have no single position to sort by
+            packet.setKey(SortKey.create(batch.getPass(), (batch.getBuffers().hasUVs() ? textured : colored).getProgramId(), textureId, batch.getBuffers().getVertArrayId(), 0f));
+        }
 
-                        glBindBuffer(GL_ARRAY_BUFFER, 0);
-                    }
+        this.queue.sort();
 
-                    if (mesh.getTriangles() != null) {
-                        Integer triId = glGenBuffers();
-                        this.meshTriBuffers.put(mesh, triId);
+        // Shaders with an instance matrix attribute get every run of matching draws in one instanced call
+        boolean instanced = program.hasAttribute("instanceMatrix") || textured.hasAttribute("instanceMatrix") || colored.hasAttribute("instanceMatrix");
+        if (instanced) {
+            this.instances.clear();
+            for (int i = 0; i < this.queue.size(); i++) {
+                this.instances.add(this.queue.get(i).getMatrix());
+            }
+            this.instances.upload();
+        }
 
-                        IntBuffer triBuffer = BufferUtils.createIntBuffer(mesh.getTriangles().length);
-                        triBuffer.put(ArrayUtils.toPrimitive(mesh.getTriangles()));
-                        triBuffer.flip();
+        // The queue is sorted by program within each pass so each program is bound once per pass
+        ShaderProgram boundProgram = null;
+        boolean instancing = false;
+        int samplerHandle = -1;
+        int projectionHandle = -1;
+        int modelHandle = -1;
+        int hasSamplerHandle = -1;
+        int colorHandle = -1;
+        int cutoutHandle = -1;
+
+        int boundTexture = -1;
+        MeshBuffers boundBuffers = null;
+
+        int pass = -1;
+        long passStart = 0;
+
+        Skybox skybox = snapshot.getCameraType() == Camera.CameraType.PERSPECTIVE ? this.skybox : null;
+        boolean opaqueFinished = false;
+
+        int start = 0;
+        while (start < this.queue.size()) {
+            DrawPacket packet = this.queue.get(start);
+            Mesh mesh = packet.getMesh();
+            MeshBuffers buffers = packet.getBuffers();
+
+            boolean passChanged = false;
+
+            // The queue is sorted by pass so each pass's state is only set once
+            if (SortKey.getPass(packet.getKey()) != pass) {
+                long now = System.nanoTime();
+                if (pass != -1) {
+                    this.stats.countPassTime(PASSES[pass], now - passStart);
+                }
 
-                        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, triId);
-                        glBufferData(GL_ELEMENT_ARRAY_BUFFER, triBuffer, GL_STATIC_DRAW);
+                pass = SortKey.getPass(packet.getKey());
+                passStart = now;
 
-                        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
+                // Transparent objects do not write depth so the sky and opaque sprites have to be behind them before they blend over them
+                if (PASSES[pass] == RenderPass.TRANSPARENT) {
+                    this.timer.end();
+                    if (skybox != null) {
+                        this.skyboxRenderer.render(skybox, snapshot.getRotationProjection());
                     }
-                }
+                    this.spriteBatcher.flush(viewProjection, this.stats);
+                    opaqueFinished = true;
 
-                Texture2D texture = mesh.getTexture();
-                if (texture != null) {
-                    if (!this.textures.containsKey(texture)) {
-                        Integer textureId = glGenTextures();
-                        this.textures.put(texture, textureId);
-                        glBindTexture(GL_TEXTURE_2D, textureId);
+                    // The skybox and sprites bind their own program, textures, and vertex array
+                    boundProgram = null;
+                    boundTexture = -1;
+                    boundBuffers = null;
+                }
 
-                        glTexParameterf(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
-                        glTexParameterf(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+                this.beginPass(PASSES[pass]);
+                passChanged = true;
+            }
 
-                        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, texture.getWidth(), texture.getHeight(), 0, GL_RGBA, GL_UNSIGNED_BYTE, texture.getRawData());
-                    }
+            ShaderProgram packetProgram = buffers.hasUVs() ? textured : colored;
+            if (packetProgram != boundProgram) {
+                boundProgram = packetProgram;
+                boundProgram.use();
+                this.stats.countProgramChange();
+
+                samplerHandle = boundProgram.getUniformHandle("sampler");
+                projectionHandle = boundProgram.getUniformHandle("projection");
+                modelHandle = boundProgram.getUniformHandle("model");
+                hasSamplerHandle = boundProgram.getUniformHandle("hasSampler");
+                colorHandle = boundProgram.getUniformHandle("color");
+                cutoutHandle = boundProgram.getUniformHandle("cutout");
+
+                instancing = boundProgram.hasAttribute("instanceMatrix");
+                if (instancing) {
+                    boundProgram.setUniform(projectionHandle, viewProjection);
+                }
+                boundProgram.setUniform(boundProgram.getUniformHandle("instanced"), instancing ? 1 : 0);
 
-                    Integer loc = glGetUniformLocation(this.shaderPrograms.get(shader), "sampler");
-                    glUniform1i(loc, this.textures.get(texture));
+                // The sampler uniform belongs to the program so it is set again for the new one
+                boundTexture = -1;
+                passChanged = true;
+            }
 
-                    glActiveTexture(GL_TEXTURE0 + this.textures.get(texture));
-                    glBindTexture(GL_TEXTURE_2D, this.textures.get(texture));
-                } else {
-                    Integer loc = glGetUniformLocation(this.shaderPrograms.get(shader), "sampler");
-                    glUniform1i(loc, -1);
+            if (passChanged) {
+                boundProgram.setUniform(cutoutHandle, pass == RenderPass.CUTOUT.ordinal() ? 1 : 0);
+            }
 
-                    glActiveTexture(0);
-                    glBindTexture(GL_TEXTURE_2D, 0);
+            int end = start + 1;
+            if (instancing) {
+                while (end < this.queue.size() && canInstance(packet, this.queue.get(end))) {
+                    end++;
                 }
+            }
 
-                Integer projectionLoc = glGetUniformLocation(this.shaderPrograms.get(shader), "projection");
-                FloatBuffer projectionBuffer = BufferUtils.createFloatBuffer(16);
-                camera.getProjection().mul(object.getComponent(Transform.class).getMatrix()).get(projectionBuffer);
-                glUniformMatrix4fv(projectionLoc, false, projectionBuffer);
+            if (packet.getTextureId() != boundTexture) {
+                boundTexture = packet.getTextureId();
 
-                glEnableVertexAttribArray(0);
-                glEnableVertexAttribArray(1);
+                // Untextured draws do not sample so whatever is bound can stay bound
+                if (boundTexture != 0) {
+                    boundProgram.setUniform(samplerHandle, this.state.bindTextureUnit(GL_TEXTURE_2D, boundTexture, this.resources.getSampler(true, true)));
+                }
 
-                glBindBuffer(GL_ARRAY_BUFFER, this.meshVertBuffers.get(mesh));
-                glVertexAttribPointer(0, mesh.getVerticeSize(), GL_FLOAT, false, 0, NULL);
+                this.stats.countTextureChange();
+            }
 
-                Integer hasSamplerLoc = glGetUniformLocation(this.shaderPrograms.get(shader), "hasSampler");
-                glUniform1i(hasSamplerLoc, this.meshUvBuffers.containsKey(mesh) ? 1 : 0);
+            boundProgram.setUniform(hasSamplerHandle, buffers.hasUVs() ? 1 : 0);
 
-                if (this.meshUvBuffers.containsKey(mesh)) {
-                    glBindBuffer(GL_ARRAY_BUFFER, this.meshUvBuffers.get(mesh));
-                    glVertexAttribPointer(1, 2, GL_FLOAT, false, 0, NULL);
+            if (!buffers.hasUVs()) {
+                if (mesh.getColor() != null) {
+                    boundProgram.setUniform(colorHandle, mesh.getColor().getRed(), mesh.getColor().getGreen(), mesh.getColor().getBlue(), mesh.getColor().getAlpha());
                 } else {
-                    Integer colorLoc = glGetUniformLocation(this.shaderPrograms.get(shader), "color");
-                    if (mesh.getColor() != null) {
-                        glUniform3f(colorLoc, mesh.getColor().getRed(), mesh.getColor().getGreen(), mesh.getColor().getBlue());
-                    } else {
-                        glUniform3f(colorLoc, 255, 255, 255);
-                    }
+                    boundProgram.setUniform(colorHandle, 255, 255, 255, 255);
                 }
+            }
 
-                if (this.meshTriBuffers.containsKey(mesh)) {
-                    glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.meshTriBuffers.get(mesh));
+            if (buffers != boundBuffers) {
+                boundBuffers = buffers;
 
-                    glDrawElements(GL_TRIANGLES, mesh.getTriangles().length, GL_UNSIGNED_INT, 0);
+                buffers.bind();
 
-                    glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
-                } else {
-                    glDrawArrays(GL_TRIANGLES, 0, mesh.getVertices().length / mesh.getVerticeSize());
+                this.stats.countVertexArrayChange();
+            }
+
+            if (instancing) {
+                buffers.setInstanceBuffer(this.instances.getBufferId(), this.instances.getOffset() + (long) start * InstanceBuffer.INSTANCE_BYTES);
+                buffers.drawInstanced(end - start);
+            } else {
+                buffers.disableInstancing();
+
+                boundProgram.setUniform(modelHandle, packet.getMatrix());
+                if (projectionHandle >= 0) {
+                    boundProgram.setUniform(projectionHandle, viewProjection.mul(packet.getMatrix(), this.matrix));
                 }
+                buffers.draw();
+            }
+
+            this.stats.countPackets(end - start);
+            this.stats.countDrawCall();
+
+            start = end;
+        }
+
+        if (pass != -1) {
+            this.stats.countPassTime(PASSES[pass], System.nanoTime() - passStart);
+            this.timer.end();
 
-                glBindBuffer(GL_ARRAY_BUFFER, 0);
+            boundProgram.setUniform(cutoutHandle, 0);
+        }
+
+        // Frames without transparent objects still need the sky and opaque sprites
+        if (!opaqueFinished) {
+            this.state.disable(GL_BLEND);
+            this.state.depthMask(true);
+
+            if (skybox != null) {
+                this.skyboxRenderer.render(skybox, snapshot.getRotationProjection());
+            }
+            this.spriteBatcher.flush(viewProjection, this.stats);
+        }
+
+        if (instanced) {
+            this.instances.fence();
+        }
+
+        // Transparent sprites blend over everything else so they are drawn last, back to front
+        if (this.spriteBatcher.getTransparentCount() > 0) {
+            this.state.enable(GL_BLEND);
+            this.state.blendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+            this.state.depthMask(false);
+        }
+        this.spriteBatcher.flushTransparent(this.stats);
+
+        // Everything drawn after the queue expects opaque state
+        this.state.disable(GL_BLEND);
+        this.state.depthMask(true);
+
+        if (scaled) {
+            this.target.blit(this.width, this.height);
+            this.state.viewport(0, 0, this.width, this.height);
+        }
+    }
+
+    /**
+     * Record the visible objects of a range of the culler into a command list (Never touches the device so ranges can be recorded on different threads)
+     * 
+     * @param snapshot The snapshot the objects were added from
+     * @param list The command list to record into
+     * @param start The first object to record
+     * @param end The object to stop before
+     * @param sprites Weather 2d meshes are drawn as sprites
+     * @param occluding Weather objects are tested against the occluders
+     * 
+     * @since 2.6.0
+     */
+    private void record(@NotNull FrameSnapshot snapshot, @NotNull CommandList list, int start, int end, boolean sprites, boolean occluding) {
+        Matrix4f viewProjection = this.viewProjection;
+        Matrix4f model = list.getModel();
+
+        for (int i = start; i < end; i++) {
+            if (!this.culler.getVisible(i)) {
+                continue;
+            }
+
+            GameObject object = this.culler.getObject(i);
+            Mesh mesh = this.culler.getMesh(i);
+
+            this.culler.getMatrix(i, model);
+
+            // The captured level of detail and occluder flag are used, the object itself may be changed by a tick while this runs
+            LevelOfDetail lod = snapshot.getLevelOfDetail(this.indices[i]);
+            if (lod != null) {
+                mesh = lod.select(LevelOfDetail.getScreenSize(lod.getLevel(0).getBounds(), model, this.view, this.projection));
+            }
+
+            if (occluding && !snapshot.getOccluder(this.indices[i]) && !this.occlusion.getVisible(mesh.getBounds(), model, list.getMatrix())) {
+                list.countOccluded();
+
+                continue;
+            }
+
+            if (sprites && mesh.getVerticeSize() == 2) {
+                list.addSprite(object, mesh, model);
+            } else {
+                DrawPacket packet = list.add(object, mesh);
+                packet.getMatrix().set(model);
+
+                float clipZ = viewProjection.m02() * model.m30() + viewProjection.m12() * model.m31() + viewProjection.m22() * model.m32() + viewProjection.m32();
+                float clipW = viewProjection.m03() * model.m30() + viewProjection.m13() * model.m31() + viewProjection.m23() * model.m32() + viewProjection.m33();
+                packet.setDepth((clipZ / clipW) * 0.5f + 0.5f);
+            }
+        }
+    }
 
-                glDisableVertexAttribArray(0);
-                glDisableVertexAttribArray(1);
+    /**
+     * Set the blending and depth state of a pass and start timing it
+     * 
+     * @param pass The pass to begin
+     * 
+     * @since 2.6.0
+     */
+    private void beginPass(@NotNull RenderPass pass) {
+        this.timer.start(pass);
+
+        if (pass == RenderPass.TRANSPARENT) {
+            this.state.enable(GL_BLEND);
+            this.state.blendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+            this.state.depthMask(false);
+        } else {
+            this.state.disable(GL_BLEND);
+            this.state.depthMask(true);
+        }
+    }
+
+    /**
+     * Get weather two sorted draws can be drawn in the same instanced call
+     * 
+     * @param first The first draw of the run
+     * @param other The draw to check
+     * 
+     * @return Weather the draws can be drawn in the same instanced call
+     * 
+     * @since 2.6.0
+     */
+    private static boolean canInstance(@NotNull DrawPacket first, @NotNull DrawPacket other) {
+        if (first.getBuffers() != other.getBuffers() || first.getTextureId() != other.getTextureId() || SortKey.getPass(first.getKey()) != SortKey.getPass(other.getKey())) {
+            return false;
+        }
+
+        // Untextured draws also need the same color since it is a uniform
+        return first.getBuffers().hasUVs() || Objects.equals(first.getMesh().getColor(), other.getMesh().getColor());
+    }
+
+    /**
+     * Start tracking the objects of a scene and acquire the resources of the ones already in it
+     * 
+     * @param scene The scene to attach to
+     * 
+     * @since 2.6.0
+     */
+    private void attach(@NotNull Scene scene) {
+        // Listen first so objects added while acquiring are not missed, acquiring twice does nothing
+        this.addListener = scene.getEventManager().addEventListener(ObjectAddEvent.class, event -> this.resources.acquire(event.getObject()));
+        this.removeListener = scene.getEventManager().addEventListener(ObjectRemoveEvent.class, event -> this.resources.release(event.getObject()));
+
+        // Meshes and levels of detail can be added or swapped after the object is, reacquiring moves its references to the new ones
+        this.componentAddListener = scene.getEventManager().addEventListener(ComponentAddEvent.class, event -> {
+            if (event.getComponent() instanceof Mesh || event.getComponent() instanceof LevelOfDetail) {
+                this.resources.reacquire(event.getObject());
+            }
+        });
+        this.componentRemoveListener = scene.getEventManager().addEventListener(ComponentRemoveEvent.class, event -> {
+            if (event.getComponent() instanceof Mesh || event.getComponent() instanceof LevelOfDetail) {
+                this.resources.reacquire(event.getObject());
             }
+        });
+
+        for (GameObject object : scene.getObjects()) {
+            this.resources.acquire(object);
+        }
+    }
+
+    /**
+     * Stop tracking the objects of a scene and release the resources of all of them
+     * 
+     * @param scene The scene to detach from
+     * 
+     * @since 2.6.0
+     */
+    private void detach(@NotNull Scene scene) {
+        scene.getEventManager().removeEventListener(this.addListener);
+        scene.getEventManager().removeEventListener(this.removeListener);
+        scene.getEventManager().removeEventListener(this.componentAddListener);
+        scene.getEventManager().removeEventListener(this.componentRemoveListener);
+
+        for (GameObject object : scene.getObjects()) {
+            this.resources.release(object);
         }
     }
 
@@ -631,7 +1103,7 @@ public class Renderer {
     }
 
     /**
-     * Set the scene to be rendered
+     * Set the scene to be rendered (The resources only used by the old scene are deleted on the next render)
      * 
      * @param scene The scene to be rendered
      * 
@@ -640,6 +1112,11 @@ public class Renderer {
     public void setScene(@NotNull Scene scene) {
         NullUtils.checkNulls(scene, "scene");
 
+        if (this.initialized && scene != this.scene) {
+            this.detach(this.scene);
+            this.attach(scene);
+        }
+
         this.scene = scene;
     }
 
@@ -691,6 +1168,127 @@ public class Renderer {
         this.shader = shader;
     }
 
+    /**
+     * Start compiling a shader's program in the background so switching to it later does not stall a frame (Must be called from a {@link Window})
+     * Until a shader's program is ready the renderer keeps drawing with the program of the last shader
+     * 
+     * @param shader The shader to compile
+     * 
+     * @throws NotInitializedException If the renderer is not initialized
+     * @throws IncorrectThreadException If the method is not called from the window
+     * 
+     * @since 2.6.0
+     */
+    public void precompile(@NotNull Shader shader) throws NotInitializedException, IncorrectThreadException {
+        NullUtils.checkNulls(shader, "shader");
+
+        if (this.device.getRequiresWindow() && !Thread.currentThread().getName().startsWith("GIGHM-")) {
+            throw new IncorrectThreadException("You can only call this method from a Window");
+        }
+
+        if (!this.initialized) {
+            throw new NotInitializedException("The renderer is not initialized");
+        }
+
+        this.getProgram(shader);
+    }
+
+    /**
+     * Get the variants meshes are drawn with instead of the shader
+     * 
+     * @return The shader variants (Null if everything is drawn with the shader)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable ShaderVariants getVariants() {
+        return this.variants;
+    }
+
+    /**
+     * Set the variants meshes are drawn with instead of the shader, textured and colored meshes each get a variant built for them so the shader does not branch for each fragment
+     * Variants are compiled in the background and the shader is drawn with until they are ready
+     * 
+     * @param variants The shader variants (Null to draw everything with the shader)
+     * 
+     * @since 2.6.0
+     */
+    public void setVariants(@Nullable ShaderVariants variants) {
+        this.variants = variants;
+    }
+
+    /**
+     * Get weather the current shader's program has finished compiling and is being drawn with
+     * 
+     * @return Weather the shader is ready (False while drawing with the last shader instead)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getShaderReady() {
+        ShaderProgram program = this.program;
+
+        return program != null && program.getShader() == this.shader;
+    }
+
+    /**
+     * Get the program of a shader variant, starting to compile it in the background if it does not have one yet
+     * 
+     * @param variants The variants
+     * @param features The features of the variant
+     * @param fallback The program to draw with until the variant is ready
+     * 
+     * @return The program of the variant or the fallback if it is not ready
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ShaderProgram getVariant(@NotNull ShaderVariants variants, int features, @NotNull ShaderProgram fallback) {
+        ShaderProgram program = this.variantPrograms[features];
+        if (program == null) {
+            program = new ShaderProgram(this.state, variants.getShader(features), this.programCache, true);
+            this.variantPrograms[features] = program;
+        }
+
+        return this.poll(program) ? program : fallback;
+    }
+
+    /**
+     * Check if a program is ready, reporting it once if it failed to compile or link so drawing can carry on with a fallback
+     * 
+     * @param program The program
+     * 
+     * @return Weather the program is ready
+     * 
+     * @since 2.6.0
+     */
+    private boolean poll(@NotNull ShaderProgram program) {
+        try {
+            return program.poll();
+        } catch (GLCompileException e) {
+            // Polling only throws the first time so this is printed once per failed program
+            e.printStackTrace();
+
+            return false;
+        }
+    }
+
+    /**
+     * Get the program of a shader, starting to compile it in the background if it does not have one yet
+     * 
+     * @param shader The shader
+     * 
+     * @return The program (May not be ready yet)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ShaderProgram getProgram(@NotNull Shader shader) {
+        ShaderProgram program = this.shaderPrograms.get(shader);
+        if (program == null) {
+            program = new ShaderProgram(this.state, shader, this.programCache, true);
+            this.shaderPrograms.put(shader, program);
+        }
+
+        return program;
+    }
+
     /**
      * Get the color to clear the background with
      * 
@@ -739,6 +1337,197 @@ public class Renderer {
         this.skybox = skybox;
     }
 
+    /**
+     * Get the device to render with
+     * 
+     * @return The device to render with
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull RenderDevice getDevice() {
+        return this.device;
+    }
+
+    /**
+     * Set the device to render with (Must be set before the renderer is initialized)
+     * 
+     * @param device The device to render with
+     * 
+     * @throws AlreadyInitializedException If the renderer is already initialized
+     * 
+     * @since 2.6.0
+     */
+    public void setDevice(@NotNull RenderDevice device) throws AlreadyInitializedException {
+        NullUtils.checkNulls(device, "device");
+
+        if (this.initialized) {
+            throw new AlreadyInitializedException("The device can't be changed after the renderer is initialized");
+        }
+
+        this.device = device;
+    }
+
+    /**
+     * Get the manager of the buffers and textures uploaded for the scene (Used to set a memory budget)
+     * 
+     * @return The manager of the buffers and textures uploaded for the scene
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull ResourceManager getResources() {
+        return this.resources;
+    }
+
+    /**
+     * Set the size of the window being drawn to, the viewport is set to it every frame (Called by the {@link Window})
+     * 
+     * @param width The width of the window
+     * @param height The height of the window
+     * 
+     * @since 2.6.0
+     */
+    public void setSize(@NotNull Integer width, @NotNull Integer height) {
+        NullUtils.checkNulls(width, "width");
+        NullUtils.checkNulls(height, "height");
+
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Get weather the scale is picked from recent gpu frame times
+     * 
+     * @return Weather dynamic resolution is enabled
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getDynamicResolution() {
+        return this.dynamicResolution;
+    }
+
+    /**
+     * Set weather the scale is picked from recent gpu frame times to hold the scaler's target frame rate (Drops resolution instead of frames on slower devices)
+     * 
+     * @param dynamicResolution Weather dynamic resolution is enabled
+     * 
+     * @since 2.6.0
+     */
+    public void setDynamicResolution(@NotNull Boolean dynamicResolution) {
+        NullUtils.checkNulls(dynamicResolution, "dynamicResolution");
+
+        this.dynamicResolution = dynamicResolution;
+    }
+
+    /**
+     * Get the controller picking the scale when using dynamic resolution
+     * 
+     * @return The resolution scaler
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull ResolutionScaler getScaler() {
+        return this.scaler;
+    }
+
+    /**
+     * Get the scale to draw at when not using dynamic resolution
+     * 
+     * @return The render scale
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getRenderScale() {
+        return this.renderScale;
+    }
+
+    /**
+     * Set the scale to draw at when not using dynamic resolution, frames are drawn at that fraction of the window size and stretched to fill it
+     * 
+     * @param renderScale The render scale (1 to draw straight to the window)
+     * 
+     * @throws InvalidDataException If the scale is not greater than 0
+     * 
+     * @since 2.6.0
+     */
+    public void setRenderScale(@NotNull Float renderScale) throws InvalidDataException {
+        NullUtils.checkNulls(renderScale, "renderScale");
+
+        if (renderScale <= 0) {
+            throw new InvalidDataException("Render scale must be greater than 0");
+        }
+
+        this.renderScale = renderScale;
+    }
+
+    /**
+     * Get the cache shader programs are loaded from instead of compiling them
+     * 
+     * @return The program cache (Null if programs are always compiled)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable ProgramCache getProgramCache() {
+        return this.programCache;
+    }
+
+    /**
+     * Set the cache shader programs are loaded from instead of compiling them (Only affects programs linked after it is set)
+     * 
+     * @param programCache The program cache (Null to always compile programs)
+     * 
+     * @since 2.6.0
+     */
+    public void setProgramCache(@Nullable ProgramCache programCache) {
+        this.programCache = programCache;
+    }
+
+    /**
+     * Get the snapshots of the scene being captured and drawn, its lock must be held while changing the scene from another thread
+     * 
+     * @return The frame pipeline
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull FramePipeline getPipeline() {
+        return this.pipeline;
+    }
+
+    /**
+     * Get the stats of the last rendered frame
+     * 
+     * @return The stats of the last rendered frame
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull RenderStats getStats() {
+        return this.stats;
+    }
+
+    /**
+     * Get weather objects hidden behind occluders are culled
+     * 
+     * @return Weather occlusion culling is enabled
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getOcclusionCulling() {
+        return this.occlusionCulling;
+    }
+
+    /**
+     * Set weather objects hidden behind occluders are culled
+     * Occluders are marked with {@link GameObject#setOccluder(Boolean)} and rasterized into a small depth buffer on the cpu each frame
+     * 
+     * @param occlusionCulling Weather occlusion culling is enabled
+     * 
+     * @since 2.6.0
+     */
+    public void setOcclusionCulling(@NotNull Boolean occlusionCulling) {
+        NullUtils.checkNulls(occlusionCulling, "occlusionCulling");
+
+        this.occlusionCulling = occlusionCulling;
+    }
+
     /**
      * Get weather the renderer is initialized
      * 
@@ -0,0 +1,345 @@
+package io.github.kale_ko.gighm.rendering;
+
+import static org.lwjgl.opengl.GL33C.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.joml.Matrix4f;
+import org.lwjgl.BufferUtils;
+import io.github.kale_ko.gighm.exception.GLCompileException;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.rendering.objects.Skybox;
+import io.github.kale_ko.gighm.rendering.shaders.Shader;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderLoader;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderProgram;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A renderer for drawing a skybox as a single cube map at the far plane (Only used internally)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class SkyboxRenderer {
+    /**
+     * The vertices of the skybox cube
+     * 
+     * @since 2.6.0
+     */
+    private static final float[] CUBE_VERTICES = new float[] {
+        // Front
+        -1f, 1f, 1f,
+        1f, 1f, 1f,
+        1f, -1f, 1f,
+
+        -1f, 1f, 1f,
+        -1f, -1f, 1f,
+        1f, -1f, 1f,
+
+        // Back
+        -1f, 1f, -1f,
+        1f, 1f, -1f,
+        1f, -1f, -1f,
+
+        -1f, 1f, -1f,
+        -1f, -1f, -1f,
+        1f, -1f, -1f,
+
+        // Left
+        -1f, -1f, 1f,
+        -1f, 1f, 1f,
+        -1f, 1f, -1f,
+
+        -1f, -1f, 1f,
+        -1f, -1f, -1f,
+        -1f, 1f, -1f,
+
+        // Right
+        1f, -1f, 1f,
+        1f, 1f, 1f,
+        1f, 1f, -1f,
+
+        1f, -1f, 1f,
+        1f, -1f, -1f,
+        1f, 1f, -1f,
+
+        // Top
+        -1f, 1f, 1f,
+        1f, 1f, 1f,
+        1f, 1f, -1f,
+
+        -1f, 1f, 1f,
+        -1f, 1f, -1f,
+        1f, 1f, -1f,
+
+        // Bottom
+        -1f, -1f, 1f,
+        1f, -1f, 1f,
+        1f, -1f, -1f,
+
+        -1f, -1f, 1f,
+        -1f, -1f, -1f,
+        1f, -1f, -1f
+    };
+
+    /**
+     * The device the skybox is drawn with
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * Weather the gl objects have been created
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean initialized = false;
+
+    /**
+     * The linked skybox shader program
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ShaderProgram program;
+
+    /**
+     * The handle of the projection uniform in the skybox shader
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer projectionHandle;
+
+    /**
+     * The handle of the sampler uniform in the skybox shader
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer samplerHandle;
+
+    /**
+     * The gl vertex array id of the skybox cube
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer vertArrayId;
+
+    /**
+     * The gl vertex buffer id of the skybox cube
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer vertBufferId;
+
+    /**
+     * The gl cube map texture id of the current skybox (0 if it has not been built)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer cubeMapId = 0;
+
+    /**
+     * The faces the current cube map was built from (Used to detect changes)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Texture2D[] faces = new Texture2D[6];
+
+    /**
+     * Create a skybox renderer
+     * 
+     * @param device The device to draw the skybox with
+     * 
+     * @since 2.6.0
+     */
+    public SkyboxRenderer(@NotNull RenderDevice device) {
+        NullUtils.checkNulls(device, "device");
+
+        this.device = device;
+    }
+
+    /**
+     * Render a skybox behind everything already drawn from a captured camera (Must be called from a {@link Window} after opaque objects and before transparent ones are drawn)
+     * 
+     * @param skybox The skybox to render
+     * @param rotationProjection The projection matrix of a perspective camera rotated by the camera but not moved
+     * 
+     * @throws InvalidDataException If the skybox faces are not square and the same size
+     * 
+     * @since 2.6.0
+     */
+    public void render(@NotNull Skybox skybox, @NotNull Matrix4f rotationProjection) throws InvalidDataException {
+        NullUtils.checkNulls(skybox, "skybox");
+        NullUtils.checkNulls(rotationProjection, "rotationProjection");
+
+        if (!this.initialized) {
+            this.init();
+        }
+
+        if (this.faces[0] != skybox.right || this.faces[1] != skybox.left || this.faces[2] != skybox.top || this.faces[3] != skybox.bottom || this.faces[4] != skybox.front || this.faces[5] != skybox.back) {
+            this.buildCubeMap(skybox);
+        }
+
+        this.program.use();
+        this.program.setUniform(this.projectionHandle, rotationProjection);
+
+        this.program.setUniform(this.samplerHandle, this.device.bindTextureUnit(GL_TEXTURE_CUBE_MAP, this.cubeMapId));
+
+        this.device.depthFunc(GL_LEQUAL);
+        this.device.depthMask(false);
+
+        this.device.bindVertexArray(this.vertArrayId);
+        this.device.drawArrays(GL_TRIANGLES, 0, CUBE_VERTICES.length / 3);
+
+        this.device.depthMask(true);
+        this.device.depthFunc(GL_LESS);
+    }
+
+    /**
+     * Create the skybox shader program and cube geometry
+     * 
+     * @throws GLCompileException If the skybox shader fails to load or compile
+     * 
+     * @since 2.6.0
+     */
+    private void init() throws GLCompileException {
+        Shader shader;
+        try {
+            shader = ShaderLoader.loadSkybox();
+        } catch (IOException e) {
+            e.printStackTrace();
+
+            throw new GLCompileException("Failed to load skybox shader");
+        }
+
+        this.program = new ShaderProgram(this.device, shader);
+        this.projectionHandle = this.program.getUniformHandle("projection");
+        this.samplerHandle = this.program.getUniformHandle("sampler");
+
+        this.vertArrayId = this.device.createVertexArray();
+        this.device.bindVertexArray(this.vertArrayId);
+
+        this.vertBufferId = this.device.createBuffer();
+        this.device.bindBuffer(GL_ARRAY_BUFFER, this.vertBufferId);
+        this.device.bufferData(GL_ARRAY_BUFFER, CUBE_VERTICES, GL_STATIC_DRAW);
+
+        this.device.enableVertexAttribArray(0);
+        this.device.vertexAttribPointer(0, 3, GL_FLOAT, false, 0, 0);
+
+        this.device.bindVertexArray(0);
+        this.device.bindBuffer(GL_ARRAY_BUFFER, 0);
+
+        this.initialized = true;
+    }
+
+    /**
+     * Build the cube map from the faces of a skybox, replacing the old one
+     * 
+     * @param skybox The skybox to build from
+     * 
+     * @throws InvalidDataException If the skybox faces are not square and the same size
+     * 
+     * @since 2.6.0
+     */
+    private void buildCubeMap(@NotNull Skybox skybox) throws InvalidDataException {
+        Texture2D[] newFaces = new Texture2D[] { skybox.right, skybox.left, skybox.top, skybox.bottom, skybox.front, skybox.back };
+
+        Integer size = newFaces[0].getWidth();
+        for (Texture2D face : newFaces) {
+            if (!face.getWidth().equals(size) || !face.getHeight().equals(size)) {
+                throw new InvalidDataException("Skybox faces must be square and all the same size");
+            }
+        }
+
+        if (this.cubeMapId != 0) {
+            this.device.deleteTexture(this.cubeMapId);
+        }
+
+        this.cubeMapId = this.device.createTexture();
+        this.device.bindTexture(GL_TEXTURE_CUBE_MAP, this.cubeMapId);
+
+        this.device.texParameteri(GL_TEXTURE_CUBE_MAP, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+        this.device.texParameteri(GL_TEXTURE_CUBE_MAP, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+        this.device.texParameteri(GL_TEXTURE_CUBE_MAP, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+        this.device.texParameteri(GL_TEXTURE_CUBE_MAP, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+        this.device.texParameteri(GL_TEXTURE_CUBE_MAP, GL_TEXTURE_WRAP_R, GL_CLAMP_TO_EDGE);
+
+        for (Integer i = 0; i < newFaces.length; i++) {
+            // The bottom face was always drawn flipped vertically, keep it looking the same
+            ByteBuffer data = i == 3 ? flipRows(newFaces[i]) : newFaces[i].getRawData().duplicate();
+
+            this.device.texImage2D(GL_TEXTURE_CUBE_MAP_POSITIVE_X + i, 0, GL_RGBA, size, size, GL_RGBA, GL_UNSIGNED_BYTE, data);
+
+            this.faces[i] = newFaces[i];
+        }
+
+        this.device.bindTexture(GL_TEXTURE_CUBE_MAP, 0);
+    }
+
+    /**
+     * Copy a texture's data with its rows in reverse order
+     * 
+     * @param texture The texture to copy
+     * 
+     * @return The flipped texture data
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull ByteBuffer flipRows(@NotNull Texture2D texture) {
+        ByteBuffer source = texture.getRawData();
+        ByteBuffer flipped = BufferUtils.createByteBuffer(source.capacity());
+
+        Integer rowSize = texture.getWidth() * 4;
+        for (Integer y = texture.getHeight() - 1; y >= 0; y--) {
+            ByteBuffer row = source.duplicate();
+            row.position(y * rowSize);
+            row.limit(y * rowSize + rowSize);
+
+            flipped.put(row);
+        }
+
+        flipped.flip();
+
+        return flipped;
+    }
+
+    /**
+     * Delete the gl objects owned by this renderer (Must be called from a {@link Window})
+     * 
+     * @since 2.6.0
+     */
+    public void destroy() {
+        if (this.cubeMapId != 0) {
+            this.device.deleteTexture(this.cubeMapId);
+
+            this.cubeMapId = 0;
+        }
+
+        if (this.initialized) {
+            this.device.deleteBuffer(this.vertBufferId);
+            this.device.deleteVertexArray(this.vertArrayId);
+            this.program.delete();
+
+            this.initialized = false;
+        }
+
+        for (Integer i = 0; i < this.faces.length; i++) {
+            this.faces[i] = null;
+        }
+    }
+
+    /**
+     * Get the current cube map texture id (0 if none has been built)
+     * 
+     * @return The current cube map texture id
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getCubeMapId() {
+        return this.cubeMapId;
+    }
+}
\ No newline at end of file
@@ -2,11 +2,11 @@ package io.github.kale_ko.gighm.rendering;
 
 import static org.lwjgl.glfw.Callbacks.*;
 import static org.lwjgl.glfw.GLFW.*;
-import static org.lwjgl.opengl.GL33C.*;
 import static org.lwjgl.system.MemoryStack.*;
 import static org.lwjgl.system.MemoryUtil.NULL;
 import java.nio.IntBuffer;
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -46,7 +46,7 @@ import io.github.kale_ko.gighm.util.Nullable;
  * 
  * @author Kale Ko
  * 
- * @version 2.1.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Window {
@@ -323,7 +323,7 @@ public class Window {
 
             renderer.getCamera().recalculateProjection();
 
-            glViewport(0, 0, this.width, this.height);
+            renderer.setSize(this.width, this.height);
 
             renderer.render();
 
@@ -338,13 +338,22 @@ public class Window {
         ScheduledFuture<?> handle = scheduler.scheduleAtFixedRate(new Runnable() {
             private Integer tickNumber = 1;
 
+            private final List<GameObject> objects = new ArrayList<GameObject>();
+
+            private final List<Component> components = new ArrayList<Component>();
+
             @Override
             public void run() {
-                eventManager.emit(new TickEvent(tickNumber));
-
-                for (GameObject object : renderer.getScene().getObjects()) {
-                    for (Component component : object.getComponents()) {
-                        component.tick(tickNumber);
+                // Ticks change the scene so they wait for captures, but run alongside the draw of the last one
+                synchronized (renderer.getPipeline().getLock()) {
+                    eventManager.emit(new TickEvent(tickNumber));
+
+                    renderer.getScene().getObjects(this.objects);
+                    for (int i = 0; i < this.objects.size(); i++) {
+                        this.objects.get(i).getComponents(this.components);
+                        for (int j = 0; j < this.components.size(); j++) {
+                            this.components.get(j).tick(tickNumber);
+                        }
                     }
                 }
 
@@ -375,28 +384,43 @@ public class Window {
 
         renderer.init();
 
-        Instant lastRender = Instant.now();
+        List<GameObject> objects = new ArrayList<GameObject>();
+        List<Component> components = new ArrayList<Component>();
+
+        Object lock = renderer.getPipeline().getLock();
+
+        long lastRender = System.nanoTime();
         while (!glfwWindowShouldClose(windowId)) {
-            glViewport(0, 0, this.width, this.height);
+            synchronized (lock) {
+                renderer.capture();
+            }
 
-            renderer.render();
+            // The scene is not locked while drawing so the next tick can run alongside it
+            renderer.setSize(this.width, this.height);
+
+            renderer.draw();
 
             glfwSwapBuffers(windowId);
 
-            Instant now = Instant.now();
-            Float delta = (float) ((now.getEpochSecond() + ((double) now.getNano() / 1000000000)) - (lastRender.getEpochSecond() + ((double) lastRender.getNano() / 1000000000)));
+            long now = System.nanoTime();
+            Float delta = (float) ((now - lastRender) / 1000000000d);
 
-            for (GameObject object : renderer.getScene().getObjects()) {
-                for (Component component : object.getComponents()) {
-                    component.render(delta);
+            // Render callbacks, events and input can change the scene so they hold the lock like ticks do
+            synchronized (lock) {
+                renderer.getScene().getObjects(objects);
+                for (int i = 0; i < objects.size(); i++) {
+                    objects.get(i).getComponents(components);
+                    for (int j = 0; j < components.size(); j++) {
+                        components.get(j).render(delta);
+                    }
                 }
-            }
 
-            this.eventManager.emit(new RenderEvent(delta));
+                this.eventManager.emit(new RenderEvent(delta));
 
-            lastRender = now;
+                glfwPollEvents();
+            }
 
-            glfwPollEvents();
+            lastRender = now;
         }
 
         handle.cancel(true);
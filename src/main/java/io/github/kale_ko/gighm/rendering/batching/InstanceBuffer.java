@@ -0,0 +1,181 @@
+package io.github.kale_ko.gighm.rendering.batching;
+
+import static org.lwjgl.opengl.GL33C.*;
+import java.nio.FloatBuffer;
+import org.joml.Matrix4f;
+import org.lwjgl.BufferUtils;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A per frame buffer of instance model matrices for instanced draws (Only used internally)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class InstanceBuffer {
+    /**
+     * The number of floats in one instance
+     * 
+     * @since 2.6.0
+     */
+    public static final int INSTANCE_FLOATS = 16;
+
+    /**
+     * The number of bytes in one instance
+     * 
+     * @since 2.6.0
+     */
+    public static final int INSTANCE_BYTES = INSTANCE_FLOATS * Float.BYTES;
+
+    /**
+     * The device the buffer is created on
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * The ring buffer the instances are streamed through
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull StreamBuffer stream;
+
+    /**
+     * The byte offset the instances of this frame were written to
+     * 
+     * @since 2.6.0
+     */
+    private long offset = 0;
+
+    /**
+     * The cpu side staging data
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull FloatBuffer staging = BufferUtils.createFloatBuffer(INSTANCE_FLOATS * 256);
+
+    /**
+     * The number of instances written this frame
+     * 
+     * @since 2.6.0
+     */
+    private int size = 0;
+
+    /**
+     * Create an instance buffer
+     * 
+     * @param device The device to create the buffer on
+     * 
+     * @since 2.6.0
+     */
+    public InstanceBuffer(@NotNull RenderDevice device) {
+        NullUtils.checkNulls(device, "device");
+
+        this.device = device;
+        this.stream = new StreamBuffer(device, GL_ARRAY_BUFFER);
+    }
+
+    /**
+     * Start writing a new frame of instances
+     * 
+     * @since 2.6.0
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Write an instance to the buffer
+     * 
+     * @param matrix The model matrix of the instance
+     * 
+     * @return The index of the instance
+     * 
+     * @since 2.6.0
+     */
+    public int add(@NotNull Matrix4f matrix) {
+        if ((this.size + 1) * INSTANCE_FLOATS > this.staging.capacity()) {
+            FloatBuffer staging = BufferUtils.createFloatBuffer(this.staging.capacity() * 2);
+            this.staging.limit(this.size * INSTANCE_FLOATS).position(0);
+            staging.put(this.staging);
+            this.staging = staging;
+        }
+
+        matrix.get(this.size * INSTANCE_FLOATS, this.staging);
+
+        return this.size++;
+    }
+
+    /**
+     * Upload the instances written this frame (Must be called from a Window)
+     * 
+     * @since 2.6.0
+     */
+    public void upload() {
+        if (this.size == 0) {
+            return;
+        }
+
+        this.staging.limit(this.size * INSTANCE_FLOATS).position(0);
+        this.offset = this.stream.upload(this.staging);
+        this.staging.clear();
+    }
+
+    /**
+     * Get the number of instances written this frame
+     * 
+     * @return The number of instances written this frame
+     * 
+     * @since 2.6.0
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the gl buffer id
+     * 
+     * @return The gl buffer id
+     * 
+     * @since 2.6.0
+     */
+    public int getBufferId() {
+        return this.stream.getBufferId();
+    }
+
+    /**
+     * Get the byte offset the instances of this frame were written to
+     * 
+     * @return The byte offset of the first instance
+     * 
+     * @since 2.6.0
+     */
+    public long getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Mark the instances of this frame as in use by the draws submitted so far (Must be called from a Window)
+     * 
+     * @since 2.6.0
+     */
+    public void fence() {
+        if (this.size > 0) {
+            this.stream.fence();
+        }
+    }
+
+    /**
+     * Delete the gl buffer (Must be called from a Window)
+     * 
+     * @since 2.6.0
+     */
+    public void delete() {
+        this.stream.delete();
+    }
+}
\ No newline at end of file
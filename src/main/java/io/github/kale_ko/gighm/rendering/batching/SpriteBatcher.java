@@ -0,0 +1,668 @@
+package io.github.kale_ko.gighm.rendering.batching;
+
+import static org.lwjgl.opengl.GL33C.*;
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import org.joml.Matrix4f;
+import org.lwjgl.BufferUtils;
+import io.github.kale_ko.gighm.exception.GLCompileException;
+import io.github.kale_ko.gighm.rendering.RenderStats;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.rendering.queue.RadixSort;
+import io.github.kale_ko.gighm.rendering.queue.RenderPass;
+import io.github.kale_ko.gighm.rendering.resources.ResourceManager;
+import io.github.kale_ko.gighm.rendering.resources.TextureRegion;
+import io.github.kale_ko.gighm.rendering.shaders.Shader;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderLoader;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderProgram;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A batcher that transforms 2d meshes on the cpu and draws them with one draw per array texture (Only used internally)
+ * Sprite textures are placed in shared array textures and their uvs are rewritten into their region, so sprites with different textures still draw together
+ * Opaque and cutout sprites are drawn by {@link #flush(Matrix4f, RenderStats)} and transparent sprites are drawn back to front by {@link #flushTransparent(RenderStats)}
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class SpriteBatcher {
+    /**
+     * The number of floats in one vertex (Position, uv and layer, and color)
+     * 
+     * @since 2.6.0
+     */
+    public static final int VERTEX_FLOATS = 3 + 3 + 4;
+
+    /**
+     * The number of bytes in one vertex
+     * 
+     * @since 2.6.0
+     */
+    public static final int VERTEX_BYTES = VERTEX_FLOATS * Float.BYTES;
+
+    /**
+     * The device the sprites are drawn with
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * The resource manager sprite textures are placed in arrays by
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ResourceManager resources;
+
+    /**
+     * Weather the gl objects have been created
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean initialized = false;
+
+    /**
+     * The linked sprite shader program
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ShaderProgram program;
+
+    /**
+     * The handle of the projection uniform in the sprite shader
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer projectionHandle;
+
+    /**
+     * The handle of the sampler uniform in the sprite shader
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer samplerHandle;
+
+    /**
+     * The handle of the cutout uniform in the sprite shader
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer cutoutHandle;
+
+    /**
+     * The gl vertex array id
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer vertArrayId;
+
+    /**
+     * The ring buffer the vertices are streamed through
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull StreamBuffer stream;
+
+    /**
+     * A 1x1 white texture used for sprites without a texture
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Texture2D white;
+
+    /**
+     * The cpu side staging vertices
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull FloatBuffer staging = BufferUtils.createFloatBuffer(VERTEX_FLOATS * 6 * 1024);
+
+    /**
+     * The game objects added this frame
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull GameObject[] objects = new GameObject[0];
+
+    /**
+     * The meshes added this frame
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Mesh[] meshes = new Mesh[0];
+
+    /**
+     * The model matrices of the sprites added this frame packed in column major order
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] matrices = new float[0];
+
+    /**
+     * The texture regions of the sprites added this frame
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull TextureRegion[] regions = new TextureRegion[0];
+
+    /**
+     * The passes of the sprites added this frame
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderPass[] passes = new RenderPass[0];
+
+    /**
+     * The array texture ids of the sprites added this frame
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] textures = new int[0];
+
+    /**
+     * The sampler ids of the sprites added this frame
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] samplers = new int[0];
+
+    /**
+     * The sort keys of the sprites (The pass and then the sampler and texture, or the depth for transparent sprites)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull long[] keys = new long[0];
+
+    /**
+     * The indices of the sprites in sorted order
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] order = new int[0];
+
+    /**
+     * The vertex each sorted sprite's vertices end at
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] ends = new int[0];
+
+    /**
+     * The number of sprites added this frame
+     * 
+     * @since 2.6.0
+     */
+    private int size = 0;
+
+    /**
+     * The number of transparent sprites added this frame
+     * 
+     * @since 2.6.0
+     */
+    private int transparentCount = 0;
+
+    /**
+     * The view projection matrix the sprites were flushed with, kept for the transparent sprites
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f viewProjection = new Matrix4f();
+
+    /**
+     * The sorter used to group sprites by texture
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull RadixSort sorter = new RadixSort();
+
+    /**
+     * A reusable matrix for sprite transforms
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f matrix = new Matrix4f();
+
+    /**
+     * Create a sprite batcher
+     * 
+     * @param device The device to draw the sprites with
+     * @param resources The resource manager to place sprite textures in arrays with
+     * 
+     * @since 2.6.0
+     */
+    public SpriteBatcher(@NotNull RenderDevice device, @NotNull ResourceManager resources) {
+        NullUtils.checkNulls(device, "device");
+        NullUtils.checkNulls(resources, "resources");
+
+        this.device = device;
+        this.resources = resources;
+        this.stream = new StreamBuffer(device, GL_ARRAY_BUFFER);
+
+        ByteBuffer white = BufferUtils.createByteBuffer(4);
+        white.put((byte) 0xFF).put((byte) 0xFF).put((byte) 0xFF).put((byte) 0xFF).flip();
+        this.white = new Texture2D(1, 1, white);
+    }
+
+    /**
+     * Start adding the sprites of a new frame
+     * 
+     * @since 2.6.0
+     */
+    public void begin() {
+        for (int i = 0; i < this.size; i++) {
+            this.objects[i] = null;
+            this.meshes[i] = null;
+            this.regions[i] = null;
+            this.passes[i] = null;
+        }
+
+        this.size = 0;
+        this.transparentCount = 0;
+    }
+
+    /**
+     * Add a sprite to be drawn this frame
+     * 
+     * @param object The game object of the sprite
+     * @param mesh The 2d mesh of the sprite (Drawn with its color if it has no texture or uvs)
+     * @param model The model matrix of the game object
+     * 
+     * @since 2.6.0
+     */
+    public void add(@NotNull GameObject object, @NotNull Mesh mesh, @NotNull Matrix4f model) {
+        NullUtils.checkNulls(object, "object");
+        NullUtils.checkNulls(mesh, "mesh");
+        NullUtils.checkNulls(model, "model");
+
+        if (this.size == this.objects.length) {
+            int capacity = Math.max(256, this.objects.length * 2);
+
+            GameObject[] objects = new GameObject[capacity];
+            System.arraycopy(this.objects, 0, objects, 0, this.size);
+            this.objects = objects;
+
+            Mesh[] meshes = new Mesh[capacity];
+            System.arraycopy(this.meshes, 0, meshes, 0, this.size);
+            this.meshes = meshes;
+
+            TextureRegion[] regions = new TextureRegion[capacity];
+            System.arraycopy(this.regions, 0, regions, 0, this.size);
+            this.regions = regions;
+
+            float[] matrices = new float[capacity * 16];
+            System.arraycopy(this.matrices, 0, matrices, 0, this.size * 16);
+            this.matrices = matrices;
+
+            RenderPass[] passes = new RenderPass[capacity];
+            System.arraycopy(this.passes, 0, passes, 0, this.size);
+            this.passes = passes;
+
+            int[] textures = new int[capacity];
+            System.arraycopy(this.textures, 0, textures, 0, this.size);
+            this.textures = textures;
+
+            int[] samplers = new int[capacity];
+            System.arraycopy(this.samplers, 0, samplers, 0, this.size);
+            this.samplers = samplers;
+
+            this.keys = new long[capacity];
+            this.order = new int[capacity];
+            this.ends = new int[capacity];
+        }
+
+        Float[] uvs = mesh.getUVs();
+        TextureRegion region = mesh.getTexture() != null && uvs != null ? this.resources.getTextureRegion(mesh.getTexture(), getWrapping(uvs)) : this.resources.getTextureRegion(this.white, false);
+
+        this.objects[this.size] = object;
+        this.meshes[this.size] = mesh;
+        this.regions[this.size] = region;
+        this.passes[this.size] = mesh.getPass();
+        this.textures[this.size] = region.getTextureId();
+        this.samplers[this.size] = this.resources.getSampler(false, region.getArray().getRepeats());
+        model.get(this.matrices, this.size * 16);
+
+        if (this.passes[this.size] == RenderPass.TRANSPARENT) {
+            this.transparentCount++;
+        }
+
+        this.size++;
+    }
+
+    /**
+     * Get weather any uv is outside of 0 to 1 and needs the texture to repeat
+     * 
+     * @param uvs The uvs of a mesh
+     * 
+     * @return Weather the uvs need the texture to repeat
+     * 
+     * @since 2.6.0
+     */
+    private static boolean getWrapping(@NotNull Float[] uvs) {
+        for (int i = 0; i < uvs.length; i++) {
+            float uv = uvs[i];
+
+            if (uv < 0f || uv > 1f) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Upload every sprite added this frame and draw the opaque and cutout ones (Must be called from a Window after opaque objects are drawn)
+     * {@link #flushTransparent(RenderStats)} has to be called after this every frame
+     * 
+     * @param viewProjection The view projection matrix of the camera
+     * @param stats The stats to count the draws in
+     * 
+     * @since 2.6.0
+     */
+    public void flush(@NotNull Matrix4f viewProjection, @NotNull RenderStats stats) {
+        if (this.size == 0) {
+            return;
+        }
+
+        if (!this.initialized) {
+            this.init();
+        }
+
+        this.viewProjection.set(viewProjection);
+
+        for (int i = 0; i < this.size; i++) {
+            RenderPass pass = this.passes[i];
+
+            if (pass == RenderPass.TRANSPARENT) {
+                // Transparent sprites are sorted back to front, a larger depth has a smaller key so the farthest is drawn first
+                int offset = i * 16;
+                float clipZ = viewProjection.m02() * this.matrices[offset + 12] + viewProjection.m12() * this.matrices[offset + 13] + viewProjection.m22() * this.matrices[offset + 14] + viewProjection.m32();
+                float clipW = viewProjection.m03() * this.matrices[offset + 12] + viewProjection.m13() * this.matrices[offset + 13] + viewProjection.m23() * this.matrices[offset + 14] + viewProjection.m33();
+                float depth = Math.max(0f, Math.min(1f, (clipZ / clipW) * 0.5f + 0.5f));
+
+                this.keys[i] = ((long) pass.ordinal() << 60) | (Float.floatToIntBits(1f - depth) & 0xFFFFFFFFL);
+            } else {
+                // Other sprites are grouped by pass, sampler, and then array texture
+                this.keys[i] = ((long) pass.ordinal() << 60) | ((long) this.samplers[i] << 32) | (this.textures[i] & 0xFFFFFFFFL);
+            }
+
+            this.order[i] = i;
+        }
+
+        // The sort is stable so sprites with the same key keep the order they were added in
+        this.sorter.sort(this.keys, this.order, this.size);
+
+        int vertexCount = 0;
+        for (int i = 0; i < this.size; i++) {
+            vertexCount = this.write(this.meshes[this.order[i]], this.regions[this.order[i]], this.matrix.set(this.matrices, this.order[i] * 16), vertexCount);
+
+            // Remember where the sprite's vertices end so the draws can be split by texture
+            this.ends[i] = vertexCount;
+        }
+
+        this.bind(stats);
+        this.upload(vertexCount);
+
+        this.draw(0, this.size - this.transparentCount, stats);
+    }
+
+    /**
+     * Draw the transparent sprites added this frame back to front (Must be called from a Window after {@link #flush(Matrix4f, RenderStats)} and every other object is drawn, with blending enabled and depth writes disabled)
+     * 
+     * @param stats The stats to count the draws in
+     * 
+     * @since 2.6.0
+     */
+    public void flushTransparent(@NotNull RenderStats stats) {
+        if (this.size == 0) {
+            return;
+        }
+
+        if (this.transparentCount > 0) {
+            // Other objects were drawn since the flush so the program and vertex array are bound again
+            this.bind(stats);
+
+            this.draw(this.size - this.transparentCount, this.size, stats);
+        }
+
+        this.stream.fence();
+    }
+
+    /**
+     * Bind the sprite program and vertex array
+     * 
+     * @param stats The stats to count the changes in
+     * 
+     * @since 2.6.0
+     */
+    private void bind(@NotNull RenderStats stats) {
+        this.program.use();
+        this.program.setUniform(this.projectionHandle, this.viewProjection);
+        stats.countProgramChange();
+
+        this.device.bindVertexArray(this.vertArrayId);
+        stats.countVertexArrayChange();
+    }
+
+    /**
+     * Draw a range of the sorted sprites with one draw per run of the same texture, sampler, and pass
+     * 
+     * @param start The first sorted sprite to draw
+     * @param end The sorted sprite to stop before
+     * @param stats The stats to count the draws in
+     * 
+     * @since 2.6.0
+     */
+    private void draw(int start, int end, @NotNull RenderStats stats) {
+        int first = start > 0 ? this.ends[start - 1] : 0;
+        while (start < end) {
+            int sprite = this.order[start];
+            int texture = this.textures[sprite];
+            int sampler = this.samplers[sprite];
+            RenderPass pass = this.passes[sprite];
+
+            int runEnd = start + 1;
+            while (runEnd < end && this.textures[this.order[runEnd]] == texture && this.samplers[this.order[runEnd]] == sampler && this.passes[this.order[runEnd]] == pass) {
+                runEnd++;
+            }
+
+            this.program.setUniform(this.samplerHandle, this.device.bindTextureUnit(GL_TEXTURE_2D_ARRAY, texture, sampler));
+            this.program.setUniform(this.cutoutHandle, pass == RenderPass.CUTOUT ? 1 : 0);
+            stats.countTextureChange();
+
+            int last = this.ends[runEnd - 1];
+            this.device.drawArrays(GL_TRIANGLES, first, last - first);
+
+            stats.countPackets(runEnd - start);
+            stats.countDrawCall();
+
+            first = last;
+            start = runEnd;
+        }
+    }
+
+    /**
+     * Write the world space vertices of a sprite to the staging buffer
+     * 
+     * @param mesh The 2d mesh of the sprite
+     * @param region The region of the sprite's texture
+     * @param m The model matrix of the sprite
+     * @param vertexCount The number of vertices already written
+     * 
+     * @return The number of vertices written including this sprite
+     * 
+     * @since 2.6.0
+     */
+    private int write(@NotNull Mesh mesh, @NotNull TextureRegion region, @NotNull Matrix4f m, int vertexCount) {
+        Float[] vertices = mesh.getVertices();
+        Float[] uvs = mesh.getUVs();
+        Integer[] triangles = mesh.getTriangles();
+        int count = triangles != null ? triangles.length : vertices.length / 2;
+
+        this.ensureCapacity(vertexCount + count);
+
+        float r = 1f;
+        float g = 1f;
+        float b = 1f;
+        float a = 1f;
+        if (uvs == null || mesh.getTexture() == null) {
+            Color color = mesh.getColor();
+            if (color != null) {
+                r = color.getRed() / 255f;
+                g = color.getGreen() / 255f;
+                b = color.getBlue() / 255f;
+                a = color.getAlpha() / 255f;
+            }
+        }
+
+        float offsetU = region.getOffsetU();
+        float offsetV = region.getOffsetV();
+        float scaleU = region.getScaleU();
+        float scaleV = region.getScaleV();
+        float layer = region.getLayer();
+
+        FloatBuffer staging = this.staging;
+        int offset = vertexCount * VERTEX_FLOATS;
+        for (int i = 0; i < count; i++) {
+            int vertex = triangles != null ? triangles[i] : i;
+            float x = vertices[vertex * 2];
+            float y = vertices[vertex * 2 + 1];
+
+            staging.put(offset, m.m00() * x + m.m10() * y + m.m30());
+            staging.put(offset + 1, m.m01() * x + m.m11() * y + m.m31());
+            staging.put(offset + 2, m.m02() * x + m.m12() * y + m.m32());
+
+            // Uvs are moved into the texture's region, sprites without uvs sample the middle of theirs
+            if (uvs != null) {
+                staging.put(offset + 3, offsetU + uvs[vertex * 2] * scaleU);
+                staging.put(offset + 4, offsetV + uvs[vertex * 2 + 1] * scaleV);
+            } else {
+                staging.put(offset + 3, offsetU + 0.5f * scaleU);
+                staging.put(offset + 4, offsetV + 0.5f * scaleV);
+            }
+            staging.put(offset + 5, layer);
+
+            staging.put(offset + 6, r);
+            staging.put(offset + 7, g);
+            staging.put(offset + 8, b);
+            staging.put(offset + 9, a);
+
+            offset += VERTEX_FLOATS;
+        }
+
+        return vertexCount + count;
+    }
+
+    /**
+     * Grow the staging buffer to fit a number of vertices
+     * 
+     * @param vertexCount The number of vertices to fit
+     * 
+     * @since 2.6.0
+     */
+    private void ensureCapacity(int vertexCount) {
+        if (vertexCount * VERTEX_FLOATS > this.staging.capacity()) {
+            FloatBuffer staging = BufferUtils.createFloatBuffer(Math.max(vertexCount * VERTEX_FLOATS, this.staging.capacity() * 2));
+            this.staging.clear();
+            staging.put(this.staging);
+            staging.clear();
+            this.staging = staging;
+        }
+    }
+
+    /**
+     * Stream the staged vertices into the next region of the vertex buffer and point the bound vertex array at it
+     * 
+     * @param vertexCount The number of vertices to upload
+     * 
+     * @since 2.6.0
+     */
+    private void upload(int vertexCount) {
+        this.staging.limit(vertexCount * VERTEX_FLOATS).position(0);
+        long offset = this.stream.upload(this.staging);
+        this.staging.clear();
+
+        // The region changes every frame so the attributes of the bound vertex array are pointed at it
+        this.device.vertexAttribPointer(ShaderProgram.VERTICES_LOCATION, 3, GL_FLOAT, false, VERTEX_BYTES, offset);
+        this.device.vertexAttribPointer(ShaderProgram.UVS_LOCATION, 3, GL_FLOAT, false, VERTEX_BYTES, offset + 3 * Float.BYTES);
+        this.device.vertexAttribPointer(ShaderProgram.COLORS_LOCATION, 4, GL_FLOAT, false, VERTEX_BYTES, offset + 6 * Float.BYTES);
+    }
+
+    /**
+     * Create the sprite shader program and vertex array
+     * 
+     * @throws GLCompileException If the sprite shader fails to load or compile
+     * 
+     * @since 2.6.0
+     */
+    private void init() throws GLCompileException {
+        Shader shader;
+        try {
+            shader = ShaderLoader.loadSprite();
+        } catch (IOException e) {
+            e.printStackTrace();
+
+            throw new GLCompileException("Failed to load sprite shader");
+        }
+
+        this.program = new ShaderProgram(this.device, shader);
+        this.projectionHandle = this.program.getUniformHandle("projection");
+        this.samplerHandle = this.program.getUniformHandle("sampler");
+        this.cutoutHandle = this.program.getUniformHandle("cutout");
+
+        this.vertArrayId = this.device.createVertexArray();
+        this.device.bindVertexArray(this.vertArrayId);
+
+        this.device.enableVertexAttribArray(ShaderProgram.VERTICES_LOCATION);
+        this.device.enableVertexAttribArray(ShaderProgram.UVS_LOCATION);
+        this.device.enableVertexAttribArray(ShaderProgram.COLORS_LOCATION);
+
+        this.device.bindVertexArray(0);
+
+        this.initialized = true;
+    }
+
+    /**
+     * Get the number of sprites added this frame
+     * 
+     * @return The number of sprites added this frame
+     * 
+     * @since 2.6.0
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the number of transparent sprites added this frame
+     * 
+     * @return The number of transparent sprites added this frame
+     * 
+     * @since 2.6.0
+     */
+    public int getTransparentCount() {
+        return this.transparentCount;
+    }
+
+    /**
+     * Delete the gl objects owned by this batcher (Must be called from a Window)
+     * 
+     * @since 2.6.0
+     */
+    public void delete() {
+        if (this.initialized) {
+            this.stream.delete();
+            this.device.deleteVertexArray(this.vertArrayId);
+            this.program.delete();
+
+            this.initialized = false;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,343 @@
+package io.github.kale_ko.gighm.rendering.batching;
+
+import java.awt.Color;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import io.github.kale_ko.gighm.rendering.MeshBuffers;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.rendering.queue.RenderPass;
+import io.github.kale_ko.gighm.rendering.resources.ResourceManager;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A group of static meshes with the same texture and pass merged into one world space buffer (Only used internally)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class StaticBatch {
+    /**
+     * The texture of every mesh in the batch
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Texture2D texture;
+
+    /**
+     * The color of every mesh in the batch (Only used if the batch has no uvs)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Color color;
+
+    /**
+     * Weather every mesh in the batch has uvs
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean hasUVs;
+
+    /**
+     * The pass every mesh in the batch is drawn in
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderPass pass;
+
+    /**
+     * The game objects in the batch and the meshes they were added with
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<GameObject, Mesh> members = new LinkedHashMap<GameObject, Mesh>();
+
+    /**
+     * The model matrices the game objects were added with packed in column major order
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<GameObject, float[]> matrices = new LinkedHashMap<GameObject, float[]>();
+
+    /**
+     * The merged buffers of the batch (null until it is built)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable MeshBuffers buffers = null;
+
+    /**
+     * Weather the members have changed since the batch was built
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean dirty = true;
+
+    /**
+     * Create an empty batch for meshes like the one passed
+     * 
+     * @param mesh The mesh to create the batch for
+     * 
+     * @since 2.6.0
+     */
+    public StaticBatch(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        this.texture = mesh.getTexture();
+        this.color = mesh.getColor();
+        this.hasUVs = mesh.getUVs() != null;
+        this.pass = mesh.getPass();
+    }
+
+    /**
+     * Get weather a mesh can be merged into this batch
+     * 
+     * @param mesh The mesh to check
+     * 
+     * @return Weather the mesh can be merged into this batch
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean accepts(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        if (mesh.getTexture() != this.texture || (mesh.getUVs() != null) != this.hasUVs || mesh.getPass() != this.pass) {
+            return false;
+        }
+
+        // Untextured meshes are drawn with a color uniform so they can only be merged with the same color
+        return this.hasUVs || Objects.equals(mesh.getColor(), this.color);
+    }
+
+    /**
+     * Add a game object to the batch
+     * 
+     * @param object The game object to add
+     * @param mesh The mesh of the game object
+     * @param model The model matrix of the game object
+     * 
+     * @since 2.6.0
+     */
+    public void add(@NotNull GameObject object, @NotNull Mesh mesh, @NotNull Matrix4f model) {
+        NullUtils.checkNulls(object, "object");
+        NullUtils.checkNulls(mesh, "mesh");
+        NullUtils.checkNulls(model, "model");
+
+        // Copied so building never reads the transform, which may be changed by a tick while drawing
+        float[] matrix = this.matrices.get(object);
+        if (matrix == null) {
+            matrix = new float[16];
+            this.matrices.put(object, matrix);
+        }
+        model.get(matrix);
+
+        this.members.put(object, mesh);
+        this.dirty = true;
+    }
+
+    /**
+     * Remove a game object from the batch
+     * 
+     * @param object The game object to remove
+     * 
+     * @since 2.6.0
+     */
+    public void remove(@NotNull GameObject object) {
+        NullUtils.checkNulls(object, "object");
+
+        this.matrices.remove(object);
+
+        if (this.members.remove(object) != null) {
+            this.dirty = true;
+        }
+    }
+
+    /**
+     * Get the mesh a game object was added to the batch with
+     * 
+     * @param object The game object
+     * 
+     * @return The mesh the game object was added with or null
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable Mesh getMesh(@NotNull GameObject object) {
+        return this.members.get(object);
+    }
+
+    /**
+     * Merge the world space geometry of every member into new buffers, replacing the old ones (Must be called from a Window)
+     * 
+     * @param device The device to upload the buffers to
+     * @param resources The resource manager the buffers are counted in and the old ones are deleted through
+     * @param matrix A scratch matrix for member transforms
+     * @param vertex A scratch vector for transformed vertices
+     * 
+     * @since 2.6.0
+     */
+    public void build(@NotNull RenderDevice device, @NotNull ResourceManager resources, @NotNull Matrix4f matrix, @NotNull Vector3f vertex) {
+        this.delete(resources);
+
+        int vertexCount = 0;
+        int indexCount = 0;
+        for (Mesh mesh : this.members.values()) {
+            int meshVertices = mesh.getVertices().length / mesh.getVerticeSize();
+
+            vertexCount += meshVertices;
+            indexCount += mesh.getTriangles() != null ? mesh.getTriangles().length : meshVertices;
+        }
+
+        float[] vertices = new float[vertexCount * 3];
+        float[] uvs = this.hasUVs ? new float[vertexCount * 2] : null;
+        int[] triangles = new int[indexCount];
+
+        int vertexOffset = 0;
+        int indexOffset = 0;
+        for (Map.Entry<GameObject, Mesh> member : this.members.entrySet()) {
+            Mesh mesh = member.getValue();
+            Float[] meshVertices = mesh.getVertices();
+            int size = mesh.getVerticeSize();
+            int meshVertexCount = meshVertices.length / size;
+
+            matrix.set(this.matrices.get(member.getKey()));
+
+            for (int i = 0; i < meshVertexCount; i++) {
+                matrix.transformPosition(meshVertices[i * size], meshVertices[i * size + 1], size == 3 ? meshVertices[i * size + 2] : 0f, vertex);
+
+                vertices[(vertexOffset + i) * 3] = vertex.x;
+                vertices[(vertexOffset + i) * 3 + 1] = vertex.y;
+                vertices[(vertexOffset + i) * 3 + 2] = vertex.z;
+            }
+
+            if (uvs != null) {
+                Float[] meshUVs = mesh.getUVs();
+                for (int i = 0; i < meshVertexCount * 2 && i < meshUVs.length; i++) {
+                    uvs[vertexOffset * 2 + i] = meshUVs[i];
+                }
+            }
+
+            if (mesh.getTriangles() != null) {
+                Integer[] meshTriangles = mesh.getTriangles();
+                for (int i = 0; i < meshTriangles.length; i++) {
+                    triangles[indexOffset + i] = vertexOffset + meshTriangles[i];
+                }
+
+                indexOffset += meshTriangles.length;
+            } else {
+                for (int i = 0; i < meshVertexCount; i++) {
+                    triangles[indexOffset + i] = vertexOffset + i;
+                }
+
+                indexOffset += meshVertexCount;
+            }
+
+            vertexOffset += meshVertexCount;
+        }
+
+        this.buffers = new MeshBuffers(device, vertices, 3, uvs, triangles);
+        resources.track(this.buffers);
+
+        this.dirty = false;
+    }
+
+    /**
+     * Get the merged buffers of the batch
+     * 
+     * @return The merged buffers of the batch or null if it has not been built
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable MeshBuffers getBuffers() {
+        return this.buffers;
+    }
+
+    /**
+     * Get the first game object in the batch (Used to stand in for the batch in a draw)
+     * 
+     * @return The first game object in the batch
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull GameObject getFirstObject() {
+        return this.members.keySet().iterator().next();
+    }
+
+    /**
+     * Get the mesh of the first game object in the batch (Used to stand in for the batch in a draw)
+     * 
+     * @return The mesh of the first game object in the batch
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Mesh getFirstMesh() {
+        return this.members.values().iterator().next();
+    }
+
+    /**
+     * Get the texture of every mesh in the batch
+     * 
+     * @return The texture of every mesh in the batch
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable Texture2D getTexture() {
+        return this.texture;
+    }
+
+    /**
+     * Get the pass every mesh in the batch is drawn in
+     * 
+     * @return The pass every mesh in the batch is drawn in
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull RenderPass getPass() {
+        return this.pass;
+    }
+
+    /**
+     * Get the number of game objects in the batch
+     * 
+     * @return The number of game objects in the batch
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer size() {
+        return this.members.size();
+    }
+
+    /**
+     * Get weather the members have changed since the batch was built
+     * 
+     * @return Weather the batch needs to be rebuilt
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getDirty() {
+        return this.dirty;
+    }
+
+    /**
+     * Queue the merged buffers of the batch to be deleted the next time the resource manager collects (Must be called from a Window)
+     * 
+     * @param resources The resource manager the buffers are counted in
+     * 
+     * @since 2.6.0
+     */
+    public void delete(@NotNull ResourceManager resources) {
+        if (this.buffers != null) {
+            resources.untrack(this.buffers);
+
+            this.buffers = null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,273 @@
+package io.github.kale_ko.gighm.rendering.batching;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.rendering.resources.ResourceManager;
+import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A manager for merging static game objects into {@link StaticBatch}es (Only used internally)
+ * Every frame the static objects in the scene are passed in, batches are only rebuilt when their members change
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class StaticBatcher {
+    /**
+     * A game object that is a member of a batch (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Member {
+        /**
+         * The game object
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull GameObject object;
+
+        /**
+         * The batch the object is a member of
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull StaticBatch batch;
+
+        /**
+         * The frame the object was last passed in
+         * 
+         * @since 2.6.0
+         */
+        public long frame;
+
+        /**
+         * Create a member (Only used internally)
+         * 
+         * @param object The game object
+         * 
+         * @since 2.6.0
+         */
+        protected Member(@NotNull GameObject object) {
+            this.object = object;
+        }
+    }
+
+    /**
+     * The device batches are built on
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * The resource manager batch buffers are counted in and deleted through
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ResourceManager resources;
+
+    /**
+     * The batches that exist
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<StaticBatch> batches = new ArrayList<StaticBatch>();
+
+    /**
+     * A map of game objects to their membership
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<GameObject, Member> members = new HashMap<GameObject, Member>();
+
+    /**
+     * Every membership, for walking them without allocating an iterator
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<Member> memberList = new ArrayList<Member>();
+
+    /**
+     * The current frame, incremented every begin
+     * 
+     * @since 2.6.0
+     */
+    private long frame = 0;
+
+    /**
+     * A reusable matrix for building batches
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f matrix = new Matrix4f();
+
+    /**
+     * A reusable vector for building batches
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Vector3f vertex = new Vector3f();
+
+    /**
+     * Create a static batcher
+     * 
+     * @param device The device to build batches on
+     * @param resources The resource manager to count batch buffers in and delete them through
+     * 
+     * @since 2.6.0
+     */
+    public StaticBatcher(@NotNull RenderDevice device, @NotNull ResourceManager resources) {
+        NullUtils.checkNulls(device, "device");
+        NullUtils.checkNulls(resources, "resources");
+
+        this.device = device;
+        this.resources = resources;
+    }
+
+    /**
+     * Start passing in the static objects of a new frame
+     * 
+     * @since 2.6.0
+     */
+    public void begin() {
+        this.frame++;
+    }
+
+    /**
+     * Pass in a static game object for this frame
+     * 
+     * @param object The game object
+     * @param mesh The mesh of the game object
+     * @param model The model matrix of the game object (Copied when the object joins a batch)
+     * 
+     * @since 2.6.0
+     */
+    public void add(@NotNull GameObject object, @NotNull Mesh mesh, @NotNull Matrix4f model) {
+        NullUtils.checkNulls(object, "object");
+        NullUtils.checkNulls(mesh, "mesh");
+        NullUtils.checkNulls(model, "model");
+
+        Member member = this.members.get(object);
+        if (member != null) {
+            member.frame = this.frame;
+
+            // A mesh whose pass or color changed no longer fits its batch and is moved
+            if (member.batch.getMesh(object) == mesh && member.batch.accepts(mesh)) {
+                return;
+            }
+
+            member.batch.remove(object);
+        } else {
+            member = new Member(object);
+            member.frame = this.frame;
+
+            this.members.put(object, member);
+            this.memberList.add(member);
+        }
+
+        StaticBatch batch = null;
+        for (int i = 0; i < this.batches.size(); i++) {
+            if (this.batches.get(i).accepts(mesh)) {
+                batch = this.batches.get(i);
+
+                break;
+            }
+        }
+
+        if (batch == null) {
+            batch = new StaticBatch(mesh);
+            this.batches.add(batch);
+        }
+
+        batch.add(object, mesh, model);
+        member.batch = batch;
+    }
+
+    /**
+     * Finish passing in static objects, removing the ones that were not passed in and rebuilding any batches that changed (Must be called from a Window)
+     * 
+     * @since 2.6.0
+     */
+    public void end() {
+        for (int i = this.memberList.size() - 1; i >= 0; i--) {
+            Member member = this.memberList.get(i);
+
+            if (member.frame != this.frame) {
+                member.batch.remove(member.object);
+                this.members.remove(member.object);
+
+                // Swap the last member into its place so removing does not shift the list
+                Member last = this.memberList.remove(this.memberList.size() - 1);
+                if (last != member) {
+                    this.memberList.set(i, last);
+                }
+            }
+        }
+
+        for (int i = this.batches.size() - 1; i >= 0; i--) {
+            StaticBatch batch = this.batches.get(i);
+
+            if (batch.getDirty()) {
+                if (batch.size() == 0) {
+                    batch.delete(this.resources);
+
+                    this.batches.remove(i);
+                } else {
+                    batch.build(this.device, this.resources, this.matrix, this.vertex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the number of batches
+     * 
+     * @return The number of batches
+     * 
+     * @since 2.6.0
+     */
+    public int size() {
+        return this.batches.size();
+    }
+
+    /**
+     * Get a batch
+     * 
+     * @param index The index of the batch
+     * 
+     * @return The batch
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull StaticBatch get(int index) {
+        return this.batches.get(index);
+    }
+
+    /**
+     * Delete every batch (Must be called from a Window)
+     * 
+     * @since 2.6.0
+     */
+    public void delete() {
+        for (StaticBatch batch : this.batches) {
+            batch.delete(this.resources);
+        }
+
+        this.batches.clear();
+        this.members.clear();
+        this.memberList.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,323 @@
+package io.github.kale_ko.gighm.rendering.batching;
+
+import static org.lwjgl.opengl.GL33C.*;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import org.lwjgl.opengl.ARBBufferStorage;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A ring buffer for streaming data that changes every frame (Only used internally)
+ * The buffer is split into {@link #REGIONS} regions that are written in turn, each guarded by a fence so a region is never written while the gpu may still be reading it
+ * When the device supports buffer storage the buffer is mapped once and stays mapped, otherwise each region is mapped unsynchronized as it is written
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class StreamBuffer {
+    /**
+     * The number of regions in the buffer (One being written and two that may still be in flight)
+     * 
+     * @since 2.6.0
+     */
+    public static final int REGIONS = 3;
+
+    /**
+     * The alignment of each region in bytes (Large enough for any uniform buffer offset alignment)
+     * 
+     * @since 2.6.0
+     */
+    public static final int ALIGNMENT = 256;
+
+    /**
+     * The longest time to wait on a fence before flushing again in nanoseconds
+     * 
+     * @since 2.6.0
+     */
+    public static final long WAIT_TIMEOUT = 1000000L;
+
+    /**
+     * The longest total time to wait on a fence in nanoseconds, after which the region is written anyway instead of stalling forever
+     * 
+     * @since 2.6.0
+     */
+    public static final long MAX_WAIT = 1000000000L;
+
+    /**
+     * The device the buffer is created on
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * The target the buffer is bound to for writing
+     * 
+     * @since 2.6.0
+     */
+    private int target;
+
+    /**
+     * The gl buffer id (0 until the first upload)
+     * 
+     * @since 2.6.0
+     */
+    private int bufferId = 0;
+
+    /**
+     * The size of each region in bytes
+     * 
+     * @since 2.6.0
+     */
+    private long regionBytes = 0;
+
+    /**
+     * The region last written
+     * 
+     * @since 2.6.0
+     */
+    private int region = REGIONS - 1;
+
+    /**
+     * Weather the buffer is persistently mapped
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean persistent = false;
+
+    /**
+     * The mapped memory of each region as floats (Only if persistently mapped)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull FloatBuffer[] mapped = new FloatBuffer[REGIONS];
+
+    /**
+     * The fence inserted after the last draws reading each region (0 if there is none)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull long[] fences = new long[REGIONS];
+
+    /**
+     * Create a stream buffer
+     * 
+     * @param device The device to create the buffer on
+     * @param target The target the buffer is bound to for writing
+     * 
+     * @since 2.6.0
+     */
+    public StreamBuffer(@NotNull RenderDevice device, int target) {
+        NullUtils.checkNulls(device, "device");
+
+        this.device = device;
+        this.target = target;
+    }
+
+    /**
+     * Write data to the next region, waiting for the gpu to finish reading it first (Must be called from a Window)
+     * 
+     * @param data The data to write (From its position to its limit)
+     * 
+     * @return The byte offset of the region the data was written to
+     * 
+     * @since 2.6.0
+     */
+    public long upload(@NotNull FloatBuffer data) {
+        long bytes = (long) data.remaining() * Float.BYTES;
+
+        if (bytes > this.regionBytes) {
+            this.allocate(Math.max(bytes, this.regionBytes * 2));
+        }
+
+        this.region = (this.region + 1) % REGIONS;
+        this.waitFence(this.region);
+
+        long offset = this.region * this.regionBytes;
+
+        this.device.bindBuffer(this.target, this.bufferId);
+
+        if (this.persistent) {
+            this.write(this.mapped[this.region], data);
+        } else {
+            // The fence already guarantees the region is unused so the driver does not need to synchronize the map
+            ByteBuffer range = this.device.mapBufferRange(this.target, offset, bytes, GL_MAP_WRITE_BIT | GL_MAP_INVALIDATE_RANGE_BIT | GL_MAP_UNSYNCHRONIZED_BIT);
+
+            boolean written = false;
+            if (range != null) {
+                this.write(range.asFloatBuffer(), data);
+
+                written = this.device.unmapBuffer(this.target);
+            }
+
+            if (!written) {
+                this.device.bufferSubData(this.target, offset, data);
+            }
+        }
+
+        return offset;
+    }
+
+    /**
+     * Insert a fence after the draws reading the last written region (Must be called from a Window)
+     * 
+     * @since 2.6.0
+     */
+    public void fence() {
+        if (this.bufferId == 0) {
+            return;
+        }
+
+        if (this.fences[this.region] != 0) {
+            this.device.deleteSync(this.fences[this.region]);
+        }
+
+        this.fences[this.region] = this.device.fenceSync();
+    }
+
+    /**
+     * Get the gl buffer id
+     * 
+     * @return The gl buffer id
+     * 
+     * @since 2.6.0
+     */
+    public int getBufferId() {
+        return this.bufferId;
+    }
+
+    /**
+     * Get weather the buffer is persistently mapped
+     * 
+     * @return Weather the buffer is persistently mapped
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getPersistent() {
+        return this.persistent;
+    }
+
+    /**
+     * Delete the gl buffer and its fences (Must be called from a Window)
+     * 
+     * @since 2.6.0
+     */
+    public void delete() {
+        if (this.bufferId == 0) {
+            return;
+        }
+
+        for (int i = 0; i < REGIONS; i++) {
+            if (this.fences[i] != 0) {
+                this.device.deleteSync(this.fences[i]);
+
+                this.fences[i] = 0;
+            }
+
+            this.mapped[i] = null;
+        }
+
+        if (this.persistent) {
+            this.device.bindBuffer(this.target, this.bufferId);
+            this.device.unmapBuffer(this.target);
+        }
+
+        this.device.deleteBuffer(this.bufferId);
+
+        this.bufferId = 0;
+        this.regionBytes = 0;
+        this.region = REGIONS - 1;
+        this.persistent = false;
+    }
+
+    /**
+     * Replace the gl buffer with one that has larger regions
+     * 
+     * @param bytes The minimum size of each region in bytes
+     * 
+     * @since 2.6.0
+     */
+    private void allocate(long bytes) {
+        this.delete();
+
+        this.regionBytes = (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+        long total = this.regionBytes * REGIONS;
+
+        this.bufferId = this.device.createBuffer();
+        this.device.bindBuffer(this.target, this.bufferId);
+
+        if (this.device.getSupportsBufferStorage()) {
+            int flags = GL_MAP_WRITE_BIT | ARBBufferStorage.GL_MAP_PERSISTENT_BIT | ARBBufferStorage.GL_MAP_COHERENT_BIT;
+
+            // Dynamic storage keeps the sub data fallback valid on the immutable buffer if the persistent map fails
+            this.device.bufferStorage(this.target, total, flags | ARBBufferStorage.GL_DYNAMIC_STORAGE_BIT);
+
+            // Coherent writes are visible to the gpu without flushing so the buffer can stay mapped while drawing
+            ByteBuffer whole = this.device.mapBufferRange(this.target, 0, total, flags);
+            if (whole != null) {
+                for (int i = 0; i < REGIONS; i++) {
+                    ByteBuffer region = whole.duplicate();
+                    region.position((int) (i * this.regionBytes)).limit((int) ((i + 1) * this.regionBytes));
+
+                    this.mapped[i] = region.slice().order(whole.order()).asFloatBuffer();
+                }
+
+                this.persistent = true;
+            }
+        } else {
+            this.device.bufferData(this.target, total, GL_STREAM_DRAW);
+        }
+    }
+
+    /**
+     * Copy data into mapped memory, leaving the position of the data unchanged
+     * 
+     * @param destination The mapped memory
+     * @param data The data to copy (From its position to its limit)
+     * 
+     * @since 2.6.0
+     */
+    private void write(@NotNull FloatBuffer destination, @NotNull FloatBuffer data) {
+        int position = data.position();
+
+        // Both buffers are direct and in native order so this is a single bulk copy
+        destination.clear();
+        destination.put(data);
+
+        data.position(position);
+    }
+
+    /**
+     * Wait for the gpu to finish reading a region (Gives up if the wait fails or takes longer than {@link #MAX_WAIT})
+     * 
+     * @param region The region
+     * 
+     * @since 2.6.0
+     */
+    private void waitFence(int region) {
+        long fence = this.fences[region];
+        if (fence == 0) {
+            return;
+        }
+
+        int status;
+        long waited = 0;
+        do {
+            status = this.device.clientWaitSync(fence, GL_SYNC_FLUSH_COMMANDS_BIT, WAIT_TIMEOUT);
+            waited += WAIT_TIMEOUT;
+        } while (status == GL_TIMEOUT_EXPIRED && waited < MAX_WAIT);
+
+        if (status == GL_WAIT_FAILED) {
+            System.err.println("Failed to wait for a stream buffer fence");
+        } else if (status == GL_TIMEOUT_EXPIRED) {
+            System.err.println("Timed out waiting for a stream buffer fence");
+        }
+
+        this.device.deleteSync(fence);
+        this.fences[region] = 0;
+    }
+}
\ No newline at end of file
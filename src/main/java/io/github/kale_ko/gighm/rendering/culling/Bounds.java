@@ -0,0 +1,133 @@
+package io.github.kale_ko.gighm.rendering.culling;
+
+import org.joml.Vector3f;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * The local space bounding box and bounding sphere of a mesh
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class Bounds {
+    /**
+     * The minimum corner of the bounding box
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Vector3f min;
+
+    /**
+     * The maximum corner of the bounding box
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Vector3f max;
+
+    /**
+     * The center of the bounding sphere (The center of the bounding box)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Vector3f center;
+
+    /**
+     * The radius of the bounding sphere
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Float radius;
+
+    /**
+     * Compute the bounds of some vertices
+     * 
+     * @param vertices The vertices to bound
+     * @param verticeSize How many numbers define a point (2d vertices are bounded at z = 0)
+     * 
+     * @since 2.6.0
+     */
+    public Bounds(@NotNull Float[] vertices, @NotNull Integer verticeSize) {
+        NullUtils.checkNulls(vertices, "vertices");
+        NullUtils.checkNulls(verticeSize, "verticeSize");
+
+        int size = verticeSize;
+        int count = vertices.length / size;
+
+        this.min = new Vector3f(Float.POSITIVE_INFINITY);
+        this.max = new Vector3f(Float.NEGATIVE_INFINITY);
+
+        for (int i = 0; i < count; i++) {
+            float x = vertices[i * size];
+            float y = vertices[i * size + 1];
+            float z = size == 3 ? vertices[i * size + 2] : 0f;
+
+            this.min.set(Math.min(this.min.x, x), Math.min(this.min.y, y), Math.min(this.min.z, z));
+            this.max.set(Math.max(this.max.x, x), Math.max(this.max.y, y), Math.max(this.max.z, z));
+        }
+
+        if (count == 0) {
+            this.min.zero();
+            this.max.zero();
+        }
+
+        this.center = new Vector3f(this.min).add(this.max).mul(0.5f);
+
+        float radiusSquared = 0f;
+        for (int i = 0; i < count; i++) {
+            float x = vertices[i * size];
+            float y = vertices[i * size + 1];
+            float z = size == 3 ? vertices[i * size + 2] : 0f;
+
+            radiusSquared = Math.max(radiusSquared, this.center.distanceSquared(x, y, z));
+        }
+
+        this.radius = (float) Math.sqrt(radiusSquared);
+    }
+
+    /**
+     * Get the minimum corner of the bounding box (Should not be modified)
+     * 
+     * @return The minimum corner of the bounding box
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Vector3f getMin() {
+        return this.min;
+    }
+
+    /**
+     * Get the maximum corner of the bounding box (Should not be modified)
+     * 
+     * @return The maximum corner of the bounding box
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Vector3f getMax() {
+        return this.max;
+    }
+
+    /**
+     * Get the center of the bounding sphere (Should not be modified)
+     * 
+     * @return The center of the bounding sphere
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Vector3f getCenter() {
+        return this.center;
+    }
+
+    /**
+     * Get the radius of the bounding sphere
+     * 
+     * @return The radius of the bounding sphere
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getRadius() {
+        return this.radius;
+    }
+}
\ No newline at end of file
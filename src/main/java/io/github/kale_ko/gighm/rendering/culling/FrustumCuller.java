@@ -0,0 +1,334 @@
+package io.github.kale_ko.gighm.rendering.culling;
+
+import org.joml.Matrix4f;
+import org.joml.Vector4f;
+import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.ParallelLoop;
+
+/**
+ * A culler that rejects game objects whose world bounding spheres are outside of the camera frustum (Only used internally)
+ * Model matrices are copied in when added and world spheres are computed while culling so large scenes can be tested in parallel chunks
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class FrustumCuller {
+    /**
+     * The number of objects at which culling is split across threads
+     * 
+     * @since 2.6.0
+     */
+    public static final int PARALLEL_THRESHOLD = 8192;
+
+    /**
+     * The number of objects culled by one thread at a time
+     * 
+     * @since 2.6.0
+     */
+    public static final int CHUNK_SIZE = 2048;
+
+    /**
+     * The six frustum planes packed as normal x, y, z and distance
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull float[] planes = new float[6 * 4];
+
+    /**
+     * The world bounding spheres packed as center x, y, z and radius
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] spheres = new float[0];
+
+    /**
+     * The model matrices of the objects packed in column major order
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] matrices = new float[0];
+
+    /**
+     * Weather each object is visible
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull boolean[] visible = new boolean[0];
+
+    /**
+     * The game objects added this frame
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull GameObject[] objects = new GameObject[0];
+
+    /**
+     * The meshes added this frame
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Mesh[] meshes = new Mesh[0];
+
+    /**
+     * The number of objects added this frame
+     * 
+     * @since 2.6.0
+     */
+    private int size = 0;
+
+    /**
+     * A reusable matrix for object transforms when culling on one thread
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f matrix = new Matrix4f();
+
+    /**
+     * A reusable matrix for object transforms for each chunk when culling on several threads
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Matrix4f[] chunkMatrices = new Matrix4f[0];
+
+    /**
+     * The loop culling chunks of objects on several threads
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull ParallelLoop loop = new ParallelLoop(chunk -> this.cull(chunk * CHUNK_SIZE, Math.min(this.size, (chunk + 1) * CHUNK_SIZE), this.chunkMatrices[chunk]));
+
+    /**
+     * A reusable vector for extracting planes
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Vector4f plane = new Vector4f();
+
+    /**
+     * Create a frustum culler
+     * 
+     * @since 2.6.0
+     */
+    public FrustumCuller() {}
+
+    /**
+     * Start adding the objects of a new frame
+     * 
+     * @param viewProjection The view projection matrix of the camera to extract the frustum from
+     * 
+     * @since 2.6.0
+     */
+    public void begin(@NotNull Matrix4f viewProjection) {
+        NullUtils.checkNulls(viewProjection, "viewProjection");
+
+        for (int i = 0; i < 6; i++) {
+            viewProjection.frustumPlane(i, this.plane);
+
+            this.planes[i * 4] = this.plane.x;
+            this.planes[i * 4 + 1] = this.plane.y;
+            this.planes[i * 4 + 2] = this.plane.z;
+            this.planes[i * 4 + 3] = this.plane.w;
+        }
+
+        for (int i = 0; i < this.size; i++) {
+            this.objects[i] = null;
+            this.meshes[i] = null;
+        }
+
+        this.size = 0;
+    }
+
+    /**
+     * Add an object to be culled
+     * 
+     * @param object The game object
+     * @param mesh The mesh of the game object
+     * @param model The model matrix of the game object
+     * 
+     * @since 2.6.0
+     */
+    public void add(@NotNull GameObject object, @NotNull Mesh mesh, @NotNull Matrix4f model) {
+        NullUtils.checkNulls(object, "object");
+        NullUtils.checkNulls(mesh, "mesh");
+        NullUtils.checkNulls(model, "model");
+
+        if (this.size == this.objects.length) {
+            int capacity = Math.max(256, this.objects.length * 2);
+
+            GameObject[] objects = new GameObject[capacity];
+            System.arraycopy(this.objects, 0, objects, 0, this.size);
+            this.objects = objects;
+
+            Mesh[] meshes = new Mesh[capacity];
+            System.arraycopy(this.meshes, 0, meshes, 0, this.size);
+            this.meshes = meshes;
+
+            float[] matrices = new float[capacity * 16];
+            System.arraycopy(this.matrices, 0, matrices, 0, this.size * 16);
+            this.matrices = matrices;
+
+            this.spheres = new float[capacity * 4];
+            this.visible = new boolean[capacity];
+        }
+
+        this.objects[this.size] = object;
+        this.meshes[this.size] = mesh;
+        model.get(this.matrices, this.size * 16);
+        this.size++;
+    }
+
+    /**
+     * Test every object added this frame against the frustum
+     * 
+     * @return The number of visible objects
+     * 
+     * @since 2.6.0
+     */
+    public int cull() {
+        if (this.size >= PARALLEL_THRESHOLD) {
+            int chunks = (this.size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+            if (this.chunkMatrices.length < chunks) {
+                Matrix4f[] matrices = new Matrix4f[chunks];
+                System.arraycopy(this.chunkMatrices, 0, matrices, 0, this.chunkMatrices.length);
+                for (int i = this.chunkMatrices.length; i < chunks; i++) {
+                    matrices[i] = new Matrix4f();
+                }
+                this.chunkMatrices = matrices;
+            }
+
+            this.loop.run(chunks);
+        } else {
+            this.cull(0, this.size, this.matrix);
+        }
+
+        int visibleCount = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (this.visible[i]) {
+                visibleCount++;
+            }
+        }
+
+        return visibleCount;
+    }
+
+    /**
+     * Test a range of objects against the frustum (Ranges only write their own part of the packed arrays so they can be tested on different threads)
+     * 
+     * @param start The first object to test
+     * @param end The object to stop before
+     * @param m A matrix to load model matrices into (Each thread needs its own)
+     * 
+     * @since 2.6.0
+     */
+    private void cull(int start, int end, @NotNull Matrix4f m) {
+        float[] planes = this.planes;
+        float[] spheres = this.spheres;
+        boolean[] visible = this.visible;
+
+        for (int i = start; i < end; i++) {
+            Bounds bounds = this.meshes[i].getBounds();
+            m.set(this.matrices, i * 16);
+
+            float cx = bounds.getCenter().x;
+            float cy = bounds.getCenter().y;
+            float cz = bounds.getCenter().z;
+
+            // Scale the radius by the largest axis so the sphere still contains the mesh after a non uniform scale
+            float scaleX = m.m00() * m.m00() + m.m01() * m.m01() + m.m02() * m.m02();
+            float scaleY = m.m10() * m.m10() + m.m11() * m.m11() + m.m12() * m.m12();
+            float scaleZ = m.m20() * m.m20() + m.m21() * m.m21() + m.m22() * m.m22();
+            float scale = (float) Math.sqrt(Math.max(scaleX, Math.max(scaleY, scaleZ)));
+
+            float x = m.m00() * cx + m.m10() * cy + m.m20() * cz + m.m30();
+            float y = m.m01() * cx + m.m11() * cy + m.m21() * cz + m.m31();
+            float z = m.m02() * cx + m.m12() * cy + m.m22() * cz + m.m32();
+            float radius = bounds.getRadius() * scale;
+
+            spheres[i * 4] = x;
+            spheres[i * 4 + 1] = y;
+            spheres[i * 4 + 2] = z;
+            spheres[i * 4 + 3] = radius;
+
+            boolean inside = true;
+            for (int p = 0; p < planes.length; p += 4) {
+                if (planes[p] * x + planes[p + 1] * y + planes[p + 2] * z + planes[p + 3] < -radius) {
+                    inside = false;
+
+                    break;
+                }
+            }
+
+            visible[i] = inside;
+        }
+    }
+
+    /**
+     * Get the number of objects added this frame
+     * 
+     * @return The number of objects added this frame
+     * 
+     * @since 2.6.0
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get weather an object was visible in the last cull
+     * 
+     * @param index The index of the object
+     * 
+     * @return Weather the object was visible
+     * 
+     * @since 2.6.0
+     */
+    public boolean getVisible(int index) {
+        return this.visible[index];
+    }
+
+    /**
+     * Get the model matrix of an object added this frame
+     * 
+     * @param index The index of the object
+     * @param target The matrix to store the model matrix in
+     * 
+     * @return The target matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getMatrix(int index, @NotNull Matrix4f target) {
+        return target.set(this.matrices, index * 16);
+    }
+
+    /**
+     * Get an object added this frame
+     * 
+     * @param index The index of the object
+     * 
+     * @return The game object
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull GameObject getObject(int index) {
+        return this.objects[index];
+    }
+
+    /**
+     * Get the mesh of an object added this frame
+     * 
+     * @param index The index of the object
+     * 
+     * @return The mesh of the game object
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Mesh getMesh(int index) {
+        return this.meshes[index];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,622 @@
+package io.github.kale_ko.gighm.rendering.culling;
+
+import java.util.Arrays;
+import org.joml.Matrix4f;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.ParallelLoop;
+
+/**
+ * A software occlusion culler that rasterizes occluders into a small depth buffer on the cpu (Only used internally)
+ * Every frame occluder triangles are binned into screen tiles, the tiles are rasterized in parallel and a hierarchy of farthest depths is built from the result
+ * Occludee bounding boxes are then projected to the screen and are occluded if their nearest point is behind every depth they cover
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class OcclusionCuller {
+    /**
+     * The width and height of a tile in pixels
+     * 
+     * @since 2.6.0
+     */
+    public static final int TILE_SIZE = 32;
+
+    /**
+     * The number of binned triangles needed before tiles are rasterized in parallel
+     * 
+     * @since 2.6.0
+     */
+    public static final int PARALLEL_THRESHOLD = 64;
+
+    /**
+     * The smallest clip space w a vertex can have and still be projected (Triangles and boxes crossing the near plane are not projected)
+     * 
+     * @since 2.6.0
+     */
+    public static final float NEAR_W = 0.0001f;
+
+    /**
+     * The largest number of texels an occludee is tested against on each axis, a coarser level of the hierarchy is used for larger boxes
+     * 
+     * @since 2.6.0
+     */
+    public static final int TEST_TEXELS = 4;
+
+    /**
+     * The width of the depth buffer
+     * 
+     * @since 2.6.0
+     */
+    private int width;
+
+    /**
+     * The height of the depth buffer
+     * 
+     * @since 2.6.0
+     */
+    private int height;
+
+    /**
+     * The number of tiles on each row
+     * 
+     * @since 2.6.0
+     */
+    private int tilesX;
+
+    /**
+     * The number of tiles on each column
+     * 
+     * @since 2.6.0
+     */
+    private int tilesY;
+
+    /**
+     * The depth hierarchy, the first level is the depth buffer and each level after holds the farthest depth of 2x2 texels of the last
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[][] levels;
+
+    /**
+     * The width of each level of the hierarchy
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] levelWidths;
+
+    /**
+     * The height of each level of the hierarchy
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] levelHeights;
+
+    /**
+     * The view projection matrix of the frame
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f viewProjection = new Matrix4f();
+
+    /**
+     * A reusable matrix for combining model matrices with the view projection
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f matrix = new Matrix4f();
+
+    /**
+     * The loop rasterizing tiles on several threads
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull ParallelLoop loop = new ParallelLoop(tile -> this.rasterizeTile(tile));
+
+    /**
+     * The clip space positions of the vertices of the occluder being added
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] clip = new float[0];
+
+    /**
+     * The screen space triangles of the frame (x, y and depth of each corner)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] triangles = new float[0];
+
+    /**
+     * The number of triangles of the frame
+     * 
+     * @since 2.6.0
+     */
+    private int triangleCount = 0;
+
+    /**
+     * The triangles overlapping each tile
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[][] bins;
+
+    /**
+     * The number of triangles overlapping each tile
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] binCounts;
+
+    /**
+     * The number of triangles binned this frame (A triangle is counted once for every tile it overlaps)
+     * 
+     * @since 2.6.0
+     */
+    private int binnedCount = 0;
+
+    /**
+     * Create an occlusion culler
+     * 
+     * @param width The width of the depth buffer
+     * @param height The height of the depth buffer
+     * 
+     * @throws InvalidDataException If the width or height is not positive
+     * 
+     * @since 2.6.0
+     */
+    public OcclusionCuller(int width, int height) throws InvalidDataException {
+        if (width <= 0 || height <= 0) {
+            throw new InvalidDataException("Width and height must be greater than 0");
+        }
+
+        this.width = width;
+        this.height = height;
+
+        this.tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+        this.tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+        this.bins = new int[this.tilesX * this.tilesY][16];
+        this.binCounts = new int[this.tilesX * this.tilesY];
+
+        int count = 1;
+        while ((width >> count) > 0 || (height >> count) > 0) {
+            count++;
+        }
+
+        this.levels = new float[count][];
+        this.levelWidths = new int[count];
+        this.levelHeights = new int[count];
+        for (int level = 0; level < count; level++) {
+            this.levelWidths[level] = Math.max(1, width >> level);
+            this.levelHeights[level] = Math.max(1, height >> level);
+            this.levels[level] = new float[this.levelWidths[level] * this.levelHeights[level]];
+
+            Arrays.fill(this.levels[level], 1f);
+        }
+    }
+
+    /**
+     * Start a new frame, removing every occluder
+     * 
+     * @param viewProjection The view projection matrix of the camera
+     * 
+     * @since 2.6.0
+     */
+    public void begin(@NotNull Matrix4f viewProjection) {
+        NullUtils.checkNulls(viewProjection, "viewProjection");
+
+        this.viewProjection.set(viewProjection);
+
+        this.triangleCount = 0;
+        this.binnedCount = 0;
+        Arrays.fill(this.binCounts, 0);
+    }
+
+    /**
+     * Add the triangles of an occluder to be rasterized this frame
+     * 
+     * @param mesh The mesh of the occluder
+     * @param model The model matrix of the occluder
+     * 
+     * @since 2.6.0
+     */
+    public void addOccluder(@NotNull Mesh mesh, @NotNull Matrix4f model) {
+        NullUtils.checkNulls(mesh, "mesh");
+        NullUtils.checkNulls(model, "model");
+
+        Float[] vertices = mesh.getVertices();
+        Integer[] indices = mesh.getTriangles();
+        int size = mesh.getVerticeSize();
+        int vertexCount = vertices.length / size;
+
+        if (this.clip.length < vertexCount * 4) {
+            this.clip = new float[Math.max(vertexCount * 4, this.clip.length * 2)];
+        }
+
+        Matrix4f m = this.viewProjection.mul(model, this.matrix);
+
+        float[] clip = this.clip;
+        for (int i = 0; i < vertexCount; i++) {
+            float x = vertices[i * size];
+            float y = vertices[i * size + 1];
+            float z = size == 3 ? vertices[i * size + 2] : 0f;
+
+            clip[i * 4] = m.m00() * x + m.m10() * y + m.m20() * z + m.m30();
+            clip[i * 4 + 1] = m.m01() * x + m.m11() * y + m.m21() * z + m.m31();
+            clip[i * 4 + 2] = m.m02() * x + m.m12() * y + m.m22() * z + m.m32();
+            clip[i * 4 + 3] = m.m03() * x + m.m13() * y + m.m23() * z + m.m33();
+        }
+
+        int count = indices != null ? indices.length / 3 : vertexCount / 3;
+        for (int i = 0; i < count; i++) {
+            int a = indices != null ? indices[i * 3] : i * 3;
+            int b = indices != null ? indices[i * 3 + 1] : i * 3 + 1;
+            int c = indices != null ? indices[i * 3 + 2] : i * 3 + 2;
+
+            this.addTriangle(a * 4, b * 4, c * 4);
+        }
+    }
+
+    /**
+     * Project a triangle to the screen and bin it into the tiles it overlaps
+     * 
+     * @param a The offset of the first corner in {@link #clip}
+     * @param b The offset of the second corner in {@link #clip}
+     * @param c The offset of the third corner in {@link #clip}
+     * 
+     * @since 2.6.0
+     */
+    private void addTriangle(int a, int b, int c) {
+        float[] clip = this.clip;
+
+        // Leaving out a triangle only makes the buffer less occluding so ones crossing the near plane are skipped instead of clipped
+        if (clip[a + 3] < NEAR_W || clip[b + 3] < NEAR_W || clip[c + 3] < NEAR_W) {
+            return;
+        }
+
+        if (this.triangles.length < (this.triangleCount + 1) * 9) {
+            this.triangles = Arrays.copyOf(this.triangles, Math.max(9 * 256, this.triangles.length * 2));
+        }
+
+        float[] triangles = this.triangles;
+        int offset = this.triangleCount * 9;
+        this.project(a, triangles, offset);
+        this.project(b, triangles, offset + 3);
+        this.project(c, triangles, offset + 6);
+
+        float minX = Math.min(triangles[offset], Math.min(triangles[offset + 3], triangles[offset + 6]));
+        float maxX = Math.max(triangles[offset], Math.max(triangles[offset + 3], triangles[offset + 6]));
+        float minY = Math.min(triangles[offset + 1], Math.min(triangles[offset + 4], triangles[offset + 7]));
+        float maxY = Math.max(triangles[offset + 1], Math.max(triangles[offset + 4], triangles[offset + 7]));
+
+        if (maxX < 0 || maxY < 0 || minX >= this.width || minY >= this.height) {
+            return;
+        }
+
+        int tileX0 = Math.max(0, (int) minX / TILE_SIZE);
+        int tileX1 = Math.min(this.tilesX - 1, (int) maxX / TILE_SIZE);
+        int tileY0 = Math.max(0, (int) minY / TILE_SIZE);
+        int tileY1 = Math.min(this.tilesY - 1, (int) maxY / TILE_SIZE);
+
+        for (int tileY = tileY0; tileY <= tileY1; tileY++) {
+            for (int tileX = tileX0; tileX <= tileX1; tileX++) {
+                int tile = tileY * this.tilesX + tileX;
+
+                if (this.binCounts[tile] == this.bins[tile].length) {
+                    this.bins[tile] = Arrays.copyOf(this.bins[tile], this.bins[tile].length * 2);
+                }
+
+                this.bins[tile][this.binCounts[tile]++] = this.triangleCount;
+                this.binnedCount++;
+            }
+        }
+
+        this.triangleCount++;
+    }
+
+    /**
+     * Project a clip space position to the screen
+     * 
+     * @param source The offset of the position in {@link #clip}
+     * @param destination The array to write the x, y and depth to
+     * @param offset The offset to write to
+     * 
+     * @since 2.6.0
+     */
+    private void project(int source, @NotNull float[] destination, int offset) {
+        float w = this.clip[source + 3];
+
+        destination[offset] = (this.clip[source] / w * 0.5f + 0.5f) * this.width;
+        destination[offset + 1] = (this.clip[source + 1] / w * 0.5f + 0.5f) * this.height;
+        destination[offset + 2] = Math.min(1f, this.clip[source + 2] / w * 0.5f + 0.5f);
+    }
+
+    /**
+     * Rasterize every occluder added this frame and build the depth hierarchy
+     * 
+     * @since 2.6.0
+     */
+    public void rasterize() {
+        int tiles = this.tilesX * this.tilesY;
+
+        if (this.binnedCount >= PARALLEL_THRESHOLD) {
+            this.loop.run(tiles);
+        } else {
+            for (int tile = 0; tile < tiles; tile++) {
+                this.rasterizeTile(tile);
+            }
+        }
+
+        for (int level = 1; level < this.levels.length; level++) {
+            this.downsample(level);
+        }
+    }
+
+    /**
+     * Clear a tile and rasterize the triangles binned into it (Tiles do not share pixels so they can be rasterized on any thread)
+     * 
+     * @param tile The index of the tile
+     * 
+     * @since 2.6.0
+     */
+    private void rasterizeTile(int tile) {
+        float[] depth = this.levels[0];
+        float[] triangles = this.triangles;
+        int width = this.width;
+
+        int tileMinX = (tile % this.tilesX) * TILE_SIZE;
+        int tileMinY = (tile / this.tilesX) * TILE_SIZE;
+        int tileMaxX = Math.min(width, tileMinX + TILE_SIZE) - 1;
+        int tileMaxY = Math.min(this.height, tileMinY + TILE_SIZE) - 1;
+
+        for (int y = tileMinY; y <= tileMaxY; y++) {
+            Arrays.fill(depth, y * width + tileMinX, y * width + tileMaxX + 1, 1f);
+        }
+
+        int[] bin = this.bins[tile];
+        for (int i = 0; i < this.binCounts[tile]; i++) {
+            int offset = bin[i] * 9;
+
+            float x0 = triangles[offset];
+            float y0 = triangles[offset + 1];
+            float z0 = triangles[offset + 2];
+            float x1 = triangles[offset + 3];
+            float y1 = triangles[offset + 4];
+            float z1 = triangles[offset + 5];
+            float x2 = triangles[offset + 6];
+            float y2 = triangles[offset + 7];
+            float z2 = triangles[offset + 8];
+
+            float area = (x1 - x0) * (y2 - y0) - (x2 - x0) * (y1 - y0);
+            if (area == 0) {
+                continue;
+            }
+
+            // Occluders are rasterized from both sides so their winding does not matter
+            float inverseArea = 1f / area;
+
+            int minX = Math.max(tileMinX, (int) Math.floor(Math.min(x0, Math.min(x1, x2))));
+            int maxX = Math.min(tileMaxX, (int) Math.ceil(Math.max(x0, Math.max(x1, x2))));
+            int minY = Math.max(tileMinY, (int) Math.floor(Math.min(y0, Math.min(y1, y2))));
+            int maxY = Math.min(tileMaxY, (int) Math.ceil(Math.max(y0, Math.max(y1, y2))));
+
+            // The barycentric weights change by a constant amount each pixel so they are stepped instead of recomputed
+            float stepX0 = (y1 - y2) * inverseArea;
+            float stepX1 = (y2 - y0) * inverseArea;
+            float stepY0 = (x2 - x1) * inverseArea;
+            float stepY1 = (x0 - x2) * inverseArea;
+            float stepZ = stepX0 * (z0 - z2) + stepX1 * (z1 - z2);
+
+            float startX = minX + 0.5f;
+            float startY = minY + 0.5f;
+            float rowW0 = ((x1 - startX) * (y2 - startY) - (x2 - startX) * (y1 - startY)) * inverseArea;
+            float rowW1 = ((x2 - startX) * (y0 - startY) - (x0 - startX) * (y2 - startY)) * inverseArea;
+
+            for (int y = minY; y <= maxY; y++) {
+                float w0 = rowW0;
+                float w1 = rowW1;
+                float z = z2 + w0 * (z0 - z2) + w1 * (z1 - z2);
+                int index = y * width + minX;
+
+                for (int x = minX; x <= maxX; x++) {
+                    if (w0 >= 0 && w1 >= 0 && w0 + w1 <= 1 && z < depth[index]) {
+                        depth[index] = z;
+                    }
+
+                    w0 += stepX0;
+                    w1 += stepX1;
+                    z += stepZ;
+                    index++;
+                }
+
+                rowW0 += stepY0;
+                rowW1 += stepY1;
+            }
+        }
+    }
+
+    /**
+     * Build a level of the depth hierarchy from the one before it
+     * 
+     * @param level The level to build
+     * 
+     * @since 2.6.0
+     */
+    private void downsample(int level) {
+        float[] source = this.levels[level - 1];
+        int sourceWidth = this.levelWidths[level - 1];
+        int sourceHeight = this.levelHeights[level - 1];
+
+        float[] destination = this.levels[level];
+        int width = this.levelWidths[level];
+        int height = this.levelHeights[level];
+
+        for (int y = 0; y < height; y++) {
+            int y0 = Math.min(y * 2, sourceHeight - 1);
+            int y1 = Math.min(y * 2 + 1, sourceHeight - 1);
+
+            for (int x = 0; x < width; x++) {
+                int x0 = Math.min(x * 2, sourceWidth - 1);
+                int x1 = Math.min(x * 2 + 1, sourceWidth - 1);
+
+                float farthest = Math.max(Math.max(source[y0 * sourceWidth + x0], source[y0 * sourceWidth + x1]), Math.max(source[y1 * sourceWidth + x0], source[y1 * sourceWidth + x1]));
+
+                // Odd sized levels fold their last row and column into the texel before them
+                if (x == width - 1 && x1 + 1 < sourceWidth) {
+                    farthest = Math.max(farthest, Math.max(source[y0 * sourceWidth + x1 + 1], source[y1 * sourceWidth + x1 + 1]));
+                }
+                if (y == height - 1 && y1 + 1 < sourceHeight) {
+                    farthest = Math.max(farthest, Math.max(source[(y1 + 1) * sourceWidth + x0], source[(y1 + 1) * sourceWidth + x1]));
+
+                    if (x == width - 1 && x1 + 1 < sourceWidth) {
+                        farthest = Math.max(farthest, source[(y1 + 1) * sourceWidth + x1 + 1]);
+                    }
+                }
+
+                destination[y * width + x] = farthest;
+            }
+        }
+    }
+
+    /**
+     * Test if a bounding box may be visible past the occluders rasterized this frame
+     * 
+     * @param bounds The local space bounds of the object
+     * @param model The model matrix of the object
+     * 
+     * @return False if the box is entirely hidden behind occluders
+     * 
+     * @since 2.6.0
+     */
+    public boolean getVisible(@NotNull Bounds bounds, @NotNull Matrix4f model) {
+        return this.getVisible(bounds, model, this.matrix);
+    }
+
+    /**
+     * Test if a bounding box may be visible past the occluders rasterized this frame (Only reads the depth buffer so boxes can be tested on different threads)
+     * 
+     * @param bounds The local space bounds of the object
+     * @param model The model matrix of the object
+     * @param matrix A matrix to compute the transform in (Each thread needs its own)
+     * 
+     * @return False if the box is entirely hidden behind occluders
+     * 
+     * @since 2.6.0
+     */
+    public boolean getVisible(@NotNull Bounds bounds, @NotNull Matrix4f model, @NotNull Matrix4f matrix) {
+        if (this.triangleCount == 0) {
+            return true;
+        }
+
+        Matrix4f m = this.viewProjection.mul(model, matrix);
+
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        float nearest = Float.POSITIVE_INFINITY;
+
+        for (int corner = 0; corner < 8; corner++) {
+            float x = (corner & 1) == 0 ? bounds.getMin().x : bounds.getMax().x;
+            float y = (corner & 2) == 0 ? bounds.getMin().y : bounds.getMax().y;
+            float z = (corner & 4) == 0 ? bounds.getMin().z : bounds.getMax().z;
+
+            float w = m.m03() * x + m.m13() * y + m.m23() * z + m.m33();
+
+            // A box reaching past the near plane surrounds the camera and can not be projected
+            if (w < NEAR_W) {
+                return true;
+            }
+
+            float screenX = ((m.m00() * x + m.m10() * y + m.m20() * z + m.m30()) / w * 0.5f + 0.5f) * this.width;
+            float screenY = ((m.m01() * x + m.m11() * y + m.m21() * z + m.m31()) / w * 0.5f + 0.5f) * this.height;
+            float depth = (m.m02() * x + m.m12() * y + m.m22() * z + m.m32()) / w * 0.5f + 0.5f;
+
+            minX = Math.min(minX, screenX);
+            minY = Math.min(minY, screenY);
+            maxX = Math.max(maxX, screenX);
+            maxY = Math.max(maxY, screenY);
+            nearest = Math.min(nearest, depth);
+        }
+
+        if (maxX < 0 || maxY < 0 || minX >= this.width || minY >= this.height) {
+            return true;
+        }
+
+        int x0 = Math.max(0, (int) Math.floor(minX));
+        int x1 = Math.min(this.width - 1, (int) Math.floor(maxX));
+        int y0 = Math.max(0, (int) Math.floor(minY));
+        int y1 = Math.min(this.height - 1, (int) Math.floor(maxY));
+
+        int level = 0;
+        while (level < this.levels.length - 1 && (((x1 >> level) - (x0 >> level)) >= TEST_TEXELS || ((y1 >> level) - (y0 >> level)) >= TEST_TEXELS)) {
+            level++;
+        }
+
+        float[] depth = this.levels[level];
+        int levelWidth = this.levelWidths[level];
+        int levelX1 = Math.min(levelWidth - 1, x1 >> level);
+        int levelY1 = Math.min(this.levelHeights[level] - 1, y1 >> level);
+
+        for (int y = Math.min(levelY1, y0 >> level); y <= levelY1; y++) {
+            for (int x = Math.min(levelX1, x0 >> level); x <= levelX1; x++) {
+                if (nearest <= depth[y * levelWidth + x]) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Get the depth of a pixel of the depth buffer
+     * 
+     * @param x The x position of the pixel
+     * @param y The y position of the pixel
+     * 
+     * @return The depth (1 if nothing was rasterized over it)
+     * 
+     * @since 2.6.0
+     */
+    public float getDepth(int x, int y) {
+        return this.levels[0][y * this.width + x];
+    }
+
+    /**
+     * Get the width of the depth buffer
+     * 
+     * @return The width of the depth buffer
+     * 
+     * @since 2.6.0
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Get the height of the depth buffer
+     * 
+     * @return The height of the depth buffer
+     * 
+     * @since 2.6.0
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Get the number of occluder triangles rasterized this frame
+     * 
+     * @return The number of triangles
+     * 
+     * @since 2.6.0
+     */
+    public int getTriangleCount() {
+        return this.triangleCount;
+    }
+}
\ No newline at end of file
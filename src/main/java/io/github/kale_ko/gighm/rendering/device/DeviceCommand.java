@@ -0,0 +1,531 @@
+package io.github.kale_ko.gighm.rendering.device;
+
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * The commands a {@link RecordingRenderDevice} records
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public enum DeviceCommand {
+    /**
+     * Setting the viewport
+     * 
+     * @since 2.6.0
+     */
+    VIEWPORT(Type.STATE),
+
+    /**
+     * Setting the clear color
+     * 
+     * @since 2.6.0
+     */
+    CLEAR_COLOR(Type.STATE),
+
+    /**
+     * Clearing the framebuffer
+     * 
+     * @since 2.6.0
+     */
+    CLEAR(Type.OTHER),
+
+    /**
+     * Enabling a capability
+     * 
+     * @since 2.6.0
+     */
+    ENABLE(Type.STATE),
+
+    /**
+     * Disabling a capability
+     * 
+     * @since 2.6.0
+     */
+    DISABLE(Type.STATE),
+
+    /**
+     * Setting the depth function
+     * 
+     * @since 2.6.0
+     */
+    DEPTH_FUNC(Type.STATE),
+
+    /**
+     * Setting the depth mask
+     * 
+     * @since 2.6.0
+     */
+    DEPTH_MASK(Type.STATE),
+
+    /**
+     * Setting the blending factors
+     * 
+     * @since 2.6.0
+     */
+    BLEND_FUNC(Type.STATE),
+
+    /**
+     * Creating a buffer
+     * 
+     * @since 2.6.0
+     */
+    CREATE_BUFFER(Type.RESOURCE),
+
+    /**
+     * Binding a buffer
+     * 
+     * @since 2.6.0
+     */
+    BIND_BUFFER(Type.STATE),
+
+    /**
+     * Binding a buffer to an indexed binding point
+     * 
+     * @since 2.6.0
+     */
+    BIND_BUFFER_BASE(Type.STATE),
+
+    /**
+     * Uploading or allocating buffer storage
+     * 
+     * @since 2.6.0
+     */
+    BUFFER_DATA(Type.UPLOAD),
+
+    /**
+     * Uploading part of a buffer
+     * 
+     * @since 2.6.0
+     */
+    BUFFER_SUB_DATA(Type.UPLOAD),
+
+    /**
+     * Allocating immutable buffer storage
+     * 
+     * @since 2.6.0
+     */
+    BUFFER_STORAGE(Type.RESOURCE),
+
+    /**
+     * Mapping a buffer range into client memory
+     * 
+     * @since 2.6.0
+     */
+    MAP_BUFFER(Type.UPLOAD),
+
+    /**
+     * Unmapping a buffer
+     * 
+     * @since 2.6.0
+     */
+    UNMAP_BUFFER(Type.UPLOAD),
+
+    /**
+     * Deleting a buffer
+     * 
+     * @since 2.6.0
+     */
+    DELETE_BUFFER(Type.RESOURCE),
+
+    /**
+     * Creating a vertex array
+     * 
+     * @since 2.6.0
+     */
+    CREATE_VERTEX_ARRAY(Type.RESOURCE),
+
+    /**
+     * Binding a vertex array
+     * 
+     * @since 2.6.0
+     */
+    BIND_VERTEX_ARRAY(Type.STATE),
+
+    /**
+     * Enabling a vertex attribute
+     * 
+     * @since 2.6.0
+     */
+    ENABLE_VERTEX_ATTRIB_ARRAY(Type.STATE),
+
+    /**
+     * Disabling a vertex attribute
+     * 
+     * @since 2.6.0
+     */
+    DISABLE_VERTEX_ATTRIB_ARRAY(Type.STATE),
+
+    /**
+     * Pointing a vertex attribute at a buffer
+     * 
+     * @since 2.6.0
+     */
+    VERTEX_ATTRIB_POINTER(Type.STATE),
+
+    /**
+     * Setting a vertex attribute divisor
+     * 
+     * @since 2.6.0
+     */
+    VERTEX_ATTRIB_DIVISOR(Type.STATE),
+
+    /**
+     * Deleting a vertex array
+     * 
+     * @since 2.6.0
+     */
+    DELETE_VERTEX_ARRAY(Type.RESOURCE),
+
+    /**
+     * Creating a texture
+     * 
+     * @since 2.6.0
+     */
+    CREATE_TEXTURE(Type.RESOURCE),
+
+    /**
+     * Changing the active texture unit
+     * 
+     * @since 2.6.0
+     */
+    ACTIVE_TEXTURE(Type.STATE),
+
+    /**
+     * Binding a texture
+     * 
+     * @since 2.6.0
+     */
+    BIND_TEXTURE(Type.STATE),
+
+    /**
+     * Setting a texture parameter
+     * 
+     * @since 2.6.0
+     */
+    TEX_PARAMETER(Type.STATE),
+
+    /**
+     * Uploading a texture image
+     * 
+     * @since 2.6.0
+     */
+    TEX_IMAGE_2D(Type.UPLOAD),
+
+    /**
+     * Allocating or uploading an array texture
+     * 
+     * @since 2.6.0
+     */
+    TEX_IMAGE_3D(Type.UPLOAD),
+
+    /**
+     * Uploading part of an array texture
+     * 
+     * @since 2.6.0
+     */
+    TEX_SUB_IMAGE_3D(Type.UPLOAD),
+
+    /**
+     * Deleting a texture
+     * 
+     * @since 2.6.0
+     */
+    DELETE_TEXTURE(Type.RESOURCE),
+
+    /**
+     * Generating the mipmaps of a texture
+     * 
+     * @since 2.6.0
+     */
+    GENERATE_MIPMAP(Type.UPLOAD),
+
+    /**
+     * Creating a sampler
+     * 
+     * @since 2.6.0
+     */
+    CREATE_SAMPLER(Type.RESOURCE),
+
+    /**
+     * Setting a sampler parameter
+     * 
+     * @since 2.6.0
+     */
+    SAMPLER_PARAMETER(Type.STATE),
+
+    /**
+     * Binding a sampler to a texture unit
+     * 
+     * @since 2.6.0
+     */
+    BIND_SAMPLER(Type.STATE),
+
+    /**
+     * Deleting a sampler
+     * 
+     * @since 2.6.0
+     */
+    DELETE_SAMPLER(Type.RESOURCE),
+
+    /**
+     * Compiling and linking a program
+     * 
+     * @since 2.6.0
+     */
+    CREATE_PROGRAM(Type.RESOURCE),
+
+    /**
+     * Reading the binary of a linked program
+     * 
+     * @since 2.6.0
+     */
+    GET_PROGRAM_BINARY(Type.OTHER),
+
+    /**
+     * Creating a program from a binary
+     * 
+     * @since 2.6.0
+     */
+    PROGRAM_BINARY(Type.RESOURCE),
+
+    /**
+     * Checking weather a program has finished compiling and linking
+     * 
+     * @since 2.6.0
+     */
+    GET_PROGRAM_STATUS(Type.OTHER),
+
+    /**
+     * Changing the current program
+     * 
+     * @since 2.6.0
+     */
+    USE_PROGRAM(Type.STATE),
+
+    /**
+     * Setting the binding point of a uniform block
+     * 
+     * @since 2.6.0
+     */
+    UNIFORM_BLOCK_BINDING(Type.STATE),
+
+    /**
+     * Setting a uniform
+     * 
+     * @since 2.6.0
+     */
+    UNIFORM(Type.UPLOAD),
+
+    /**
+     * Deleting a program
+     * 
+     * @since 2.6.0
+     */
+    DELETE_PROGRAM(Type.RESOURCE),
+
+    /**
+     * Drawing vertices
+     * 
+     * @since 2.6.0
+     */
+    DRAW_ARRAYS(Type.DRAW),
+
+    /**
+     * Drawing indexed vertices
+     * 
+     * @since 2.6.0
+     */
+    DRAW_ELEMENTS(Type.DRAW),
+
+    /**
+     * Drawing instances of vertices
+     * 
+     * @since 2.6.0
+     */
+    DRAW_ARRAYS_INSTANCED(Type.DRAW),
+
+    /**
+     * Drawing instances of indexed vertices
+     * 
+     * @since 2.6.0
+     */
+    DRAW_ELEMENTS_INSTANCED(Type.DRAW),
+
+    /**
+     * Inserting a fence
+     * 
+     * @since 2.6.0
+     */
+    FENCE_SYNC(Type.OTHER),
+
+    /**
+     * Waiting for a fence
+     * 
+     * @since 2.6.0
+     */
+    CLIENT_WAIT_SYNC(Type.OTHER),
+
+    /**
+     * Deleting a fence
+     * 
+     * @since 2.6.0
+     */
+    DELETE_SYNC(Type.OTHER),
+
+    /**
+     * Creating a query
+     * 
+     * @since 2.6.0
+     */
+    CREATE_QUERY(Type.RESOURCE),
+
+    /**
+     * Starting a query
+     * 
+     * @since 2.6.0
+     */
+    BEGIN_QUERY(Type.OTHER),
+
+    /**
+     * Ending a query
+     * 
+     * @since 2.6.0
+     */
+    END_QUERY(Type.OTHER),
+
+    /**
+     * Reading the result of a query
+     * 
+     * @since 2.6.0
+     */
+    GET_QUERY(Type.OTHER),
+
+    /**
+     * Deleting a query
+     * 
+     * @since 2.6.0
+     */
+    DELETE_QUERY(Type.RESOURCE),
+
+    /**
+     * Creating a framebuffer
+     * 
+     * @since 2.6.0
+     */
+    CREATE_FRAMEBUFFER(Type.RESOURCE),
+
+    /**
+     * Binding a framebuffer
+     * 
+     * @since 2.6.0
+     */
+    BIND_FRAMEBUFFER(Type.STATE),
+
+    /**
+     * Attaching a texture to a framebuffer
+     * 
+     * @since 2.6.0
+     */
+    FRAMEBUFFER_TEXTURE(Type.RESOURCE),
+
+    /**
+     * Checking the completeness of a framebuffer
+     * 
+     * @since 2.6.0
+     */
+    CHECK_FRAMEBUFFER(Type.OTHER),
+
+    /**
+     * Copying between framebuffers
+     * 
+     * @since 2.6.0
+     */
+    BLIT_FRAMEBUFFER(Type.OTHER),
+
+    /**
+     * Deleting a framebuffer
+     * 
+     * @since 2.6.0
+     */
+    DELETE_FRAMEBUFFER(Type.RESOURCE);
+
+    /**
+     * The types of commands
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    public enum Type {
+        /**
+         * A command that changes pipeline state
+         * 
+         * @since 2.6.0
+         */
+        STATE,
+
+        /**
+         * A command that uploads data
+         * 
+         * @since 2.6.0
+         */
+        UPLOAD,
+
+        /**
+         * A command that creates or deletes a resource
+         * 
+         * @since 2.6.0
+         */
+        RESOURCE,
+
+        /**
+         * A draw call
+         * 
+         * @since 2.6.0
+         */
+        DRAW,
+
+        /**
+         * Any other command
+         * 
+         * @since 2.6.0
+         */
+        OTHER
+    }
+
+    /**
+     * The type of the command
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Type type;
+
+    /**
+     * Create a device command
+     * 
+     * @param type The type of the command
+     * 
+     * @since 2.6.0
+     */
+    private DeviceCommand(@NotNull Type type) {
+        NullUtils.checkNulls(type, "type");
+
+        this.type = type;
+    }
+
+    /**
+     * Get the type of the command
+     * 
+     * @return The type of the command
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Type getType() {
+        return this.type;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,1355 @@
+package io.github.kale_ko.gighm.rendering.device;
+
+import static org.lwjgl.opengl.GL33C.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Map;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.ARBBufferStorage;
+import org.lwjgl.opengl.ARBGetProgramBinary;
+import org.lwjgl.opengl.ARBParallelShaderCompile;
+import org.lwjgl.opengl.EXTTextureFilterAnisotropic;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+import org.lwjgl.opengl.KHRParallelShaderCompile;
+import io.github.kale_ko.gighm.exception.GLCompileException;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A render device that submits directly to the current OpenGL context
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class GLRenderDevice extends RenderDevice {
+    /**
+     * Create an OpenGL render device
+     * 
+     * @since 2.6.0
+     */
+    public GLRenderDevice() {}
+
+    /**
+     * Initialize the device (Called by the renderer when it is initialized)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void init() {
+        GL.createCapabilities();
+
+        // Lets the driver pick how many threads compile programs in the background
+        GLCapabilities capabilities = GL.getCapabilities();
+        if (capabilities.GL_KHR_parallel_shader_compile) {
+            KHRParallelShaderCompile.glMaxShaderCompilerThreadsKHR(0xFFFFFFFF);
+        } else if (capabilities.GL_ARB_parallel_shader_compile) {
+            ARBParallelShaderCompile.glMaxShaderCompilerThreadsARB(0xFFFFFFFF);
+        }
+    }
+
+    /**
+     * Get weather the device needs to be used from a {@link io.github.kale_ko.gighm.rendering.Window}
+     * 
+     * @return Weather the device needs to be used from a window
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull Boolean getRequiresWindow() {
+        return true;
+    }
+
+    /**
+     * Get the number of texture units that can be sampled from in a fragment shader
+     * 
+     * @return The number of texture units
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int getMaxTextureUnits() {
+        return glGetInteger(GL_MAX_TEXTURE_IMAGE_UNITS);
+    }
+
+    /**
+     * Get weather the device supports immutable buffer storage that can stay mapped while drawing (ARB_buffer_storage)
+     * 
+     * @return Weather buffer storage is supported
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull Boolean getSupportsBufferStorage() {
+        GLCapabilities capabilities = GL.getCapabilities();
+
+        return capabilities.OpenGL44 || capabilities.GL_ARB_buffer_storage;
+    }
+
+    /**
+     * Get the largest anisotropic filtering level the device supports
+     * 
+     * @return The largest anisotropy (0 if anisotropic filtering is not supported)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public float getMaxAnisotropy() {
+        GLCapabilities capabilities = GL.getCapabilities();
+
+        if (capabilities.OpenGL46 || capabilities.GL_ARB_texture_filter_anisotropic || capabilities.GL_EXT_texture_filter_anisotropic) {
+            return glGetFloat(EXTTextureFilterAnisotropic.GL_MAX_TEXTURE_MAX_ANISOTROPY_EXT);
+        }
+
+        return 0f;
+    }
+
+    /**
+     * Get weather the device can save linked programs as binaries and load them back (ARB_get_program_binary)
+     * 
+     * @return Weather program binaries are supported
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull Boolean getSupportsProgramBinary() {
+        GLCapabilities capabilities = GL.getCapabilities();
+
+        // Drivers can support the extension without offering any binary formats
+        return (capabilities.OpenGL41 || capabilities.GL_ARB_get_program_binary) && glGetInteger(ARBGetProgramBinary.GL_NUM_PROGRAM_BINARY_FORMATS) > 0;
+    }
+
+    /**
+     * Get weather the device can compile and link programs on background threads (KHR_parallel_shader_compile)
+     * 
+     * @return Weather parallel compiling is supported
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull Boolean getSupportsParallelCompile() {
+        GLCapabilities capabilities = GL.getCapabilities();
+
+        return capabilities.GL_KHR_parallel_shader_compile || capabilities.GL_ARB_parallel_shader_compile;
+    }
+
+    /**
+     * Get a string describing the device's driver
+     * 
+     * @param name The string to get (Vendor, renderer, or version)
+     * 
+     * @return The string
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull String getString(int name) {
+        String string = glGetString(name);
+
+        return string != null ? string : "";
+    }
+
+    /**
+     * Set the viewport
+     * 
+     * @param x The left of the viewport
+     * @param y The bottom of the viewport
+     * @param width The width of the viewport
+     * @param height The height of the viewport
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void viewport(int x, int y, int width, int height) {
+        glViewport(x, y, width, height);
+    }
+
+    /**
+     * Set the color to clear with
+     * 
+     * @param red The red component
+     * @param green The green component
+     * @param blue The blue component
+     * @param alpha The alpha component
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void clearColor(float red, float green, float blue, float alpha) {
+        glClearColor(red, green, blue, alpha);
+    }
+
+    /**
+     * Clear buffers of the framebuffer
+     * 
+     * @param mask The buffers to clear
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void clear(int mask) {
+        glClear(mask);
+    }
+
+    /**
+     * Enable a capability
+     * 
+     * @param capability The capability to enable
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void enable(int capability) {
+        glEnable(capability);
+    }
+
+    /**
+     * Disable a capability
+     * 
+     * @param capability The capability to disable
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void disable(int capability) {
+        glDisable(capability);
+    }
+
+    /**
+     * Set the depth comparison function
+     * 
+     * @param function The depth comparison function
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void depthFunc(int function) {
+        glDepthFunc(function);
+    }
+
+    /**
+     * Set weather depth writes are enabled
+     * 
+     * @param enabled Weather depth writes are enabled
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void depthMask(boolean enabled) {
+        glDepthMask(enabled);
+    }
+
+    /**
+     * Set the blending factors
+     * 
+     * @param source The factor of the source color
+     * @param destination The factor of the destination color
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void blendFunc(int source, int destination) {
+        glBlendFunc(source, destination);
+    }
+
+    /**
+     * Create a buffer
+     * 
+     * @return The id of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createBuffer() {
+        return glGenBuffers();
+    }
+
+    /**
+     * Bind a buffer
+     * 
+     * @param target The target to bind to
+     * @param bufferId The id of the buffer (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindBuffer(int target, int bufferId) {
+        glBindBuffer(target, bufferId);
+    }
+
+    /**
+     * Bind a buffer to an indexed binding point (Such as a uniform block binding)
+     * 
+     * @param target The indexed target to bind to
+     * @param index The index of the binding point
+     * @param bufferId The id of the buffer (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindBufferBase(int target, int index, int bufferId) {
+        glBindBufferBase(target, index, bufferId);
+    }
+
+    /**
+     * Upload float data to the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param data The data to upload
+     * @param usage The usage hint of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferData(int target, @NotNull float[] data, int usage) {
+        glBufferData(target, data, usage);
+    }
+
+    /**
+     * Upload int data to the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param data The data to upload
+     * @param usage The usage hint of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferData(int target, @NotNull int[] data, int usage) {
+        glBufferData(target, data, usage);
+    }
+
+    /**
+     * Allocate uninitialized storage for the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param size The size of the storage in bytes
+     * @param usage The usage hint of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferData(int target, long size, int usage) {
+        glBufferData(target, size, usage);
+    }
+
+    /**
+     * Upload data to part of the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param offset The byte offset to upload to
+     * @param data The data to upload (From its position to its limit)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferSubData(int target, long offset, @NotNull FloatBuffer data) {
+        glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * Allocate immutable storage for the bound buffer (Only if {@link #getSupportsBufferStorage()})
+     * 
+     * @param target The target the buffer is bound to
+     * @param size The size of the storage in bytes
+     * @param flags The storage flags (Such as map write, persistent, and coherent)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferStorage(int target, long size, int flags) {
+        ARBBufferStorage.glBufferStorage(target, size, flags);
+    }
+
+    /**
+     * Map a range of the bound buffer into client memory
+     * 
+     * @param target The target the buffer is bound to
+     * @param offset The byte offset of the range
+     * @param length The byte length of the range
+     * @param access The access flags (Such as write, invalidate range, and unsynchronized)
+     * 
+     * @return The mapped memory in native byte order (Null if it could not be mapped)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @Nullable ByteBuffer mapBufferRange(int target, long offset, long length, int access) {
+        ByteBuffer mapped = glMapBufferRange(target, offset, length, access);
+
+        return mapped != null ? mapped.order(ByteOrder.nativeOrder()) : null;
+    }
+
+    /**
+     * Unmap the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * 
+     * @return False if the buffer contents were lost while mapped and need to be written again
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public boolean unmapBuffer(int target) {
+        return glUnmapBuffer(target);
+    }
+
+    /**
+     * Delete a buffer
+     * 
+     * @param bufferId The id of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteBuffer(int bufferId) {
+        glDeleteBuffers(bufferId);
+    }
+
+    /**
+     * Create a vertex array
+     * 
+     * @return The id of the vertex array
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createVertexArray() {
+        return glGenVertexArrays();
+    }
+
+    /**
+     * Bind a vertex array
+     * 
+     * @param vertexArrayId The id of the vertex array (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindVertexArray(int vertexArrayId) {
+        glBindVertexArray(vertexArrayId);
+    }
+
+    /**
+     * Enable an attribute of the bound vertex array
+     * 
+     * @param location The location of the attribute
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void enableVertexAttribArray(int location) {
+        glEnableVertexAttribArray(location);
+    }
+
+    /**
+     * Disable an attribute of the bound vertex array
+     * 
+     * @param location The location of the attribute
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void disableVertexAttribArray(int location) {
+        glDisableVertexAttribArray(location);
+    }
+
+    /**
+     * Point an attribute of the bound vertex array at the bound array buffer
+     * 
+     * @param location The location of the attribute
+     * @param size The number of components in the attribute
+     * @param type The type of the components
+     * @param normalized Weather integer components are normalized
+     * @param stride The byte stride between attributes
+     * @param offset The byte offset of the first attribute
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void vertexAttribPointer(int location, int size, int type, boolean normalized, int stride, long offset) {
+        glVertexAttribPointer(location, size, type, normalized, stride, offset);
+    }
+
+    /**
+     * Set how many instances an attribute of the bound vertex array advances after
+     * 
+     * @param location The location of the attribute
+     * @param divisor The number of instances per attribute (0 to advance per vertex)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void vertexAttribDivisor(int location, int divisor) {
+        glVertexAttribDivisor(location, divisor);
+    }
+
+    /**
+     * Delete a vertex array
+     * 
+     * @param vertexArrayId The id of the vertex array
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteVertexArray(int vertexArrayId) {
+        glDeleteVertexArrays(vertexArrayId);
+    }
+
+    /**
+     * Create a texture
+     * 
+     * @return The id of the texture
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createTexture() {
+        return glGenTextures();
+    }
+
+    /**
+     * Set the active texture unit
+     * 
+     * @param unit The unit to make active (Starting at GL_TEXTURE0)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void activeTexture(int unit) {
+        glActiveTexture(unit);
+    }
+
+    /**
+     * Bind a texture to the active texture unit
+     * 
+     * @param target The target to bind to
+     * @param textureId The id of the texture (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindTexture(int target, int textureId) {
+        glBindTexture(target, textureId);
+    }
+
+    /**
+     * Set a parameter of the bound texture
+     * 
+     * @param target The target the texture is bound to
+     * @param parameter The parameter to set
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void texParameteri(int target, int parameter, int value) {
+        glTexParameteri(target, parameter, value);
+    }
+
+    /**
+     * Upload an image to the bound texture
+     * 
+     * @param target The target the texture is bound to
+     * @param level The mipmap level
+     * @param internalFormat The format to store the texture in
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param format The format of the pixels
+     * @param type The type of the pixels
+     * @param pixels The pixels to upload
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void texImage2D(int target, int level, int internalFormat, int width, int height, int format, int type, @Nullable ByteBuffer pixels) {
+        glTexImage2D(target, level, internalFormat, width, height, 0, format, type, pixels);
+    }
+
+    /**
+     * Allocate or upload every layer of the bound array texture
+     * 
+     * @param target The target the texture is bound to
+     * @param level The mipmap level
+     * @param internalFormat The format to store the texture in
+     * @param width The width of each layer
+     * @param height The height of each layer
+     * @param depth The number of layers
+     * @param format The format of the pixels
+     * @param type The type of the pixels
+     * @param pixels The pixels to upload (Null to only allocate)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void texImage3D(int target, int level, int internalFormat, int width, int height, int depth, int format, int type, @Nullable ByteBuffer pixels) {
+        glTexImage3D(target, level, internalFormat, width, height, depth, 0, format, type, pixels);
+    }
+
+    /**
+     * Upload pixels to part of the bound array texture
+     * 
+     * @param target The target the texture is bound to
+     * @param level The mipmap level
+     * @param x The x offset to upload to
+     * @param y The y offset to upload to
+     * @param z The first layer to upload to
+     * @param width The width of the pixels
+     * @param height The height of the pixels
+     * @param depth The number of layers of pixels
+     * @param format The format of the pixels
+     * @param type The type of the pixels
+     * @param pixels The pixels to upload
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void texSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth, int format, int type, @NotNull ByteBuffer pixels) {
+        glTexSubImage3D(target, level, x, y, z, width, height, depth, format, type, pixels);
+    }
+
+    /**
+     * Generate every mipmap level of the bound texture from its first level
+     * 
+     * @param target The target the texture is bound to
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void generateMipmap(int target) {
+        glGenerateMipmap(target);
+    }
+
+    /**
+     * Delete a texture
+     * 
+     * @param textureId The id of the texture
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteTexture(int textureId) {
+        glDeleteTextures(textureId);
+    }
+
+    /**
+     * Create a sampler object
+     * 
+     * @return The id of the sampler
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createSampler() {
+        return glGenSamplers();
+    }
+
+    /**
+     * Set an integer parameter of a sampler
+     * 
+     * @param samplerId The id of the sampler
+     * @param parameter The parameter to set
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void samplerParameteri(int samplerId, int parameter, int value) {
+        glSamplerParameteri(samplerId, parameter, value);
+    }
+
+    /**
+     * Set a float parameter of a sampler
+     * 
+     * @param samplerId The id of the sampler
+     * @param parameter The parameter to set
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void samplerParameterf(int samplerId, int parameter, float value) {
+        glSamplerParameterf(samplerId, parameter, value);
+    }
+
+    /**
+     * Bind a sampler to a texture unit, overriding the sampling parameters of the texture bound to it
+     * 
+     * @param unit The index of the unit
+     * @param samplerId The id of the sampler (0 to use the texture's own parameters)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindSampler(int unit, int samplerId) {
+        glBindSampler(unit, samplerId);
+    }
+
+    /**
+     * Delete a sampler
+     * 
+     * @param samplerId The id of the sampler
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteSampler(int samplerId) {
+        glDeleteSamplers(samplerId);
+    }
+
+    /**
+     * Compile and link a program
+     * 
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations to bind attributes to before linking
+     * 
+     * @return The id of the program
+     * 
+     * @throws GLCompileException If the program fails to compile or link
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createProgram(@NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations) throws GLCompileException {
+        NullUtils.checkNulls(vertexSource, "vertexSource");
+        NullUtils.checkNulls(fragmentSource, "fragmentSource");
+        NullUtils.checkNulls(attributeLocations, "attributeLocations");
+
+        int programId = this.beginProgram(vertexSource, fragmentSource, attributeLocations);
+        this.finishProgram(programId);
+
+        return programId;
+    }
+
+    /**
+     * Start compiling and linking a program without waiting for it, the driver may do the work on a background thread
+     * 
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations to bind attributes to before linking
+     * 
+     * @return The id of the program (Must be passed to {@link #finishProgram(int)} before it is used)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int beginProgram(@NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations) {
+        NullUtils.checkNulls(vertexSource, "vertexSource");
+        NullUtils.checkNulls(fragmentSource, "fragmentSource");
+        NullUtils.checkNulls(attributeLocations, "attributeLocations");
+
+        int programId = glCreateProgram();
+
+        // Compile statuses are not checked here because asking for them waits for the compile to finish
+        int vertexId = compileShader(GL_VERTEX_SHADER, vertexSource);
+        int fragmentId = compileShader(GL_FRAGMENT_SHADER, fragmentSource);
+
+        glAttachShader(programId, vertexId);
+        glAttachShader(programId, fragmentId);
+
+        // The shaders are only flagged for deletion, they are freed once they are detached or the program is deleted
+        glDeleteShader(vertexId);
+        glDeleteShader(fragmentId);
+
+        if (this.getSupportsProgramBinary()) {
+            ARBGetProgramBinary.glProgramParameteri(programId, ARBGetProgramBinary.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL_TRUE);
+        }
+
+        for (Map.Entry<String, Integer> attribute : attributeLocations.entrySet()) {
+            glBindAttribLocation(programId, attribute.getValue(), attribute.getKey());
+        }
+
+        glLinkProgram(programId);
+
+        return programId;
+    }
+
+    /**
+     * Get weather a program started with {@link #beginProgram(String, String, Map)} has finished compiling and linking
+     * 
+     * @param programId The id of the program
+     * 
+     * @return Weather the program has finished (Always true if parallel compiling is not supported, finishing it will wait instead)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public boolean getProgramCompleted(int programId) {
+        if (!this.getSupportsParallelCompile()) {
+            return true;
+        }
+
+        return glGetProgrami(programId, KHRParallelShaderCompile.GL_COMPLETION_STATUS_KHR) == GL_TRUE;
+    }
+
+    /**
+     * Finish a program started with {@link #beginProgram(String, String, Map)}, waiting for it if it is not done yet
+     * 
+     * @param programId The id of the program
+     * 
+     * @throws GLCompileException If the program failed to compile or link
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void finishProgram(int programId) throws GLCompileException {
+        int[] count = new int[1];
+        int[] shaders = new int[2];
+        glGetAttachedShaders(programId, count, shaders);
+
+        for (int i = 0; i < count[0]; i++) {
+            if (glGetShaderi(shaders[i], GL_COMPILE_STATUS) != GL_TRUE) {
+                System.err.println(glGetShaderInfoLog(shaders[i]));
+
+                throw new GLCompileException("Failed to compile " + (glGetShaderi(shaders[i], GL_SHADER_TYPE) == GL_VERTEX_SHADER ? "vertex" : "fragment") + " shader");
+            }
+        }
+
+        for (int i = 0; i < count[0]; i++) {
+            glDetachShader(programId, shaders[i]);
+        }
+
+        if (glGetProgrami(programId, GL_LINK_STATUS) != GL_TRUE) {
+            System.err.println(glGetProgramInfoLog(programId));
+
+            throw new GLCompileException("Failed to compile shader program");
+        }
+        glValidateProgram(programId);
+        if (glGetProgrami(programId, GL_VALIDATE_STATUS) != GL_TRUE) {
+            System.err.println(glGetProgramInfoLog(programId));
+
+            throw new GLCompileException("Failed to compile shader program");
+        }
+    }
+
+    /**
+     * Get the binary of a linked program so it can be loaded again later without compiling it
+     * 
+     * @param programId The id of the program
+     * @param format An array to put the driver specific format of the binary into (Must have a length of at least 1)
+     * 
+     * @return The binary (Null if the driver did not give one)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @Nullable byte[] getProgramBinary(int programId, @NotNull int[] format) {
+        NullUtils.checkNulls(format, "format");
+
+        int length = glGetProgrami(programId, ARBGetProgramBinary.GL_PROGRAM_BINARY_LENGTH);
+        if (length <= 0) {
+            return null;
+        }
+
+        IntBuffer written = BufferUtils.createIntBuffer(1);
+        IntBuffer binaryFormat = BufferUtils.createIntBuffer(1);
+        ByteBuffer buffer = BufferUtils.createByteBuffer(length);
+        ARBGetProgramBinary.glGetProgramBinary(programId, written, binaryFormat, buffer);
+
+        if (written.get(0) <= 0) {
+            return null;
+        }
+
+        byte[] binary = new byte[written.get(0)];
+        buffer.get(binary);
+
+        format[0] = binaryFormat.get(0);
+
+        return binary;
+    }
+
+    /**
+     * Create a program from a binary returned by {@link #getProgramBinary(int, int[])}
+     * 
+     * @param format The format of the binary
+     * @param binary The binary
+     * 
+     * @return The id of the program (0 if the driver rejected the binary, such as after a driver update)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createProgramFromBinary(int format, @NotNull byte[] binary) {
+        NullUtils.checkNulls(binary, "binary");
+
+        ByteBuffer buffer = BufferUtils.createByteBuffer(binary.length);
+        buffer.put(binary).flip();
+
+        int programId = glCreateProgram();
+        ARBGetProgramBinary.glProgramBinary(programId, format, buffer);
+
+        // A rejected binary leaves the program unlinked instead of raising an error
+        if (glGetProgrami(programId, GL_LINK_STATUS) != GL_TRUE) {
+            glDeleteProgram(programId);
+
+            return 0;
+        }
+
+        return programId;
+    }
+
+    /**
+     * Query the active uniforms of a program that have a location
+     * 
+     * @param programId The id of the program
+     * @param locations The map to put uniform locations into (Array uniforms are named without their [0])
+     * @param types The map to put uniform gl types into
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void getActiveUniforms(int programId, @NotNull Map<String, Integer> locations, @NotNull Map<String, Integer> types) {
+        NullUtils.checkNulls(locations, "locations");
+        NullUtils.checkNulls(types, "types");
+
+        IntBuffer size = BufferUtils.createIntBuffer(1);
+        IntBuffer type = BufferUtils.createIntBuffer(1);
+
+        Integer uniformCount = glGetProgrami(programId, GL_ACTIVE_UNIFORMS);
+        for (Integer i = 0; i < uniformCount; i++) {
+            String name = glGetActiveUniform(programId, i, size, type);
+            Integer location = glGetUniformLocation(programId, name);
+
+            // Uniforms inside blocks have no location and are not set through handles
+            if (location == -1) {
+                continue;
+            }
+
+            if (name.endsWith("[0]")) {
+                name = name.substring(0, name.length() - 3);
+            }
+
+            locations.put(name, location);
+            types.put(name, type.get(0));
+        }
+    }
+
+    /**
+     * Query the active attributes of a program that have a location
+     * 
+     * @param programId The id of the program
+     * @param locations The map to put attribute locations into
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void getActiveAttributes(int programId, @NotNull Map<String, Integer> locations) {
+        NullUtils.checkNulls(locations, "locations");
+
+        IntBuffer size = BufferUtils.createIntBuffer(1);
+        IntBuffer type = BufferUtils.createIntBuffer(1);
+
+        Integer attributeCount = glGetProgrami(programId, GL_ACTIVE_ATTRIBUTES);
+        for (Integer i = 0; i < attributeCount; i++) {
+            String name = glGetActiveAttrib(programId, i, size, type);
+            Integer location = glGetAttribLocation(programId, name);
+
+            // Built in attributes have no location
+            if (location != -1) {
+                locations.put(name, location);
+            }
+        }
+    }
+
+    /**
+     * Query the active uniform blocks of a program
+     * 
+     * @param programId The id of the program
+     * @param indices The map to put uniform block indices into
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void getActiveUniformBlocks(int programId, @NotNull Map<String, Integer> indices) {
+        NullUtils.checkNulls(indices, "indices");
+
+        Integer blockCount = glGetProgrami(programId, GL_ACTIVE_UNIFORM_BLOCKS);
+        for (Integer i = 0; i < blockCount; i++) {
+            indices.put(glGetActiveUniformBlockName(programId, i), i);
+        }
+    }
+
+    /**
+     * Set the binding point a uniform block of a program reads from
+     * 
+     * @param programId The id of the program
+     * @param blockIndex The index of the uniform block
+     * @param binding The binding point to read from
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniformBlockBinding(int programId, int blockIndex, int binding) {
+        glUniformBlockBinding(programId, blockIndex, binding);
+    }
+
+    /**
+     * Make a program the current program
+     * 
+     * @param programId The id of the program (0 for none)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void useProgram(int programId) {
+        glUseProgram(programId);
+    }
+
+    /**
+     * Set an int uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniform1i(int location, int value) {
+        glUniform1i(location, value);
+    }
+
+    /**
+     * Set a vec3 uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param x The first value to set
+     * @param y The second value to set
+     * @param z The third value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniform3f(int location, float x, float y, float z) {
+        glUniform3f(location, x, y, z);
+    }
+
+    /**
+     * Set a vec4 uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param x The first value to set
+     * @param y The second value to set
+     * @param z The third value to set
+     * @param w The fourth value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniform4f(int location, float x, float y, float z, float w) {
+        glUniform4f(location, x, y, z, w);
+    }
+
+    /**
+     * Set a mat4 uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param value The column major matrix to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniformMatrix4fv(int location, @NotNull float[] value) {
+        glUniformMatrix4fv(location, false, value);
+    }
+
+    /**
+     * Delete a program
+     * 
+     * @param programId The id of the program
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteProgram(int programId) {
+        glDeleteProgram(programId);
+    }
+
+    /**
+     * Draw vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param first The first vertex to draw
+     * @param count The number of vertices to draw
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void drawArrays(int mode, int first, int count) {
+        glDrawArrays(mode, first, count);
+    }
+
+    /**
+     * Draw indexed vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param count The number of indices to draw
+     * @param type The type of the indices
+     * @param offset The byte offset of the first index
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void drawElements(int mode, int count, int type, long offset) {
+        glDrawElements(mode, count, type, offset);
+    }
+
+    /**
+     * Draw instances of vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param first The first vertex to draw
+     * @param count The number of vertices to draw
+     * @param instances The number of instances to draw
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void drawArraysInstanced(int mode, int first, int count, int instances) {
+        glDrawArraysInstanced(mode, first, count, instances);
+    }
+
+    /**
+     * Draw instances of indexed vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param count The number of indices to draw
+     * @param type The type of the indices
+     * @param offset The byte offset of the first index
+     * @param instances The number of instances to draw
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void drawElementsInstanced(int mode, int count, int type, long offset, int instances) {
+        glDrawElementsInstanced(mode, count, type, offset, instances);
+    }
+
+    /**
+     * Insert a fence that is signaled once every command submitted before it has completed
+     * 
+     * @return The fence
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public long fenceSync() {
+        return glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+    }
+
+    /**
+     * Wait for a fence to be signaled
+     * 
+     * @param sync The fence
+     * @param flags The wait flags (Such as flush commands)
+     * @param timeout The longest time to wait in nanoseconds
+     * 
+     * @return The wait status (Already signaled, condition satisfied, timeout expired, or wait failed)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int clientWaitSync(long sync, int flags, long timeout) {
+        return glClientWaitSync(sync, flags, timeout);
+    }
+
+    /**
+     * Delete a fence
+     * 
+     * @param sync The fence
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteSync(long sync) {
+        glDeleteSync(sync);
+    }
+
+    /**
+     * Create a query
+     * 
+     * @return The id of the query
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createQuery() {
+        return glGenQueries();
+    }
+
+    /**
+     * Start a query
+     * 
+     * @param target The target of the query (Such as time elapsed)
+     * @param queryId The id of the query
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void beginQuery(int target, int queryId) {
+        glBeginQuery(target, queryId);
+    }
+
+    /**
+     * End the running query of a target
+     * 
+     * @param target The target of the query
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void endQuery(int target) {
+        glEndQuery(target);
+    }
+
+    /**
+     * Get weather the result of a query is available without waiting
+     * 
+     * @param queryId The id of the query
+     * 
+     * @return Weather the result is available
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public boolean getQueryAvailable(int queryId) {
+        return glGetQueryObjecti(queryId, GL_QUERY_RESULT_AVAILABLE) == GL_TRUE;
+    }
+
+    /**
+     * Get the result of a query, waiting for it if it is not available
+     * 
+     * @param queryId The id of the query
+     * 
+     * @return The result (Nanoseconds for a time elapsed query)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public long getQueryResult(int queryId) {
+        return glGetQueryObjecti64(queryId, GL_QUERY_RESULT);
+    }
+
+    /**
+     * Delete a query
+     * 
+     * @param queryId The id of the query
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteQuery(int queryId) {
+        glDeleteQueries(queryId);
+    }
+
+    /**
+     * Create a framebuffer
+     * 
+     * @return The id of the framebuffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createFramebuffer() {
+        return glGenFramebuffers();
+    }
+
+    /**
+     * Bind a framebuffer
+     * 
+     * @param target The target to bind to (Drawing, reading, or both)
+     * @param framebufferId The id of the framebuffer (0 for the window)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindFramebuffer(int target, int framebufferId) {
+        glBindFramebuffer(target, framebufferId);
+    }
+
+    /**
+     * Attach a texture to the framebuffer bound to a target
+     * 
+     * @param target The target the framebuffer is bound to
+     * @param attachment The attachment point (Such as a color or the depth attachment)
+     * @param textureTarget The target of the texture
+     * @param textureId The id of the texture (0 to detach)
+     * @param level The mipmap level to attach
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void framebufferTexture2D(int target, int attachment, int textureTarget, int textureId, int level) {
+        glFramebufferTexture2D(target, attachment, textureTarget, textureId, level);
+    }
+
+    /**
+     * Get the completeness of the framebuffer bound to a target
+     * 
+     * @param target The target the framebuffer is bound to
+     * 
+     * @return The status (Complete if it can be drawn to)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int checkFramebufferStatus(int target) {
+        return glCheckFramebufferStatus(target);
+    }
+
+    /**
+     * Copy a region of the read framebuffer to the draw framebuffer, scaling it if the regions are different sizes
+     * 
+     * @param sourceX0 The left of the source region
+     * @param sourceY0 The bottom of the source region
+     * @param sourceX1 The right of the source region
+     * @param sourceY1 The top of the source region
+     * @param destinationX0 The left of the destination region
+     * @param destinationY0 The bottom of the destination region
+     * @param destinationX1 The right of the destination region
+     * @param destinationY1 The top of the destination region
+     * @param mask The buffers to copy (Such as the color buffer)
+     * @param filter The filter used when scaling (Nearest or linear)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void blitFramebuffer(int sourceX0, int sourceY0, int sourceX1, int sourceY1, int destinationX0, int destinationY0, int destinationX1, int destinationY1, int mask, int filter) {
+        glBlitFramebuffer(sourceX0, sourceY0, sourceX1, sourceY1, destinationX0, destinationY0, destinationX1, destinationY1, mask, filter);
+    }
+
+    /**
+     * Delete a framebuffer
+     * 
+     * @param framebufferId The id of the framebuffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteFramebuffer(int framebufferId) {
+        glDeleteFramebuffers(framebufferId);
+    }
+
+    /**
+     * Start compiling a single shader stage
+     * 
+     * @param type The gl type of the shader
+     * @param source The source of the shader
+     * 
+     * @return The gl shader id
+     * 
+     * @since 2.6.0
+     */
+    private static int compileShader(int type, @NotNull String source) {
+        int shaderId = glCreateShader(type);
+        glShaderSource(shaderId, source);
+        glCompileShader(shaderId);
+
+        return shaderId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,1894 @@
+package io.github.kale_ko.gighm.rendering.device;
+
+import static org.lwjgl.opengl.GL33C.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import io.github.kale_ko.gighm.exception.GLCompileException;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A headless render device that records and counts the commands submitted to it instead of drawing
+ * Can be used to measure the cpu cost of rendering and the draws and state changes it submits without a gpu
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class RecordingRenderDevice extends RenderDevice {
+    /**
+     * The format of the binaries returned by {@link #getProgramBinary(int, int[])}
+     * 
+     * @since 2.6.0
+     */
+    public static final int BINARY_FORMAT = 0x4748;
+
+    /**
+     * A pattern matching uniform declarations in shader source
+     * 
+     * @since 2.6.0
+     */
+    private static final @NotNull Pattern UNIFORM_PATTERN = Pattern.compile("^\\s*uniform\\s+(\\w+)\\s+(\\w+)\\s*(\\[[^\\]]*\\])?\\s*;", Pattern.MULTILINE);
+
+    /**
+     * A pattern matching uniform block declarations in shader source
+     * 
+     * @since 2.6.0
+     */
+    private static final @NotNull Pattern UNIFORM_BLOCK_PATTERN = Pattern.compile("^\\s*(?:layout\\s*\\([^)]*\\)\\s*)?uniform\\s+(\\w+)\\s*\\{", Pattern.MULTILINE);
+
+    /**
+     * A pattern matching attribute declarations in vertex shader source
+     * 
+     * @since 2.6.0
+     */
+    private static final @NotNull Pattern ATTRIBUTE_PATTERN = Pattern.compile("^\\s*in\\s+(\\w+)\\s+(\\w+)\\s*;", Pattern.MULTILINE);
+
+    /**
+     * The number of times each command was submitted
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull int[] counts = new int[DeviceCommand.values().length];
+
+    /**
+     * Weather the command stream is being recorded
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean recording;
+
+    /**
+     * The recorded command stream
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull DeviceCommand[] commands = new DeviceCommand[0];
+
+    /**
+     * The number of commands submitted
+     * 
+     * @since 2.6.0
+     */
+    private int commandCount = 0;
+
+    /**
+     * The number of commands in the recorded command stream
+     * 
+     * @since 2.6.0
+     */
+    private int recordedCount = 0;
+
+    /**
+     * The number of bytes uploaded to buffers and textures
+     * 
+     * @since 2.6.0
+     */
+    private long uploadedBytes = 0;
+
+    /**
+     * The next id to give a created object
+     * 
+     * @since 2.6.0
+     */
+    private int nextId = 1;
+
+    /**
+     * A map of program ids to their vertex and fragment sources
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Integer, String[]> programs = new HashMap<Integer, String[]>();
+
+    /**
+     * A map of program ids to the attribute locations they were linked with
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Integer, Map<String, Integer>> programAttributes = new HashMap<Integer, Map<String, Integer>>();
+
+    /**
+     * The buffers bound to the array, element array, and uniform buffer targets
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull int[] boundBuffers = new int[3];
+
+    /**
+     * A map of buffer ids to the size of their storage in bytes
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Integer, Long> bufferSizes = new HashMap<Integer, Long>();
+
+    /**
+     * A map of buffer ids to the memory handed out when they are mapped
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Integer, ByteBuffer> bufferStorage = new HashMap<Integer, ByteBuffer>();
+
+    /**
+     * Weather the device reports buffer storage support
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean supportsBufferStorage = true;
+
+    /**
+     * Weather the device reports program binary support
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean supportsProgramBinary = true;
+
+    /**
+     * The number of times {@link #getProgramCompleted(int)} reports a new program as not finished
+     * 
+     * @since 2.6.0
+     */
+    private int compileLatency = 0;
+
+    /**
+     * A map of program ids still pretending to compile to the number of checks left before they finish
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Integer, Integer> compiling = new HashMap<Integer, Integer>();
+
+    /**
+     * The result reported for every query
+     * 
+     * @since 2.6.0
+     */
+    private long queryResult = 0;
+
+    /**
+     * Create a recording render device that only counts commands
+     * 
+     * @since 2.6.0
+     */
+    public RecordingRenderDevice() {
+        this(false);
+    }
+
+    /**
+     * Create a recording render device
+     * 
+     * @param recording Weather to record the command stream as well as counting it
+     * 
+     * @since 2.6.0
+     */
+    public RecordingRenderDevice(@NotNull Boolean recording) {
+        NullUtils.checkNulls(recording, "recording");
+
+        this.recording = recording;
+    }
+
+    /**
+     * Initialize the device (Called by the renderer when it is initialized)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void init() {
+        this.reset();
+    }
+
+    /**
+     * Get weather the device needs to be used from a {@link io.github.kale_ko.gighm.rendering.Window}
+     * 
+     * @return Weather the device needs to be used from a window
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull Boolean getRequiresWindow() {
+        return false;
+    }
+
+    /**
+     * Get the number of texture units that can be sampled from in a fragment shader
+     * 
+     * @return The number of texture units
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int getMaxTextureUnits() {
+        return 16;
+    }
+
+    /**
+     * Get weather the device supports immutable buffer storage that can stay mapped while drawing (ARB_buffer_storage)
+     * 
+     * @return Weather buffer storage is supported
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull Boolean getSupportsBufferStorage() {
+        return this.supportsBufferStorage;
+    }
+
+    /**
+     * Get the largest anisotropic filtering level the device supports
+     * 
+     * @return The largest anisotropy (0 if anisotropic filtering is not supported)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public float getMaxAnisotropy() {
+        return 16f;
+    }
+
+    /**
+     * Get weather the device can save linked programs as binaries and load them back (ARB_get_program_binary)
+     * 
+     * @return Weather program binaries are supported
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull Boolean getSupportsProgramBinary() {
+        return this.supportsProgramBinary;
+    }
+
+    /**
+     * Get weather the device can compile and link programs on background threads (KHR_parallel_shader_compile)
+     * 
+     * @return Weather parallel compiling is supported
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull Boolean getSupportsParallelCompile() {
+        return true;
+    }
+
+    /**
+     * Get a string describing the device's driver
+     * 
+     * @param name The string to get (Vendor, renderer, or version)
+     * 
+     * @return The string
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull String getString(int name) {
+        switch (name) {
+            case GL_VENDOR:
+                return "GIGHM";
+            case GL_RENDERER:
+                return "Recording Render Device";
+            case GL_VERSION:
+                return "3.3";
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * Set the viewport
+     * 
+     * @param x The left of the viewport
+     * @param y The bottom of the viewport
+     * @param width The width of the viewport
+     * @param height The height of the viewport
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void viewport(int x, int y, int width, int height) {
+        this.record(DeviceCommand.VIEWPORT);
+    }
+
+    /**
+     * Set the color to clear with
+     * 
+     * @param red The red component
+     * @param green The green component
+     * @param blue The blue component
+     * @param alpha The alpha component
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void clearColor(float red, float green, float blue, float alpha) {
+        this.record(DeviceCommand.CLEAR_COLOR);
+    }
+
+    /**
+     * Clear buffers of the framebuffer
+     * 
+     * @param mask The buffers to clear
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void clear(int mask) {
+        this.record(DeviceCommand.CLEAR);
+    }
+
+    /**
+     * Enable a capability
+     * 
+     * @param capability The capability to enable
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void enable(int capability) {
+        this.record(DeviceCommand.ENABLE);
+    }
+
+    /**
+     * Disable a capability
+     * 
+     * @param capability The capability to disable
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void disable(int capability) {
+        this.record(DeviceCommand.DISABLE);
+    }
+
+    /**
+     * Set the depth comparison function
+     * 
+     * @param function The depth comparison function
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void depthFunc(int function) {
+        this.record(DeviceCommand.DEPTH_FUNC);
+    }
+
+    /**
+     * Set weather depth writes are enabled
+     * 
+     * @param enabled Weather depth writes are enabled
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void depthMask(boolean enabled) {
+        this.record(DeviceCommand.DEPTH_MASK);
+    }
+
+    /**
+     * Set the blending factors
+     * 
+     * @param source The factor of the source color
+     * @param destination The factor of the destination color
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void blendFunc(int source, int destination) {
+        this.record(DeviceCommand.BLEND_FUNC);
+    }
+
+    /**
+     * Create a buffer
+     * 
+     * @return The id of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createBuffer() {
+        this.record(DeviceCommand.CREATE_BUFFER);
+
+        return this.nextId++;
+    }
+
+    /**
+     * Bind a buffer
+     * 
+     * @param target The target to bind to
+     * @param bufferId The id of the buffer (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindBuffer(int target, int bufferId) {
+        this.record(DeviceCommand.BIND_BUFFER);
+
+        this.setBoundBuffer(target, bufferId);
+    }
+
+    /**
+     * Bind a buffer to an indexed binding point (Such as a uniform block binding)
+     * 
+     * @param target The indexed target to bind to
+     * @param index The index of the binding point
+     * @param bufferId The id of the buffer (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindBufferBase(int target, int index, int bufferId) {
+        this.record(DeviceCommand.BIND_BUFFER_BASE);
+
+        this.setBoundBuffer(target, bufferId);
+    }
+
+    /**
+     * Upload float data to the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param data The data to upload
+     * @param usage The usage hint of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferData(int target, @NotNull float[] data, int usage) {
+        this.record(DeviceCommand.BUFFER_DATA);
+
+        this.uploadedBytes += (long) data.length * Float.BYTES;
+    }
+
+    /**
+     * Upload int data to the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param data The data to upload
+     * @param usage The usage hint of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferData(int target, @NotNull int[] data, int usage) {
+        this.record(DeviceCommand.BUFFER_DATA);
+
+        this.uploadedBytes += (long) data.length * Integer.BYTES;
+    }
+
+    /**
+     * Allocate uninitialized storage for the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param size The size of the storage in bytes
+     * @param usage The usage hint of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferData(int target, long size, int usage) {
+        this.record(DeviceCommand.BUFFER_DATA);
+
+        this.setBufferSize(target, size);
+    }
+
+    /**
+     * Upload data to part of the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param offset The byte offset to upload to
+     * @param data The data to upload (From its position to its limit)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferSubData(int target, long offset, @NotNull FloatBuffer data) {
+        this.record(DeviceCommand.BUFFER_SUB_DATA);
+
+        this.uploadedBytes += (long) data.remaining() * Float.BYTES;
+    }
+
+    /**
+     * Allocate immutable storage for the bound buffer (Only if {@link #getSupportsBufferStorage()})
+     * 
+     * @param target The target the buffer is bound to
+     * @param size The size of the storage in bytes
+     * @param flags The storage flags (Such as map write, persistent, and coherent)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferStorage(int target, long size, int flags) {
+        this.record(DeviceCommand.BUFFER_STORAGE);
+
+        this.setBufferSize(target, size);
+    }
+
+    /**
+     * Map a range of the bound buffer into client memory
+     * 
+     * @param target The target the buffer is bound to
+     * @param offset The byte offset of the range
+     * @param length The byte length of the range
+     * @param access The access flags (Such as write, invalidate range, and unsynchronized)
+     * 
+     * @return The mapped memory in native byte order (Null if it could not be mapped)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @Nullable ByteBuffer mapBufferRange(int target, long offset, long length, int access) {
+        this.record(DeviceCommand.MAP_BUFFER);
+
+        int bufferId = this.getBoundBuffer(target);
+        Long size = this.bufferSizes.get(bufferId);
+        if (size == null || offset + length > size) {
+            return null;
+        }
+
+        // Mapped writes are kept in real memory so callers can write to them like a driver mapping
+        ByteBuffer storage = this.bufferStorage.get(bufferId);
+        if (storage == null) {
+            storage = ByteBuffer.allocateDirect((int) (long) size).order(ByteOrder.nativeOrder());
+            this.bufferStorage.put(bufferId, storage);
+        }
+
+        ByteBuffer range = storage.duplicate();
+        range.position((int) offset).limit((int) (offset + length));
+
+        return range.slice().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Unmap the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * 
+     * @return False if the buffer contents were lost while mapped and need to be written again
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public boolean unmapBuffer(int target) {
+        this.record(DeviceCommand.UNMAP_BUFFER);
+
+        return true;
+    }
+
+    /**
+     * Delete a buffer
+     * 
+     * @param bufferId The id of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteBuffer(int bufferId) {
+        this.record(DeviceCommand.DELETE_BUFFER);
+
+        this.bufferSizes.remove(bufferId);
+        this.bufferStorage.remove(bufferId);
+    }
+
+    /**
+     * Create a vertex array
+     * 
+     * @return The id of the vertex array
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createVertexArray() {
+        this.record(DeviceCommand.CREATE_VERTEX_ARRAY);
+
+        return this.nextId++;
+    }
+
+    /**
+     * Bind a vertex array
+     * 
+     * @param vertexArrayId The id of the vertex array (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindVertexArray(int vertexArrayId) {
+        this.record(DeviceCommand.BIND_VERTEX_ARRAY);
+    }
+
+    /**
+     * Enable an attribute of the bound vertex array
+     * 
+     * @param location The location of the attribute
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void enableVertexAttribArray(int location) {
+        this.record(DeviceCommand.ENABLE_VERTEX_ATTRIB_ARRAY);
+    }
+
+    /**
+     * Disable an attribute of the bound vertex array
+     * 
+     * @param location The location of the attribute
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void disableVertexAttribArray(int location) {
+        this.record(DeviceCommand.DISABLE_VERTEX_ATTRIB_ARRAY);
+    }
+
+    /**
+     * Point an attribute of the bound vertex array at the bound array buffer
+     * 
+     * @param location The location of the attribute
+     * @param size The number of components in the attribute
+     * @param type The type of the components
+     * @param normalized Weather integer components are normalized
+     * @param stride The byte stride between attributes
+     * @param offset The byte offset of the first attribute
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void vertexAttribPointer(int location, int size, int type, boolean normalized, int stride, long offset) {
+        this.record(DeviceCommand.VERTEX_ATTRIB_POINTER);
+    }
+
+    /**
+     * Set how many instances an attribute of the bound vertex array advances after
+     * 
+     * @param location The location of the attribute
+     * @param divisor The number of instances per attribute (0 to advance per vertex)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void vertexAttribDivisor(int location, int divisor) {
+        this.record(DeviceCommand.VERTEX_ATTRIB_DIVISOR);
+    }
+
+    /**
+     * Delete a vertex array
+     * 
+     * @param vertexArrayId The id of the vertex array
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteVertexArray(int vertexArrayId) {
+        this.record(DeviceCommand.DELETE_VERTEX_ARRAY);
+    }
+
+    /**
+     * Create a texture
+     * 
+     * @return The id of the texture
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createTexture() {
+        this.record(DeviceCommand.CREATE_TEXTURE);
+
+        return this.nextId++;
+    }
+
+    /**
+     * Set the active texture unit
+     * 
+     * @param unit The unit to make active (Starting at GL_TEXTURE0)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void activeTexture(int unit) {
+        this.record(DeviceCommand.ACTIVE_TEXTURE);
+    }
+
+    /**
+     * Bind a texture to the active texture unit
+     * 
+     * @param target The target to bind to
+     * @param textureId The id of the texture (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindTexture(int target, int textureId) {
+        this.record(DeviceCommand.BIND_TEXTURE);
+    }
+
+    /**
+     * Set a parameter of the bound texture
+     * 
+     * @param target The target the texture is bound to
+     * @param parameter The parameter to set
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void texParameteri(int target, int parameter, int value) {
+        this.record(DeviceCommand.TEX_PARAMETER);
+    }
+
+    /**
+     * Upload an image to the bound texture
+     * 
+     * @param target The target the texture is bound to
+     * @param level The mipmap level
+     * @param internalFormat The format to store the texture in
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param format The format of the pixels
+     * @param type The type of the pixels
+     * @param pixels The pixels to upload
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void texImage2D(int target, int level, int internalFormat, int width, int height, int format, int type, @Nullable ByteBuffer pixels) {
+        this.record(DeviceCommand.TEX_IMAGE_2D);
+
+        if (pixels != null) {
+            this.uploadedBytes += pixels.remaining();
+        }
+    }
+
+    /**
+     * Allocate or upload every layer of the bound array texture
+     * 
+     * @param target The target the texture is bound to
+     * @param level The mipmap level
+     * @param internalFormat The format to store the texture in
+     * @param width The width of each layer
+     * @param height The height of each layer
+     * @param depth The number of layers
+     * @param format The format of the pixels
+     * @param type The type of the pixels
+     * @param pixels The pixels to upload (Null to only allocate)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void texImage3D(int target, int level, int internalFormat, int width, int height, int depth, int format, int type, @Nullable ByteBuffer pixels) {
+        this.record(DeviceCommand.TEX_IMAGE_3D);
+
+        if (pixels != null) {
+            this.uploadedBytes += pixels.remaining();
+        }
+    }
+
+    /**
+     * Upload pixels to part of the bound array texture
+     * 
+     * @param target The target the texture is bound to
+     * @param level The mipmap level
+     * @param x The x offset to upload to
+     * @param y The y offset to upload to
+     * @param z The first layer to upload to
+     * @param width The width of the pixels
+     * @param height The height of the pixels
+     * @param depth The number of layers of pixels
+     * @param format The format of the pixels
+     * @param type The type of the pixels
+     * @param pixels The pixels to upload
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void texSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth, int format, int type, @NotNull ByteBuffer pixels) {
+        this.record(DeviceCommand.TEX_SUB_IMAGE_3D);
+
+        this.uploadedBytes += pixels.remaining();
+    }
+
+    /**
+     * Generate every mipmap level of the bound texture from its first level
+     * 
+     * @param target The target the texture is bound to
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void generateMipmap(int target) {
+        this.record(DeviceCommand.GENERATE_MIPMAP);
+    }
+
+    /**
+     * Delete a texture
+     * 
+     * @param textureId The id of the texture
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteTexture(int textureId) {
+        this.record(DeviceCommand.DELETE_TEXTURE);
+    }
+
+    /**
+     * Create a sampler object
+     * 
+     * @return The id of the sampler
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createSampler() {
+        this.record(DeviceCommand.CREATE_SAMPLER);
+
+        return this.nextId++;
+    }
+
+    /**
+     * Set an integer parameter of a sampler
+     * 
+     * @param samplerId The id of the sampler
+     * @param parameter The parameter to set
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void samplerParameteri(int samplerId, int parameter, int value) {
+        this.record(DeviceCommand.SAMPLER_PARAMETER);
+    }
+
+    /**
+     * Set a float parameter of a sampler
+     * 
+     * @param samplerId The id of the sampler
+     * @param parameter The parameter to set
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void samplerParameterf(int samplerId, int parameter, float value) {
+        this.record(DeviceCommand.SAMPLER_PARAMETER);
+    }
+
+    /**
+     * Bind a sampler to a texture unit, overriding the sampling parameters of the texture bound to it
+     * 
+     * @param unit The index of the unit
+     * @param samplerId The id of the sampler (0 to use the texture's own parameters)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindSampler(int unit, int samplerId) {
+        this.record(DeviceCommand.BIND_SAMPLER);
+    }
+
+    /**
+     * Delete a sampler
+     * 
+     * @param samplerId The id of the sampler
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteSampler(int samplerId) {
+        this.record(DeviceCommand.DELETE_SAMPLER);
+    }
+
+    /**
+     * Compile and link a program
+     * 
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations to bind attributes to before linking
+     * 
+     * @return The id of the program
+     * 
+     * @throws GLCompileException If the program fails to compile or link
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createProgram(@NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations) throws GLCompileException {
+        NullUtils.checkNulls(vertexSource, "vertexSource");
+        NullUtils.checkNulls(fragmentSource, "fragmentSource");
+        NullUtils.checkNulls(attributeLocations, "attributeLocations");
+
+        this.record(DeviceCommand.CREATE_PROGRAM);
+
+        int programId = this.nextId++;
+        this.programs.put(programId, new String[] { vertexSource, fragmentSource });
+        this.programAttributes.put(programId, new HashMap<String, Integer>(attributeLocations));
+
+        return programId;
+    }
+
+    /**
+     * Start compiling and linking a program without waiting for it, the driver may do the work on a background thread
+     * 
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations to bind attributes to before linking
+     * 
+     * @return The id of the program (Must be passed to {@link #finishProgram(int)} before it is used)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int beginProgram(@NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations) {
+        int programId;
+        try {
+            programId = this.createProgram(vertexSource, fragmentSource, attributeLocations);
+        } catch (GLCompileException e) {
+            return 0;
+        }
+
+        if (this.compileLatency > 0) {
+            this.compiling.put(programId, this.compileLatency);
+        }
+
+        return programId;
+    }
+
+    /**
+     * Get weather a program started with {@link #beginProgram(String, String, Map)} has finished compiling and linking
+     * 
+     * @param programId The id of the program
+     * 
+     * @return Weather the program has finished (Always true if parallel compiling is not supported, finishing it will wait instead)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public boolean getProgramCompleted(int programId) {
+        this.record(DeviceCommand.GET_PROGRAM_STATUS);
+
+        Integer remaining = this.compiling.get(programId);
+        if (remaining == null) {
+            return true;
+        }
+
+        if (remaining <= 1) {
+            this.compiling.remove(programId);
+        } else {
+            this.compiling.put(programId, remaining - 1);
+        }
+
+        return false;
+    }
+
+    /**
+     * Finish a program started with {@link #beginProgram(String, String, Map)}, waiting for it if it is not done yet
+     * 
+     * @param programId The id of the program
+     * 
+     * @throws GLCompileException If the program failed to compile or link
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void finishProgram(int programId) throws GLCompileException {
+        this.record(DeviceCommand.GET_PROGRAM_STATUS);
+
+        this.compiling.remove(programId);
+    }
+
+    /**
+     * Get the binary of a linked program so it can be loaded again later without compiling it
+     * 
+     * @param programId The id of the program
+     * @param format An array to put the driver specific format of the binary into (Must have a length of at least 1)
+     * 
+     * @return The binary (Null if the driver did not give one)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @Nullable byte[] getProgramBinary(int programId, @NotNull int[] format) {
+        NullUtils.checkNulls(format, "format");
+
+        this.record(DeviceCommand.GET_PROGRAM_BINARY);
+
+        String[] sources = this.programs.get(programId);
+        if (sources == null) {
+            return null;
+        }
+
+        // Without a driver the binary is just the sources and attribute locations so loading it creates the same program
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+
+            for (String source : sources) {
+                byte[] data = source.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(data.length);
+                output.write(data);
+            }
+
+            Map<String, Integer> attributes = this.programAttributes.get(programId);
+            output.writeInt(attributes.size());
+            for (Map.Entry<String, Integer> attribute : attributes.entrySet()) {
+                output.writeUTF(attribute.getKey());
+                output.writeInt(attribute.getValue());
+            }
+
+            output.flush();
+
+            format[0] = BINARY_FORMAT;
+
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            e.printStackTrace();
+
+            return null;
+        }
+    }
+
+    /**
+     * Create a program from a binary returned by {@link #getProgramBinary(int, int[])}
+     * 
+     * @param format The format of the binary
+     * @param binary The binary
+     * 
+     * @return The id of the program (0 if the driver rejected the binary, such as after a driver update)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createProgramFromBinary(int format, @NotNull byte[] binary) {
+        NullUtils.checkNulls(binary, "binary");
+
+        this.record(DeviceCommand.PROGRAM_BINARY);
+
+        if (format != BINARY_FORMAT) {
+            return 0;
+        }
+
+        try {
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(binary));
+
+            String[] sources = new String[2];
+            for (int i = 0; i < sources.length; i++) {
+                byte[] data = new byte[input.readInt()];
+                input.readFully(data);
+                sources[i] = new String(data, StandardCharsets.UTF_8);
+            }
+
+            Map<String, Integer> attributes = new HashMap<String, Integer>();
+            int attributeCount = input.readInt();
+            for (int i = 0; i < attributeCount; i++) {
+                attributes.put(input.readUTF(), input.readInt());
+            }
+
+            int programId = this.nextId++;
+            this.programs.put(programId, sources);
+            this.programAttributes.put(programId, attributes);
+
+            return programId;
+        } catch (IOException | NegativeArraySizeException e) {
+            // A truncated or corrupt binary is rejected the same way a driver would
+            return 0;
+        }
+    }
+
+    /**
+     * Query the active uniforms of a program that have a location
+     * 
+     * @param programId The id of the program
+     * @param locations The map to put uniform locations into (Array uniforms are named without their [0])
+     * @param types The map to put uniform gl types into
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void getActiveUniforms(int programId, @NotNull Map<String, Integer> locations, @NotNull Map<String, Integer> types) {
+        NullUtils.checkNulls(locations, "locations");
+        NullUtils.checkNulls(types, "types");
+
+        String[] sources = this.programs.get(programId);
+        if (sources == null) {
+            return;
+        }
+
+        // Without a driver to ask, every declared uniform in an active branch is treated as active
+        int location = 0;
+        for (String source : sources) {
+            Matcher matcher = UNIFORM_PATTERN.matcher(ShaderPreprocessor.preprocess(source));
+            while (matcher.find()) {
+                String name = matcher.group(2);
+
+                if (!locations.containsKey(name)) {
+                    locations.put(name, location++);
+                    types.put(name, getGLType(matcher.group(1)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Query the active attributes of a program that have a location
+     * 
+     * @param programId The id of the program
+     * @param locations The map to put attribute locations into
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void getActiveAttributes(int programId, @NotNull Map<String, Integer> locations) {
+        NullUtils.checkNulls(locations, "locations");
+
+        String[] sources = this.programs.get(programId);
+        if (sources == null) {
+            return;
+        }
+
+        Map<String, Integer> bound = this.programAttributes.get(programId);
+
+        int location = 16;
+        Matcher matcher = ATTRIBUTE_PATTERN.matcher(ShaderPreprocessor.preprocess(sources[0]));
+        while (matcher.find()) {
+            String name = matcher.group(2);
+
+            locations.put(name, bound.containsKey(name) ? bound.get(name) : location++);
+        }
+    }
+
+    /**
+     * Query the active uniform blocks of a program
+     * 
+     * @param programId The id of the program
+     * @param indices The map to put uniform block indices into
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void getActiveUniformBlocks(int programId, @NotNull Map<String, Integer> indices) {
+        NullUtils.checkNulls(indices, "indices");
+
+        String[] sources = this.programs.get(programId);
+        if (sources == null) {
+            return;
+        }
+
+        int index = 0;
+        for (String source : sources) {
+            Matcher matcher = UNIFORM_BLOCK_PATTERN.matcher(ShaderPreprocessor.preprocess(source));
+            while (matcher.find()) {
+                String name = matcher.group(1);
+
+                if (!indices.containsKey(name)) {
+                    indices.put(name, index++);
+                }
+            }
+        }
+    }
+
+    /**
+     * Set the binding point a uniform block of a program reads from
+     * 
+     * @param programId The id of the program
+     * @param blockIndex The index of the uniform block
+     * @param binding The binding point to read from
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniformBlockBinding(int programId, int blockIndex, int binding) {
+        this.record(DeviceCommand.UNIFORM_BLOCK_BINDING);
+    }
+
+    /**
+     * Make a program the current program
+     * 
+     * @param programId The id of the program (0 for none)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void useProgram(int programId) {
+        this.record(DeviceCommand.USE_PROGRAM);
+    }
+
+    /**
+     * Set an int uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniform1i(int location, int value) {
+        this.record(DeviceCommand.UNIFORM);
+    }
+
+    /**
+     * Set a vec3 uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param x The first value to set
+     * @param y The second value to set
+     * @param z The third value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniform3f(int location, float x, float y, float z) {
+        this.record(DeviceCommand.UNIFORM);
+    }
+
+    /**
+     * Set a vec4 uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param x The first value to set
+     * @param y The second value to set
+     * @param z The third value to set
+     * @param w The fourth value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniform4f(int location, float x, float y, float z, float w) {
+        this.record(DeviceCommand.UNIFORM);
+    }
+
+    /**
+     * Set a mat4 uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param value The column major matrix to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniformMatrix4fv(int location, @NotNull float[] value) {
+        this.record(DeviceCommand.UNIFORM);
+    }
+
+    /**
+     * Delete a program
+     * 
+     * @param programId The id of the program
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteProgram(int programId) {
+        this.record(DeviceCommand.DELETE_PROGRAM);
+
+        this.programs.remove(programId);
+        this.programAttributes.remove(programId);
+        this.compiling.remove(programId);
+    }
+
+    /**
+     * Draw vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param first The first vertex to draw
+     * @param count The number of vertices to draw
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void drawArrays(int mode, int first, int count) {
+        this.record(DeviceCommand.DRAW_ARRAYS);
+    }
+
+    /**
+     * Draw indexed vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param count The number of indices to draw
+     * @param type The type of the indices
+     * @param offset The byte offset of the first index
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void drawElements(int mode, int count, int type, long offset) {
+        this.record(DeviceCommand.DRAW_ELEMENTS);
+    }
+
+    /**
+     * Draw instances of vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param first The first vertex to draw
+     * @param count The number of vertices to draw
+     * @param instances The number of instances to draw
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void drawArraysInstanced(int mode, int first, int count, int instances) {
+        this.record(DeviceCommand.DRAW_ARRAYS_INSTANCED);
+    }
+
+    /**
+     * Draw instances of indexed vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param count The number of indices to draw
+     * @param type The type of the indices
+     * @param offset The byte offset of the first index
+     * @param instances The number of instances to draw
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void drawElementsInstanced(int mode, int count, int type, long offset, int instances) {
+        this.record(DeviceCommand.DRAW_ELEMENTS_INSTANCED);
+    }
+
+    /**
+     * Insert a fence that is signaled once every command submitted before it has completed
+     * 
+     * @return The fence
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public long fenceSync() {
+        this.record(DeviceCommand.FENCE_SYNC);
+
+        return this.nextId++;
+    }
+
+    /**
+     * Wait for a fence to be signaled
+     * 
+     * @param sync The fence
+     * @param flags The wait flags (Such as flush commands)
+     * @param timeout The longest time to wait in nanoseconds
+     * 
+     * @return The wait status (Already signaled, condition satisfied, timeout expired, or wait failed)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int clientWaitSync(long sync, int flags, long timeout) {
+        this.record(DeviceCommand.CLIENT_WAIT_SYNC);
+
+        return GL_ALREADY_SIGNALED;
+    }
+
+    /**
+     * Delete a fence
+     * 
+     * @param sync The fence
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteSync(long sync) {
+        this.record(DeviceCommand.DELETE_SYNC);
+    }
+
+    /**
+     * Create a query
+     * 
+     * @return The id of the query
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createQuery() {
+        this.record(DeviceCommand.CREATE_QUERY);
+
+        return this.nextId++;
+    }
+
+    /**
+     * Start a query
+     * 
+     * @param target The target of the query (Such as time elapsed)
+     * @param queryId The id of the query
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void beginQuery(int target, int queryId) {
+        this.record(DeviceCommand.BEGIN_QUERY);
+    }
+
+    /**
+     * End the running query of a target
+     * 
+     * @param target The target of the query
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void endQuery(int target) {
+        this.record(DeviceCommand.END_QUERY);
+    }
+
+    /**
+     * Get weather the result of a query is available without waiting
+     * 
+     * @param queryId The id of the query
+     * 
+     * @return Weather the result is available
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public boolean getQueryAvailable(int queryId) {
+        this.record(DeviceCommand.GET_QUERY);
+
+        return true;
+    }
+
+    /**
+     * Get the result of a query, waiting for it if it is not available
+     * 
+     * @param queryId The id of the query
+     * 
+     * @return The result (Nanoseconds for a time elapsed query)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public long getQueryResult(int queryId) {
+        this.record(DeviceCommand.GET_QUERY);
+
+        return this.queryResult;
+    }
+
+    /**
+     * Delete a query
+     * 
+     * @param queryId The id of the query
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteQuery(int queryId) {
+        this.record(DeviceCommand.DELETE_QUERY);
+    }
+
+    /**
+     * Create a framebuffer
+     * 
+     * @return The id of the framebuffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createFramebuffer() {
+        this.record(DeviceCommand.CREATE_FRAMEBUFFER);
+
+        return this.nextId++;
+    }
+
+    /**
+     * Bind a framebuffer
+     * 
+     * @param target The target to bind to (Drawing, reading, or both)
+     * @param framebufferId The id of the framebuffer (0 for the window)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindFramebuffer(int target, int framebufferId) {
+        this.record(DeviceCommand.BIND_FRAMEBUFFER);
+    }
+
+    /**
+     * Attach a texture to the framebuffer bound to a target
+     * 
+     * @param target The target the framebuffer is bound to
+     * @param attachment The attachment point (Such as a color or the depth attachment)
+     * @param textureTarget The target of the texture
+     * @param textureId The id of the texture (0 to detach)
+     * @param level The mipmap level to attach
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void framebufferTexture2D(int target, int attachment, int textureTarget, int textureId, int level) {
+        this.record(DeviceCommand.FRAMEBUFFER_TEXTURE);
+    }
+
+    /**
+     * Get the completeness of the framebuffer bound to a target
+     * 
+     * @param target The target the framebuffer is bound to
+     * 
+     * @return The status (Complete if it can be drawn to)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int checkFramebufferStatus(int target) {
+        this.record(DeviceCommand.CHECK_FRAMEBUFFER);
+
+        return GL_FRAMEBUFFER_COMPLETE;
+    }
+
+    /**
+     * Copy a region of the read framebuffer to the draw framebuffer, scaling it if the regions are different sizes
+     * 
+     * @param sourceX0 The left of the source region
+     * @param sourceY0 The bottom of the source region
+     * @param sourceX1 The right of the source region
+     * @param sourceY1 The top of the source region
+     * @param destinationX0 The left of the destination region
+     * @param destinationY0 The bottom of the destination region
+     * @param destinationX1 The right of the destination region
+     * @param destinationY1 The top of the destination region
+     * @param mask The buffers to copy (Such as the color buffer)
+     * @param filter The filter used when scaling (Nearest or linear)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void blitFramebuffer(int sourceX0, int sourceY0, int sourceX1, int sourceY1, int destinationX0, int destinationY0, int destinationX1, int destinationY1, int mask, int filter) {
+        this.record(DeviceCommand.BLIT_FRAMEBUFFER);
+    }
+
+    /**
+     * Delete a framebuffer
+     * 
+     * @param framebufferId The id of the framebuffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteFramebuffer(int framebufferId) {
+        this.record(DeviceCommand.DELETE_FRAMEBUFFER);
+    }
+
+    /**
+     * Set the result reported for every query (For testing code reacting to gpu times)
+     * 
+     * @param queryResult The result (Nanoseconds for a time elapsed query)
+     * 
+     * @since 2.6.0
+     */
+    public void setQueryResult(long queryResult) {
+        this.queryResult = queryResult;
+    }
+
+    /**
+     * Set weather the device reports buffer storage support (For testing the fallback path)
+     * 
+     * @param supportsBufferStorage Weather buffer storage is supported
+     * 
+     * @since 2.6.0
+     */
+    public void setSupportsBufferStorage(@NotNull Boolean supportsBufferStorage) {
+        NullUtils.checkNulls(supportsBufferStorage, "supportsBufferStorage");
+
+        this.supportsBufferStorage = supportsBufferStorage;
+    }
+
+    /**
+     * Set weather the device reports program binary support (For testing the fallback path)
+     * 
+     * @param supportsProgramBinary Weather program binaries are supported
+     * 
+     * @since 2.6.0
+     */
+    public void setSupportsProgramBinary(@NotNull Boolean supportsProgramBinary) {
+        NullUtils.checkNulls(supportsProgramBinary, "supportsProgramBinary");
+
+        this.supportsProgramBinary = supportsProgramBinary;
+    }
+
+    /**
+     * Set the number of times a program started with {@link #beginProgram(String, String, Map)} is reported as not finished (For testing code waiting for programs to compile)
+     * 
+     * @param compileLatency The number of checks (0 to finish programs immediately)
+     * 
+     * @since 2.6.0
+     */
+    public void setCompileLatency(int compileLatency) {
+        this.compileLatency = compileLatency;
+    }
+
+    /**
+     * Get the index of a buffer target in {@link #boundBuffers}
+     * 
+     * @param target The buffer target
+     * 
+     * @return The index (-1 if the target is not tracked)
+     * 
+     * @since 2.6.0
+     */
+    private static int getBufferTargetIndex(int target) {
+        switch (target) {
+            case GL_ARRAY_BUFFER:
+                return 0;
+            case GL_ELEMENT_ARRAY_BUFFER:
+                return 1;
+            case GL_UNIFORM_BUFFER:
+                return 2;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Remember the buffer bound to a target
+     * 
+     * @param target The buffer target
+     * @param bufferId The id of the buffer
+     * 
+     * @since 2.6.0
+     */
+    private void setBoundBuffer(int target, int bufferId) {
+        int index = getBufferTargetIndex(target);
+
+        if (index != -1) {
+            this.boundBuffers[index] = bufferId;
+        }
+    }
+
+    /**
+     * Get the buffer bound to a target
+     * 
+     * @param target The buffer target
+     * 
+     * @return The id of the buffer (0 if none is bound)
+     * 
+     * @since 2.6.0
+     */
+    private int getBoundBuffer(int target) {
+        int index = getBufferTargetIndex(target);
+
+        return index != -1 ? this.boundBuffers[index] : 0;
+    }
+
+    /**
+     * Remember the size of the storage of the buffer bound to a target, dropping any memory from an old size
+     * 
+     * @param target The buffer target
+     * @param size The size of the storage in bytes
+     * 
+     * @since 2.6.0
+     */
+    private void setBufferSize(int target, long size) {
+        int bufferId = this.getBoundBuffer(target);
+
+        if (bufferId != 0) {
+            Long old = this.bufferSizes.put(bufferId, size);
+
+            if (old == null || old != size) {
+                this.bufferStorage.remove(bufferId);
+            }
+        }
+    }
+
+    /**
+     * Count a command and record it if recording
+     * 
+     * @param command The command submitted
+     * 
+     * @since 2.6.0
+     */
+    private void record(@NotNull DeviceCommand command) {
+        this.counts[command.ordinal()]++;
+
+        if (this.recording) {
+            if (this.recordedCount == this.commands.length) {
+                this.commands = Arrays.copyOf(this.commands, Math.max(1024, this.commands.length * 2));
+            }
+
+            this.commands[this.recordedCount++] = command;
+        }
+
+        this.commandCount++;
+    }
+
+    /**
+     * Get the gl type of a glsl type name
+     * 
+     * @param name The glsl type name
+     * 
+     * @return The gl type (0 if it is not known)
+     * 
+     * @since 2.6.0
+     */
+    private static int getGLType(@NotNull String name) {
+        switch (name) {
+            case "bool":
+                return GL_BOOL;
+            case "int":
+                return GL_INT;
+            case "float":
+                return GL_FLOAT;
+            case "vec2":
+                return GL_FLOAT_VEC2;
+            case "vec3":
+                return GL_FLOAT_VEC3;
+            case "vec4":
+                return GL_FLOAT_VEC4;
+            case "mat4":
+                return GL_FLOAT_MAT4;
+            case "sampler2D":
+                return GL_SAMPLER_2D;
+            case "sampler2DArray":
+                return GL_SAMPLER_2D_ARRAY;
+            case "samplerCube":
+                return GL_SAMPLER_CUBE;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Reset all the counts and the recorded command stream
+     * 
+     * @since 2.6.0
+     */
+    public void reset() {
+        for (int i = 0; i < this.counts.length; i++) {
+            this.counts[i] = 0;
+        }
+
+        for (int i = 0; i < this.recordedCount; i++) {
+            this.commands[i] = null;
+        }
+
+        this.commandCount = 0;
+        this.recordedCount = 0;
+        this.uploadedBytes = 0;
+    }
+
+    /**
+     * Get the number of times a command was submitted since the last reset
+     * 
+     * @param command The command to count
+     * 
+     * @return The number of times the command was submitted
+     * 
+     * @since 2.6.0
+     */
+    public int getCount(@NotNull DeviceCommand command) {
+        NullUtils.checkNulls(command, "command");
+
+        return this.counts[command.ordinal()];
+    }
+
+    /**
+     * Get the number of commands of a type submitted since the last reset
+     * 
+     * @param type The type of command to count
+     * 
+     * @return The number of commands of the type submitted
+     * 
+     * @since 2.6.0
+     */
+    public int getCount(@NotNull DeviceCommand.Type type) {
+        NullUtils.checkNulls(type, "type");
+
+        int count = 0;
+        for (DeviceCommand command : DeviceCommand.values()) {
+            if (command.getType() == type) {
+                count += this.counts[command.ordinal()];
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Get the number of draw calls submitted since the last reset
+     * 
+     * @return The number of draw calls submitted
+     * 
+     * @since 2.6.0
+     */
+    public int getDrawCalls() {
+        return this.getCount(DeviceCommand.Type.DRAW);
+    }
+
+    /**
+     * Get the number of state changes submitted since the last reset
+     * 
+     * @return The number of state changes submitted
+     * 
+     * @since 2.6.0
+     */
+    public int getStateChanges() {
+        return this.getCount(DeviceCommand.Type.STATE);
+    }
+
+    /**
+     * Get the total number of commands submitted since the last reset
+     * 
+     * @return The total number of commands submitted
+     * 
+     * @since 2.6.0
+     */
+    public int getCommandCount() {
+        return this.commandCount;
+    }
+
+    /**
+     * Get the number of bytes uploaded to buffers and textures since the last reset
+     * 
+     * @return The number of bytes uploaded
+     * 
+     * @since 2.6.0
+     */
+    public long getUploadedBytes() {
+        return this.uploadedBytes;
+    }
+
+    /**
+     * Get the command stream recorded since the last reset (Empty if not recording)
+     * 
+     * @return The recorded command stream
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull List<DeviceCommand> getCommands() {
+        List<DeviceCommand> commands = new ArrayList<DeviceCommand>();
+
+        for (int i = 0; i < this.recordedCount; i++) {
+            commands.add(this.commands[i]);
+        }
+
+        return commands;
+    }
+
+    /**
+     * Get weather the command stream is being recorded
+     * 
+     * @return Weather the command stream is being recorded
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getRecording() {
+        return this.recording;
+    }
+
+    /**
+     * Set weather the command stream is being recorded
+     * 
+     * @param recording Weather the command stream is being recorded
+     * 
+     * @since 2.6.0
+     */
+    public void setRecording(@NotNull Boolean recording) {
+        NullUtils.checkNulls(recording, "recording");
+
+        this.recording = recording;
+    }
+}
\ No newline at end of file
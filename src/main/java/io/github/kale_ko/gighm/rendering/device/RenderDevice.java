@@ -0,0 +1,945 @@
+package io.github.kale_ko.gighm.rendering.device;
+
+import static org.lwjgl.opengl.GL33C.*;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Map;
+import io.github.kale_ko.gighm.exception.GLCompileException;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A backend that the renderer submits buffers, textures, programs, draws, and state changes to
+ * Enum arguments use the values of the matching gl constants
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public abstract class RenderDevice {
+    /**
+     * Create a render device
+     * 
+     * @since 2.6.0
+     */
+    protected RenderDevice() {}
+
+    /**
+     * Initialize the device (Called by the renderer when it is initialized)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void init();
+
+    /**
+     * Get weather the device needs to be used from a {@link io.github.kale_ko.gighm.rendering.Window}
+     * 
+     * @return Weather the device needs to be used from a window
+     * 
+     * @since 2.6.0
+     */
+    public abstract @NotNull Boolean getRequiresWindow();
+
+    /**
+     * Get the number of texture units that can be sampled from in a fragment shader
+     * 
+     * @return The number of texture units
+     * 
+     * @since 2.6.0
+     */
+    public abstract int getMaxTextureUnits();
+
+    /**
+     * Get weather the device supports immutable buffer storage that can stay mapped while drawing (ARB_buffer_storage)
+     * 
+     * @return Weather buffer storage is supported
+     * 
+     * @since 2.6.0
+     */
+    public abstract @NotNull Boolean getSupportsBufferStorage();
+
+    /**
+     * Get the largest anisotropic filtering level the device supports
+     * 
+     * @return The largest anisotropy (0 if anisotropic filtering is not supported)
+     * 
+     * @since 2.6.0
+     */
+    public abstract float getMaxAnisotropy();
+
+    /**
+     * Get weather the device can save linked programs as binaries and load them back (ARB_get_program_binary)
+     * 
+     * @return Weather program binaries are supported
+     * 
+     * @since 2.6.0
+     */
+    public abstract @NotNull Boolean getSupportsProgramBinary();
+
+    /**
+     * Get weather the device can compile and link programs on background threads (KHR_parallel_shader_compile)
+     * 
+     * @return Weather parallel compiling is supported
+     * 
+     * @since 2.6.0
+     */
+    public abstract @NotNull Boolean getSupportsParallelCompile();
+
+    /**
+     * Get a string describing the device's driver
+     * 
+     * @param name The string to get (Vendor, renderer, or version)
+     * 
+     * @return The string
+     * 
+     * @since 2.6.0
+     */
+    public abstract @NotNull String getString(int name);
+
+    /**
+     * Set the viewport
+     * 
+     * @param x The left of the viewport
+     * @param y The bottom of the viewport
+     * @param width The width of the viewport
+     * @param height The height of the viewport
+     * 
+     * @since 2.6.0
+     */
+    public abstract void viewport(int x, int y, int width, int height);
+
+    /**
+     * Set the color to clear with
+     * 
+     * @param red The red component
+     * @param green The green component
+     * @param blue The blue component
+     * @param alpha The alpha component
+     * 
+     * @since 2.6.0
+     */
+    public abstract void clearColor(float red, float green, float blue, float alpha);
+
+    /**
+     * Clear buffers of the framebuffer
+     * 
+     * @param mask The buffers to clear
+     * 
+     * @since 2.6.0
+     */
+    public abstract void clear(int mask);
+
+    /**
+     * Enable a capability
+     * 
+     * @param capability The capability to enable
+     * 
+     * @since 2.6.0
+     */
+    public abstract void enable(int capability);
+
+    /**
+     * Disable a capability
+     * 
+     * @param capability The capability to disable
+     * 
+     * @since 2.6.0
+     */
+    public abstract void disable(int capability);
+
+    /**
+     * Set the depth comparison function
+     * 
+     * @param function The depth comparison function
+     * 
+     * @since 2.6.0
+     */
+    public abstract void depthFunc(int function);
+
+    /**
+     * Set weather depth writes are enabled
+     * 
+     * @param enabled Weather depth writes are enabled
+     * 
+     * @since 2.6.0
+     */
+    public abstract void depthMask(boolean enabled);
+
+    /**
+     * Set the blending factors
+     * 
+     * @param source The factor of the source color
+     * @param destination The factor of the destination color
+     * 
+     * @since 2.6.0
+     */
+    public abstract void blendFunc(int source, int destination);
+
+    /**
+     * Create a buffer
+     * 
+     * @return The id of the buffer
+     * 
+     * @since 2.6.0
+     */
+    public abstract int createBuffer();
+
+    /**
+     * Bind a buffer
+     * 
+     * @param target The target to bind to
+     * @param bufferId The id of the buffer (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void bindBuffer(int target, int bufferId);
+
+    /**
+     * Bind a buffer to an indexed binding point (Such as a uniform block binding)
+     * 
+     * @param target The indexed target to bind to
+     * @param index The index of the binding point
+     * @param bufferId The id of the buffer (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void bindBufferBase(int target, int index, int bufferId);
+
+    /**
+     * Upload float data to the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param data The data to upload
+     * @param usage The usage hint of the buffer
+     * 
+     * @since 2.6.0
+     */
+    public abstract void bufferData(int target, @NotNull float[] data, int usage);
+
+    /**
+     * Upload int data to the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param data The data to upload
+     * @param usage The usage hint of the buffer
+     * 
+     * @since 2.6.0
+     */
+    public abstract void bufferData(int target, @NotNull int[] data, int usage);
+
+    /**
+     * Allocate uninitialized storage for the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param size The size of the storage in bytes
+     * @param usage The usage hint of the buffer
+     * 
+     * @since 2.6.0
+     */
+    public abstract void bufferData(int target, long size, int usage);
+
+    /**
+     * Upload data to part of the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param offset The byte offset to upload to
+     * @param data The data to upload (From its position to its limit)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void bufferSubData(int target, long offset, @NotNull FloatBuffer data);
+
+    /**
+     * Allocate immutable storage for the bound buffer (Only if {@link #getSupportsBufferStorage()})
+     * 
+     * @param target The target the buffer is bound to
+     * @param size The size of the storage in bytes
+     * @param flags The storage flags (Such as map write, persistent, and coherent)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void bufferStorage(int target, long size, int flags);
+
+    /**
+     * Map a range of the bound buffer into client memory
+     * 
+     * @param target The target the buffer is bound to
+     * @param offset The byte offset of the range
+     * @param length The byte length of the range
+     * @param access The access flags (Such as write, invalidate range, and unsynchronized)
+     * 
+     * @return The mapped memory in native byte order (Null if it could not be mapped)
+     * 
+     * @since 2.6.0
+     */
+    public abstract @Nullable ByteBuffer mapBufferRange(int target, long offset, long length, int access);
+
+    /**
+     * Unmap the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * 
+     * @return False if the buffer contents were lost while mapped and need to be written again
+     * 
+     * @since 2.6.0
+     */
+    public abstract boolean unmapBuffer(int target);
+
+    /**
+     * Delete a buffer
+     * 
+     * @param bufferId The id of the buffer
+     * 
+     * @since 2.6.0
+     */
+    public abstract void deleteBuffer(int bufferId);
+
+    /**
+     * Create a vertex array
+     * 
+     * @return The id of the vertex array
+     * 
+     * @since 2.6.0
+     */
+    public abstract int createVertexArray();
+
+    /**
+     * Bind a vertex array
+     * 
+     * @param vertexArrayId The id of the vertex array (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void bindVertexArray(int vertexArrayId);
+
+    /**
+     * Enable an attribute of the bound vertex array
+     * 
+     * @param location The location of the attribute
+     * 
+     * @since 2.6.0
+     */
+    public abstract void enableVertexAttribArray(int location);
+
+    /**
+     * Disable an attribute of the bound vertex array
+     * 
+     * @param location The location of the attribute
+     * 
+     * @since 2.6.0
+     */
+    public abstract void disableVertexAttribArray(int location);
+
+    /**
+     * Point an attribute of the bound vertex array at the bound array buffer
+     * 
+     * @param location The location of the attribute
+     * @param size The number of components in the attribute
+     * @param type The type of the components
+     * @param normalized Weather integer components are normalized
+     * @param stride The byte stride between attributes
+     * @param offset The byte offset of the first attribute
+     * 
+     * @since 2.6.0
+     */
+    public abstract void vertexAttribPointer(int location, int size, int type, boolean normalized, int stride, long offset);
+
+    /**
+     * Set how many instances an attribute of the bound vertex array advances after
+     * 
+     * @param location The location of the attribute
+     * @param divisor The number of instances per attribute (0 to advance per vertex)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void vertexAttribDivisor(int location, int divisor);
+
+    /**
+     * Delete a vertex array
+     * 
+     * @param vertexArrayId The id of the vertex array
+     * 
+     * @since 2.6.0
+     */
+    public abstract void deleteVertexArray(int vertexArrayId);
+
+    /**
+     * Create a texture
+     * 
+     * @return The id of the texture
+     * 
+     * @since 2.6.0
+     */
+    public abstract int createTexture();
+
+    /**
+     * Set the active texture unit
+     * 
+     * @param unit The unit to make active (Starting at GL_TEXTURE0)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void activeTexture(int unit);
+
+    /**
+     * Bind a texture to the active texture unit
+     * 
+     * @param target The target to bind to
+     * @param textureId The id of the texture (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void bindTexture(int target, int textureId);
+
+    /**
+     * Bind a texture to a texture unit for sampling with its own parameters (Binds to the first unit unless overridden)
+     * 
+     * @param target The target to bind to
+     * @param textureId The id of the texture
+     * 
+     * @return The index of the unit the texture is bound to (To set sampler uniforms to)
+     * 
+     * @since 2.6.0
+     */
+    public int bindTextureUnit(int target, int textureId) {
+        return this.bindTextureUnit(target, textureId, 0);
+    }
+
+    /**
+     * Bind a texture and a sampler to a texture unit for sampling (Binds to the first unit unless overridden)
+     * 
+     * @param target The target to bind to
+     * @param textureId The id of the texture
+     * @param samplerId The id of the sampler (0 to use the texture's own parameters)
+     * 
+     * @return The index of the unit the texture is bound to (To set sampler uniforms to)
+     * 
+     * @since 2.6.0
+     */
+    public int bindTextureUnit(int target, int textureId, int samplerId) {
+        this.activeTexture(GL_TEXTURE0);
+        this.bindTexture(target, textureId);
+        this.bindSampler(0, samplerId);
+
+        return 0;
+    }
+
+    /**
+     * Set a parameter of the bound texture
+     * 
+     * @param target The target the texture is bound to
+     * @param parameter The parameter to set
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    public abstract void texParameteri(int target, int parameter, int value);
+
+    /**
+     * Upload an image to the bound texture
+     * 
+     * @param target The target the texture is bound to
+     * @param level The mipmap level
+     * @param internalFormat The format to store the texture in
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param format The format of the pixels
+     * @param type The type of the pixels
+     * @param pixels The pixels to upload
+     * 
+     * @since 2.6.0
+     */
+    public abstract void texImage2D(int target, int level, int internalFormat, int width, int height, int format, int type, @Nullable ByteBuffer pixels);
+
+    /**
+     * Allocate or upload every layer of the bound array texture
+     * 
+     * @param target The target the texture is bound to
+     * @param level The mipmap level
+     * @param internalFormat The format to store the texture in
+     * @param width The width of each layer
+     * @param height The height of each layer
+     * @param depth The number of layers
+     * @param format The format of the pixels
+     * @param type The type of the pixels
+     * @param pixels The pixels to upload (Null to only allocate)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void texImage3D(int target, int level, int internalFormat, int width, int height, int depth, int format, int type, @Nullable ByteBuffer pixels);
+
+    /**
+     * Upload pixels to part of the bound array texture
+     * 
+     * @param target The target the texture is bound to
+     * @param level The mipmap level
+     * @param x The x offset to upload to
+     * @param y The y offset to upload to
+     * @param z The first layer to upload to
+     * @param width The width of the pixels
+     * @param height The height of the pixels
+     * @param depth The number of layers of pixels
+     * @param format The format of the pixels
+     * @param type The type of the pixels
+     * @param pixels The pixels to upload
+     * 
+     * @since 2.6.0
+     */
+    public abstract void texSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth, int format, int type, @NotNull ByteBuffer pixels);
+
+    /**
+     * Generate every mipmap level of the bound texture from its first level
+     * 
+     * @param target The target the texture is bound to
+     * 
+     * @since 2.6.0
+     */
+    public abstract void generateMipmap(int target);
+
+    /**
+     * Delete a texture
+     * 
+     * @param textureId The id of the texture
+     * 
+     * @since 2.6.0
+     */
+    public abstract void deleteTexture(int textureId);
+
+    /**
+     * Create a sampler object
+     * 
+     * @return The id of the sampler
+     * 
+     * @since 2.6.0
+     */
+    public abstract int createSampler();
+
+    /**
+     * Set an integer parameter of a sampler
+     * 
+     * @param samplerId The id of the sampler
+     * @param parameter The parameter to set
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    public abstract void samplerParameteri(int samplerId, int parameter, int value);
+
+    /**
+     * Set a float parameter of a sampler
+     * 
+     * @param samplerId The id of the sampler
+     * @param parameter The parameter to set
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    public abstract void samplerParameterf(int samplerId, int parameter, float value);
+
+    /**
+     * Bind a sampler to a texture unit, overriding the sampling parameters of the texture bound to it
+     * 
+     * @param unit The index of the unit
+     * @param samplerId The id of the sampler (0 to use the texture's own parameters)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void bindSampler(int unit, int samplerId);
+
+    /**
+     * Delete a sampler
+     * 
+     * @param samplerId The id of the sampler
+     * 
+     * @since 2.6.0
+     */
+    public abstract void deleteSampler(int samplerId);
+
+    /**
+     * Compile and link a program
+     * 
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations to bind attributes to before linking
+     * 
+     * @return The id of the program
+     * 
+     * @throws GLCompileException If the program fails to compile or link
+     * 
+     * @since 2.6.0
+     */
+    public abstract int createProgram(@NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations) throws GLCompileException;
+
+    /**
+     * Start compiling and linking a program without waiting for it, the driver may do the work on a background thread
+     * 
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations to bind attributes to before linking
+     * 
+     * @return The id of the program (Must be passed to {@link #finishProgram(int)} before it is used)
+     * 
+     * @since 2.6.0
+     */
+    public abstract int beginProgram(@NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations);
+
+    /**
+     * Get weather a program started with {@link #beginProgram(String, String, Map)} has finished compiling and linking
+     * 
+     * @param programId The id of the program
+     * 
+     * @return Weather the program has finished (Always true if parallel compiling is not supported, finishing it will wait instead)
+     * 
+     * @since 2.6.0
+     */
+    public abstract boolean getProgramCompleted(int programId);
+
+    /**
+     * Finish a program started with {@link #beginProgram(String, String, Map)}, waiting for it if it is not done yet
+     * 
+     * @param programId The id of the program
+     * 
+     * @throws GLCompileException If the program failed to compile or link
+     * 
+     * @since 2.6.0
+     */
+    public abstract void finishProgram(int programId) throws GLCompileException;
+
+    /**
+     * Get the binary of a linked program so it can be loaded again later without compiling it
+     * 
+     * @param programId The id of the program
+     * @param format An array to put the driver specific format of the binary into (Must have a length of at least 1)
+     * 
+     * @return The binary (Null if the driver did not give one)
+     * 
+     * @since 2.6.0
+     */
+    public abstract @Nullable byte[] getProgramBinary(int programId, @NotNull int[] format);
+
+    /**
+     * Create a program from a binary returned by {@link #getProgramBinary(int, int[])}
+     * 
+     * @param format The format of the binary
+     * @param binary The binary
+     * 
+     * @return The id of the program (0 if the driver rejected the binary, such as after a driver update)
+     * 
+     * @since 2.6.0
+     */
+    public abstract int createProgramFromBinary(int format, @NotNull byte[] binary);
+
+    /**
+     * Query the active uniforms of a program that have a location
+     * 
+     * @param programId The id of the program
+     * @param locations The map to put uniform locations into (Array uniforms are named without their [0])
+     * @param types The map to put uniform gl types into
+     * 
+     * @since 2.6.0
+     */
+    public abstract void getActiveUniforms(int programId, @NotNull Map<String, Integer> locations, @NotNull Map<String, Integer> types);
+
+    /**
+     * Query the active attributes of a program that have a location
+     * 
+     * @param programId The id of the program
+     * @param locations The map to put attribute locations into
+     * 
+     * @since 2.6.0
+     */
+    public abstract void getActiveAttributes(int programId, @NotNull Map<String, Integer> locations);
+
+    /**
+     * Query the active uniform blocks of a program
+     * 
+     * @param programId The id of the program
+     * @param indices The map to put uniform block indices into
+     * 
+     * @since 2.6.0
+     */
+    public abstract void getActiveUniformBlocks(int programId, @NotNull Map<String, Integer> indices);
+
+    /**
+     * Set the binding point a uniform block of a program reads from
+     * 
+     * @param programId The id of the program
+     * @param blockIndex The index of the uniform block
+     * @param binding The binding point to read from
+     * 
+     * @since 2.6.0
+     */
+    public abstract void uniformBlockBinding(int programId, int blockIndex, int binding);
+
+    /**
+     * Make a program the current program
+     * 
+     * @param programId The id of the program (0 for none)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void useProgram(int programId);
+
+    /**
+     * Set an int uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    public abstract void uniform1i(int location, int value);
+
+    /**
+     * Set a vec3 uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param x The first value to set
+     * @param y The second value to set
+     * @param z The third value to set
+     * 
+     * @since 2.6.0
+     */
+    public abstract void uniform3f(int location, float x, float y, float z);
+
+    /**
+     * Set a vec4 uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param x The first value to set
+     * @param y The second value to set
+     * @param z The third value to set
+     * @param w The fourth value to set
+     * 
+     * @since 2.6.0
+     */
+    public abstract void uniform4f(int location, float x, float y, float z, float w);
+
+    /**
+     * Set a mat4 uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param value The column major matrix to set
+     * 
+     * @since 2.6.0
+     */
+    public abstract void uniformMatrix4fv(int location, @NotNull float[] value);
+
+    /**
+     * Delete a program
+     * 
+     * @param programId The id of the program
+     * 
+     * @since 2.6.0
+     */
+    public abstract void deleteProgram(int programId);
+
+    /**
+     * Draw vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param first The first vertex to draw
+     * @param count The number of vertices to draw
+     * 
+     * @since 2.6.0
+     */
+    public abstract void drawArrays(int mode, int first, int count);
+
+    /**
+     * Draw indexed vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param count The number of indices to draw
+     * @param type The type of the indices
+     * @param offset The byte offset of the first index
+     * 
+     * @since 2.6.0
+     */
+    public abstract void drawElements(int mode, int count, int type, long offset);
+
+    /**
+     * Draw instances of vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param first The first vertex to draw
+     * @param count The number of vertices to draw
+     * @param instances The number of instances to draw
+     * 
+     * @since 2.6.0
+     */
+    public abstract void drawArraysInstanced(int mode, int first, int count, int instances);
+
+    /**
+     * Draw instances of indexed vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param count The number of indices to draw
+     * @param type The type of the indices
+     * @param offset The byte offset of the first index
+     * @param instances The number of instances to draw
+     * 
+     * @since 2.6.0
+     */
+    public abstract void drawElementsInstanced(int mode, int count, int type, long offset, int instances);
+
+    /**
+     * Insert a fence that is signaled once every command submitted before it has completed
+     * 
+     * @return The fence
+     * 
+     * @since 2.6.0
+     */
+    public abstract long fenceSync();
+
+    /**
+     * Wait for a fence to be signaled
+     * 
+     * @param sync The fence
+     * @param flags The wait flags (Such as flush commands)
+     * @param timeout The longest time to wait in nanoseconds
+     * 
+     * @return The wait status (Already signaled, condition satisfied, timeout expired, or wait failed)
+     * 
+     * @since 2.6.0
+     */
+    public abstract int clientWaitSync(long sync, int flags, long timeout);
+
+    /**
+     * Delete a fence
+     * 
+     * @param sync The fence
+     * 
+     * @since 2.6.0
+     */
+    public abstract void deleteSync(long sync);
+
+    /**
+     * Create a query
+     * 
+     * @return The id of the query
+     * 
+     * @since 2.6.0
+     */
+    public abstract int createQuery();
+
+    /**
+     * Start a query
+     * 
+     * @param target The target of the query (Such as time elapsed)
+     * @param queryId The id of the query
+     * 
+     * @since 2.6.0
+     */
+    public abstract void beginQuery(int target, int queryId);
+
+    /**
+     * End the running query of a target
+     * 
+     * @param target The target of the query
+     * 
+     * @since 2.6.0
+     */
+    public abstract void endQuery(int target);
+
+    /**
+     * Get weather the result of a query is available without waiting
+     * 
+     * @param queryId The id of the query
+     * 
+     * @return Weather the result is available
+     * 
+     * @since 2.6.0
+     */
+    public abstract boolean getQueryAvailable(int queryId);
+
+    /**
+     * Get the result of a query, waiting for it if it is not available
+     * 
+     * @param queryId The id of the query
+     * 
+     * @return The result (Nanoseconds for a time elapsed query)
+     * 
+     * @since 2.6.0
+     */
+    public abstract long getQueryResult(int queryId);
+
+    /**
+     * Delete a query
+     * 
+     * @param queryId The id of the query
+     * 
+     * @since 2.6.0
+     */
+    public abstract void deleteQuery(int queryId);
+
+    /**
+     * Create a framebuffer
+     * 
+     * @return The id of the framebuffer
+     * 
+     * @since 2.6.0
+     */
+    public abstract int createFramebuffer();
+
+    /**
+     * Bind a framebuffer
+     * 
+     * @param target The target to bind to (Drawing, reading, or both)
+     * @param framebufferId The id of the framebuffer (0 for the window)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void bindFramebuffer(int target, int framebufferId);
+
+    /**
+     * Attach a texture to the framebuffer bound to a target
+     * 
+     * @param target The target the framebuffer is bound to
+     * @param attachment The attachment point (Such as a color or the depth attachment)
+     * @param textureTarget The target of the texture
+     * @param textureId The id of the texture (0 to detach)
+     * @param level The mipmap level to attach
+     * 
+     * @since 2.6.0
+     */
+    public abstract void framebufferTexture2D(int target, int attachment, int textureTarget, int textureId, int level);
+
+    /**
+     * Get the completeness of the framebuffer bound to a target
+     * 
+     * @param target The target the framebuffer is bound to
+     * 
+     * @return The status (Complete if it can be drawn to)
+     * 
+     * @since 2.6.0
+     */
+    public abstract int checkFramebufferStatus(int target);
+
+    /**
+     * Copy a region of the read framebuffer to the draw framebuffer, scaling it if the regions are different sizes
+     * 
+     * @param sourceX0 The left of the source region
+     * @param sourceY0 The bottom of the source region
+     * @param sourceX1 The right of the source region
+     * @param sourceY1 The top of the source region
+     * @param destinationX0 The left of the destination region
+     * @param destinationY0 The bottom of the destination region
+     * @param destinationX1 The right of the destination region
+     * @param destinationY1 The top of the destination region
+     * @param mask The buffers to copy (Such as the color buffer)
+     * @param filter The filter used when scaling (Nearest or linear)
+     * 
+     * @since 2.6.0
+     */
+    public abstract void blitFramebuffer(int sourceX0, int sourceY0, int sourceX1, int sourceY1, int destinationX0, int destinationY0, int destinationX1, int destinationY1, int mask, int filter);
+
+    /**
+     * Delete a framebuffer
+     * 
+     * @param framebufferId The id of the framebuffer
+     * 
+     * @since 2.6.0
+     */
+    public abstract void deleteFramebuffer(int framebufferId);
+}
\ No newline at end of file
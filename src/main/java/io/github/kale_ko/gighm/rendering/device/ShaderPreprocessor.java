@@ -0,0 +1,393 @@
+package io.github.kale_ko.gighm.rendering.device;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A minimal glsl preprocessor that removes inactive conditional branches, so a device without a driver sees the same declarations the driver would compile (Only used internally)
+ * Supports {@code #define}, {@code #undef}, {@code #ifdef}, {@code #ifndef}, {@code #if}, {@code #elif}, {@code #else} and {@code #endif}, macros are not expanded outside of conditions
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ShaderPreprocessor {
+    /**
+     * A pattern matching the tokens of a condition
+     * 
+     * @since 2.6.0
+     */
+    private static final @NotNull Pattern TOKEN_PATTERN = Pattern.compile("\\w+|&&|\\|\\||==|!=|<=|>=|[()!<>]");
+
+    /**
+     * A conditional block being read (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Block {
+        /**
+         * Weather the lines around the block are kept
+         * 
+         * @since 2.6.0
+         */
+        public boolean parentActive;
+
+        /**
+         * Weather a branch of the block has already been kept
+         * 
+         * @since 2.6.0
+         */
+        public boolean taken;
+
+        /**
+         * Create a block (Only used internally)
+         * 
+         * @param parentActive Weather the lines around the block are kept
+         * @param taken Weather the first branch is kept
+         * 
+         * @since 2.6.0
+         */
+        protected Block(boolean parentActive, boolean taken) {
+            this.parentActive = parentActive;
+            this.taken = taken;
+        }
+    }
+
+    /**
+     * A parser evaluating the condition of an {@code #if} or {@code #elif} (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Condition {
+        /**
+         * The tokens of the condition
+         * 
+         * @since 2.6.0
+         */
+        private final @NotNull List<String> tokens;
+
+        /**
+         * The macros defined so far
+         * 
+         * @since 2.6.0
+         */
+        private final @NotNull Map<String, String> macros;
+
+        /**
+         * The token being read
+         * 
+         * @since 2.6.0
+         */
+        private int position = 0;
+
+        /**
+         * Create a condition parser (Only used internally)
+         * 
+         * @param expression The condition
+         * @param macros The macros defined so far
+         * 
+         * @since 2.6.0
+         */
+        protected Condition(@NotNull String expression, @NotNull Map<String, String> macros) {
+            this.tokens = new ArrayList<String>();
+            this.macros = macros;
+
+            Matcher matcher = TOKEN_PATTERN.matcher(expression);
+            while (matcher.find()) {
+                this.tokens.add(matcher.group());
+            }
+        }
+
+        /**
+         * Evaluate the condition
+         * 
+         * @return The value of the condition (Non zero if it is true)
+         * 
+         * @since 2.6.0
+         */
+        public long evaluate() {
+            return this.or();
+        }
+
+        /**
+         * Get the next token without reading it
+         * 
+         * @return The next token (Empty at the end of the condition)
+         * 
+         * @since 2.6.0
+         */
+        private @NotNull String peek() {
+            return this.position < this.tokens.size() ? this.tokens.get(this.position) : "";
+        }
+
+        /**
+         * Read the next token
+         * 
+         * @return The token (Empty at the end of the condition)
+         * 
+         * @since 2.6.0
+         */
+        private @NotNull String next() {
+            String token = this.peek();
+            this.position++;
+
+            return token;
+        }
+
+        /**
+         * Evaluate a chain of {@code ||}
+         * 
+         * @return The value
+         * 
+         * @since 2.6.0
+         */
+        private long or() {
+            long value = this.and();
+            while (this.peek().equals("||")) {
+                this.next();
+
+                long right = this.and();
+                value = value != 0 || right != 0 ? 1 : 0;
+            }
+
+            return value;
+        }
+
+        /**
+         * Evaluate a chain of {@code &&}
+         * 
+         * @return The value
+         * 
+         * @since 2.6.0
+         */
+        private long and() {
+            long value = this.compare();
+            while (this.peek().equals("&&")) {
+                this.next();
+
+                long right = this.compare();
+                value = value != 0 && right != 0 ? 1 : 0;
+            }
+
+            return value;
+        }
+
+        /**
+         * Evaluate a chain of comparisons
+         * 
+         * @return The value
+         * 
+         * @since 2.6.0
+         */
+        private long compare() {
+            long value = this.unary();
+            while (true) {
+                String operator = this.peek();
+
+                if (operator.equals("==")) {
+                    this.next();
+                    value = value == this.unary() ? 1 : 0;
+                } else if (operator.equals("!=")) {
+                    this.next();
+                    value = value != this.unary() ? 1 : 0;
+                } else if (operator.equals("<")) {
+                    this.next();
+                    value = value < this.unary() ? 1 : 0;
+                } else if (operator.equals(">")) {
+                    this.next();
+                    value = value > this.unary() ? 1 : 0;
+                } else if (operator.equals("<=")) {
+                    this.next();
+                    value = value <= this.unary() ? 1 : 0;
+                } else if (operator.equals(">=")) {
+                    this.next();
+                    value = value >= this.unary() ? 1 : 0;
+                } else {
+                    return value;
+                }
+            }
+        }
+
+        /**
+         * Evaluate a {@code !}, {@code defined}, group, number or macro
+         * 
+         * @return The value
+         * 
+         * @since 2.6.0
+         */
+        private long unary() {
+            String token = this.next();
+
+            if (token.equals("!")) {
+                return this.unary() == 0 ? 1 : 0;
+            } else if (token.equals("(")) {
+                long value = this.or();
+                this.next();
+
+                return value;
+            } else if (token.equals("defined")) {
+                boolean parenthesized = this.peek().equals("(");
+                if (parenthesized) {
+                    this.next();
+                }
+
+                long value = this.macros.containsKey(this.next()) ? 1 : 0;
+                if (parenthesized) {
+                    this.next();
+                }
+
+                return value;
+            } else if (!token.isEmpty() && Character.isDigit(token.charAt(0))) {
+                return parseNumber(token);
+            } else if (this.macros.containsKey(token)) {
+                String value = this.macros.get(token);
+
+                if (value.isEmpty()) {
+                    // A macro defined without a value counts as 0 here, the driver would reject it
+                    return 0;
+                }
+
+                // Like the driver a macro is not expanded inside itself
+                Map<String, String> macros = new HashMap<String, String>(this.macros);
+                macros.remove(token);
+
+                return new Condition(value, macros).evaluate();
+            } else {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Create a shader preprocessor
+     * 
+     * @since 2.6.0
+     */
+    private ShaderPreprocessor() {}
+
+    /**
+     * Remove the lines inside inactive conditional branches and every conditional and define directive
+     * 
+     * @param source The source of the shader
+     * 
+     * @return The source with only the active lines
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull String preprocess(@NotNull String source) {
+        NullUtils.checkNulls(source, "source");
+
+        Map<String, String> macros = new HashMap<String, String>();
+        List<Block> blocks = new ArrayList<Block>();
+        boolean active = true;
+
+        StringBuilder result = new StringBuilder(source.length());
+        for (String line : source.split("\n", -1)) {
+            String trimmed = line.trim();
+            if (!trimmed.startsWith("#")) {
+                if (active) {
+                    result.append(line).append('\n');
+                }
+
+                continue;
+            }
+
+            String directive = trimmed.substring(1).trim();
+            int split = 0;
+            while (split < directive.length() && Character.isLetter(directive.charAt(split))) {
+                split++;
+            }
+            String name = directive.substring(0, split);
+            String rest = directive.substring(split).trim();
+
+            if (name.equals("ifdef") || name.equals("ifndef") || name.equals("if")) {
+                boolean condition;
+                if (name.equals("if")) {
+                    condition = active && new Condition(rest, macros).evaluate() != 0;
+                } else {
+                    condition = active && macros.containsKey(getWord(rest)) == name.equals("ifdef");
+                }
+
+                blocks.add(new Block(active, condition));
+                active = condition;
+            } else if ((name.equals("elif") || name.equals("else")) && !blocks.isEmpty()) {
+                Block block = blocks.get(blocks.size() - 1);
+
+                active = block.parentActive && !block.taken && (name.equals("else") || new Condition(rest, macros).evaluate() != 0);
+                block.taken |= active;
+            } else if (name.equals("endif") && !blocks.isEmpty()) {
+                active = blocks.remove(blocks.size() - 1).parentActive;
+            } else if (name.equals("define")) {
+                if (active) {
+                    String macro = getWord(rest);
+                    macros.put(macro, rest.substring(macro.length()).trim());
+                }
+            } else if (name.equals("undef")) {
+                if (active) {
+                    macros.remove(getWord(rest));
+                }
+            } else if (active) {
+                // Other directives such as #version and #extension are kept
+                result.append(line).append('\n');
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Get the first word of some text
+     * 
+     * @param text The text
+     * 
+     * @return The first word (Empty if the text does not start with one)
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull String getWord(@NotNull String text) {
+        int end = 0;
+        while (end < text.length() && (Character.isLetterOrDigit(text.charAt(end)) || text.charAt(end) == '_')) {
+            end++;
+        }
+
+        return text.substring(0, end);
+    }
+
+    /**
+     * Parse an integer literal of a condition
+     * 
+     * @param token The literal (Decimal, hex or octal, with an optional u suffix)
+     * 
+     * @return The value (0 if it is not a number)
+     * 
+     * @since 2.6.0
+     */
+    private static long parseNumber(@NotNull String token) {
+        String digits = token.endsWith("u") || token.endsWith("U") ? token.substring(0, token.length() - 1) : token;
+
+        try {
+            if (digits.startsWith("0x") || digits.startsWith("0X")) {
+                return Long.parseLong(digits.substring(2), 16);
+            } else if (digits.length() > 1 && digits.startsWith("0")) {
+                return Long.parseLong(digits.substring(1), 8);
+            } else {
+                return Long.parseLong(digits);
+            }
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,1608 @@
+package io.github.kale_ko.gighm.rendering.device;
+
+import static org.lwjgl.opengl.GL33C.*;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Map;
+import io.github.kale_ko.gighm.exception.GLCompileException;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A render device that tracks the state of another device and drops calls that would not change it (Only used internally)
+ * Textures are bound through a bounded set of texture units that are reused least recently used first
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class StateCachingRenderDevice extends RenderDevice {
+    /**
+     * The value of cached state that is not known
+     * 
+     * @since 2.6.0
+     */
+    private static final int UNKNOWN = -1;
+
+    /**
+     * The most texture units that will be used for binding textures
+     * 
+     * @since 2.6.0
+     */
+    public static final int MAX_TEXTURE_UNITS = 16;
+
+    /**
+     * The device calls are passed on to
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull RenderDevice device;
+
+    /**
+     * The current program
+     * 
+     * @since 2.6.0
+     */
+    private int program = UNKNOWN;
+
+    /**
+     * The current vertex array
+     * 
+     * @since 2.6.0
+     */
+    private int vertexArray = UNKNOWN;
+
+    /**
+     * The current array buffer
+     * 
+     * @since 2.6.0
+     */
+    private int arrayBuffer = UNKNOWN;
+
+    /**
+     * The current element array buffer (Part of the current vertex array)
+     * 
+     * @since 2.6.0
+     */
+    private int elementBuffer = UNKNOWN;
+
+    /**
+     * The active texture unit
+     * 
+     * @since 2.6.0
+     */
+    private int activeUnit = UNKNOWN;
+
+    /**
+     * The texture bound to each unit
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] unitTextures = new int[0];
+
+    /**
+     * The target each unit's texture is bound to
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] unitTargets = new int[0];
+
+    /**
+     * The sampler bound to each unit
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] unitSamplers = new int[0];
+
+    /**
+     * When each unit was last used by {@link #bindTextureUnit(int, int, int)} (0 if it is free)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull long[] unitUses = new long[0];
+
+    /**
+     * A counter for ordering unit uses
+     * 
+     * @since 2.6.0
+     */
+    private long useCounter = 0;
+
+    /**
+     * The capabilities that have been set (Kept in an array so checking one does not box it)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] capabilities = new int[8];
+
+    /**
+     * The enabled state of each capability that has been set
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull boolean[] capabilityStates = new boolean[8];
+
+    /**
+     * The number of capabilities that have been set
+     * 
+     * @since 2.6.0
+     */
+    private int capabilityCount = 0;
+
+    /**
+     * The current depth function
+     * 
+     * @since 2.6.0
+     */
+    private int depthFunction = UNKNOWN;
+
+    /**
+     * Weather depth writes are enabled (1 or 0)
+     * 
+     * @since 2.6.0
+     */
+    private int depthWrites = UNKNOWN;
+
+    /**
+     * The source blending factor
+     * 
+     * @since 2.6.0
+     */
+    private int blendSource = UNKNOWN;
+
+    /**
+     * The destination blending factor
+     * 
+     * @since 2.6.0
+     */
+    private int blendDestination = UNKNOWN;
+
+    /**
+     * The framebuffer bound for drawing
+     * 
+     * @since 2.6.0
+     */
+    private int drawFramebuffer = UNKNOWN;
+
+    /**
+     * The framebuffer bound for reading
+     * 
+     * @since 2.6.0
+     */
+    private int readFramebuffer = UNKNOWN;
+
+    /**
+     * The current viewport
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull int[] viewport = new int[] { UNKNOWN, UNKNOWN, UNKNOWN, UNKNOWN };
+
+    /**
+     * Create a state caching device
+     * 
+     * @param device The device to pass calls on to
+     * 
+     * @since 2.6.0
+     */
+    public StateCachingRenderDevice(@NotNull RenderDevice device) {
+        NullUtils.checkNulls(device, "device");
+
+        this.device = device;
+    }
+
+    /**
+     * Forget all cached state so the next call of each kind is passed on (Use if something else changed the state)
+     * 
+     * @since 2.6.0
+     */
+    public void invalidate() {
+        this.program = UNKNOWN;
+        this.vertexArray = UNKNOWN;
+        this.arrayBuffer = UNKNOWN;
+        this.elementBuffer = UNKNOWN;
+        this.activeUnit = UNKNOWN;
+        this.depthFunction = UNKNOWN;
+        this.depthWrites = UNKNOWN;
+        this.blendSource = UNKNOWN;
+        this.blendDestination = UNKNOWN;
+        this.drawFramebuffer = UNKNOWN;
+        this.readFramebuffer = UNKNOWN;
+        this.capabilityCount = 0;
+
+        for (int i = 0; i < this.viewport.length; i++) {
+            this.viewport[i] = UNKNOWN;
+        }
+
+        for (int i = 0; i < this.unitTextures.length; i++) {
+            this.unitTextures[i] = UNKNOWN;
+            this.unitTargets[i] = UNKNOWN;
+            this.unitSamplers[i] = UNKNOWN;
+            this.unitUses[i] = 0;
+        }
+    }
+
+    /**
+     * Bind a texture to a texture unit for sampling with its own parameters, reusing the unit it is already bound to or the least recently used one
+     * 
+     * @param target The target to bind to
+     * @param textureId The id of the texture
+     * 
+     * @return The index of the unit the texture is bound to (To set sampler uniforms to)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int bindTextureUnit(int target, int textureId) {
+        return this.bindTextureUnit(target, textureId, 0);
+    }
+
+    /**
+     * Bind a texture and a sampler to a texture unit for sampling, reusing the unit the texture is already bound to or the least recently used one
+     * 
+     * @param target The target to bind to
+     * @param textureId The id of the texture
+     * @param samplerId The id of the sampler (0 to use the texture's own parameters)
+     * 
+     * @return The index of the unit the texture is bound to (To set sampler uniforms to)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int bindTextureUnit(int target, int textureId, int samplerId) {
+        if (this.unitTextures.length == 0) {
+            int units = Math.max(1, Math.min(MAX_TEXTURE_UNITS, this.device.getMaxTextureUnits()));
+
+            this.unitTextures = new int[units];
+            this.unitTargets = new int[units];
+            this.unitSamplers = new int[units];
+            this.unitUses = new long[units];
+
+            for (int i = 0; i < units; i++) {
+                this.unitTextures[i] = UNKNOWN;
+                this.unitTargets[i] = UNKNOWN;
+                this.unitSamplers[i] = UNKNOWN;
+            }
+        }
+
+        int unit = 0;
+        for (int i = 0; i < this.unitTextures.length; i++) {
+            if (this.unitTextures[i] == textureId && this.unitTargets[i] == target) {
+                unit = i;
+
+                break;
+            }
+
+            if (this.unitUses[i] < this.unitUses[unit]) {
+                unit = i;
+            }
+        }
+
+        this.unitUses[unit] = ++this.useCounter;
+
+        this.activeTexture(GL_TEXTURE0 + unit);
+        this.bindTexture(target, textureId);
+        this.bindSampler(unit, samplerId);
+
+        return unit;
+    }
+
+    /**
+     * Initialize the device (Called by the renderer when it is initialized)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void init() {
+        this.device.init();
+
+        this.invalidate();
+    }
+
+    /**
+     * Get weather the device needs to be used from a {@link io.github.kale_ko.gighm.rendering.Window}
+     * 
+     * @return Weather the device needs to be used from a window
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull Boolean getRequiresWindow() {
+        return this.device.getRequiresWindow();
+    }
+
+    /**
+     * Get the number of texture units that can be sampled from in a fragment shader
+     * 
+     * @return The number of texture units
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int getMaxTextureUnits() {
+        return this.device.getMaxTextureUnits();
+    }
+
+    /**
+     * Get weather the device supports immutable buffer storage that can stay mapped while drawing (ARB_buffer_storage)
+     * 
+     * @return Weather buffer storage is supported
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull Boolean getSupportsBufferStorage() {
+        return this.device.getSupportsBufferStorage();
+    }
+
+    /**
+     * Get the largest anisotropic filtering level the device supports
+     * 
+     * @return The largest anisotropy (0 if anisotropic filtering is not supported)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public float getMaxAnisotropy() {
+        return this.device.getMaxAnisotropy();
+    }
+
+    /**
+     * Get weather the device can save linked programs as binaries and load them back (ARB_get_program_binary)
+     * 
+     * @return Weather program binaries are supported
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull Boolean getSupportsProgramBinary() {
+        return this.device.getSupportsProgramBinary();
+    }
+
+    /**
+     * Get weather the device can compile and link programs on background threads (KHR_parallel_shader_compile)
+     * 
+     * @return Weather parallel compiling is supported
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull Boolean getSupportsParallelCompile() {
+        return this.device.getSupportsParallelCompile();
+    }
+
+    /**
+     * Get a string describing the device's driver
+     * 
+     * @param name The string to get (Vendor, renderer, or version)
+     * 
+     * @return The string
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull String getString(int name) {
+        return this.device.getString(name);
+    }
+
+    /**
+     * Set the viewport
+     * 
+     * @param x The left of the viewport
+     * @param y The bottom of the viewport
+     * @param width The width of the viewport
+     * @param height The height of the viewport
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void viewport(int x, int y, int width, int height) {
+        if (this.viewport[0] == x && this.viewport[1] == y && this.viewport[2] == width && this.viewport[3] == height) {
+            return;
+        }
+
+        this.viewport[0] = x;
+        this.viewport[1] = y;
+        this.viewport[2] = width;
+        this.viewport[3] = height;
+
+        this.device.viewport(x, y, width, height);
+    }
+
+    /**
+     * Set the color to clear with
+     * 
+     * @param red The red component
+     * @param green The green component
+     * @param blue The blue component
+     * @param alpha The alpha component
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void clearColor(float red, float green, float blue, float alpha) {
+        this.device.clearColor(red, green, blue, alpha);
+    }
+
+    /**
+     * Clear buffers of the framebuffer
+     * 
+     * @param mask The buffers to clear
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void clear(int mask) {
+        this.device.clear(mask);
+    }
+
+    /**
+     * Enable a capability
+     * 
+     * @param capability The capability to enable
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void enable(int capability) {
+        if (this.setCapability(capability, true)) {
+            this.device.enable(capability);
+        }
+    }
+
+    /**
+     * Disable a capability
+     * 
+     * @param capability The capability to disable
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void disable(int capability) {
+        if (this.setCapability(capability, false)) {
+            this.device.disable(capability);
+        }
+    }
+
+    /**
+     * Set the cached state of a capability
+     * 
+     * @param capability The capability
+     * @param enabled Weather the capability is enabled
+     * 
+     * @return Weather the state changed or was not known
+     * 
+     * @since 2.6.0
+     */
+    private boolean setCapability(int capability, boolean enabled) {
+        for (int i = 0; i < this.capabilityCount; i++) {
+            if (this.capabilities[i] == capability) {
+                if (this.capabilityStates[i] == enabled) {
+                    return false;
+                }
+
+                this.capabilityStates[i] = enabled;
+
+                return true;
+            }
+        }
+
+        if (this.capabilityCount == this.capabilities.length) {
+            int[] capabilities = new int[this.capabilities.length * 2];
+            System.arraycopy(this.capabilities, 0, capabilities, 0, this.capabilityCount);
+            this.capabilities = capabilities;
+
+            boolean[] capabilityStates = new boolean[this.capabilityStates.length * 2];
+            System.arraycopy(this.capabilityStates, 0, capabilityStates, 0, this.capabilityCount);
+            this.capabilityStates = capabilityStates;
+        }
+
+        this.capabilities[this.capabilityCount] = capability;
+        this.capabilityStates[this.capabilityCount] = enabled;
+        this.capabilityCount++;
+
+        return true;
+    }
+
+    /**
+     * Set the depth comparison function
+     * 
+     * @param function The depth comparison function
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void depthFunc(int function) {
+        if (this.depthFunction == function) {
+            return;
+        }
+
+        this.depthFunction = function;
+
+        this.device.depthFunc(function);
+    }
+
+    /**
+     * Set weather depth writes are enabled
+     * 
+     * @param enabled Weather depth writes are enabled
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void depthMask(boolean enabled) {
+        if (this.depthWrites != UNKNOWN && (this.depthWrites == 1) == enabled) {
+            return;
+        }
+
+        this.depthWrites = enabled ? 1 : 0;
+
+        this.device.depthMask(enabled);
+    }
+
+    /**
+     * Set the blending factors
+     * 
+     * @param source The factor of the source color
+     * @param destination The factor of the destination color
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void blendFunc(int source, int destination) {
+        if (this.blendSource == source && this.blendDestination == destination) {
+            return;
+        }
+
+        this.blendSource = source;
+        this.blendDestination = destination;
+
+        this.device.blendFunc(source, destination);
+    }
+
+    /**
+     * Create a buffer
+     * 
+     * @return The id of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createBuffer() {
+        return this.device.createBuffer();
+    }
+
+    /**
+     * Bind a buffer
+     * 
+     * @param target The target to bind to
+     * @param bufferId The id of the buffer (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindBuffer(int target, int bufferId) {
+        if (target == GL_ARRAY_BUFFER) {
+            if (this.arrayBuffer == bufferId) {
+                return;
+            }
+
+            this.arrayBuffer = bufferId;
+        } else if (target == GL_ELEMENT_ARRAY_BUFFER) {
+            if (this.elementBuffer == bufferId) {
+                return;
+            }
+
+            this.elementBuffer = bufferId;
+        }
+
+        this.device.bindBuffer(target, bufferId);
+    }
+
+    /**
+     * Bind a buffer to an indexed binding point (Such as a uniform block binding)
+     * 
+     * @param target The indexed target to bind to
+     * @param index The index of the binding point
+     * @param bufferId The id of the buffer (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindBufferBase(int target, int index, int bufferId) {
+        // Binding to an indexed target also binds the generic target
+        if (target == GL_ARRAY_BUFFER) {
+            this.arrayBuffer = bufferId;
+        }
+
+        this.device.bindBufferBase(target, index, bufferId);
+    }
+
+    /**
+     * Upload float data to the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param data The data to upload
+     * @param usage The usage hint of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferData(int target, @NotNull float[] data, int usage) {
+        this.device.bufferData(target, data, usage);
+    }
+
+    /**
+     * Upload int data to the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param data The data to upload
+     * @param usage The usage hint of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferData(int target, @NotNull int[] data, int usage) {
+        this.device.bufferData(target, data, usage);
+    }
+
+    /**
+     * Allocate uninitialized storage for the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param size The size of the storage in bytes
+     * @param usage The usage hint of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferData(int target, long size, int usage) {
+        this.device.bufferData(target, size, usage);
+    }
+
+    /**
+     * Upload data to part of the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * @param offset The byte offset to upload to
+     * @param data The data to upload (From its position to its limit)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferSubData(int target, long offset, @NotNull FloatBuffer data) {
+        this.device.bufferSubData(target, offset, data);
+    }
+
+    /**
+     * Allocate immutable storage for the bound buffer (Only if {@link #getSupportsBufferStorage()})
+     * 
+     * @param target The target the buffer is bound to
+     * @param size The size of the storage in bytes
+     * @param flags The storage flags (Such as map write, persistent, and coherent)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bufferStorage(int target, long size, int flags) {
+        this.device.bufferStorage(target, size, flags);
+    }
+
+    /**
+     * Map a range of the bound buffer into client memory
+     * 
+     * @param target The target the buffer is bound to
+     * @param offset The byte offset of the range
+     * @param length The byte length of the range
+     * @param access The access flags (Such as write, invalidate range, and unsynchronized)
+     * 
+     * @return The mapped memory in native byte order (Null if it could not be mapped)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @Nullable ByteBuffer mapBufferRange(int target, long offset, long length, int access) {
+        return this.device.mapBufferRange(target, offset, length, access);
+    }
+
+    /**
+     * Unmap the bound buffer
+     * 
+     * @param target The target the buffer is bound to
+     * 
+     * @return False if the buffer contents were lost while mapped and need to be written again
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public boolean unmapBuffer(int target) {
+        return this.device.unmapBuffer(target);
+    }
+
+    /**
+     * Delete a buffer
+     * 
+     * @param bufferId The id of the buffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteBuffer(int bufferId) {
+        // Deleting a bound object unbinds it
+        if (this.arrayBuffer == bufferId) {
+            this.arrayBuffer = 0;
+        }
+        if (this.elementBuffer == bufferId) {
+            this.elementBuffer = UNKNOWN;
+        }
+
+        this.device.deleteBuffer(bufferId);
+    }
+
+    /**
+     * Create a vertex array
+     * 
+     * @return The id of the vertex array
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createVertexArray() {
+        return this.device.createVertexArray();
+    }
+
+    /**
+     * Bind a vertex array
+     * 
+     * @param vertexArrayId The id of the vertex array (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindVertexArray(int vertexArrayId) {
+        if (this.vertexArray == vertexArrayId) {
+            return;
+        }
+
+        this.vertexArray = vertexArrayId;
+
+        // The element buffer binding is part of the vertex array
+        this.elementBuffer = UNKNOWN;
+
+        this.device.bindVertexArray(vertexArrayId);
+    }
+
+    /**
+     * Enable an attribute of the bound vertex array
+     * 
+     * @param location The location of the attribute
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void enableVertexAttribArray(int location) {
+        this.device.enableVertexAttribArray(location);
+    }
+
+    /**
+     * Disable an attribute of the bound vertex array
+     * 
+     * @param location The location of the attribute
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void disableVertexAttribArray(int location) {
+        this.device.disableVertexAttribArray(location);
+    }
+
+    /**
+     * Point an attribute of the bound vertex array at the bound array buffer
+     * 
+     * @param location The location of the attribute
+     * @param size The number of components in the attribute
+     * @param type The type of the components
+     * @param normalized Weather integer components are normalized
+     * @param stride The byte stride between attributes
+     * @param offset The byte offset of the first attribute
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void vertexAttribPointer(int location, int size, int type, boolean normalized, int stride, long offset) {
+        this.device.vertexAttribPointer(location, size, type, normalized, stride, offset);
+    }
+
+    /**
+     * Set how many instances an attribute of the bound vertex array advances after
+     * 
+     * @param location The location of the attribute
+     * @param divisor The number of instances per attribute (0 to advance per vertex)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void vertexAttribDivisor(int location, int divisor) {
+        this.device.vertexAttribDivisor(location, divisor);
+    }
+
+    /**
+     * Delete a vertex array
+     * 
+     * @param vertexArrayId The id of the vertex array
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteVertexArray(int vertexArrayId) {
+        if (this.vertexArray == vertexArrayId) {
+            this.vertexArray = 0;
+            this.elementBuffer = UNKNOWN;
+        }
+
+        this.device.deleteVertexArray(vertexArrayId);
+    }
+
+    /**
+     * Create a texture
+     * 
+     * @return The id of the texture
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createTexture() {
+        return this.device.createTexture();
+    }
+
+    /**
+     * Set the active texture unit
+     * 
+     * @param unit The unit to make active (Starting at GL_TEXTURE0)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void activeTexture(int unit) {
+        if (this.activeUnit == unit - GL_TEXTURE0) {
+            return;
+        }
+
+        this.activeUnit = unit - GL_TEXTURE0;
+
+        this.device.activeTexture(unit);
+    }
+
+    /**
+     * Bind a texture to the active texture unit
+     * 
+     * @param target The target to bind to
+     * @param textureId The id of the texture (0 to unbind)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindTexture(int target, int textureId) {
+        if (this.activeUnit >= 0 && this.activeUnit < this.unitTextures.length) {
+            if (this.unitTextures[this.activeUnit] == textureId && this.unitTargets[this.activeUnit] == target) {
+                return;
+            }
+
+            this.unitTextures[this.activeUnit] = textureId;
+            this.unitTargets[this.activeUnit] = target;
+        }
+
+        this.device.bindTexture(target, textureId);
+    }
+
+    /**
+     * Set a parameter of the bound texture
+     * 
+     * @param target The target the texture is bound to
+     * @param parameter The parameter to set
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void texParameteri(int target, int parameter, int value) {
+        this.device.texParameteri(target, parameter, value);
+    }
+
+    /**
+     * Upload an image to the bound texture
+     * 
+     * @param target The target the texture is bound to
+     * @param level The mipmap level
+     * @param internalFormat The format to store the texture in
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param format The format of the pixels
+     * @param type The type of the pixels
+     * @param pixels The pixels to upload
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void texImage2D(int target, int level, int internalFormat, int width, int height, int format, int type, @Nullable ByteBuffer pixels) {
+        this.device.texImage2D(target, level, internalFormat, width, height, format, type, pixels);
+    }
+
+    /**
+     * Allocate or upload every layer of the bound array texture
+     * 
+     * @param target The target the texture is bound to
+     * @param level The mipmap level
+     * @param internalFormat The format to store the texture in
+     * @param width The width of each layer
+     * @param height The height of each layer
+     * @param depth The number of layers
+     * @param format The format of the pixels
+     * @param type The type of the pixels
+     * @param pixels The pixels to upload (Null to only allocate)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void texImage3D(int target, int level, int internalFormat, int width, int height, int depth, int format, int type, @Nullable ByteBuffer pixels) {
+        this.device.texImage3D(target, level, internalFormat, width, height, depth, format, type, pixels);
+    }
+
+    /**
+     * Upload pixels to part of the bound array texture
+     * 
+     * @param target The target the texture is bound to
+     * @param level The mipmap level
+     * @param x The x offset to upload to
+     * @param y The y offset to upload to
+     * @param z The first layer to upload to
+     * @param width The width of the pixels
+     * @param height The height of the pixels
+     * @param depth The number of layers of pixels
+     * @param format The format of the pixels
+     * @param type The type of the pixels
+     * @param pixels The pixels to upload
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void texSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth, int format, int type, @NotNull ByteBuffer pixels) {
+        this.device.texSubImage3D(target, level, x, y, z, width, height, depth, format, type, pixels);
+    }
+
+    /**
+     * Generate every mipmap level of the bound texture from its first level
+     * 
+     * @param target The target the texture is bound to
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void generateMipmap(int target) {
+        this.device.generateMipmap(target);
+    }
+
+    /**
+     * Delete a texture
+     * 
+     * @param textureId The id of the texture
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteTexture(int textureId) {
+        for (int i = 0; i < this.unitTextures.length; i++) {
+            if (this.unitTextures[i] == textureId) {
+                this.unitTextures[i] = 0;
+                this.unitUses[i] = 0;
+            }
+        }
+
+        this.device.deleteTexture(textureId);
+    }
+
+    /**
+     * Create a sampler object
+     * 
+     * @return The id of the sampler
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createSampler() {
+        return this.device.createSampler();
+    }
+
+    /**
+     * Set an integer parameter of a sampler
+     * 
+     * @param samplerId The id of the sampler
+     * @param parameter The parameter to set
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void samplerParameteri(int samplerId, int parameter, int value) {
+        this.device.samplerParameteri(samplerId, parameter, value);
+    }
+
+    /**
+     * Set a float parameter of a sampler
+     * 
+     * @param samplerId The id of the sampler
+     * @param parameter The parameter to set
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void samplerParameterf(int samplerId, int parameter, float value) {
+        this.device.samplerParameterf(samplerId, parameter, value);
+    }
+
+    /**
+     * Bind a sampler to a texture unit, overriding the sampling parameters of the texture bound to it
+     * 
+     * @param unit The index of the unit
+     * @param samplerId The id of the sampler (0 to use the texture's own parameters)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindSampler(int unit, int samplerId) {
+        if (unit < this.unitSamplers.length) {
+            if (this.unitSamplers[unit] == samplerId) {
+                return;
+            }
+
+            this.unitSamplers[unit] = samplerId;
+        }
+
+        this.device.bindSampler(unit, samplerId);
+    }
+
+    /**
+     * Delete a sampler
+     * 
+     * @param samplerId The id of the sampler
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteSampler(int samplerId) {
+        for (int i = 0; i < this.unitSamplers.length; i++) {
+            if (this.unitSamplers[i] == samplerId) {
+                this.unitSamplers[i] = 0;
+            }
+        }
+
+        this.device.deleteSampler(samplerId);
+    }
+
+    /**
+     * Compile and link a program
+     * 
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations to bind attributes to before linking
+     * 
+     * @return The id of the program
+     * 
+     * @throws GLCompileException If the program fails to compile or link
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createProgram(@NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations) throws GLCompileException {
+        return this.device.createProgram(vertexSource, fragmentSource, attributeLocations);
+    }
+
+    /**
+     * Start compiling and linking a program without waiting for it, the driver may do the work on a background thread
+     * 
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations to bind attributes to before linking
+     * 
+     * @return The id of the program (Must be passed to {@link #finishProgram(int)} before it is used)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int beginProgram(@NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations) {
+        return this.device.beginProgram(vertexSource, fragmentSource, attributeLocations);
+    }
+
+    /**
+     * Get weather a program started with {@link #beginProgram(String, String, Map)} has finished compiling and linking
+     * 
+     * @param programId The id of the program
+     * 
+     * @return Weather the program has finished (Always true if parallel compiling is not supported, finishing it will wait instead)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public boolean getProgramCompleted(int programId) {
+        return this.device.getProgramCompleted(programId);
+    }
+
+    /**
+     * Finish a program started with {@link #beginProgram(String, String, Map)}, waiting for it if it is not done yet
+     * 
+     * @param programId The id of the program
+     * 
+     * @throws GLCompileException If the program failed to compile or link
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void finishProgram(int programId) throws GLCompileException {
+        this.device.finishProgram(programId);
+    }
+
+    /**
+     * Get the binary of a linked program so it can be loaded again later without compiling it
+     * 
+     * @param programId The id of the program
+     * @param format An array to put the driver specific format of the binary into (Must have a length of at least 1)
+     * 
+     * @return The binary (Null if the driver did not give one)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @Nullable byte[] getProgramBinary(int programId, @NotNull int[] format) {
+        return this.device.getProgramBinary(programId, format);
+    }
+
+    /**
+     * Create a program from a binary returned by {@link #getProgramBinary(int, int[])}
+     * 
+     * @param format The format of the binary
+     * @param binary The binary
+     * 
+     * @return The id of the program (0 if the driver rejected the binary, such as after a driver update)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createProgramFromBinary(int format, @NotNull byte[] binary) {
+        return this.device.createProgramFromBinary(format, binary);
+    }
+
+    /**
+     * Query the active uniforms of a program that have a location
+     * 
+     * @param programId The id of the program
+     * @param locations The map to put uniform locations into (Array uniforms are named without their [0])
+     * @param types The map to put uniform gl types into
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void getActiveUniforms(int programId, @NotNull Map<String, Integer> locations, @NotNull Map<String, Integer> types) {
+        this.device.getActiveUniforms(programId, locations, types);
+    }
+
+    /**
+     * Query the active attributes of a program that have a location
+     * 
+     * @param programId The id of the program
+     * @param locations The map to put attribute locations into
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void getActiveAttributes(int programId, @NotNull Map<String, Integer> locations) {
+        this.device.getActiveAttributes(programId, locations);
+    }
+
+    /**
+     * Query the active uniform blocks of a program
+     * 
+     * @param programId The id of the program
+     * @param indices The map to put uniform block indices into
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void getActiveUniformBlocks(int programId, @NotNull Map<String, Integer> indices) {
+        this.device.getActiveUniformBlocks(programId, indices);
+    }
+
+    /**
+     * Set the binding point a uniform block of a program reads from
+     * 
+     * @param programId The id of the program
+     * @param blockIndex The index of the uniform block
+     * @param binding The binding point to read from
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniformBlockBinding(int programId, int blockIndex, int binding) {
+        this.device.uniformBlockBinding(programId, blockIndex, binding);
+    }
+
+    /**
+     * Make a program the current program
+     * 
+     * @param programId The id of the program (0 for none)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void useProgram(int programId) {
+        if (this.program == programId) {
+            return;
+        }
+
+        this.program = programId;
+
+        this.device.useProgram(programId);
+    }
+
+    /**
+     * Set an int uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniform1i(int location, int value) {
+        this.device.uniform1i(location, value);
+    }
+
+    /**
+     * Set a vec3 uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param x The first value to set
+     * @param y The second value to set
+     * @param z The third value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniform3f(int location, float x, float y, float z) {
+        this.device.uniform3f(location, x, y, z);
+    }
+
+    /**
+     * Set a vec4 uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param x The first value to set
+     * @param y The second value to set
+     * @param z The third value to set
+     * @param w The fourth value to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniform4f(int location, float x, float y, float z, float w) {
+        this.device.uniform4f(location, x, y, z, w);
+    }
+
+    /**
+     * Set a mat4 uniform of the current program
+     * 
+     * @param location The location of the uniform
+     * @param value The column major matrix to set
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void uniformMatrix4fv(int location, @NotNull float[] value) {
+        this.device.uniformMatrix4fv(location, value);
+    }
+
+    /**
+     * Delete a program
+     * 
+     * @param programId The id of the program
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteProgram(int programId) {
+        if (this.program == programId) {
+            this.program = 0;
+        }
+
+        this.device.deleteProgram(programId);
+    }
+
+    /**
+     * Draw vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param first The first vertex to draw
+     * @param count The number of vertices to draw
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void drawArrays(int mode, int first, int count) {
+        this.device.drawArrays(mode, first, count);
+    }
+
+    /**
+     * Draw indexed vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param count The number of indices to draw
+     * @param type The type of the indices
+     * @param offset The byte offset of the first index
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void drawElements(int mode, int count, int type, long offset) {
+        this.device.drawElements(mode, count, type, offset);
+    }
+
+    /**
+     * Draw instances of vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param first The first vertex to draw
+     * @param count The number of vertices to draw
+     * @param instances The number of instances to draw
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void drawArraysInstanced(int mode, int first, int count, int instances) {
+        this.device.drawArraysInstanced(mode, first, count, instances);
+    }
+
+    /**
+     * Draw instances of indexed vertices from the bound vertex array
+     * 
+     * @param mode The primitive mode
+     * @param count The number of indices to draw
+     * @param type The type of the indices
+     * @param offset The byte offset of the first index
+     * @param instances The number of instances to draw
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void drawElementsInstanced(int mode, int count, int type, long offset, int instances) {
+        this.device.drawElementsInstanced(mode, count, type, offset, instances);
+    }
+
+    /**
+     * Insert a fence that is signaled once every command submitted before it has completed
+     * 
+     * @return The fence
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public long fenceSync() {
+        return this.device.fenceSync();
+    }
+
+    /**
+     * Wait for a fence to be signaled
+     * 
+     * @param sync The fence
+     * @param flags The wait flags (Such as flush commands)
+     * @param timeout The longest time to wait in nanoseconds
+     * 
+     * @return The wait status (Already signaled, condition satisfied, timeout expired, or wait failed)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int clientWaitSync(long sync, int flags, long timeout) {
+        return this.device.clientWaitSync(sync, flags, timeout);
+    }
+
+    /**
+     * Delete a fence
+     * 
+     * @param sync The fence
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteSync(long sync) {
+        this.device.deleteSync(sync);
+    }
+
+    /**
+     * Create a query
+     * 
+     * @return The id of the query
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createQuery() {
+        return this.device.createQuery();
+    }
+
+    /**
+     * Start a query
+     * 
+     * @param target The target of the query (Such as time elapsed)
+     * @param queryId The id of the query
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void beginQuery(int target, int queryId) {
+        this.device.beginQuery(target, queryId);
+    }
+
+    /**
+     * End the running query of a target
+     * 
+     * @param target The target of the query
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void endQuery(int target) {
+        this.device.endQuery(target);
+    }
+
+    /**
+     * Get weather the result of a query is available without waiting
+     * 
+     * @param queryId The id of the query
+     * 
+     * @return Weather the result is available
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public boolean getQueryAvailable(int queryId) {
+        return this.device.getQueryAvailable(queryId);
+    }
+
+    /**
+     * Get the result of a query, waiting for it if it is not available
+     * 
+     * @param queryId The id of the query
+     * 
+     * @return The result (Nanoseconds for a time elapsed query)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public long getQueryResult(int queryId) {
+        return this.device.getQueryResult(queryId);
+    }
+
+    /**
+     * Delete a query
+     * 
+     * @param queryId The id of the query
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteQuery(int queryId) {
+        this.device.deleteQuery(queryId);
+    }
+
+    /**
+     * Create a framebuffer
+     * 
+     * @return The id of the framebuffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int createFramebuffer() {
+        return this.device.createFramebuffer();
+    }
+
+    /**
+     * Bind a framebuffer
+     * 
+     * @param target The target to bind to (Drawing, reading, or both)
+     * @param framebufferId The id of the framebuffer (0 for the window)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void bindFramebuffer(int target, int framebufferId) {
+        boolean draw = target == GL_FRAMEBUFFER || target == GL_DRAW_FRAMEBUFFER;
+        boolean read = target == GL_FRAMEBUFFER || target == GL_READ_FRAMEBUFFER;
+
+        if ((!draw || this.drawFramebuffer == framebufferId) && (!read || this.readFramebuffer == framebufferId)) {
+            return;
+        }
+
+        if (draw) {
+            this.drawFramebuffer = framebufferId;
+        }
+        if (read) {
+            this.readFramebuffer = framebufferId;
+        }
+
+        this.device.bindFramebuffer(target, framebufferId);
+    }
+
+    /**
+     * Attach a texture to the framebuffer bound to a target
+     * 
+     * @param target The target the framebuffer is bound to
+     * @param attachment The attachment point (Such as a color or the depth attachment)
+     * @param textureTarget The target of the texture
+     * @param textureId The id of the texture (0 to detach)
+     * @param level The mipmap level to attach
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void framebufferTexture2D(int target, int attachment, int textureTarget, int textureId, int level) {
+        this.device.framebufferTexture2D(target, attachment, textureTarget, textureId, level);
+    }
+
+    /**
+     * Get the completeness of the framebuffer bound to a target
+     * 
+     * @param target The target the framebuffer is bound to
+     * 
+     * @return The status (Complete if it can be drawn to)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public int checkFramebufferStatus(int target) {
+        return this.device.checkFramebufferStatus(target);
+    }
+
+    /**
+     * Copy a region of the read framebuffer to the draw framebuffer, scaling it if the regions are different sizes
+     * 
+     * @param sourceX0 The left of the source region
+     * @param sourceY0 The bottom of the source region
+     * @param sourceX1 The right of the source region
+     * @param sourceY1 The top of the source region
+     * @param destinationX0 The left of the destination region
+     * @param destinationY0 The bottom of the destination region
+     * @param destinationX1 The right of the destination region
+     * @param destinationY1 The top of the destination region
+     * @param mask The buffers to copy (Such as the color buffer)
+     * @param filter The filter used when scaling (Nearest or linear)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void blitFramebuffer(int sourceX0, int sourceY0, int sourceX1, int sourceY1, int destinationX0, int destinationY0, int destinationX1, int destinationY1, int mask, int filter) {
+        this.device.blitFramebuffer(sourceX0, sourceY0, sourceX1, sourceY1, destinationX0, destinationY0, destinationX1, destinationY1, mask, filter);
+    }
+
+    /**
+     * Delete a framebuffer
+     * 
+     * @param framebufferId The id of the framebuffer
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void deleteFramebuffer(int framebufferId) {
+        // Deleting a bound framebuffer binds the window in its place
+        if (this.drawFramebuffer == framebufferId) {
+            this.drawFramebuffer = 0;
+        }
+        if (this.readFramebuffer == framebufferId) {
+            this.readFramebuffer = 0;
+        }
+
+        this.device.deleteFramebuffer(framebufferId);
+    }
+}
\ No newline at end of file
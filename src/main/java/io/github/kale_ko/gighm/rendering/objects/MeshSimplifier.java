@@ -0,0 +1,758 @@
+package io.github.kale_ko.gighm.rendering.objects;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A mesh simplifier using quadric error metrics, for generating lower levels of detail from a mesh
+ * Every vertex keeps a quadric of the planes of the triangles around it, the edges whose collapse adds the least error to those planes are collapsed first until the mesh has few enough triangles
+ * Edges are collapsed onto one of their ends so the kept vertices keep their exact uvs, and open edges (Including uv seams) are held in place so the outline of the mesh does not shrink
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class MeshSimplifier {
+    /**
+     * How strongly open edges resist being moved compared to the surface
+     * 
+     * @since 2.6.0
+     */
+    public static final double BOUNDARY_WEIGHT = 1000;
+
+    /**
+     * A possible edge collapse (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Collapse implements Comparable<Collapse> {
+        /**
+         * The vertex that is removed
+         * 
+         * @since 2.6.0
+         */
+        public int removed;
+
+        /**
+         * The vertex the removed vertex is merged into
+         * 
+         * @since 2.6.0
+         */
+        public int kept;
+
+        /**
+         * The error the collapse adds
+         * 
+         * @since 2.6.0
+         */
+        public double cost;
+
+        /**
+         * The version of the removed vertex when the collapse was found
+         * 
+         * @since 2.6.0
+         */
+        public int removedVersion;
+
+        /**
+         * The version of the kept vertex when the collapse was found
+         * 
+         * @since 2.6.0
+         */
+        public int keptVersion;
+
+        /**
+         * Create a collapse (Only used internally)
+         * 
+         * @param removed The vertex that is removed
+         * @param kept The vertex the removed vertex is merged into
+         * @param cost The error the collapse adds
+         * @param removedVersion The version of the removed vertex
+         * @param keptVersion The version of the kept vertex
+         * 
+         * @since 2.6.0
+         */
+        protected Collapse(int removed, int kept, double cost, int removedVersion, int keptVersion) {
+            this.removed = removed;
+            this.kept = kept;
+            this.cost = cost;
+            this.removedVersion = removedVersion;
+            this.keptVersion = keptVersion;
+        }
+
+        /**
+         * Compare the cost of two collapses
+         * 
+         * @param other The collapse to compare to
+         * 
+         * @return The order of the collapses (Cheapest first)
+         * 
+         * @since 2.6.0
+         */
+        @Override
+        public int compareTo(Collapse other) {
+            return Double.compare(this.cost, other.cost);
+        }
+    }
+
+    /**
+     * The attributes of a vertex, used to merge duplicate vertices (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class VertexKey {
+        /**
+         * The position and uvs of the vertex
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull float[] values;
+
+        /**
+         * Create a vertex key (Only used internally)
+         * 
+         * @param values The position and uvs of the vertex
+         * 
+         * @since 2.6.0
+         */
+        protected VertexKey(@NotNull float[] values) {
+            this.values = values;
+        }
+
+        /**
+         * Get the hash code of the vertex
+         * 
+         * @return The hash code
+         * 
+         * @since 2.6.0
+         */
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.values);
+        }
+
+        /**
+         * Check if another key is the same vertex
+         * 
+         * @param obj The key to compare to
+         * 
+         * @return Weather the keys are equal
+         * 
+         * @since 2.6.0
+         */
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof VertexKey && Arrays.equals(this.values, ((VertexKey) obj).values);
+        }
+    }
+
+    /**
+     * The positions of the merged vertices (3 per vertex)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] positions;
+
+    /**
+     * The uvs of the merged vertices (Empty if the mesh has no uvs)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] uvs;
+
+    /**
+     * The quadrics of the merged vertices (10 per vertex)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull double[] quadrics;
+
+    /**
+     * The triangles of the mesh (3 vertices per triangle)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] triangles;
+
+    /**
+     * Weather each triangle has collapsed
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull boolean[] removedTriangles;
+
+    /**
+     * The triangles around each vertex (May include collapsed triangles)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<List<Integer>> vertexTriangles;
+
+    /**
+     * Weather each vertex has been merged into another
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull boolean[] removedVertices;
+
+    /**
+     * The version of each vertex, increased whenever a collapse changes it so older collapses can be skipped
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] versions;
+
+    /**
+     * The collapses left to try, cheapest first
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull PriorityQueue<Collapse> collapses = new PriorityQueue<Collapse>();
+
+    /**
+     * The number of triangles that have not collapsed
+     * 
+     * @since 2.6.0
+     */
+    private int triangleCount;
+
+    /**
+     * Create a simplifier for a mesh (Only used internally)
+     * 
+     * @param mesh The mesh to simplify
+     * 
+     * @since 2.6.0
+     */
+    private MeshSimplifier(@NotNull Mesh mesh) {
+        Float[] vertices = mesh.getVertices();
+        Float[] meshUvs = mesh.getUVs();
+        Integer[] indices = mesh.getTriangles();
+        int size = mesh.getVerticeSize();
+        int vertexCount = vertices.length / size;
+        boolean hasUvs = meshUvs != null && meshUvs.length >= vertexCount * 2;
+
+        // Meshes often repeat vertices for each triangle, they are merged so the triangles are connected
+        Map<VertexKey, Integer> merged = new HashMap<VertexKey, Integer>();
+        int[] remap = new int[vertexCount];
+        float[] positions = new float[vertexCount * 3];
+        float[] uvs = new float[hasUvs ? vertexCount * 2 : 0];
+        int count = 0;
+
+        for (int i = 0; i < vertexCount; i++) {
+            float[] values = new float[hasUvs ? 5 : 3];
+            values[0] = vertices[i * size];
+            values[1] = vertices[i * size + 1];
+            values[2] = size == 3 ? vertices[i * size + 2] : 0f;
+            if (hasUvs) {
+                values[3] = meshUvs[i * 2];
+                values[4] = meshUvs[i * 2 + 1];
+            }
+
+            Integer index = merged.get(new VertexKey(values));
+            if (index == null) {
+                index = count++;
+                merged.put(new VertexKey(values), index);
+
+                System.arraycopy(values, 0, positions, index * 3, 3);
+                if (hasUvs) {
+                    System.arraycopy(values, 3, uvs, index * 2, 2);
+                }
+            }
+
+            remap[i] = index;
+        }
+
+        this.positions = Arrays.copyOf(positions, count * 3);
+        this.uvs = Arrays.copyOf(uvs, hasUvs ? count * 2 : 0);
+        this.quadrics = new double[count * 10];
+        this.removedVertices = new boolean[count];
+        this.versions = new int[count];
+
+        this.vertexTriangles = new ArrayList<List<Integer>>(count);
+        for (int i = 0; i < count; i++) {
+            this.vertexTriangles.add(new ArrayList<Integer>());
+        }
+
+        int triangleCount = indices != null ? indices.length / 3 : vertexCount / 3;
+        this.triangles = new int[triangleCount * 3];
+        this.removedTriangles = new boolean[triangleCount];
+
+        for (int i = 0; i < triangleCount * 3; i++) {
+            this.triangles[i] = remap[indices != null ? indices[i] : i];
+        }
+
+        for (int i = 0; i < triangleCount; i++) {
+            int a = this.triangles[i * 3];
+            int b = this.triangles[i * 3 + 1];
+            int c = this.triangles[i * 3 + 2];
+
+            if (a == b || b == c || a == c) {
+                this.removedTriangles[i] = true;
+
+                continue;
+            }
+
+            this.vertexTriangles.get(a).add(i);
+            this.vertexTriangles.get(b).add(i);
+            this.vertexTriangles.get(c).add(i);
+            this.triangleCount++;
+        }
+    }
+
+    /**
+     * Simplify a mesh to a fraction of its triangles
+     * 
+     * @param mesh The mesh to simplify
+     * @param ratio The fraction of triangles to keep (0 to 1)
+     * 
+     * @return A new simplified mesh with the same texture or color (Triangles that can not be collapsed without flipping are kept so it may have more than asked for)
+     * 
+     * @throws InvalidDataException If the ratio is not between 0 and 1
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Mesh simplify(@NotNull Mesh mesh, @NotNull Float ratio) throws InvalidDataException {
+        NullUtils.checkNulls(mesh, "mesh");
+        NullUtils.checkNulls(ratio, "ratio");
+
+        if (ratio < 0 || ratio > 1) {
+            throw new InvalidDataException("Ratio must be between 0 and 1");
+        }
+
+        MeshSimplifier simplifier = new MeshSimplifier(mesh);
+        simplifier.run(Math.round(simplifier.triangleCount * ratio));
+
+        return simplifier.build(mesh);
+    }
+
+    /**
+     * Simplify a mesh to a number of triangles
+     * 
+     * @param mesh The mesh to simplify
+     * @param triangles The number of triangles to keep
+     * 
+     * @return A new simplified mesh with the same texture or color (Triangles that can not be collapsed without flipping are kept so it may have more than asked for)
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Mesh simplify(@NotNull Mesh mesh, @NotNull Integer triangles) {
+        NullUtils.checkNulls(mesh, "mesh");
+        NullUtils.checkNulls(triangles, "triangles");
+
+        MeshSimplifier simplifier = new MeshSimplifier(mesh);
+        simplifier.run(triangles);
+
+        return simplifier.build(mesh);
+    }
+
+    /**
+     * Collapse edges until there are few enough triangles or nothing can be collapsed
+     * 
+     * @param target The number of triangles to stop at
+     * 
+     * @since 2.6.0
+     */
+    private void run(int target) {
+        this.addQuadrics();
+
+        Set<Long> edges = new HashSet<Long>();
+        for (int i = 0; i < this.removedTriangles.length; i++) {
+            if (this.removedTriangles[i]) {
+                continue;
+            }
+
+            for (int corner = 0; corner < 3; corner++) {
+                int a = this.triangles[i * 3 + corner];
+                int b = this.triangles[i * 3 + (corner + 1) % 3];
+
+                if (edges.add(edgeKey(a, b))) {
+                    this.addCollapse(a, b);
+                }
+            }
+        }
+
+        while (this.triangleCount > target && !this.collapses.isEmpty()) {
+            Collapse collapse = this.collapses.poll();
+
+            // Collapses found before either vertex last changed are out of date, a new one was queued when it changed
+            if (this.removedVertices[collapse.removed] || this.removedVertices[collapse.kept] || this.versions[collapse.removed] != collapse.removedVersion || this.versions[collapse.kept] != collapse.keptVersion) {
+                continue;
+            }
+
+            if (this.getFlips(collapse.removed, collapse.kept)) {
+                continue;
+            }
+
+            this.collapse(collapse.removed, collapse.kept);
+        }
+    }
+
+    /**
+     * Add the plane of every triangle, and a plane along every open edge, to the quadrics of their vertices
+     * 
+     * @since 2.6.0
+     */
+    private void addQuadrics() {
+        Map<Long, Integer> edgeUses = new HashMap<Long, Integer>();
+        for (int i = 0; i < this.removedTriangles.length; i++) {
+            if (!this.removedTriangles[i]) {
+                for (int corner = 0; corner < 3; corner++) {
+                    long key = edgeKey(this.triangles[i * 3 + corner], this.triangles[i * 3 + (corner + 1) % 3]);
+                    Integer uses = edgeUses.get(key);
+                    edgeUses.put(key, uses != null ? uses + 1 : 1);
+                }
+            }
+        }
+
+        float[] p = this.positions;
+        double[] normal = new double[3];
+
+        for (int i = 0; i < this.removedTriangles.length; i++) {
+            if (this.removedTriangles[i]) {
+                continue;
+            }
+
+            int a = this.triangles[i * 3];
+            int b = this.triangles[i * 3 + 1];
+            int c = this.triangles[i * 3 + 2];
+
+            double area = this.getNormal(a, b, c, normal) / 2;
+            if (area == 0) {
+                continue;
+            }
+
+            double d = -(normal[0] * p[a * 3] + normal[1] * p[a * 3 + 1] + normal[2] * p[a * 3 + 2]);
+            this.addPlane(a, normal[0], normal[1], normal[2], d, area);
+            this.addPlane(b, normal[0], normal[1], normal[2], d, area);
+            this.addPlane(c, normal[0], normal[1], normal[2], d, area);
+
+            for (int corner = 0; corner < 3; corner++) {
+                int from = this.triangles[i * 3 + corner];
+                int to = this.triangles[i * 3 + (corner + 1) % 3];
+
+                if (edgeUses.get(edgeKey(from, to)) != 1) {
+                    continue;
+                }
+
+                // A plane through the edge at a right angle to the triangle keeps the edge from moving sideways
+                double ex = p[to * 3] - p[from * 3];
+                double ey = p[to * 3 + 1] - p[from * 3 + 1];
+                double ez = p[to * 3 + 2] - p[from * 3 + 2];
+                double length = ex * ex + ey * ey + ez * ez;
+
+                double bx = ey * normal[2] - ez * normal[1];
+                double by = ez * normal[0] - ex * normal[2];
+                double bz = ex * normal[1] - ey * normal[0];
+                double bl = Math.sqrt(bx * bx + by * by + bz * bz);
+                if (bl == 0) {
+                    continue;
+                }
+
+                bx /= bl;
+                by /= bl;
+                bz /= bl;
+                double bd = -(bx * p[from * 3] + by * p[from * 3 + 1] + bz * p[from * 3 + 2]);
+
+                this.addPlane(from, bx, by, bz, bd, BOUNDARY_WEIGHT * length);
+                this.addPlane(to, bx, by, bz, bd, BOUNDARY_WEIGHT * length);
+            }
+        }
+    }
+
+    /**
+     * Add a plane to the quadric of a vertex
+     * 
+     * @param vertex The vertex
+     * @param a The x of the plane's normal
+     * @param b The y of the plane's normal
+     * @param c The z of the plane's normal
+     * @param d The distance of the plane from the origin
+     * @param weight The weight of the plane
+     * 
+     * @since 2.6.0
+     */
+    private void addPlane(int vertex, double a, double b, double c, double d, double weight) {
+        double[] q = this.quadrics;
+        int o = vertex * 10;
+
+        q[o] += weight * a * a;
+        q[o + 1] += weight * a * b;
+        q[o + 2] += weight * a * c;
+        q[o + 3] += weight * a * d;
+        q[o + 4] += weight * b * b;
+        q[o + 5] += weight * b * c;
+        q[o + 6] += weight * b * d;
+        q[o + 7] += weight * c * c;
+        q[o + 8] += weight * c * d;
+        q[o + 9] += weight * d * d;
+    }
+
+    /**
+     * Get the error of moving two vertices to the position of one of them
+     * 
+     * @param a The first vertex
+     * @param b The second vertex
+     * @param position The vertex whose position is used
+     * 
+     * @return The summed quadric error
+     * 
+     * @since 2.6.0
+     */
+    private double getError(int a, int b, int position) {
+        double[] q = this.quadrics;
+        int oa = a * 10;
+        int ob = b * 10;
+
+        double x = this.positions[position * 3];
+        double y = this.positions[position * 3 + 1];
+        double z = this.positions[position * 3 + 2];
+
+        return (q[oa] + q[ob]) * x * x + 2 * (q[oa + 1] + q[ob + 1]) * x * y + 2 * (q[oa + 2] + q[ob + 2]) * x * z + 2 * (q[oa + 3] + q[ob + 3]) * x + (q[oa + 4] + q[ob + 4]) * y * y + 2 * (q[oa + 5] + q[ob + 5]) * y * z + 2 * (q[oa + 6] + q[ob + 6]) * y + (q[oa + 7] + q[ob + 7]) * z * z + 2 * (q[oa + 8] + q[ob + 8]) * z + (q[oa + 9] + q[ob + 9]);
+    }
+
+    /**
+     * Queue the cheaper way of collapsing an edge
+     * 
+     * @param a The first vertex of the edge
+     * @param b The second vertex of the edge
+     * 
+     * @since 2.6.0
+     */
+    private void addCollapse(int a, int b) {
+        double keepA = this.getError(a, b, a);
+        double keepB = this.getError(a, b, b);
+
+        if (keepA <= keepB) {
+            this.collapses.add(new Collapse(b, a, keepA, this.versions[b], this.versions[a]));
+        } else {
+            this.collapses.add(new Collapse(a, b, keepB, this.versions[a], this.versions[b]));
+        }
+    }
+
+    /**
+     * Check if moving a vertex onto another would flip any of the triangles that do not collapse
+     * 
+     * @param removed The vertex that is moved
+     * @param kept The vertex it is moved onto
+     * 
+     * @return Weather a triangle would flip or become degenerate
+     * 
+     * @since 2.6.0
+     */
+    private boolean getFlips(int removed, int kept) {
+        double[] before = new double[3];
+        double[] after = new double[3];
+
+        List<Integer> around = this.vertexTriangles.get(removed);
+        for (int i = 0; i < around.size(); i++) {
+            int triangle = around.get(i);
+            if (this.removedTriangles[triangle]) {
+                continue;
+            }
+
+            int a = this.triangles[triangle * 3];
+            int b = this.triangles[triangle * 3 + 1];
+            int c = this.triangles[triangle * 3 + 2];
+            if (a == kept || b == kept || c == kept) {
+                continue;
+            }
+
+            this.getNormal(a, b, c, before);
+            double area = this.getNormal(a == removed ? kept : a, b == removed ? kept : b, c == removed ? kept : c, after);
+
+            if (area == 0 || before[0] * after[0] + before[1] * after[1] + before[2] * after[2] <= 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Merge a vertex into another, removing the triangles between them
+     * 
+     * @param removed The vertex that is removed
+     * @param kept The vertex it is merged into
+     * 
+     * @since 2.6.0
+     */
+    private void collapse(int removed, int kept) {
+        List<Integer> around = this.vertexTriangles.get(removed);
+        List<Integer> keptAround = this.vertexTriangles.get(kept);
+
+        for (int i = 0; i < around.size(); i++) {
+            int triangle = around.get(i);
+            if (this.removedTriangles[triangle]) {
+                continue;
+            }
+
+            int o = triangle * 3;
+            if (this.triangles[o] == kept || this.triangles[o + 1] == kept || this.triangles[o + 2] == kept) {
+                this.removedTriangles[triangle] = true;
+                this.triangleCount--;
+            } else {
+                for (int corner = 0; corner < 3; corner++) {
+                    if (this.triangles[o + corner] == removed) {
+                        this.triangles[o + corner] = kept;
+                    }
+                }
+
+                keptAround.add(triangle);
+            }
+        }
+
+        this.removedVertices[removed] = true;
+        around.clear();
+
+        for (int i = 0; i < 10; i++) {
+            this.quadrics[kept * 10 + i] += this.quadrics[removed * 10 + i];
+        }
+
+        this.versions[kept]++;
+
+        // The kept vertex changed so every edge around it is queued again
+        Set<Integer> neighbours = new HashSet<Integer>();
+        for (int i = keptAround.size() - 1; i >= 0; i--) {
+            int triangle = keptAround.get(i);
+
+            if (this.removedTriangles[triangle]) {
+                keptAround.remove(i);
+
+                continue;
+            }
+
+            for (int corner = 0; corner < 3; corner++) {
+                int vertex = this.triangles[triangle * 3 + corner];
+
+                if (vertex != kept && neighbours.add(vertex)) {
+                    this.addCollapse(kept, vertex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the normal of a triangle
+     * 
+     * @param a The first vertex
+     * @param b The second vertex
+     * @param c The third vertex
+     * @param normal The array to write the unit normal to
+     * 
+     * @return Twice the area of the triangle
+     * 
+     * @since 2.6.0
+     */
+    private double getNormal(int a, int b, int c, @NotNull double[] normal) {
+        float[] p = this.positions;
+
+        double abx = p[b * 3] - p[a * 3];
+        double aby = p[b * 3 + 1] - p[a * 3 + 1];
+        double abz = p[b * 3 + 2] - p[a * 3 + 2];
+        double acx = p[c * 3] - p[a * 3];
+        double acy = p[c * 3 + 1] - p[a * 3 + 1];
+        double acz = p[c * 3 + 2] - p[a * 3 + 2];
+
+        double nx = aby * acz - abz * acy;
+        double ny = abz * acx - abx * acz;
+        double nz = abx * acy - aby * acx;
+        double length = Math.sqrt(nx * nx + ny * ny + nz * nz);
+
+        if (length == 0) {
+            normal[0] = 0;
+            normal[1] = 0;
+            normal[2] = 0;
+        } else {
+            normal[0] = nx / length;
+            normal[1] = ny / length;
+            normal[2] = nz / length;
+        }
+
+        return length;
+    }
+
+    /**
+     * Build a mesh from the triangles that did not collapse
+     * 
+     * @param source The mesh that was simplified
+     * 
+     * @return The simplified mesh
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Mesh build(@NotNull Mesh source) {
+        int size = source.getVerticeSize();
+        boolean hasUvs = this.uvs.length > 0;
+
+        int[] remap = new int[this.removedVertices.length];
+        Arrays.fill(remap, -1);
+
+        List<Float> vertices = new ArrayList<Float>();
+        List<Float> uvs = new ArrayList<Float>();
+        List<Integer> triangles = new ArrayList<Integer>();
+
+        for (int i = 0; i < this.removedTriangles.length; i++) {
+            if (this.removedTriangles[i]) {
+                continue;
+            }
+
+            for (int corner = 0; corner < 3; corner++) {
+                int vertex = this.triangles[i * 3 + corner];
+
+                if (remap[vertex] == -1) {
+                    remap[vertex] = vertices.size() / size;
+
+                    for (int j = 0; j < size; j++) {
+                        vertices.add(this.positions[vertex * 3 + j]);
+                    }
+                    if (hasUvs) {
+                        uvs.add(this.uvs[vertex * 2]);
+                        uvs.add(this.uvs[vertex * 2 + 1]);
+                    }
+                }
+
+                triangles.add(remap[vertex]);
+            }
+        }
+
+        Float[] vertexArray = vertices.toArray(new Float[0]);
+        Integer[] triangleArray = triangles.toArray(new Integer[0]);
+
+        if (source.getTexture() != null) {
+            return new Mesh(vertexArray, size, source.getTexture(), hasUvs ? uvs.toArray(new Float[0]) : null, triangleArray);
+        } else {
+            return new Mesh(vertexArray, size, source.getColor(), triangleArray);
+        }
+    }
+
+    /**
+     * Get a key for an edge that is the same in either direction
+     * 
+     * @param a The first vertex
+     * @param b The second vertex
+     * 
+     * @return The key of the edge
+     * 
+     * @since 2.6.0
+     */
+    private static long edgeKey(int a, int b) {
+        return a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package io.github.kale_ko.gighm.rendering.pipeline;
+
+import io.github.kale_ko.gighm.exception.ThreadPauseException;
+import io.github.kale_ko.gighm.scene.Scene;
+import io.github.kale_ko.gighm.scene.components.Camera;
+import io.github.kale_ko.gighm.util.NotNull;
+
+/**
+ * A pair of frame snapshots letting the scene be simulated while the last frame is drawn
+ * The scene is only changed and captured while holding the lock, drawing reads the last captured snapshot without it so the next tick can run alongside the draw
+ * A snapshot is never captured into while it is being drawn, the other one is used and becomes the one drawn next
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class FramePipeline {
+    /**
+     * The lock held while changing or capturing the scene
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Object lock = new Object();
+
+    /**
+     * The monitor guarding which snapshot is drawn
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Object swap = new Object();
+
+    /**
+     * The two snapshots
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull FrameSnapshot[] snapshots = new FrameSnapshot[] { new FrameSnapshot(), new FrameSnapshot() };
+
+    /**
+     * The index of the snapshot captured last
+     * 
+     * @since 2.6.0
+     */
+    private int front = 0;
+
+    /**
+     * The index of the snapshot being drawn (-1 if none)
+     * 
+     * @since 2.6.0
+     */
+    private int drawing = -1;
+
+    /**
+     * Create a frame pipeline
+     * 
+     * @since 2.6.0
+     */
+    public FramePipeline() {}
+
+    /**
+     * Capture a scene and camera into the snapshot not being drawn and make it the next one drawn
+     * 
+     * @param scene The scene to capture
+     * @param camera The camera to capture
+     * @param releases The number of resources released before the capture
+     * 
+     * @throws ThreadPauseException If the thread is interrupted while waiting for a draw to finish
+     * 
+     * @since 2.6.0
+     */
+    public void capture(@NotNull Scene scene, @NotNull Camera camera, long releases) throws ThreadPauseException {
+        synchronized (this.lock) {
+            int back;
+            synchronized (this.swap) {
+                back = 1 - this.front;
+
+                // Only happens when two captures come in during one draw
+                while (this.drawing == back) {
+                    try {
+                        this.swap.wait();
+                    } catch (InterruptedException e) {
+                        e.printStackTrace();
+
+                        throw new ThreadPauseException("The capturing thread could not be properly paused");
+                    }
+                }
+            }
+
+            this.snapshots[back].capture(scene, camera, releases);
+
+            synchronized (this.swap) {
+                this.front = back;
+            }
+        }
+    }
+
+    /**
+     * Start drawing the last captured snapshot, it will not be captured into until {@link #release()} is called
+     * 
+     * @return The snapshot to draw
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull FrameSnapshot acquire() {
+        synchronized (this.swap) {
+            this.drawing = this.front;
+
+            return this.snapshots[this.front];
+        }
+    }
+
+    /**
+     * Finish drawing the snapshot returned by {@link #acquire()}
+     * 
+     * @since 2.6.0
+     */
+    public void release() {
+        synchronized (this.swap) {
+            this.drawing = -1;
+
+            this.swap.notifyAll();
+        }
+    }
+
+    /**
+     * Get the lock that must be held while changing the scene (Capturing holds it too)
+     * 
+     * @return The lock
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Object getLock() {
+        return this.lock;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,389 @@
+package io.github.kale_ko.gighm.rendering.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.joml.Matrix4f;
+import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.Scene;
+import io.github.kale_ko.gighm.scene.components.Camera;
+import io.github.kale_ko.gighm.scene.components.LevelOfDetail;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.scene.components.Transform;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.ParallelLoop;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A copy of everything the renderer reads from a scene each frame (Only used internally)
+ * The transforms, meshes and flags of every object and the camera matrices are captured at once so drawing never reads them while another thread is changing them
+ * The meshes themselves are not copied, changing their data should still only be done from the render thread
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class FrameSnapshot {
+    /**
+     * The number of objects at which capturing is split across threads
+     * 
+     * @since 2.6.0
+     */
+    public static final int PARALLEL_THRESHOLD = 8192;
+
+    /**
+     * The number of objects captured by one thread at a time
+     * 
+     * @since 2.6.0
+     */
+    public static final int CHUNK_SIZE = 2048;
+
+    /**
+     * The game objects captured
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull GameObject[] objects = new GameObject[0];
+
+    /**
+     * The mesh of each object (Null if it has none)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Mesh[] meshes = new Mesh[0];
+
+    /**
+     * The level of detail of each object (Null if it has none)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull LevelOfDetail[] lods = new LevelOfDetail[0];
+
+    /**
+     * The model matrices of the objects packed in column major order
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] matrices = new float[0];
+
+    /**
+     * Weather each object is static
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull boolean[] statics = new boolean[0];
+
+    /**
+     * Weather each object is an occluder
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull boolean[] occluders = new boolean[0];
+
+    /**
+     * The number of objects captured
+     * 
+     * @since 2.6.0
+     */
+    private int size = 0;
+
+    /**
+     * The view matrix of the camera
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f view = new Matrix4f();
+
+    /**
+     * The projection matrix of the camera
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f projection = new Matrix4f();
+
+    /**
+     * The projection matrix of the camera rotated by the camera but not moved
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f rotationProjection = new Matrix4f();
+
+    /**
+     * The type of the camera
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Camera.CameraType cameraType = Camera.CameraType.PERSPECTIVE;
+
+    /**
+     * The number of resources released before the capture (Resources released after it are not unloaded until this snapshot is no longer drawn)
+     * 
+     * @since 2.6.0
+     */
+    private long releases = 0;
+
+    /**
+     * A reusable list of the objects in the scene
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull List<GameObject> list = new ArrayList<GameObject>();
+
+    /**
+     * A reusable matrix for object transforms when capturing on one thread
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f matrix = new Matrix4f();
+
+    /**
+     * A reusable matrix for object transforms for each chunk when capturing on several threads
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Matrix4f[] chunkMatrices = new Matrix4f[0];
+
+    /**
+     * The loop capturing chunks of objects on several threads
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull ParallelLoop loop = new ParallelLoop(chunk -> this.capture(chunk * CHUNK_SIZE, Math.min(this.size, (chunk + 1) * CHUNK_SIZE), this.chunkMatrices[chunk]));
+
+    /**
+     * Create a frame snapshot
+     * 
+     * @since 2.6.0
+     */
+    public FrameSnapshot() {}
+
+    /**
+     * Capture a scene and camera (Must be called from the thread changing the scene, or while no other thread can change it)
+     * 
+     * @param scene The scene to capture
+     * @param camera The camera to capture
+     * @param releases The number of resources released before the capture
+     * 
+     * @since 2.6.0
+     */
+    public void capture(@NotNull Scene scene, @NotNull Camera camera, long releases) {
+        NullUtils.checkNulls(scene, "scene");
+        NullUtils.checkNulls(camera, "camera");
+
+        this.releases = releases;
+
+        camera.getViewMatrix(this.view);
+        camera.getProjectionMatrix(this.projection);
+        camera.getRotationProjection(this.rotationProjection);
+        this.cameraType = camera.getType();
+
+        for (int i = 0; i < this.size; i++) {
+            this.objects[i] = null;
+            this.meshes[i] = null;
+            this.lods[i] = null;
+        }
+
+        scene.getObjects(this.list);
+        this.size = this.list.size();
+
+        if (this.size > this.objects.length) {
+            int capacity = Math.max(256, Math.max(this.size, this.objects.length * 2));
+
+            this.objects = new GameObject[capacity];
+            this.meshes = new Mesh[capacity];
+            this.lods = new LevelOfDetail[capacity];
+            this.matrices = new float[capacity * 16];
+            this.statics = new boolean[capacity];
+            this.occluders = new boolean[capacity];
+        }
+
+        for (int i = 0; i < this.size; i++) {
+            this.objects[i] = this.list.get(i);
+        }
+
+        if (this.size >= PARALLEL_THRESHOLD) {
+            int chunks = (this.size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+            if (this.chunkMatrices.length < chunks) {
+                Matrix4f[] matrices = new Matrix4f[chunks];
+                System.arraycopy(this.chunkMatrices, 0, matrices, 0, this.chunkMatrices.length);
+                for (int i = this.chunkMatrices.length; i < chunks; i++) {
+                    matrices[i] = new Matrix4f();
+                }
+                this.chunkMatrices = matrices;
+            }
+
+            this.loop.run(chunks);
+        } else {
+            this.capture(0, this.size, this.matrix);
+        }
+    }
+
+    /**
+     * Capture the components of a range of objects (Ranges only write their own part of the packed arrays so they can be captured on different threads)
+     * 
+     * @param start The first object to capture
+     * @param end The object to stop before
+     * @param m A matrix to compute transforms in (Each thread needs its own)
+     * 
+     * @since 2.6.0
+     */
+    private void capture(int start, int end, @NotNull Matrix4f m) {
+        for (int i = start; i < end; i++) {
+            GameObject object = this.objects[i];
+
+            object.getComponent(Transform.class).getMatrix(m).get(this.matrices, i * 16);
+
+            this.meshes[i] = object.getComponent(Mesh.class);
+            this.lods[i] = object.getComponent(LevelOfDetail.class);
+            this.statics[i] = object.getStatic();
+            this.occluders[i] = object.getOccluder();
+        }
+    }
+
+    /**
+     * Get the number of objects captured
+     * 
+     * @return The number of objects captured
+     * 
+     * @since 2.6.0
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get a captured object
+     * 
+     * @param index The index of the object
+     * 
+     * @return The game object
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull GameObject getObject(int index) {
+        return this.objects[index];
+    }
+
+    /**
+     * Get the mesh of a captured object
+     * 
+     * @param index The index of the object
+     * 
+     * @return The mesh (Null if it has none)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable Mesh getMesh(int index) {
+        return this.meshes[index];
+    }
+
+    /**
+     * Get the level of detail of a captured object
+     * 
+     * @param index The index of the object
+     * 
+     * @return The level of detail (Null if it has none)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable LevelOfDetail getLevelOfDetail(int index) {
+        return this.lods[index];
+    }
+
+    /**
+     * Get the model matrix of a captured object
+     * 
+     * @param index The index of the object
+     * @param target The matrix to store the model matrix in
+     * 
+     * @return The target matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getMatrix(int index, @NotNull Matrix4f target) {
+        return target.set(this.matrices, index * 16);
+    }
+
+    /**
+     * Get weather a captured object is static
+     * 
+     * @param index The index of the object
+     * 
+     * @return Weather the object is static
+     * 
+     * @since 2.6.0
+     */
+    public boolean getStatic(int index) {
+        return this.statics[index];
+    }
+
+    /**
+     * Get weather a captured object is an occluder
+     * 
+     * @param index The index of the object
+     * 
+     * @return Weather the object is an occluder
+     * 
+     * @since 2.6.0
+     */
+    public boolean getOccluder(int index) {
+        return this.occluders[index];
+    }
+
+    /**
+     * Get the view matrix of the camera (Should not be written to)
+     * 
+     * @return The view matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getView() {
+        return this.view;
+    }
+
+    /**
+     * Get the projection matrix of the camera (Should not be written to)
+     * 
+     * @return The projection matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getProjection() {
+        return this.projection;
+    }
+
+    /**
+     * Get the projection matrix of the camera rotated by the camera but not moved (Should not be written to)
+     * 
+     * @return The rotation projection matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getRotationProjection() {
+        return this.rotationProjection;
+    }
+
+    /**
+     * Get the type of the camera
+     * 
+     * @return The camera type
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Camera.CameraType getCameraType() {
+        return this.cameraType;
+    }
+
+    /**
+     * Get the number of resources released before the capture
+     * 
+     * @return The number of releases
+     * 
+     * @since 2.6.0
+     */
+    public long getReleases() {
+        return this.releases;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,303 @@
+package io.github.kale_ko.gighm.rendering.queue;
+
+import org.joml.Matrix4f;
+import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A list of draws recorded by one chunk of the scene, possibly on another thread, before being merged into a {@link RenderQueue} (Only used internally)
+ * Recording never touches the device, packets only hold what can be worked out from the scene and the gl thread fills in buffers, textures and keys while merging
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class CommandList {
+    /**
+     * The pooled packets
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull DrawPacket[] packets = new DrawPacket[0];
+
+    /**
+     * The number of packets recorded
+     * 
+     * @since 2.6.0
+     */
+    private int size = 0;
+
+    /**
+     * The game objects recorded to be drawn as sprites
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull GameObject[] spriteObjects = new GameObject[0];
+
+    /**
+     * The meshes recorded to be drawn as sprites
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Mesh[] spriteMeshes = new Mesh[0];
+
+    /**
+     * The model matrices of the sprites packed in column major order
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] spriteMatrices = new float[0];
+
+    /**
+     * The number of sprites recorded
+     * 
+     * @since 2.6.0
+     */
+    private int spriteCount = 0;
+
+    /**
+     * The number of objects found to be occluded while recording
+     * 
+     * @since 2.6.0
+     */
+    private int occluded = 0;
+
+    /**
+     * A reusable model matrix for the thread recording this list
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f model = new Matrix4f();
+
+    /**
+     * A reusable matrix for the thread recording this list
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f matrix = new Matrix4f();
+
+    /**
+     * Create a command list
+     * 
+     * @since 2.6.0
+     */
+    public CommandList() {}
+
+    /**
+     * Remove everything recorded
+     * 
+     * @since 2.6.0
+     */
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.packets[i].clear();
+        }
+
+        for (int i = 0; i < this.spriteCount; i++) {
+            this.spriteObjects[i] = null;
+            this.spriteMeshes[i] = null;
+        }
+
+        this.size = 0;
+        this.spriteCount = 0;
+        this.occluded = 0;
+    }
+
+    /**
+     * Record a packet
+     * 
+     * @param object The game object being drawn
+     * @param mesh The mesh being drawn
+     * 
+     * @return The packet to fill in the matrix and depth of
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull DrawPacket add(@NotNull GameObject object, @NotNull Mesh mesh) {
+        if (this.size == this.packets.length) {
+            int capacity = Math.max(64, this.packets.length * 2);
+
+            DrawPacket[] packets = new DrawPacket[capacity];
+            System.arraycopy(this.packets, 0, packets, 0, this.size);
+            for (int i = this.size; i < capacity; i++) {
+                packets[i] = new DrawPacket();
+            }
+            this.packets = packets;
+        }
+
+        return this.packets[this.size++].set(object, mesh);
+    }
+
+    /**
+     * Record a sprite
+     * 
+     * @param object The game object being drawn
+     * @param mesh The 2d mesh being drawn
+     * @param model The model matrix of the game object
+     * 
+     * @since 2.6.0
+     */
+    public void addSprite(@NotNull GameObject object, @NotNull Mesh mesh, @NotNull Matrix4f model) {
+        NullUtils.checkNulls(object, "object");
+        NullUtils.checkNulls(mesh, "mesh");
+        NullUtils.checkNulls(model, "model");
+
+        if (this.spriteCount == this.spriteObjects.length) {
+            int capacity = Math.max(64, this.spriteObjects.length * 2);
+
+            GameObject[] objects = new GameObject[capacity];
+            System.arraycopy(this.spriteObjects, 0, objects, 0, this.spriteCount);
+            this.spriteObjects = objects;
+
+            Mesh[] meshes = new Mesh[capacity];
+            System.arraycopy(this.spriteMeshes, 0, meshes, 0, this.spriteCount);
+            this.spriteMeshes = meshes;
+
+            float[] matrices = new float[capacity * 16];
+            System.arraycopy(this.spriteMatrices, 0, matrices, 0, this.spriteCount * 16);
+            this.spriteMatrices = matrices;
+        }
+
+        this.spriteObjects[this.spriteCount] = object;
+        this.spriteMeshes[this.spriteCount] = mesh;
+        model.get(this.spriteMatrices, this.spriteCount * 16);
+        this.spriteCount++;
+    }
+
+    /**
+     * Count an object that was occluded
+     * 
+     * @since 2.6.0
+     */
+    public void countOccluded() {
+        this.occluded++;
+    }
+
+    /**
+     * Replace a recorded packet with another one so it can be moved into a queue without copying
+     * 
+     * @param index The index of the packet
+     * @param replacement The packet to put in its place
+     * 
+     * @return The recorded packet
+     * 
+     * @since 2.6.0
+     */
+    protected @NotNull DrawPacket swap(int index, @NotNull DrawPacket replacement) {
+        DrawPacket packet = this.packets[index];
+        this.packets[index] = replacement;
+
+        return packet;
+    }
+
+    /**
+     * Get the number of packets recorded
+     * 
+     * @return The number of packets recorded
+     * 
+     * @since 2.6.0
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get a recorded packet
+     * 
+     * @param index The index of the packet
+     * 
+     * @return The packet
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull DrawPacket get(int index) {
+        return this.packets[index];
+    }
+
+    /**
+     * Get the number of sprites recorded
+     * 
+     * @return The number of sprites recorded
+     * 
+     * @since 2.6.0
+     */
+    public int getSpriteCount() {
+        return this.spriteCount;
+    }
+
+    /**
+     * Get the game object of a recorded sprite
+     * 
+     * @param index The index of the sprite
+     * 
+     * @return The game object
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull GameObject getSpriteObject(int index) {
+        return this.spriteObjects[index];
+    }
+
+    /**
+     * Get the mesh of a recorded sprite
+     * 
+     * @param index The index of the sprite
+     * 
+     * @return The mesh
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Mesh getSpriteMesh(int index) {
+        return this.spriteMeshes[index];
+    }
+
+    /**
+     * Get the model matrix of a recorded sprite
+     * 
+     * @param index The index of the sprite
+     * @param target The matrix to store the model matrix in
+     * 
+     * @return The target matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getSpriteMatrix(int index, @NotNull Matrix4f target) {
+        return target.set(this.spriteMatrices, index * 16);
+    }
+
+    /**
+     * Get the number of objects found to be occluded while recording
+     * 
+     * @return The number of occluded objects
+     * 
+     * @since 2.6.0
+     */
+    public int getOccluded() {
+        return this.occluded;
+    }
+
+    /**
+     * Get a reusable model matrix for the thread recording this list
+     * 
+     * @return The model matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getModel() {
+        return this.model;
+    }
+
+    /**
+     * Get a reusable matrix for the thread recording this list
+     * 
+     * @return The matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getMatrix() {
+        return this.matrix;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,225 @@
+package io.github.kale_ko.gighm.rendering.queue;
+
+import org.joml.Matrix4f;
+import io.github.kale_ko.gighm.rendering.MeshBuffers;
+import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A single draw waiting in a {@link RenderQueue}
+ * Packets are pooled by their queue and reused every frame
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class DrawPacket {
+    /**
+     * The sort key of the draw
+     * 
+     * @since 2.6.0
+     */
+    private long key;
+
+    /**
+     * The game object being drawn
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable GameObject object;
+
+    /**
+     * The mesh being drawn
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Mesh mesh;
+
+    /**
+     * The uploaded buffers of the mesh
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable MeshBuffers buffers;
+
+    /**
+     * The gl texture id to draw with (0 for none)
+     * 
+     * @since 2.6.0
+     */
+    private int textureId;
+
+    /**
+     * The depth of the draw's origin from 0 to 1, used to build its sort key
+     * 
+     * @since 2.6.0
+     */
+    private float depth;
+
+    /**
+     * The model matrix of the draw
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f matrix = new Matrix4f();
+
+    /**
+     * Create a draw packet
+     * 
+     * @since 2.6.0
+     */
+    protected DrawPacket() {}
+
+    /**
+     * Set what this packet draws
+     * 
+     * @param object The game object being drawn
+     * @param mesh The mesh being drawn
+     * @param buffers The uploaded buffers of the mesh
+     * @param textureId The gl texture id to draw with (0 for none)
+     * 
+     * @return This packet
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull DrawPacket set(@NotNull GameObject object, @NotNull Mesh mesh, @NotNull MeshBuffers buffers, int textureId) {
+        this.object = object;
+        this.mesh = mesh;
+        this.buffers = buffers;
+        this.textureId = textureId;
+
+        return this;
+    }
+
+    /**
+     * Set what this packet draws before its buffers and texture are known (Used while recording a {@link CommandList})
+     * 
+     * @param object The game object being drawn
+     * @param mesh The mesh being drawn
+     * 
+     * @return This packet
+     * 
+     * @since 2.6.0
+     */
+    protected @NotNull DrawPacket set(@NotNull GameObject object, @NotNull Mesh mesh) {
+        this.object = object;
+        this.mesh = mesh;
+        this.buffers = null;
+        this.textureId = 0;
+
+        return this;
+    }
+
+    /**
+     * Clear the references held by this packet
+     * 
+     * @since 2.6.0
+     */
+    protected void clear() {
+        this.object = null;
+        this.mesh = null;
+        this.buffers = null;
+    }
+
+    /**
+     * Get the sort key of the draw
+     * 
+     * @return The sort key of the draw
+     * 
+     * @since 2.6.0
+     */
+    public long getKey() {
+        return this.key;
+    }
+
+    /**
+     * Set the sort key of the draw
+     * 
+     * @param key The sort key of the draw
+     * 
+     * @since 2.6.0
+     */
+    public void setKey(long key) {
+        this.key = key;
+    }
+
+    /**
+     * Get the game object being drawn
+     * 
+     * @return The game object being drawn
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable GameObject getObject() {
+        return this.object;
+    }
+
+    /**
+     * Get the mesh being drawn
+     * 
+     * @return The mesh being drawn
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable Mesh getMesh() {
+        return this.mesh;
+    }
+
+    /**
+     * Get the uploaded buffers of the mesh
+     * 
+     * @return The uploaded buffers of the mesh
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable MeshBuffers getBuffers() {
+        return this.buffers;
+    }
+
+    /**
+     * Get the gl texture id to draw with
+     * 
+     * @return The gl texture id to draw with (0 for none)
+     * 
+     * @since 2.6.0
+     */
+    public int getTextureId() {
+        return this.textureId;
+    }
+
+    /**
+     * Get the depth of the draw's origin
+     * 
+     * @return The depth from 0 to 1
+     * 
+     * @since 2.6.0
+     */
+    public float getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Set the depth of the draw's origin
+     * 
+     * @param depth The depth from 0 to 1
+     * 
+     * @since 2.6.0
+     */
+    public void setDepth(float depth) {
+        this.depth = depth;
+    }
+
+    /**
+     * Get the model matrix of the draw (Can be written to)
+     * 
+     * @return The model matrix of the draw
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getMatrix() {
+        return this.matrix;
+    }
+}
\ No newline at end of file
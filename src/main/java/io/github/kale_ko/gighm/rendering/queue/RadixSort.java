@@ -0,0 +1,139 @@
+package io.github.kale_ko.gighm.rendering.queue;
+
+import io.github.kale_ko.gighm.util.NotNull;
+
+/**
+ * A least significant digit radix sort for 64 bit keys with int values
+ * Keys are sorted as unsigned numbers and passes where every key has the same digit are skipped
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class RadixSort {
+    /**
+     * The number of bits sorted per pass
+     * 
+     * @since 2.6.0
+     */
+    private static final int DIGIT_BITS = 8;
+
+    /**
+     * The number of buckets per pass
+     * 
+     * @since 2.6.0
+     */
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+
+    /**
+     * The number of passes needed to sort a 64 bit key
+     * 
+     * @since 2.6.0
+     */
+    private static final int PASSES = 64 / DIGIT_BITS;
+
+    /**
+     * Scratch keys used while sorting
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull long[] keyScratch = new long[0];
+
+    /**
+     * Scratch values used while sorting
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] valueScratch = new int[0];
+
+    /**
+     * The bucket counts of every pass
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull int[] counts = new int[PASSES * BUCKETS];
+
+    /**
+     * Create a radix sort (The scratch buffers are reused between sorts)
+     * 
+     * @since 2.6.0
+     */
+    public RadixSort() {}
+
+    /**
+     * Sort keys and their values in place by the keys
+     * 
+     * @param keys The keys to sort by
+     * @param values The values to move with the keys
+     * @param count The number of keys to sort
+     * 
+     * @since 2.6.0
+     */
+    public void sort(@NotNull long[] keys, @NotNull int[] values, int count) {
+        if (count < 2) {
+            return;
+        }
+
+        if (this.keyScratch.length < count) {
+            this.keyScratch = new long[keys.length];
+            this.valueScratch = new int[keys.length];
+        }
+
+        int[] counts = this.counts;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+
+        // Count every digit of every key in one pass over the data
+        for (int i = 0; i < count; i++) {
+            long key = keys[i];
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass * BUCKETS + (int) ((key >>> (pass * DIGIT_BITS)) & (BUCKETS - 1))]++;
+            }
+        }
+
+        long[] sourceKeys = keys;
+        int[] sourceValues = values;
+        long[] targetKeys = this.keyScratch;
+        int[] targetValues = this.valueScratch;
+
+        for (int pass = 0; pass < PASSES; pass++) {
+            int offset = pass * BUCKETS;
+            int shift = pass * DIGIT_BITS;
+
+            // Every key has the same digit so this pass would not move anything
+            if (counts[offset + (int) ((sourceKeys[0] >>> shift) & (BUCKETS - 1))] == count) {
+                continue;
+            }
+
+            int total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                int bucketCount = counts[offset + i];
+                counts[offset + i] = total;
+                total += bucketCount;
+            }
+
+            for (int i = 0; i < count; i++) {
+                long key = sourceKeys[i];
+                int position = counts[offset + (int) ((key >>> shift) & (BUCKETS - 1))]++;
+
+                targetKeys[position] = key;
+                targetValues[position] = sourceValues[i];
+            }
+
+            long[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+
+            int[] swapValues = sourceValues;
+            sourceValues = targetValues;
+            targetValues = swapValues;
+        }
+
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, count);
+            System.arraycopy(sourceValues, 0, values, 0, count);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package io.github.kale_ko.gighm.rendering.queue;
+
+/**
+ * The passes a draw can be rendered in
+ * Passes are rendered in the order they are declared
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public enum RenderPass {
+    /**
+     * Fully opaque draws, sorted front to back with depth writes so later draws are rejected by early depth testing
+     * 
+     * @since 2.6.0
+     */
+    OPAQUE,
+
+    /**
+     * Draws whose pixels are either opaque or fully clear, sorted front to back with depth writes and discarding their clear pixels
+     * 
+     * @since 2.6.0
+     */
+    CUTOUT,
+
+    /**
+     * Draws with partial alpha, sorted back to front and blended over what is behind them without writing depth
+     * 
+     * @since 2.6.0
+     */
+    TRANSPARENT
+}
\ No newline at end of file
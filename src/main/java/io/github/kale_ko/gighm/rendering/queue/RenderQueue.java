@@ -0,0 +1,160 @@
+package io.github.kale_ko.gighm.rendering.queue;
+
+import io.github.kale_ko.gighm.util.NotNull;
+
+/**
+ * A queue of draw packets that are sorted by their keys before being submitted
+ * Packets are pooled so filling and sorting the queue does not allocate once it has grown to the size of the scene
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class RenderQueue {
+    /**
+     * The pooled packets
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull DrawPacket[] packets = new DrawPacket[0];
+
+    /**
+     * The sort keys of the packets in sorted order
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull long[] keys = new long[0];
+
+    /**
+     * The indices of the packets in sorted order
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] order = new int[0];
+
+    /**
+     * The number of packets in the queue
+     * 
+     * @since 2.6.0
+     */
+    private int size = 0;
+
+    /**
+     * The sorter used to sort the packets
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull RadixSort sorter = new RadixSort();
+
+    /**
+     * Create a render queue
+     * 
+     * @since 2.6.0
+     */
+    public RenderQueue() {}
+
+    /**
+     * Remove all packets from the queue
+     * 
+     * @since 2.6.0
+     */
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.packets[i].clear();
+        }
+
+        this.size = 0;
+    }
+
+    /**
+     * Add a packet to the end of the queue
+     * 
+     * @return The packet to fill in
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull DrawPacket add() {
+        this.ensureCapacity();
+
+        return this.packets[this.size++];
+    }
+
+    /**
+     * Move a packet recorded in a command list to the end of the queue, giving the list a free packet in its place
+     * 
+     * @param list The command list
+     * @param index The index of the packet in the list
+     * 
+     * @return The moved packet
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull DrawPacket add(@NotNull CommandList list, int index) {
+        this.ensureCapacity();
+
+        DrawPacket packet = list.swap(index, this.packets[this.size]);
+        this.packets[this.size++] = packet;
+
+        return packet;
+    }
+
+    /**
+     * Grow the pool if every packet is in use
+     * 
+     * @since 2.6.0
+     */
+    private void ensureCapacity() {
+        if (this.size == this.packets.length) {
+            Integer capacity = Math.max(64, this.packets.length * 2);
+
+            DrawPacket[] packets = new DrawPacket[capacity];
+            System.arraycopy(this.packets, 0, packets, 0, this.size);
+            for (Integer i = this.size; i < capacity; i++) {
+                packets[i] = new DrawPacket();
+            }
+            this.packets = packets;
+
+            this.keys = new long[capacity];
+            this.order = new int[capacity];
+        }
+    }
+
+    /**
+     * Sort the packets by their keys
+     * 
+     * @since 2.6.0
+     */
+    public void sort() {
+        for (int i = 0; i < this.size; i++) {
+            this.keys[i] = this.packets[i].getKey();
+            this.order[i] = i;
+        }
+
+        this.sorter.sort(this.keys, this.order, this.size);
+    }
+
+    /**
+     * Get the number of packets in the queue
+     * 
+     * @return The number of packets in the queue
+     * 
+     * @since 2.6.0
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get a packet in sorted order (Only valid after {@link #sort()})
+     * 
+     * @param index The sorted index of the packet
+     * 
+     * @return The packet
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull DrawPacket get(int index) {
+        return this.packets[this.order[index]];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package io.github.kale_ko.gighm.rendering.queue;
+
+import io.github.kale_ko.gighm.util.NotNull;
+
+/**
+ * A utility for packing draw state into 64 bit sort keys
+ * From the highest bits to the lowest a key holds the pass, shader, texture, mesh, and depth of a draw so sorting keys groups draws by state and then orders them front to back
+ * Transparent draws must be drawn back to front to blend correctly, so their keys hold the inverted depth above the state instead
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class SortKey {
+    /**
+     * The number of bits used for the pass
+     * 
+     * @since 2.6.0
+     */
+    public static final int PASS_BITS = 2;
+
+    /**
+     * The number of bits used for the shader
+     * 
+     * @since 2.6.0
+     */
+    public static final int SHADER_BITS = 10;
+
+    /**
+     * The number of bits used for the texture
+     * 
+     * @since 2.6.0
+     */
+    public static final int TEXTURE_BITS = 16;
+
+    /**
+     * The number of bits used for the mesh
+     * 
+     * @since 2.6.0
+     */
+    public static final int MESH_BITS = 16;
+
+    /**
+     * The number of bits used for the depth
+     * 
+     * @since 2.6.0
+     */
+    public static final int DEPTH_BITS = 20;
+
+    /**
+     * The shift of the mesh bits
+     * 
+     * @since 2.6.0
+     */
+    private static final int MESH_SHIFT = DEPTH_BITS;
+
+    /**
+     * The shift of the texture bits
+     * 
+     * @since 2.6.0
+     */
+    private static final int TEXTURE_SHIFT = MESH_SHIFT + MESH_BITS;
+
+    /**
+     * The shift of the shader bits
+     * 
+     * @since 2.6.0
+     */
+    private static final int SHADER_SHIFT = TEXTURE_SHIFT + TEXTURE_BITS;
+
+    /**
+     * The shift of the pass bits
+     * 
+     * @since 2.6.0
+     */
+    private static final int PASS_SHIFT = SHADER_SHIFT + SHADER_BITS;
+
+    /**
+     * The number of bits used for the shader, texture, and mesh
+     * 
+     * @since 2.6.0
+     */
+    private static final int STATE_BITS = SHADER_BITS + TEXTURE_BITS + MESH_BITS;
+
+    /**
+     * The largest quantized depth value
+     * 
+     * @since 2.6.0
+     */
+    private static final int MAX_DEPTH = (1 << DEPTH_BITS) - 1;
+
+    /**
+     * Create a sort key utility
+     * 
+     * @since 2.6.0
+     */
+    private SortKey() {}
+
+    /**
+     * Pack draw state into a sort key
+     * 
+     * @param pass The pass of the draw
+     * @param shader The id of the shader (Only the low bits are used)
+     * @param texture The id of the texture (Only the low bits are used)
+     * @param mesh The id of the mesh (Only the low bits are used)
+     * @param depth The normalized depth of the draw from 0 (near) to 1 (far)
+     * 
+     * @return The packed sort key
+     * 
+     * @since 2.6.0
+     */
+    public static long create(@NotNull RenderPass pass, int shader, int texture, int mesh, float depth) {
+        long state = ((long) (shader & ((1 << SHADER_BITS) - 1)) << (SHADER_SHIFT - DEPTH_BITS)) | ((long) (texture & ((1 << TEXTURE_BITS) - 1)) << (TEXTURE_SHIFT - DEPTH_BITS)) | ((long) (mesh & ((1 << MESH_BITS) - 1)) << (MESH_SHIFT - DEPTH_BITS));
+
+        if (pass == RenderPass.TRANSPARENT) {
+            return ((long) pass.ordinal() << PASS_SHIFT) | ((MAX_DEPTH - quantizeDepth(depth)) << STATE_BITS) | state;
+        }
+
+        return ((long) pass.ordinal() << PASS_SHIFT) | (state << DEPTH_BITS) | quantizeDepth(depth);
+    }
+
+    /**
+     * Quantize a normalized depth into the depth bits of a key
+     * 
+     * @param depth The normalized depth from 0 (near) to 1 (far)
+     * 
+     * @return The quantized depth
+     * 
+     * @since 2.6.0
+     */
+    public static long quantizeDepth(float depth) {
+        if (!(depth > 0f)) {
+            return 0;
+        } else if (depth >= 1f) {
+            return MAX_DEPTH;
+        }
+
+        return (long) (depth * MAX_DEPTH);
+    }
+
+    /**
+     * Get the pass of a sort key
+     * 
+     * @param key The sort key
+     * 
+     * @return The pass ordinal
+     * 
+     * @since 2.6.0
+     */
+    public static int getPass(long key) {
+        return (int) (key >>> PASS_SHIFT) & ((1 << PASS_BITS) - 1);
+    }
+
+    /**
+     * Get the state bits of a sort key (Everything except the depth)
+     * 
+     * @param key The sort key
+     * 
+     * @return The state bits
+     * 
+     * @since 2.6.0
+     */
+    public static long getState(long key) {
+        if (getPass(key) == RenderPass.TRANSPARENT.ordinal()) {
+            return ((long) getPass(key) << STATE_BITS) | (key & ((1L << STATE_BITS) - 1));
+        }
+
+        return key >>> DEPTH_BITS;
+    }
+}
\ No newline at end of file
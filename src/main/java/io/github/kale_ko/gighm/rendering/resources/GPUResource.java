@@ -0,0 +1,56 @@
+package io.github.kale_ko.gighm.rendering.resources;
+
+/**
+ * An object owning memory on a render device (Only used internally)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public abstract class GPUResource {
+    /**
+     * The frame the resource was last drawn in
+     * 
+     * @since 2.6.0
+     */
+    private long lastUsed = 0;
+
+    /**
+     * Get the number of bytes of device memory the resource uses (Estimated)
+     * 
+     * @return The number of bytes of device memory the resource uses
+     * 
+     * @since 2.6.0
+     */
+    public abstract long getBytes();
+
+    /**
+     * Delete the resource from the device (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @since 2.6.0
+     */
+    public abstract void delete();
+
+    /**
+     * Get the frame the resource was last drawn in
+     * 
+     * @return The frame the resource was last drawn in
+     * 
+     * @since 2.6.0
+     */
+    public long getLastUsed() {
+        return this.lastUsed;
+    }
+
+    /**
+     * Set the frame the resource was last drawn in
+     * 
+     * @param frame The frame the resource was last drawn in
+     * 
+     * @since 2.6.0
+     */
+    public void setLastUsed(long frame) {
+        this.lastUsed = frame;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,994 @@
+package io.github.kale_ko.gighm.rendering.resources;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import io.github.kale_ko.gighm.exception.AlreadyInitializedException;
+import io.github.kale_ko.gighm.exception.NotInitializedException;
+import io.github.kale_ko.gighm.rendering.MeshBuffers;
+import io.github.kale_ko.gighm.rendering.MeshGeometry;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.components.LevelOfDetail;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A manager for the buffers and textures uploaded for a scene
+ * Meshes and textures are reference counted by the game objects using them and are deleted once no object in the scene uses them
+ * Objects can be added and removed from any thread, the gl objects are only deleted when {@link #collect(long)} is called from the window once no snapshot that could still be drawn uses them
+ * If a budget is set the least recently drawn resources are evicted when it is exceeded, they are uploaded again the next time they are drawn
+ * Textures drawn from array textures share them with other textures, an array is only deleted once every texture in it is released
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ResourceManager {
+    /**
+     * The width and height of each atlas layer
+     * 
+     * @since 2.6.0
+     */
+    public static final int ATLAS_SIZE = 1024;
+
+    /**
+     * The number of layers in each atlas
+     * 
+     * @since 2.6.0
+     */
+    public static final int ATLAS_LAYERS = 4;
+
+    /**
+     * The largest width or height of a texture that is packed into an atlas
+     * 
+     * @since 2.6.0
+     */
+    public static final int MAX_ATLAS_TEXTURE_SIZE = 256;
+
+    /**
+     * The number of bytes each array of same sized textures is sized to hold
+     * 
+     * @since 2.6.0
+     */
+    public static final long ARRAY_BYTES = 16L * 1024 * 1024;
+
+    /**
+     * The most layers in an array of same sized textures
+     * 
+     * @since 2.6.0
+     */
+    public static final int MAX_ARRAY_LAYERS = 64;
+
+    /**
+     * The uploaded geometry of a mesh and how many meshes share it (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class GeometryEntry {
+        /**
+         * The geometry the buffers were uploaded from
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull MeshGeometry geometry;
+
+        /**
+         * The number of meshes using the buffers
+         * 
+         * @since 2.6.0
+         */
+        public int users = 0;
+
+        /**
+         * Create a geometry entry (Only used internally)
+         * 
+         * @param geometry The geometry the buffers were uploaded from
+         * 
+         * @since 2.6.0
+         */
+        protected GeometryEntry(@NotNull MeshGeometry geometry) {
+            this.geometry = geometry;
+        }
+    }
+
+    /**
+     * The meshes and textures a game object held a reference to when it was acquired (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Acquired {
+        /**
+         * The meshes and textures of the object (Its mesh and every level of detail)
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull List<Object> assets = new ArrayList<Object>();
+
+        /**
+         * Create an acquired entry (Only used internally)
+         * 
+         * @since 2.6.0
+         */
+        protected Acquired() {}
+    }
+
+    /**
+     * A mesh or texture that lost its last reference (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Released {
+        /**
+         * The mesh or texture
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Object asset;
+
+        /**
+         * The number of releases before this one
+         * 
+         * @since 2.6.0
+         */
+        public long index;
+
+        /**
+         * Create a released entry (Only used internally)
+         * 
+         * @param asset The mesh or texture
+         * @param index The number of releases before this one
+         * 
+         * @since 2.6.0
+         */
+        protected Released(@NotNull Object asset, long index) {
+            this.asset = asset;
+            this.index = index;
+        }
+    }
+
+    /**
+     * The device resources are uploaded to (Null until initialized)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable RenderDevice device;
+
+    /**
+     * A map of meshes to their uploaded buffers
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Mesh, MeshBuffers> meshBuffers = new HashMap<Mesh, MeshBuffers>();
+
+    /**
+     * A map of mesh geometry to their uploaded buffers, shared between copies of a mesh
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<MeshGeometry, MeshBuffers> geometryBuffers = new HashMap<MeshGeometry, MeshBuffers>();
+
+    /**
+     * A map of uploaded buffers to the geometry they were uploaded from
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<MeshBuffers, GeometryEntry> geometryEntries = new HashMap<MeshBuffers, GeometryEntry>();
+
+    /**
+     * A map of textures to their uploaded gl textures
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Texture2D, TextureResource> textures = new HashMap<Texture2D, TextureResource>();
+
+    /**
+     * The uploaded array textures, both atlases and arrays of same sized textures
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<TextureArrayResource> arrays = new ArrayList<TextureArrayResource>();
+
+    /**
+     * A map of textures to where they were packed into an atlas
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Texture2D, TextureRegion> atlasRegions = new HashMap<Texture2D, TextureRegion>();
+
+    /**
+     * A map of textures to the whole layer they were given in an array of same sized textures
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Texture2D, TextureRegion> layerRegions = new HashMap<Texture2D, TextureRegion>();
+
+    /**
+     * The shared sampler objects (Null until initialized)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable SamplerCache samplers;
+
+    /**
+     * The anisotropic filtering level of mipmapped samplers
+     * 
+     * @since 2.6.0
+     */
+    private float anisotropy = 8f;
+
+    /**
+     * The number of game objects using each mesh and texture (Also the lock for {@link #acquired} and {@link #released})
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Map<Object, Integer> references = new HashMap<Object, Integer>();
+
+    /**
+     * The resources each acquired game object holds a reference to
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Map<GameObject, Acquired> acquired = new HashMap<GameObject, Acquired>();
+
+    /**
+     * The meshes and textures that lost their last reference and have not been unloaded yet, in the order they were released
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Queue<Released> released = new ArrayDeque<Released>();
+
+    /**
+     * The number of times a mesh or texture has lost its last reference
+     * 
+     * @since 2.6.0
+     */
+    private long releases = 0;
+
+    /**
+     * The resources waiting to be deleted on the window (Also its own lock)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull List<GPUResource> deletions = new ArrayList<GPUResource>();
+
+    /**
+     * The number of bytes of device memory the resources may use before being evicted (0 for no limit)
+     * 
+     * @since 2.6.0
+     */
+    private long budget = 0;
+
+    /**
+     * The number of bytes of device memory used by uploaded resources
+     * 
+     * @since 2.6.0
+     */
+    private long usedBytes = 0;
+
+    /**
+     * The number of bytes of device memory used by resources owned outside of the manager (Counted in the used bytes)
+     * 
+     * @since 2.6.0
+     */
+    private long trackedBytes = 0;
+
+    /**
+     * The current frame, incremented every collect
+     * 
+     * @since 2.6.0
+     */
+    private long frame = 0;
+
+    /**
+     * Create a resource manager
+     * 
+     * @since 2.6.0
+     */
+    public ResourceManager() {}
+
+    /**
+     * Initialize the resource manager (Called by the renderer when it is initialized)
+     * 
+     * @param device The device to upload resources to
+     * 
+     * @throws AlreadyInitializedException If the resource manager is already initialized
+     * 
+     * @since 2.6.0
+     */
+    public void init(@NotNull RenderDevice device) throws AlreadyInitializedException {
+        NullUtils.checkNulls(device, "device");
+
+        if (this.device != null) {
+            throw new AlreadyInitializedException("The resource manager is already initialized");
+        }
+
+        this.device = device;
+
+        this.samplers = new SamplerCache(device);
+        this.samplers.setAnisotropy(this.anisotropy);
+    }
+
+    /**
+     * Add a reference from a game object to its meshes and textures (Can be called from any thread, does nothing if the object is already acquired)
+     * 
+     * @param object The object to acquire the resources of
+     * 
+     * @since 2.6.0
+     */
+    public void acquire(@NotNull GameObject object) {
+        NullUtils.checkNulls(object, "object");
+
+        Acquired entry = getAssets(object);
+
+        synchronized (this.references) {
+            if (this.acquired.containsKey(object)) {
+                return;
+            }
+
+            this.acquired.put(object, entry);
+
+            for (int i = 0; i < entry.assets.size(); i++) {
+                this.reference(entry.assets.get(i));
+            }
+        }
+    }
+
+    /**
+     * Move the references of an acquired game object to its current meshes and textures (Can be called from any thread, does nothing if the object is not acquired)
+     * Called when a mesh or level of detail is added to or removed from the object so swapped assets are counted and the old ones can be unloaded
+     * 
+     * @param object The object to acquire the resources of again
+     * 
+     * @since 2.6.0
+     */
+    public void reacquire(@NotNull GameObject object) {
+        NullUtils.checkNulls(object, "object");
+
+        Acquired entry = getAssets(object);
+
+        synchronized (this.references) {
+            Acquired old = this.acquired.get(object);
+            if (old == null) {
+                return;
+            }
+
+            this.acquired.put(object, entry);
+
+            // Referenced before the old ones are dereferenced so assets kept by both are never released
+            for (int i = 0; i < entry.assets.size(); i++) {
+                this.reference(entry.assets.get(i));
+            }
+            for (int i = 0; i < old.assets.size(); i++) {
+                this.dereference(old.assets.get(i));
+            }
+        }
+    }
+
+    /**
+     * Get the meshes and textures a game object uses
+     * 
+     * @param object The object
+     * 
+     * @return An entry holding its mesh and every level of detail and their textures
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull Acquired getAssets(@NotNull GameObject object) {
+        Acquired entry = new Acquired();
+
+        Mesh mesh = object.getComponent(Mesh.class);
+        if (mesh != null) {
+            entry.assets.add(mesh);
+            entry.assets.add(mesh.getTexture());
+        }
+
+        LevelOfDetail lod = object.getComponent(LevelOfDetail.class);
+        if (lod != null) {
+            for (int i = 0; i < lod.getLevelCount(); i++) {
+                entry.assets.add(lod.getLevel(i));
+                entry.assets.add(lod.getLevel(i).getTexture());
+            }
+        }
+
+        return entry;
+    }
+
+    /**
+     * Remove the references from a game object to the meshes and textures it was acquired with (Can be called from any thread, does nothing if the object is not acquired)
+     * 
+     * @param object The object to release the resources of
+     * 
+     * @since 2.6.0
+     */
+    public void release(@NotNull GameObject object) {
+        NullUtils.checkNulls(object, "object");
+
+        synchronized (this.references) {
+            Acquired entry = this.acquired.remove(object);
+            if (entry == null) {
+                return;
+            }
+
+            for (int i = 0; i < entry.assets.size(); i++) {
+                this.dereference(entry.assets.get(i));
+            }
+        }
+    }
+
+    /**
+     * Add a reference to a mesh or texture (The references must be locked)
+     * 
+     * @param asset The asset to reference (Ignored if null)
+     * 
+     * @since 2.6.0
+     */
+    private void reference(@Nullable Object asset) {
+        if (asset != null) {
+            Integer count = this.references.get(asset);
+            this.references.put(asset, count != null ? count + 1 : 1);
+        }
+    }
+
+    /**
+     * Remove a reference to a mesh or texture, releasing it if it was the last one (The references must be locked)
+     * 
+     * @param asset The asset to dereference (Ignored if null)
+     * 
+     * @since 2.6.0
+     */
+    private void dereference(@Nullable Object asset) {
+        if (asset != null) {
+            Integer count = this.references.get(asset);
+
+            if (count == null || count <= 1) {
+                this.references.remove(asset);
+                this.released.add(new Released(asset, this.releases++));
+            } else {
+                this.references.put(asset, count - 1);
+            }
+        }
+    }
+
+    /**
+     * Get the uploaded buffers of a mesh, uploading them if its geometry has not been yet (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @param mesh The mesh to get the buffers of
+     * 
+     * @return The uploaded buffers
+     * 
+     * @throws NotInitializedException If the resource manager is not initialized
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull MeshBuffers getBuffers(@NotNull Mesh mesh) throws NotInitializedException {
+        MeshBuffers buffers = this.meshBuffers.get(mesh);
+
+        if (buffers == null) {
+            if (this.device == null) {
+                throw new NotInitializedException("The resource manager is not initialized");
+            }
+
+            MeshGeometry geometry = new MeshGeometry(mesh);
+
+            buffers = this.geometryBuffers.get(geometry);
+            if (buffers == null) {
+                buffers = new MeshBuffers(this.device, mesh);
+                this.geometryBuffers.put(geometry, buffers);
+                this.geometryEntries.put(buffers, new GeometryEntry(geometry));
+
+                this.usedBytes += buffers.getBytes();
+            }
+
+            this.geometryEntries.get(buffers).users++;
+            this.meshBuffers.put(mesh, buffers);
+        }
+
+        buffers.setLastUsed(this.frame);
+
+        return buffers;
+    }
+
+    /**
+     * Get the gl texture id of a texture, uploading it if it has not been yet (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @param texture The texture to get the id of
+     * 
+     * @return The gl texture id
+     * 
+     * @throws NotInitializedException If the resource manager is not initialized
+     * 
+     * @since 2.6.0
+     */
+    public int getTextureId(@NotNull Texture2D texture) throws NotInitializedException {
+        TextureResource resource = this.textures.get(texture);
+
+        if (resource == null) {
+            if (this.device == null) {
+                throw new NotInitializedException("The resource manager is not initialized");
+            }
+
+            resource = new TextureResource(this.device, texture);
+            this.textures.put(texture, resource);
+
+            this.usedBytes += resource.getBytes();
+        }
+
+        resource.setLastUsed(this.frame);
+
+        return resource.getTextureId();
+    }
+
+    /**
+     * Get where a texture is in an array texture, uploading it if it has not been yet (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * Small textures are packed into a shared atlas, larger ones and ones that need to repeat are given a whole layer of an array of textures the same size
+     * 
+     * @param texture The texture to get the region of
+     * @param wrap Weather the texture is sampled outside of 0 to 1 and needs to repeat
+     * 
+     * @return The region of the texture
+     * 
+     * @throws NotInitializedException If the resource manager is not initialized
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull TextureRegion getTextureRegion(@NotNull Texture2D texture, boolean wrap) throws NotInitializedException {
+        int width = texture.getWidth();
+        int height = texture.getHeight();
+
+        // Packed textures are clamped inside their border so they can not repeat
+        boolean packed = !wrap && width <= MAX_ATLAS_TEXTURE_SIZE && height <= MAX_ATLAS_TEXTURE_SIZE;
+
+        Map<Texture2D, TextureRegion> regions = packed ? this.atlasRegions : this.layerRegions;
+        TextureRegion region = regions.get(texture);
+
+        if (region == null) {
+            if (this.device == null) {
+                throw new NotInitializedException("The resource manager is not initialized");
+            }
+
+            for (int i = 0; i < this.arrays.size() && region == null; i++) {
+                TextureArrayResource array = this.arrays.get(i);
+
+                if (array.getAtlas() == packed) {
+                    region = array.add(texture);
+                }
+            }
+
+            if (region == null) {
+                TextureArrayResource array;
+                if (packed) {
+                    array = new TextureArrayResource(this.device, ATLAS_SIZE, ATLAS_SIZE, ATLAS_LAYERS, true);
+                } else {
+                    int layers = (int) Math.max(1, Math.min(MAX_ARRAY_LAYERS, ARRAY_BYTES / ((long) width * height * 4)));
+
+                    array = new TextureArrayResource(this.device, width, height, layers, false);
+                }
+
+                this.arrays.add(array);
+                this.usedBytes += array.getBytes();
+
+                region = array.add(texture);
+            }
+
+            regions.put(texture, region);
+        }
+
+        region.getArray().setLastUsed(this.frame);
+
+        return region;
+    }
+
+    /**
+     * Get a shared sampler object, creating it if it has not been yet (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @param mipmapped Weather the sampler filters between mipmaps (Trilinear and anisotropic), otherwise it is bilinear
+     * @param repeat Weather the sampler repeats outside of 0 to 1, otherwise it clamps to the edge
+     * 
+     * @return The id of the sampler
+     * 
+     * @throws NotInitializedException If the resource manager is not initialized
+     * 
+     * @since 2.6.0
+     */
+    public int getSampler(boolean mipmapped, boolean repeat) throws NotInitializedException {
+        if (this.samplers == null) {
+            throw new NotInitializedException("The resource manager is not initialized");
+        }
+
+        return this.samplers.getSampler(mipmapped, repeat);
+    }
+
+    /**
+     * Queue a resource to be deleted the next time the manager collects (Can be called from any thread)
+     * 
+     * @param resource The resource to delete
+     * 
+     * @since 2.6.0
+     */
+    public void queueDelete(@NotNull GPUResource resource) {
+        NullUtils.checkNulls(resource, "resource");
+
+        synchronized (this.deletions) {
+            this.deletions.add(resource);
+        }
+    }
+
+    /**
+     * Count a resource owned outside of the manager, such as the merged buffers of a static batch, in the used bytes (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * It is never evicted but counts against the budget so other resources are evicted in its place
+     * 
+     * @param resource The resource to count
+     * 
+     * @since 2.6.0
+     */
+    public void track(@NotNull GPUResource resource) {
+        NullUtils.checkNulls(resource, "resource");
+
+        this.usedBytes += resource.getBytes();
+        this.trackedBytes += resource.getBytes();
+    }
+
+    /**
+     * Stop counting a resource passed to {@link #track(GPUResource)} and queue it to be deleted the next time the manager collects (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @param resource The resource to stop counting
+     * 
+     * @since 2.6.0
+     */
+    public void untrack(@NotNull GPUResource resource) {
+        NullUtils.checkNulls(resource, "resource");
+
+        this.usedBytes -= resource.getBytes();
+        this.trackedBytes -= resource.getBytes();
+
+        this.queueDelete(resource);
+    }
+
+    /**
+     * Get the number of times a mesh or texture has lost its last reference (Can be called from any thread)
+     * A snapshot captured after this many releases can not draw any of them, so it is recorded with the snapshot and passed to {@link #collect(long)}
+     * 
+     * @return The number of releases
+     * 
+     * @since 2.6.0
+     */
+    public long getReleases() {
+        synchronized (this.references) {
+            return this.releases;
+        }
+    }
+
+    /**
+     * Unload released resources, evict resources over the budget and delete everything queued for deletion (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window} before drawing a frame)
+     * 
+     * @param releases The number of releases when the oldest snapshot that can still be drawn was captured (Resources released after it are kept until a later collect)
+     * 
+     * @since 2.6.0
+     */
+    public void collect(long releases) {
+        this.frame++;
+
+        synchronized (this.references) {
+            Released entry;
+            while ((entry = this.released.peek()) != null && entry.index < releases) {
+                this.released.poll();
+
+                Object asset = entry.asset;
+
+                // It may have been referenced again since it was released
+                if (this.references.containsKey(asset)) {
+                    continue;
+                }
+
+                if (asset instanceof Mesh) {
+                    this.unloadMesh((Mesh) asset);
+                } else if (asset instanceof Texture2D) {
+                    this.unloadTexture(this.textures.get(asset));
+
+                    this.unloadRegion(this.atlasRegions.remove(asset));
+                    this.unloadRegion(this.layerRegions.remove(asset));
+                }
+            }
+        }
+
+        if (this.budget > 0 && this.usedBytes > this.budget) {
+            this.evict();
+        }
+
+        synchronized (this.deletions) {
+            for (int i = 0; i < this.deletions.size(); i++) {
+                this.deletions.get(i).delete();
+            }
+
+            this.deletions.clear();
+        }
+    }
+
+    /**
+     * Stop using the buffers of a mesh, deleting them if no other mesh shares them
+     * 
+     * @param mesh The mesh to unload
+     * 
+     * @since 2.6.0
+     */
+    private void unloadMesh(@NotNull Mesh mesh) {
+        MeshBuffers buffers = this.meshBuffers.remove(mesh);
+        if (buffers == null) {
+            return;
+        }
+
+        GeometryEntry entry = this.geometryEntries.get(buffers);
+        entry.users--;
+
+        if (entry.users <= 0) {
+            this.unloadBuffers(buffers);
+        }
+    }
+
+    /**
+     * Forget uploaded buffers and queue them for deletion
+     * 
+     * @param buffers The buffers to unload
+     * 
+     * @since 2.6.0
+     */
+    private void unloadBuffers(@NotNull MeshBuffers buffers) {
+        GeometryEntry entry = this.geometryEntries.remove(buffers);
+        this.geometryBuffers.remove(entry.geometry);
+
+        this.usedBytes -= buffers.getBytes();
+
+        this.queueDelete(buffers);
+    }
+
+    /**
+     * Forget an uploaded texture and queue it for deletion
+     * 
+     * @param resource The texture to unload (Ignored if null)
+     * 
+     * @since 2.6.0
+     */
+    private void unloadTexture(@Nullable TextureResource resource) {
+        if (resource == null) {
+            return;
+        }
+
+        this.textures.remove(resource.getTexture());
+
+        this.usedBytes -= resource.getBytes();
+
+        this.queueDelete(resource);
+    }
+
+    /**
+     * Free the space of a texture in an array texture, queueing the array for deletion once it is empty
+     * 
+     * @param region The region to free (Ignored if null)
+     * 
+     * @since 2.6.0
+     */
+    private void unloadRegion(@Nullable TextureRegion region) {
+        if (region == null) {
+            return;
+        }
+
+        TextureArrayResource array = region.getArray();
+        array.remove(region);
+
+        if (array.getRegionCount() == 0) {
+            this.arrays.remove(array);
+
+            this.usedBytes -= array.getBytes();
+
+            this.queueDelete(array);
+        }
+    }
+
+    /**
+     * Unload the least recently drawn resources until the budget is met (Resources drawn last frame are kept)
+     * 
+     * @since 2.6.0
+     */
+    private void evict() {
+        List<GPUResource> candidates = new ArrayList<GPUResource>();
+        for (MeshBuffers buffers : this.geometryEntries.keySet()) {
+            if (buffers.getLastUsed() < this.frame - 1) {
+                candidates.add(buffers);
+            }
+        }
+        for (TextureResource resource : this.textures.values()) {
+            if (resource.getLastUsed() < this.frame - 1) {
+                candidates.add(resource);
+            }
+        }
+
+        candidates.sort((a, b) -> Long.compare(a.getLastUsed(), b.getLastUsed()));
+
+        final Set<MeshBuffers> evicted = new HashSet<MeshBuffers>();
+        for (GPUResource resource : candidates) {
+            if (this.usedBytes <= this.budget) {
+                break;
+            }
+
+            if (resource instanceof MeshBuffers) {
+                evicted.add((MeshBuffers) resource);
+
+                this.unloadBuffers((MeshBuffers) resource);
+            } else {
+                this.unloadTexture((TextureResource) resource);
+            }
+        }
+
+        if (!evicted.isEmpty()) {
+            this.meshBuffers.values().removeIf(buffers -> evicted.contains(buffers));
+        }
+    }
+
+    /**
+     * Delete every uploaded resource and everything queued for deletion, keeping the references (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @since 2.6.0
+     */
+    public void destroy() {
+        for (MeshBuffers buffers : this.geometryEntries.keySet()) {
+            this.queueDelete(buffers);
+        }
+        for (TextureResource resource : this.textures.values()) {
+            this.queueDelete(resource);
+        }
+        for (TextureArrayResource array : this.arrays) {
+            this.queueDelete(array);
+        }
+
+        this.meshBuffers.clear();
+        this.geometryBuffers.clear();
+        this.geometryEntries.clear();
+        this.textures.clear();
+        this.arrays.clear();
+        this.atlasRegions.clear();
+        this.layerRegions.clear();
+
+        // Tracked resources are owned outside of the manager so they are still counted
+        this.usedBytes = this.trackedBytes;
+
+        if (this.samplers != null) {
+            this.samplers.delete();
+        }
+
+        synchronized (this.references) {
+            this.released.clear();
+        }
+
+        synchronized (this.deletions) {
+            for (int i = 0; i < this.deletions.size(); i++) {
+                this.deletions.get(i).delete();
+            }
+
+            this.deletions.clear();
+        }
+    }
+
+    /**
+     * Get the number of bytes of device memory the resources may use before being evicted (0 for no limit)
+     * 
+     * @return The budget in bytes
+     * 
+     * @since 2.6.0
+     */
+    public long getBudget() {
+        return this.budget;
+    }
+
+    /**
+     * Set the number of bytes of device memory the resources may use before being evicted (0 for no limit)
+     * 
+     * @param budget The budget in bytes
+     * 
+     * @since 2.6.0
+     */
+    public void setBudget(long budget) {
+        this.budget = Math.max(0, budget);
+    }
+
+    /**
+     * Get the anisotropic filtering level of mipmapped textures
+     * 
+     * @return The anisotropy (1 for none)
+     * 
+     * @since 2.6.0
+     */
+    public float getAnisotropy() {
+        return this.anisotropy;
+    }
+
+    /**
+     * Set the anisotropic filtering level of mipmapped textures (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window} once initialized)
+     * 
+     * @param anisotropy The anisotropy (1 for none, clamped to what the device supports)
+     * 
+     * @since 2.6.0
+     */
+    public void setAnisotropy(float anisotropy) {
+        this.anisotropy = Math.max(1f, anisotropy);
+
+        if (this.samplers != null) {
+            this.samplers.setAnisotropy(this.anisotropy);
+        }
+    }
+
+    /**
+     * Get the number of bytes of device memory used by uploaded resources
+     * 
+     * @return The number of bytes used
+     * 
+     * @since 2.6.0
+     */
+    public long getUsedBytes() {
+        return this.usedBytes;
+    }
+
+    /**
+     * Get the number of uploaded mesh buffers
+     * 
+     * @return The number of uploaded mesh buffers
+     * 
+     * @since 2.6.0
+     */
+    public int getBufferCount() {
+        return this.geometryEntries.size();
+    }
+
+    /**
+     * Get the number of uploaded textures
+     * 
+     * @return The number of uploaded textures
+     * 
+     * @since 2.6.0
+     */
+    public int getTextureCount() {
+        return this.textures.size();
+    }
+
+    /**
+     * Get the number of uploaded array textures
+     * 
+     * @return The number of uploaded array textures
+     * 
+     * @since 2.6.0
+     */
+    public int getTextureArrayCount() {
+        return this.arrays.size();
+    }
+
+    /**
+     * Get the number of game objects holding references
+     * 
+     * @return The number of game objects holding references
+     * 
+     * @since 2.6.0
+     */
+    public int getReferenceCount() {
+        synchronized (this.references) {
+            return this.acquired.size();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package io.github.kale_ko.gighm.rendering.resources;
+
+import static org.lwjgl.opengl.GL33C.*;
+import org.lwjgl.opengl.EXTTextureFilterAnisotropic;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A cache of sampler objects shared by every texture sampled the same way (Only used internally)
+ * Textures no longer set their own filtering and wrapping, the sampler bound with them decides how they are sampled
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class SamplerCache {
+    /**
+     * The device the samplers are created on
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * The samplers created so far, indexed by their mipmapped and repeat flags (0 if not created)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull int[] samplers = new int[4];
+
+    /**
+     * The anisotropic filtering level of mipmapped samplers (1 for none)
+     * 
+     * @since 2.6.0
+     */
+    private float anisotropy = 8f;
+
+    /**
+     * Create a sampler cache
+     * 
+     * @param device The device to create samplers on
+     * 
+     * @since 2.6.0
+     */
+    public SamplerCache(@NotNull RenderDevice device) {
+        NullUtils.checkNulls(device, "device");
+
+        this.device = device;
+    }
+
+    /**
+     * Get a sampler, creating it if it has not been yet (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @param mipmapped Weather the sampler filters between mipmaps (Trilinear and anisotropic), otherwise it is bilinear
+     * @param repeat Weather the sampler repeats outside of 0 to 1, otherwise it clamps to the edge
+     * 
+     * @return The id of the sampler
+     * 
+     * @since 2.6.0
+     */
+    public int getSampler(boolean mipmapped, boolean repeat) {
+        int index = (mipmapped ? 1 : 0) | (repeat ? 2 : 0);
+
+        if (this.samplers[index] == 0) {
+            int samplerId = this.device.createSampler();
+
+            this.device.samplerParameteri(samplerId, GL_TEXTURE_MIN_FILTER, mipmapped ? GL_LINEAR_MIPMAP_LINEAR : GL_LINEAR);
+            this.device.samplerParameteri(samplerId, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+            this.device.samplerParameteri(samplerId, GL_TEXTURE_WRAP_S, repeat ? GL_REPEAT : GL_CLAMP_TO_EDGE);
+            this.device.samplerParameteri(samplerId, GL_TEXTURE_WRAP_T, repeat ? GL_REPEAT : GL_CLAMP_TO_EDGE);
+
+            this.samplers[index] = samplerId;
+
+            if (mipmapped) {
+                this.applyAnisotropy(samplerId);
+            }
+        }
+
+        return this.samplers[index];
+    }
+
+    /**
+     * Set the anisotropic filtering level of a sampler, clamped to what the device supports
+     * 
+     * @param samplerId The id of the sampler
+     * 
+     * @since 2.6.0
+     */
+    private void applyAnisotropy(int samplerId) {
+        float max = this.device.getMaxAnisotropy();
+
+        if (max > 0) {
+            this.device.samplerParameterf(samplerId, EXTTextureFilterAnisotropic.GL_TEXTURE_MAX_ANISOTROPY_EXT, Math.max(1f, Math.min(this.anisotropy, max)));
+        }
+    }
+
+    /**
+     * Get the anisotropic filtering level of mipmapped samplers
+     * 
+     * @return The anisotropy (1 for none)
+     * 
+     * @since 2.6.0
+     */
+    public float getAnisotropy() {
+        return this.anisotropy;
+    }
+
+    /**
+     * Set the anisotropic filtering level of mipmapped samplers, updating the ones already created (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window} once samplers exist)
+     * 
+     * @param anisotropy The anisotropy (1 for none, clamped to what the device supports)
+     * 
+     * @since 2.6.0
+     */
+    public void setAnisotropy(float anisotropy) {
+        this.anisotropy = Math.max(1f, anisotropy);
+
+        for (int i = 0; i < this.samplers.length; i++) {
+            if (this.samplers[i] != 0 && (i & 1) != 0) {
+                this.applyAnisotropy(this.samplers[i]);
+            }
+        }
+    }
+
+    /**
+     * Delete every sampler created (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @since 2.6.0
+     */
+    public void delete() {
+        for (int i = 0; i < this.samplers.length; i++) {
+            if (this.samplers[i] != 0) {
+                this.device.deleteSampler(this.samplers[i]);
+
+                this.samplers[i] = 0;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,346 @@
+package io.github.kale_ko.gighm.rendering.resources;
+
+import static org.lwjgl.opengl.GL33C.*;
+import java.nio.ByteBuffer;
+import org.joml.Vector2i;
+import org.lwjgl.BufferUtils;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.rendering.textures.TexturePacker;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * An uploaded array texture holding many textures so draws using any of them can share a binding
+ * An atlas packs small textures into each layer with a one pixel border copied from their edges, otherwise each layer holds one texture of exactly the array's size
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class TextureArrayResource extends GPUResource {
+    /**
+     * The number of pixels of border around each texture in an atlas (Keeps filtering from bleeding into neighbours)
+     * 
+     * @since 2.6.0
+     */
+    public static final int PADDING = 1;
+
+    /**
+     * The device the texture is uploaded to
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * The width of each layer
+     * 
+     * @since 2.6.0
+     */
+    private int width;
+
+    /**
+     * The height of each layer
+     * 
+     * @since 2.6.0
+     */
+    private int height;
+
+    /**
+     * The number of layers
+     * 
+     * @since 2.6.0
+     */
+    private int layers;
+
+    /**
+     * Weather small textures are packed into each layer
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean atlas;
+
+    /**
+     * The packer of each layer (Only for an atlas)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable TexturePacker[] packers;
+
+    /**
+     * The number of regions in each layer
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] regions;
+
+    /**
+     * The number of regions in every layer
+     * 
+     * @since 2.6.0
+     */
+    private int regionCount = 0;
+
+    /**
+     * The gl texture id
+     * 
+     * @since 2.6.0
+     */
+    private int textureId;
+
+    /**
+     * Create and allocate an array texture (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @param device The device to upload to
+     * @param width The width of each layer
+     * @param height The height of each layer
+     * @param layers The number of layers
+     * @param atlas Weather small textures are packed into each layer
+     * 
+     * @throws InvalidDataException If the size or number of layers is not positive
+     * 
+     * @since 2.6.0
+     */
+    public TextureArrayResource(@NotNull RenderDevice device, int width, int height, int layers, @NotNull Boolean atlas) throws InvalidDataException {
+        NullUtils.checkNulls(device, "device");
+        NullUtils.checkNulls(atlas, "atlas");
+
+        if (layers <= 0) {
+            throw new InvalidDataException("Layers must be greater than 0");
+        }
+
+        this.device = device;
+        this.width = width;
+        this.height = height;
+        this.layers = layers;
+        this.atlas = atlas;
+        this.regions = new int[layers];
+
+        if (atlas) {
+            this.packers = new TexturePacker[layers];
+            for (int i = 0; i < layers; i++) {
+                this.packers[i] = new TexturePacker(width, height);
+            }
+        } else if (width <= 0 || height <= 0) {
+            throw new InvalidDataException("Width and height must be greater than 0");
+        }
+
+        this.textureId = device.createTexture();
+        device.bindTexture(GL_TEXTURE_2D_ARRAY, this.textureId);
+
+        device.texImage3D(GL_TEXTURE_2D_ARRAY, 0, GL_RGBA, width, height, layers, GL_RGBA, GL_UNSIGNED_BYTE, null);
+    }
+
+    /**
+     * Upload a texture into a free space (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @param texture The texture to upload
+     * 
+     * @return The region the texture was placed in (Null if there is no space for it)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable TextureRegion add(@NotNull Texture2D texture) {
+        NullUtils.checkNulls(texture, "texture");
+
+        int textureWidth = texture.getWidth();
+        int textureHeight = texture.getHeight();
+
+        if (!this.atlas) {
+            if (textureWidth != this.width || textureHeight != this.height) {
+                return null;
+            }
+
+            for (int layer = 0; layer < this.layers; layer++) {
+                if (this.regions[layer] == 0) {
+                    this.device.bindTexture(GL_TEXTURE_2D_ARRAY, this.textureId);
+                    this.device.texSubImage3D(GL_TEXTURE_2D_ARRAY, 0, 0, 0, layer, textureWidth, textureHeight, 1, GL_RGBA, GL_UNSIGNED_BYTE, texture.getRawData());
+
+                    this.regions[layer]++;
+                    this.regionCount++;
+
+                    return new TextureRegion(this, layer, 0f, 0f, 1f, 1f);
+                }
+            }
+
+            return null;
+        }
+
+        int paddedWidth = textureWidth + PADDING * 2;
+        int paddedHeight = textureHeight + PADDING * 2;
+
+        for (int layer = 0; layer < this.layers; layer++) {
+            Vector2i position = this.packers[layer].pack(paddedWidth, paddedHeight);
+
+            if (position != null) {
+                this.device.bindTexture(GL_TEXTURE_2D_ARRAY, this.textureId);
+                this.device.texSubImage3D(GL_TEXTURE_2D_ARRAY, 0, position.x, position.y, layer, paddedWidth, paddedHeight, 1, GL_RGBA, GL_UNSIGNED_BYTE, pad(texture));
+
+                this.regions[layer]++;
+                this.regionCount++;
+
+                return new TextureRegion(this, layer, (position.x + PADDING) / (float) this.width, (position.y + PADDING) / (float) this.height, textureWidth / (float) this.width, textureHeight / (float) this.height);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Free the space of a region, letting a layer be packed again once all of its regions are gone
+     * 
+     * @param region The region to free
+     * 
+     * @since 2.6.0
+     */
+    public void remove(@NotNull TextureRegion region) {
+        NullUtils.checkNulls(region, "region");
+
+        int layer = region.getLayer();
+        if (region.getArray() != this || this.regions[layer] == 0) {
+            return;
+        }
+
+        this.regions[layer]--;
+        this.regionCount--;
+
+        // A skyline can not free single rectangles so an atlas layer is only reused once it is empty
+        if (this.regions[layer] == 0 && this.atlas) {
+            this.packers[layer].clear();
+        }
+    }
+
+    /**
+     * Copy a texture into a new buffer with its edge pixels repeated into a border
+     * 
+     * @param texture The texture to copy
+     * 
+     * @return The padded pixels
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull ByteBuffer pad(@NotNull Texture2D texture) {
+        int width = texture.getWidth();
+        int height = texture.getHeight();
+        int paddedWidth = width + PADDING * 2;
+        int paddedHeight = height + PADDING * 2;
+
+        ByteBuffer data = texture.getRawData();
+        ByteBuffer padded = BufferUtils.createByteBuffer(paddedWidth * paddedHeight * 4);
+
+        for (int y = 0; y < paddedHeight; y++) {
+            int sourceY = Math.min(Math.max(y - PADDING, 0), height - 1);
+
+            for (int x = 0; x < paddedWidth; x++) {
+                int sourceX = Math.min(Math.max(x - PADDING, 0), width - 1);
+
+                padded.putInt((y * paddedWidth + x) * 4, data.getInt((sourceY * width + sourceX) * 4));
+            }
+        }
+
+        return padded;
+    }
+
+    /**
+     * Get the gl texture id
+     * 
+     * @return The gl texture id
+     * 
+     * @since 2.6.0
+     */
+    public int getTextureId() {
+        return this.textureId;
+    }
+
+    /**
+     * Get the width of each layer
+     * 
+     * @return The width of each layer
+     * 
+     * @since 2.6.0
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Get the height of each layer
+     * 
+     * @return The height of each layer
+     * 
+     * @since 2.6.0
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Get the number of layers
+     * 
+     * @return The number of layers
+     * 
+     * @since 2.6.0
+     */
+    public int getLayers() {
+        return this.layers;
+    }
+
+    /**
+     * Get weather small textures are packed into each layer
+     * 
+     * @return Weather this is an atlas
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getAtlas() {
+        return this.atlas;
+    }
+
+    /**
+     * Get weather textures in the array can be sampled repeating (Packed textures are clamped inside their border instead)
+     * 
+     * @return Weather the array can be sampled repeating
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getRepeats() {
+        return !this.atlas;
+    }
+
+    /**
+     * Get the number of regions in every layer
+     * 
+     * @return The number of regions
+     * 
+     * @since 2.6.0
+     */
+    public int getRegionCount() {
+        return this.regionCount;
+    }
+
+    /**
+     * Get the number of bytes of device memory the array texture uses
+     * 
+     * @return The number of bytes of device memory the array texture uses
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public long getBytes() {
+        return (long) this.width * this.height * 4 * this.layers;
+    }
+
+    /**
+     * Delete the gl texture (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void delete() {
+        this.device.deleteTexture(this.textureId);
+    }
+}
\ No newline at end of file
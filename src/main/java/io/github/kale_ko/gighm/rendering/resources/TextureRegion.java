@@ -0,0 +1,157 @@
+package io.github.kale_ko.gighm.rendering.resources;
+
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * Where a texture was placed in an array texture
+ * Texture coordinates of the texture are mapped into the region with {@code offset + uv * scale} and sampled from {@link #getLayer()}
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class TextureRegion {
+    /**
+     * The array texture the region is in
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull TextureArrayResource array;
+
+    /**
+     * The layer the region is in
+     * 
+     * @since 2.6.0
+     */
+    private int layer;
+
+    /**
+     * The u coordinate of the region's left edge
+     * 
+     * @since 2.6.0
+     */
+    private float offsetU;
+
+    /**
+     * The v coordinate of the region's top edge
+     * 
+     * @since 2.6.0
+     */
+    private float offsetV;
+
+    /**
+     * The width of the region in texture coordinates
+     * 
+     * @since 2.6.0
+     */
+    private float scaleU;
+
+    /**
+     * The height of the region in texture coordinates
+     * 
+     * @since 2.6.0
+     */
+    private float scaleV;
+
+    /**
+     * Create a texture region
+     * 
+     * @param array The array texture the region is in
+     * @param layer The layer the region is in
+     * @param offsetU The u coordinate of the region's left edge
+     * @param offsetV The v coordinate of the region's top edge
+     * @param scaleU The width of the region in texture coordinates
+     * @param scaleV The height of the region in texture coordinates
+     * 
+     * @since 2.6.0
+     */
+    public TextureRegion(@NotNull TextureArrayResource array, int layer, float offsetU, float offsetV, float scaleU, float scaleV) {
+        NullUtils.checkNulls(array, "array");
+
+        this.array = array;
+        this.layer = layer;
+        this.offsetU = offsetU;
+        this.offsetV = offsetV;
+        this.scaleU = scaleU;
+        this.scaleV = scaleV;
+    }
+
+    /**
+     * Get the array texture the region is in
+     * 
+     * @return The array texture
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull TextureArrayResource getArray() {
+        return this.array;
+    }
+
+    /**
+     * Get the gl texture id of the array texture the region is in
+     * 
+     * @return The gl texture id
+     * 
+     * @since 2.6.0
+     */
+    public int getTextureId() {
+        return this.array.getTextureId();
+    }
+
+    /**
+     * Get the layer the region is in
+     * 
+     * @return The layer
+     * 
+     * @since 2.6.0
+     */
+    public int getLayer() {
+        return this.layer;
+    }
+
+    /**
+     * Get the u coordinate of the region's left edge
+     * 
+     * @return The u offset
+     * 
+     * @since 2.6.0
+     */
+    public float getOffsetU() {
+        return this.offsetU;
+    }
+
+    /**
+     * Get the v coordinate of the region's top edge
+     * 
+     * @return The v offset
+     * 
+     * @since 2.6.0
+     */
+    public float getOffsetV() {
+        return this.offsetV;
+    }
+
+    /**
+     * Get the width of the region in texture coordinates
+     * 
+     * @return The u scale
+     * 
+     * @since 2.6.0
+     */
+    public float getScaleU() {
+        return this.scaleU;
+    }
+
+    /**
+     * Get the height of the region in texture coordinates
+     * 
+     * @return The v scale
+     * 
+     * @since 2.6.0
+     */
+    public float getScaleV() {
+        return this.scaleV;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+package io.github.kale_ko.gighm.rendering.resources;
+
+import static org.lwjgl.opengl.GL33C.*;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * An uploaded gl texture (Only used internally)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class TextureResource extends GPUResource {
+    /**
+     * The device the texture was uploaded to
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * The texture that was uploaded
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Texture2D texture;
+
+    /**
+     * The gl texture id
+     * 
+     * @since 2.6.0
+     */
+    private int textureId;
+
+    /**
+     * Upload a texture into a new gl texture (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @param device The device to upload to
+     * @param texture The texture to upload
+     * 
+     * @since 2.6.0
+     */
+    public TextureResource(@NotNull RenderDevice device, @NotNull Texture2D texture) {
+        NullUtils.checkNulls(device, "device");
+        NullUtils.checkNulls(texture, "texture");
+
+        this.device = device;
+        this.texture = texture;
+
+        this.textureId = device.createTexture();
+        device.bindTexture(GL_TEXTURE_2D, this.textureId);
+
+        // Filtering and wrapping come from the shared sampler bound with the texture
+        if (texture.getHasMipmaps()) {
+            for (int level = 0; level < texture.getLevels(); level++) {
+                device.texImage2D(GL_TEXTURE_2D, level, GL_RGBA, Texture2D.getLevelSize(texture.getWidth(), level), Texture2D.getLevelSize(texture.getHeight(), level), GL_RGBA, GL_UNSIGNED_BYTE, texture.getRawData(level));
+            }
+        } else {
+            device.texImage2D(GL_TEXTURE_2D, 0, GL_RGBA, texture.getWidth(), texture.getHeight(), GL_RGBA, GL_UNSIGNED_BYTE, texture.getRawData());
+            device.generateMipmap(GL_TEXTURE_2D);
+        }
+    }
+
+    /**
+     * Get the texture that was uploaded
+     * 
+     * @return The texture that was uploaded
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Texture2D getTexture() {
+        return this.texture;
+    }
+
+    /**
+     * Get the gl texture id
+     * 
+     * @return The gl texture id
+     * 
+     * @since 2.6.0
+     */
+    public int getTextureId() {
+        return this.textureId;
+    }
+
+    /**
+     * Get the number of bytes of device memory the texture uses
+     * 
+     * @return The number of bytes of device memory the texture uses
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public long getBytes() {
+        long bytes = 0;
+        for (int level = 0; level < Texture2D.getLevels(this.texture.getWidth(), this.texture.getHeight()); level++) {
+            bytes += (long) Texture2D.getLevelSize(this.texture.getWidth(), level) * Texture2D.getLevelSize(this.texture.getHeight(), level) * 4;
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Delete the gl texture (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void delete() {
+        this.device.deleteTexture(this.textureId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,406 @@
+package io.github.kale_ko.gighm.rendering.shaders;
+
+import static org.lwjgl.opengl.GL33C.*;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+import io.github.kale_ko.gighm.exception.GLCompileException;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A cache of linked program binaries on disk so programs do not have to be compiled again every time the game starts
+ * Binaries are keyed by their sources, attribute locations, and the driver's vendor, renderer, and version, and a binary the driver rejects is compiled again from source and replaced
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ProgramCache {
+    /**
+     * The number at the start of every cache file
+     * 
+     * @since 2.6.0
+     */
+    private static final int MAGIC = 0x47504243;
+
+    /**
+     * The version of the cache file layout (Changing it invalidates every cached binary)
+     * 
+     * @since 2.6.0
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The extension of cache files
+     * 
+     * @since 2.6.0
+     */
+    private static final @NotNull String EXTENSION = ".bin";
+
+    /**
+     * The directory the binaries are stored in
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull File directory;
+
+    /**
+     * The number of programs loaded from the cache
+     * 
+     * @since 2.6.0
+     */
+    private int hits = 0;
+
+    /**
+     * The number of programs that had to be compiled from source
+     * 
+     * @since 2.6.0
+     */
+    private int misses = 0;
+
+    /**
+     * Create a program cache in the system's temporary directory
+     * 
+     * @since 2.6.0
+     */
+    public ProgramCache() {
+        this(new File(System.getProperty("java.io.tmpdir"), "gighm-programs"));
+    }
+
+    /**
+     * Create a program cache
+     * 
+     * @param directory The directory to store binaries in (Created when the first binary is stored)
+     * 
+     * @since 2.6.0
+     */
+    public ProgramCache(@NotNull File directory) {
+        NullUtils.checkNulls(directory, "directory");
+
+        this.directory = directory;
+    }
+
+    /**
+     * Load a program from the cache or compile and link it and store its binary (Must be called from a Window)
+     * 
+     * @param device The device to create the program on
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations to bind attributes to before linking
+     * 
+     * @return The id of the program
+     * 
+     * @throws GLCompileException If the program fails to compile or link
+     * 
+     * @since 2.6.0
+     */
+    public int createProgram(@NotNull RenderDevice device, @NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations) throws GLCompileException {
+        int programId = this.loadProgram(device, vertexSource, fragmentSource, attributeLocations);
+        if (programId != 0) {
+            return programId;
+        }
+
+        programId = device.createProgram(vertexSource, fragmentSource, attributeLocations);
+        this.storeProgram(device, vertexSource, fragmentSource, attributeLocations, programId);
+
+        return programId;
+    }
+
+    /**
+     * Load a program from the cache (Must be called from a Window)
+     * 
+     * @param device The device to create the program on
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations to bind attributes to before linking
+     * 
+     * @return The id of the program (0 if it is not cached and has to be compiled)
+     * 
+     * @since 2.6.0
+     */
+    public int loadProgram(@NotNull RenderDevice device, @NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations) {
+        NullUtils.checkNulls(device, "device");
+        NullUtils.checkNulls(vertexSource, "vertexSource");
+        NullUtils.checkNulls(fragmentSource, "fragmentSource");
+        NullUtils.checkNulls(attributeLocations, "attributeLocations");
+
+        File file = this.getFile(device, vertexSource, fragmentSource, attributeLocations);
+
+        if (file != null && file.isFile()) {
+            int programId = this.load(device, file);
+            if (programId != 0) {
+                this.hits++;
+
+                return programId;
+            }
+
+            // The binary is corrupt or the driver no longer accepts it so it is replaced once the program is compiled again
+            file.delete();
+        }
+
+        this.misses++;
+
+        return 0;
+    }
+
+    /**
+     * Store the binary of a linked program in the cache (Must be called from a Window, does nothing if the device does not support program binaries)
+     * 
+     * @param device The device the program was created on
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations attributes were bound to before linking
+     * @param programId The id of the linked program
+     * 
+     * @since 2.6.0
+     */
+    public void storeProgram(@NotNull RenderDevice device, @NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations, int programId) {
+        NullUtils.checkNulls(device, "device");
+        NullUtils.checkNulls(vertexSource, "vertexSource");
+        NullUtils.checkNulls(fragmentSource, "fragmentSource");
+        NullUtils.checkNulls(attributeLocations, "attributeLocations");
+
+        File file = this.getFile(device, vertexSource, fragmentSource, attributeLocations);
+        if (file == null) {
+            return;
+        }
+
+        int[] format = new int[1];
+        byte[] binary = device.getProgramBinary(programId, format);
+        if (binary != null) {
+            this.store(file, format[0], binary);
+        }
+    }
+
+    /**
+     * Get the file a program is stored in
+     * 
+     * @param device The device the program is created on
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations attributes are bound to
+     * 
+     * @return The cache file (Null if the program can not be cached)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable File getFile(@NotNull RenderDevice device, @NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations) {
+        if (!device.getSupportsProgramBinary()) {
+            return null;
+        }
+
+        String key = getKey(device, vertexSource, fragmentSource, attributeLocations);
+        if (key == null) {
+            return null;
+        }
+
+        return new File(this.directory, key + EXTENSION);
+    }
+
+    /**
+     * Load a program from a cache file
+     * 
+     * @param device The device to create the program on
+     * @param file The cache file
+     * 
+     * @return The id of the program (0 if the file could not be read or the driver rejected it)
+     * 
+     * @since 2.6.0
+     */
+    private int load(@NotNull RenderDevice device, @NotNull File file) {
+        try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                return 0;
+            }
+
+            int format = input.readInt();
+            int length = input.readInt();
+            if (length <= 0 || length > file.length()) {
+                return 0;
+            }
+
+            byte[] binary = new byte[length];
+            input.readFully(binary);
+
+            return device.createProgramFromBinary(format, binary);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Store a program binary in a cache file
+     * The file is written next to its final name and then moved so a crash never leaves a half written binary behind
+     * 
+     * @param file The cache file
+     * @param format The format of the binary
+     * @param binary The binary
+     * 
+     * @since 2.6.0
+     */
+    private void store(@NotNull File file, int format, @NotNull byte[] binary) {
+        if (!this.directory.isDirectory() && !this.directory.mkdirs()) {
+            return;
+        }
+
+        File temporary = new File(this.directory, file.getName() + ".tmp");
+
+        try {
+            try (DataOutputStream output = new DataOutputStream(new FileOutputStream(temporary))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(format);
+                output.writeInt(binary.length);
+                output.write(binary);
+            }
+
+            Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // The cache only saves time so failing to write it is not an error
+            e.printStackTrace();
+
+            temporary.delete();
+        }
+    }
+
+    /**
+     * Get the key a program is stored under
+     * 
+     * @param device The device the program is created on
+     * @param vertexSource The source of the vertex shader
+     * @param fragmentSource The source of the fragment shader
+     * @param attributeLocations The locations attributes are bound to
+     * 
+     * @return A hex sha-256 hash of everything that affects the binary (Null if sha-256 is not available)
+     * 
+     * @since 2.6.0
+     */
+    private static @Nullable String getKey(@NotNull RenderDevice device, @NotNull String vertexSource, @NotNull String fragmentSource, @NotNull Map<String, Integer> attributeLocations) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+
+        update(digest, VERSION);
+
+        update(digest, device.getString(GL_VENDOR));
+        update(digest, device.getString(GL_RENDERER));
+        update(digest, device.getString(GL_VERSION));
+
+        update(digest, vertexSource);
+        update(digest, fragmentSource);
+
+        // Sorted so the key does not depend on the order of the map
+        for (Map.Entry<String, Integer> attribute : new TreeMap<String, Integer>(attributeLocations).entrySet()) {
+            update(digest, attribute.getKey());
+            update(digest, attribute.getValue());
+        }
+
+        byte[] hash = digest.digest();
+
+        StringBuilder key = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16));
+            key.append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * Add an int to a hash
+     * 
+     * @param digest The hash
+     * @param value The int
+     * 
+     * @since 2.6.0
+     */
+    private static void update(@NotNull MessageDigest digest, int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+    }
+
+    /**
+     * Add a length prefixed string to a hash so neighbouring strings can not run into each other
+     * 
+     * @param digest The hash
+     * @param string The string
+     * 
+     * @since 2.6.0
+     */
+    private static void update(@NotNull MessageDigest digest, @NotNull String string) {
+        byte[] data = string.getBytes(StandardCharsets.UTF_8);
+
+        update(digest, data.length);
+        digest.update(data);
+    }
+
+    /**
+     * Delete every binary in the cache
+     * 
+     * @since 2.6.0
+     */
+    public void clear() {
+        File[] files = this.directory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            if (file.isFile() && (file.getName().endsWith(EXTENSION) || file.getName().endsWith(EXTENSION + ".tmp"))) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Get the directory the binaries are stored in
+     * 
+     * @return The directory
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull File getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * Get the number of programs loaded from the cache
+     * 
+     * @return The number of hits
+     * 
+     * @since 2.6.0
+     */
+    public int getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Get the number of programs that had to be compiled from source
+     * 
+     * @return The number of misses
+     * 
+     * @since 2.6.0
+     */
+    public int getMisses() {
+        return this.misses;
+    }
+}
\ No newline at end of file
@@ -5,18 +5,37 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import io.github.kale_ko.gighm.util.NotNull;
 import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
 
 /**
  * A utility for loading shader data from a file to use with shaders
  * 
  * @author Kale Ko
  * 
- * @version 1.4.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class ShaderLoader {
+    /**
+     * A pattern matching include directives
+     * 
+     * @since 2.6.0
+     */
+    private static final @NotNull Pattern INCLUDE_PATTERN = Pattern.compile("^\\s*#include\\s+\"([^\"]+)\"\\s*$");
+
+    /**
+     * A pattern matching the version directive
+     * 
+     * @since 2.6.0
+     */
+    private static final @NotNull Pattern VERSION_PATTERN = Pattern.compile("^\\s*#version[^\\n]*(\\n|$)", Pattern.MULTILINE);
+
     /**
      * Create a shader loader
      * 
@@ -59,7 +78,8 @@ public class ShaderLoader {
         NullUtils.checkNulls(vertexFile, "vertexFile");
         NullUtils.checkNulls(fragmentFile, "fragmentFile");
 
-        return loadShader(new FileInputStream(vertexFile), new FileInputStream(fragmentFile));
+        // Includes are looked for next to the file including them before the bundled resources
+        return new Shader(resolveIncludes(loadShaderData(vertexFile), vertexFile.getAbsoluteFile().getParentFile()), resolveIncludes(loadShaderData(fragmentFile), fragmentFile.getAbsoluteFile().getParentFile()));
     }
 
     /**
@@ -78,7 +98,28 @@ public class ShaderLoader {
         NullUtils.checkNulls(vertexStream, "vertexStream");
         NullUtils.checkNulls(fragmentStream, "fragmentStream");
 
-        return new Shader(loadShaderData(vertexStream), loadShaderData(fragmentStream));
+        return new Shader(resolveIncludes(loadShaderData(vertexStream), null), resolveIncludes(loadShaderData(fragmentStream), null));
+    }
+
+    /**
+     * Load a set of shader variants from file
+     * 
+     * @param vertexFile The file to load the vertex data from
+     * @param fragmentFile The file to load the fragment data from
+     * 
+     * @return A {@link ShaderVariants} from the data passed
+     * 
+     * @throws IOException If it fails to read the file or one it includes
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull ShaderVariants loadVariants(@NotNull File vertexFile, @NotNull File fragmentFile) throws IOException {
+        NullUtils.checkNulls(vertexFile, "vertexFile");
+        NullUtils.checkNulls(fragmentFile, "fragmentFile");
+
+        Shader shader = loadShader(vertexFile, fragmentFile);
+
+        return new ShaderVariants(shader.getVertexSource(), shader.getFragmentSource());
     }
 
     /**
@@ -91,7 +132,170 @@ public class ShaderLoader {
      * @since 1.4.0
      */
     public static @NotNull Shader loadDefault() throws IOException {
-        return loadShader(ShaderLoader.class.getResourceAsStream("/vertex.glsl"), ShaderLoader.class.getResourceAsStream("/fragment.glsl"));
+        // Without TEXTURED or COLORED the default shader picks between them for each fragment so it can draw any mesh
+        return loadDefaultVariants().getShader(ShaderVariants.INSTANCED);
+    }
+
+    /**
+     * Load the variants of the default shader
+     * 
+     * @return The variants of the default shader
+     * 
+     * @throws IOException If it fails to read the file
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull ShaderVariants loadDefaultVariants() throws IOException {
+        Shader shader = loadShader(ShaderLoader.class.getResourceAsStream("/vertex.glsl"), ShaderLoader.class.getResourceAsStream("/fragment.glsl"));
+
+        return new ShaderVariants(shader.getVertexSource(), shader.getFragmentSource());
+    }
+
+    /**
+     * Load the skybox shader
+     * 
+     * @return The skybox shader
+     * 
+     * @throws IOException If it fails to read the file
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Shader loadSkybox() throws IOException {
+        return loadShader(ShaderLoader.class.getResourceAsStream("/skybox-vertex.glsl"), ShaderLoader.class.getResourceAsStream("/skybox-fragment.glsl"));
+    }
+
+    /**
+     * Load the sprite batch shader
+     * 
+     * @return The sprite batch shader
+     * 
+     * @throws IOException If it fails to read the file
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Shader loadSprite() throws IOException {
+        return loadShader(ShaderLoader.class.getResourceAsStream("/sprite-vertex.glsl"), ShaderLoader.class.getResourceAsStream("/sprite-fragment.glsl"));
+    }
+
+    /**
+     * Replace every {@code #include "file"} line of shader source with the contents of the file (Each file is only included once)
+     * 
+     * @param source The source to resolve includes in
+     * @param directory The directory to look for included files in before the bundled resources (Null to only look in the resources)
+     * 
+     * @return The source with every include resolved
+     * 
+     * @throws IOException If an included file can not be found or read
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull String resolveIncludes(@NotNull String source, @Nullable File directory) throws IOException {
+        NullUtils.checkNulls(source, "source");
+
+        return resolveIncludes(source, directory, new HashSet<String>());
+    }
+
+    /**
+     * Replace every include line of shader source with the contents of the file
+     * 
+     * @param source The source to resolve includes in
+     * @param directory The directory to look for included files in before the bundled resources
+     * @param included The files already included (Used to skip repeated and recursive includes)
+     * 
+     * @return The source with every include resolved
+     * 
+     * @throws IOException If an included file can not be found or read
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull String resolveIncludes(@NotNull String source, @Nullable File directory, @NotNull Set<String> included) throws IOException {
+        StringBuilder result = new StringBuilder(source.length());
+
+        String[] lines = source.split("\n", -1);
+        for (int i = 0; i < lines.length; i++) {
+            if (i > 0) {
+                result.append('\n');
+            }
+
+            Matcher matcher = INCLUDE_PATTERN.matcher(lines[i]);
+            if (!matcher.matches()) {
+                result.append(lines[i]);
+
+                continue;
+            }
+
+            String name = matcher.group(1);
+
+            File file = directory != null ? new File(directory, name) : null;
+            if (file != null && file.isFile()) {
+                if (included.add(file.getCanonicalPath())) {
+                    appendInclude(result, resolveIncludes(loadShaderData(file), file.getParentFile(), included));
+                }
+            } else {
+                String resource = "/" + name;
+                if (included.add(resource)) {
+                    InputStream stream = ShaderLoader.class.getResourceAsStream(resource);
+                    if (stream == null) {
+                        throw new IOException("Could not find included file \"" + name + "\"");
+                    }
+
+                    appendInclude(result, resolveIncludes(loadShaderData(stream), null, included));
+                }
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Append the contents of an included file in place of its include line
+     * 
+     * @param result The source being built
+     * @param contents The contents of the included file
+     * 
+     * @since 2.6.0
+     */
+    private static void appendInclude(@NotNull StringBuilder result, @NotNull String contents) {
+        // The include line is already followed by a new line so the file's own last one is dropped
+        if (contents.endsWith("\n")) {
+            result.append(contents, 0, contents.length() - 1);
+        } else {
+            result.append(contents);
+        }
+    }
+
+    /**
+     * Add {@code #define} lines to shader source, after its version directive
+     * 
+     * @param source The source to add defines to
+     * @param defines The names to define
+     * 
+     * @return The source with the defines added
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull String addDefines(@NotNull String source, @NotNull String[] defines) {
+        NullUtils.checkNulls(source, "source");
+        NullUtils.checkNulls(defines, "defines");
+
+        if (defines.length == 0) {
+            return source;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (String define : defines) {
+            lines.append("#define ").append(define).append('\n');
+        }
+
+        // The version directive has to come before anything else in the shader
+        Matcher matcher = VERSION_PATTERN.matcher(source);
+        if (matcher.find()) {
+            String version = source.substring(0, matcher.end());
+
+            return version + (version.endsWith("\n") ? "" : "\n") + lines + source.substring(matcher.end());
+        }
+
+        return lines + source;
     }
 
     /**
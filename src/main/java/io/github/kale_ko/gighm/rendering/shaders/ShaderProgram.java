@@ -0,0 +1,670 @@
+package io.github.kale_ko.gighm.rendering.shaders;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.joml.Matrix4f;
+import io.github.kale_ko.gighm.exception.GLCompileException;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.rendering.resources.GPUResource;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A linked gl shader program with its active uniforms and attributes (Must be created from a Window)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ShaderProgram extends GPUResource {
+    /**
+     * The attribute location mesh vertices are bound to
+     * 
+     * @since 2.6.0
+     */
+    public static final int VERTICES_LOCATION = 0;
+
+    /**
+     * The attribute location mesh uvs are bound to
+     * 
+     * @since 2.6.0
+     */
+    public static final int UVS_LOCATION = 1;
+
+    /**
+     * The first attribute location instance matrices are bound to (A matrix uses four locations)
+     * 
+     * @since 2.6.0
+     */
+    public static final int INSTANCE_MATRIX_LOCATION = 2;
+
+    /**
+     * The attribute location vertex colors are bound to
+     * 
+     * @since 2.6.0
+     */
+    public static final int COLORS_LOCATION = 6;
+
+    /**
+     * The name of the per frame camera uniform block
+     * 
+     * @since 2.6.0
+     */
+    public static final String CAMERA_BLOCK = "Camera";
+
+    /**
+     * The uniform buffer binding point the camera block reads from
+     * 
+     * @since 2.6.0
+     */
+    public static final int CAMERA_BINDING = 0;
+
+    /**
+     * The device the program was created on
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * The shader this program was linked from
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Shader shader;
+
+    /**
+     * The gl program id
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer programId;
+
+    /**
+     * The locations attributes were bound to before linking
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<String, Integer> boundAttributes = new HashMap<String, Integer>();
+
+    /**
+     * The cache to store the program in once it finishes linking (Null if it is not cached)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable ProgramCache cache;
+
+    /**
+     * Weather the program has finished linking and its uniforms and attributes have been queried
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean ready = false;
+
+    /**
+     * The error the program failed to compile or link with (Null unless it failed)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable GLCompileException error = null;
+
+    /**
+     * A map of active uniform names to their handles
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<String, Integer> uniformHandles = new HashMap<String, Integer>();
+
+    /**
+     * A map of active attribute names to their locations
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<String, Integer> attributeLocations = new HashMap<String, Integer>();
+
+    /**
+     * A map of active uniform block names to their indices
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<String, Integer> uniformBlocks = new HashMap<String, Integer>();
+
+    /**
+     * The gl locations of each uniform handle
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] uniformLocations;
+
+    /**
+     * The gl types of each uniform handle
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] uniformTypes;
+
+    /**
+     * Weather each uniform handle has had a value uploaded yet
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull boolean[] uniformCached;
+
+    /**
+     * The last int value uploaded to each uniform handle
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] intCache;
+
+    /**
+     * The last float values uploaded to each uniform handle (16 per handle)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] floatCache;
+
+    /**
+     * A reusable array for comparing matrices
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull float[] matrixScratch = new float[16];
+
+    /**
+     * Compile and link a shader program and query its active uniforms and attributes (Must be called from a Window)
+     * 
+     * @param device The device to create the program on
+     * @param shader The shader to link
+     * 
+     * @throws GLCompileException If the shader fails to compile or link
+     * 
+     * @since 2.6.0
+     */
+    public ShaderProgram(@NotNull RenderDevice device, @NotNull Shader shader) throws GLCompileException {
+        this(device, shader, null);
+    }
+
+    /**
+     * Compile and link a shader program, or load it from a program cache, and query its active uniforms and attributes (Must be called from a Window)
+     * 
+     * @param device The device to create the program on
+     * @param shader The shader to link
+     * @param cache The cache to load the program from and store it in (Null to always compile it)
+     * 
+     * @throws GLCompileException If the shader fails to compile or link
+     * 
+     * @since 2.6.0
+     */
+    public ShaderProgram(@NotNull RenderDevice device, @NotNull Shader shader, @Nullable ProgramCache cache) throws GLCompileException {
+        this(device, shader, cache, false);
+    }
+
+    /**
+     * Compile and link a shader program, or load it from a program cache (Must be called from a Window)
+     * When compiling in the background the program can not be used until {@link #poll()} returns true or {@link #finish()} is called
+     * 
+     * @param device The device to create the program on
+     * @param shader The shader to link
+     * @param cache The cache to load the program from and store it in (Null to always compile it)
+     * @param background Weather to let the driver compile the program in the background instead of waiting for it
+     * 
+     * @throws GLCompileException If the shader fails to compile or link (Only thrown here when not compiling in the background)
+     * 
+     * @since 2.6.0
+     */
+    public ShaderProgram(@NotNull RenderDevice device, @NotNull Shader shader, @Nullable ProgramCache cache, @NotNull Boolean background) throws GLCompileException {
+        NullUtils.checkNulls(device, "device");
+        NullUtils.checkNulls(shader, "shader");
+        NullUtils.checkNulls(background, "background");
+
+        this.device = device;
+        this.shader = shader;
+
+        this.boundAttributes.put("vertices", VERTICES_LOCATION);
+        this.boundAttributes.put("verticies", VERTICES_LOCATION);
+        this.boundAttributes.put("uvs", UVS_LOCATION);
+        this.boundAttributes.put("instanceMatrix", INSTANCE_MATRIX_LOCATION);
+        this.boundAttributes.put("colors", COLORS_LOCATION);
+
+        if (cache != null) {
+            this.programId = cache.loadProgram(device, shader.getVertexSource(), shader.getFragmentSource(), this.boundAttributes);
+
+            // Loaded binaries are already linked so there is nothing to wait for
+            if (this.programId != 0) {
+                this.ready = true;
+                this.reflect();
+
+                return;
+            }
+        }
+
+        this.cache = cache;
+        this.programId = device.beginProgram(shader.getVertexSource(), shader.getFragmentSource(), this.boundAttributes);
+
+        if (!background) {
+            this.finish();
+        }
+    }
+
+    /**
+     * Get weather the program has finished compiling and linking and can be used
+     * 
+     * @return Weather the program is ready
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getReady() {
+        return this.ready;
+    }
+
+    /**
+     * Get the error the program failed to compile or link with
+     * 
+     * @return The error (Null if the program has not failed)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable GLCompileException getError() {
+        return this.error;
+    }
+
+    /**
+     * Check if the driver is done compiling and linking the program and finish it if it is, without waiting (Must be called from a Window)
+     * Once the program has failed the driver is not asked again and false is returned
+     * 
+     * @return Weather the program is ready
+     * 
+     * @throws GLCompileException If the program failed to compile or link (Only thrown by the call that found the failure)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean poll() throws GLCompileException {
+        if (!this.ready && this.error == null && this.device.getProgramCompleted(this.programId)) {
+            this.finish();
+        }
+
+        return this.ready;
+    }
+
+    /**
+     * Finish compiling and linking the program, waiting for the driver if it is not done yet (Must be called from a Window, does nothing if the program is already ready)
+     * 
+     * @throws GLCompileException If the program failed to compile or link (Thrown again without asking the driver if it already failed)
+     * 
+     * @since 2.6.0
+     */
+    public void finish() throws GLCompileException {
+        if (this.ready) {
+            return;
+        }
+
+        if (this.error != null) {
+            throw this.error;
+        }
+
+        try {
+            this.device.finishProgram(this.programId);
+        } catch (GLCompileException e) {
+            // Linking again would fail the same way so the failure is kept instead of asking the driver every frame
+            this.error = e;
+            this.cache = null;
+
+            throw e;
+        }
+
+        if (this.cache != null) {
+            this.cache.storeProgram(this.device, this.shader.getVertexSource(), this.shader.getFragmentSource(), this.boundAttributes, this.programId);
+            this.cache = null;
+        }
+
+        this.ready = true;
+        this.reflect();
+    }
+
+    /**
+     * Query the active uniforms, attributes, and uniform blocks of the program
+     * 
+     * @since 2.6.0
+     */
+    private void reflect() {
+        Map<String, Integer> locations = new HashMap<String, Integer>();
+        Map<String, Integer> types = new HashMap<String, Integer>();
+        this.device.getActiveUniforms(this.programId, locations, types);
+
+        this.uniformLocations = new int[locations.size()];
+        this.uniformTypes = new int[locations.size()];
+
+        Integer handle = 0;
+        for (Map.Entry<String, Integer> uniform : locations.entrySet()) {
+            this.uniformLocations[handle] = uniform.getValue();
+            this.uniformTypes[handle] = types.get(uniform.getKey());
+            this.uniformHandles.put(uniform.getKey(), handle);
+
+            handle++;
+        }
+
+        this.uniformCached = new boolean[handle];
+        this.intCache = new int[handle];
+        this.floatCache = new float[handle * 16];
+
+        this.device.getActiveAttributes(this.programId, this.attributeLocations);
+
+        this.device.getActiveUniformBlocks(this.programId, this.uniformBlocks);
+
+        Integer cameraBlock = this.uniformBlocks.get(CAMERA_BLOCK);
+        if (cameraBlock != null) {
+            this.device.uniformBlockBinding(this.programId, cameraBlock, CAMERA_BINDING);
+        }
+    }
+
+    /**
+     * Get the shader this program was linked from
+     * 
+     * @return The shader this program was linked from
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Shader getShader() {
+        return this.shader;
+    }
+
+    /**
+     * Get the gl program id
+     * 
+     * @return The gl program id
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getProgramId() {
+        return this.programId;
+    }
+
+    /**
+     * Make this program the current program
+     * 
+     * @since 2.6.0
+     */
+    public void use() {
+        this.device.useProgram(this.programId);
+    }
+
+    /**
+     * Get the names of the active uniforms in the program
+     * 
+     * @return The names of the active uniforms in the program
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Set<String> getUniformNames() {
+        return Collections.unmodifiableSet(this.uniformHandles.keySet());
+    }
+
+    /**
+     * Get weather the program has an active uniform
+     * 
+     * @param name The name of the uniform
+     * 
+     * @return Weather the program has an active uniform
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean hasUniform(@NotNull String name) {
+        NullUtils.checkNulls(name, "name");
+
+        return this.uniformHandles.containsKey(name);
+    }
+
+    /**
+     * Get the handle of a uniform to use when setting it
+     * 
+     * @param name The name of the uniform
+     * 
+     * @return The handle of the uniform or -1 if it is not active
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getUniformHandle(@NotNull String name) {
+        NullUtils.checkNulls(name, "name");
+
+        Integer handle = this.uniformHandles.get(name);
+        return handle != null ? handle : -1;
+    }
+
+    /**
+     * Get the gl location of a uniform handle
+     * 
+     * @param handle The handle of the uniform
+     * 
+     * @return The gl location of the uniform
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getUniformLocation(@NotNull Integer handle) {
+        NullUtils.checkNulls(handle, "handle");
+
+        return this.uniformLocations[handle];
+    }
+
+    /**
+     * Get the gl type of a uniform handle
+     * 
+     * @param handle The handle of the uniform
+     * 
+     * @return The gl type of the uniform
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getUniformType(@NotNull Integer handle) {
+        NullUtils.checkNulls(handle, "handle");
+
+        return this.uniformTypes[handle];
+    }
+
+    /**
+     * Get the names of the active attributes in the program
+     * 
+     * @return The names of the active attributes in the program
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Set<String> getAttributeNames() {
+        return Collections.unmodifiableSet(this.attributeLocations.keySet());
+    }
+
+    /**
+     * Get weather the program has an active attribute
+     * 
+     * @param name The name of the attribute
+     * 
+     * @return Weather the program has an active attribute
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean hasAttribute(@NotNull String name) {
+        NullUtils.checkNulls(name, "name");
+
+        return this.attributeLocations.containsKey(name);
+    }
+
+    /**
+     * Get the location of an attribute
+     * 
+     * @param name The name of the attribute
+     * 
+     * @return The location of the attribute or -1 if it is not active
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getAttributeLocation(@NotNull String name) {
+        NullUtils.checkNulls(name, "name");
+
+        Integer location = this.attributeLocations.get(name);
+        return location != null ? location : -1;
+    }
+
+    /**
+     * Get weather the program has an active uniform block
+     * 
+     * @param name The name of the uniform block
+     * 
+     * @return Weather the program has an active uniform block
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean hasUniformBlock(@NotNull String name) {
+        NullUtils.checkNulls(name, "name");
+
+        return this.uniformBlocks.containsKey(name);
+    }
+
+    /**
+     * Set an int uniform, skipping the upload if it already has this value (The program must be in use)
+     * 
+     * @param handle The handle of the uniform (Ignored if -1)
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    public void setUniform(int handle, int value) {
+        if (handle < 0 || (this.uniformCached[handle] && this.intCache[handle] == value)) {
+            return;
+        }
+
+        this.uniformCached[handle] = true;
+        this.intCache[handle] = value;
+
+        this.device.uniform1i(this.uniformLocations[handle], value);
+    }
+
+    /**
+     * Set a vec3 uniform, skipping the upload if it already has this value (The program must be in use)
+     * 
+     * @param handle The handle of the uniform (Ignored if -1)
+     * @param x The first value to set
+     * @param y The second value to set
+     * @param z The third value to set
+     * 
+     * @since 2.6.0
+     */
+    public void setUniform(int handle, float x, float y, float z) {
+        if (handle < 0) {
+            return;
+        }
+
+        int offset = handle * 16;
+        if (this.uniformCached[handle] && this.floatCache[offset] == x && this.floatCache[offset + 1] == y && this.floatCache[offset + 2] == z) {
+            return;
+        }
+
+        this.uniformCached[handle] = true;
+        this.floatCache[offset] = x;
+        this.floatCache[offset + 1] = y;
+        this.floatCache[offset + 2] = z;
+
+        this.device.uniform3f(this.uniformLocations[handle], x, y, z);
+    }
+
+    /**
+     * Set a vec4 uniform, skipping the upload if it already has this value (The program must be in use)
+     * 
+     * @param handle The handle of the uniform (Ignored if -1)
+     * @param x The first value to set
+     * @param y The second value to set
+     * @param z The third value to set
+     * @param w The fourth value to set
+     * 
+     * @since 2.6.0
+     */
+    public void setUniform(int handle, float x, float y, float z, float w) {
+        if (handle < 0) {
+            return;
+        }
+
+        int offset = handle * 16;
+        if (this.uniformCached[handle] && this.floatCache[offset] == x && this.floatCache[offset + 1] == y && this.floatCache[offset + 2] == z && this.floatCache[offset + 3] == w) {
+            return;
+        }
+
+        this.uniformCached[handle] = true;
+        this.floatCache[offset] = x;
+        this.floatCache[offset + 1] = y;
+        this.floatCache[offset + 2] = z;
+        this.floatCache[offset + 3] = w;
+
+        this.device.uniform4f(this.uniformLocations[handle], x, y, z, w);
+    }
+
+    /**
+     * Set a mat4 uniform, skipping the upload if it already has this value (The program must be in use)
+     * 
+     * @param handle The handle of the uniform (Ignored if -1)
+     * @param value The value to set
+     * 
+     * @since 2.6.0
+     */
+    public void setUniform(int handle, @NotNull Matrix4f value) {
+        if (handle < 0) {
+            return;
+        }
+
+        value.get(this.matrixScratch);
+
+        int offset = handle * 16;
+        if (this.uniformCached[handle]) {
+            boolean changed = false;
+            for (int i = 0; i < 16; i++) {
+                if (this.floatCache[offset + i] != this.matrixScratch[i]) {
+                    changed = true;
+                    break;
+                }
+            }
+
+            if (!changed) {
+                return;
+            }
+        }
+
+        this.uniformCached[handle] = true;
+        System.arraycopy(this.matrixScratch, 0, this.floatCache, offset, 16);
+
+        this.device.uniformMatrix4fv(this.uniformLocations[handle], this.matrixScratch);
+    }
+
+    /**
+     * Forget all cached uniform values so the next set of each uniform is uploaded
+     * 
+     * @since 2.6.0
+     */
+    public void invalidateUniforms() {
+        for (Integer i = 0; i < this.uniformCached.length; i++) {
+            this.uniformCached[i] = false;
+        }
+    }
+
+    /**
+     * Get the number of bytes of device memory the program uses (Programs are not counted)
+     * 
+     * @return 0
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public long getBytes() {
+        return 0;
+    }
+
+    /**
+     * Delete the gl program (Must be called from a Window)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void delete() {
+        this.device.deleteProgram(this.programId);
+    }
+}
\ No newline at end of file
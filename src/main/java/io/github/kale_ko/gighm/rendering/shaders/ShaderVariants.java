@@ -0,0 +1,157 @@
+package io.github.kale_ko.gighm.rendering.shaders;
+
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A shader that can be built with different features, each feature is a {@code #define} the sources can check with {@code #ifdef}
+ * Each combination of features is only built once and the same {@link Shader} is returned for it after, so the renderer only compiles it once
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ShaderVariants {
+    /**
+     * The feature for meshes that sample a texture (Defines TEXTURED)
+     * 
+     * @since 2.6.0
+     */
+    public static final int TEXTURED = 1 << 0;
+
+    /**
+     * The feature for meshes drawn with a single color (Defines COLORED)
+     * 
+     * @since 2.6.0
+     */
+    public static final int COLORED = 1 << 1;
+
+    /**
+     * The feature for reading model matrices from the instance matrix attribute instead of a uniform (Defines INSTANCED)
+     * 
+     * @since 2.6.0
+     */
+    public static final int INSTANCED = 1 << 2;
+
+    /**
+     * The names defined for each feature bit
+     * 
+     * @since 2.6.0
+     */
+    private static final @NotNull String[] DEFINES = new String[] { "TEXTURED", "COLORED", "INSTANCED" };
+
+    /**
+     * The number of combinations of features
+     * 
+     * @since 2.6.0
+     */
+    public static final int COUNT = 1 << DEFINES.length;
+
+    /**
+     * The source data of the vertex shader, before any defines are added
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull String vertexSource;
+
+    /**
+     * The source data of the fragment shader, before any defines are added
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull String fragmentSource;
+
+    /**
+     * The shader built for each combination of features (Null until it is first asked for)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Shader[] variants = new Shader[COUNT];
+
+    /**
+     * Create a set of shader variants
+     * 
+     * @param vertexSource The source data of the vertex shader (Includes should already be resolved)
+     * @param fragmentSource The source data of the fragment shader (Includes should already be resolved)
+     * 
+     * @since 2.6.0
+     */
+    public ShaderVariants(@NotNull String vertexSource, @NotNull String fragmentSource) {
+        NullUtils.checkNulls(vertexSource, "vertexSource");
+        NullUtils.checkNulls(fragmentSource, "fragmentSource");
+
+        this.vertexSource = vertexSource;
+        this.fragmentSource = fragmentSource;
+    }
+
+    /**
+     * Get the shader built with a combination of features, building it the first time it is asked for
+     * 
+     * @param features The features to build with (Such as {@code TEXTURED | INSTANCED})
+     * 
+     * @return The shader
+     * 
+     * @throws InvalidDataException If the features contain an unknown bit
+     * 
+     * @since 2.6.0
+     */
+    public synchronized @NotNull Shader getShader(int features) throws InvalidDataException {
+        if (features < 0 || features >= COUNT) {
+            throw new InvalidDataException("Unknown shader features " + features);
+        }
+
+        if (this.variants[features] == null) {
+            String[] defines = getDefines(features);
+
+            this.variants[features] = new Shader(ShaderLoader.addDefines(this.vertexSource, defines), ShaderLoader.addDefines(this.fragmentSource, defines));
+        }
+
+        return this.variants[features];
+    }
+
+    /**
+     * Get the names defined for a combination of features
+     * 
+     * @param features The features
+     * 
+     * @return The names to define
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull String[] getDefines(int features) {
+        String[] defines = new String[Integer.bitCount(features & (COUNT - 1))];
+
+        int index = 0;
+        for (int i = 0; i < DEFINES.length; i++) {
+            if ((features & (1 << i)) != 0) {
+                defines[index++] = DEFINES[i];
+            }
+        }
+
+        return defines;
+    }
+
+    /**
+     * Get the source of the vertex shader, before any defines are added
+     * 
+     * @return The source of the vertex shader
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull String getVertexSource() {
+        return this.vertexSource;
+    }
+
+    /**
+     * Get the source of the fragment shader, before any defines are added
+     * 
+     * @return The source of the fragment shader
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull String getFragmentSource() {
+        return this.fragmentSource;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,252 @@
+package io.github.kale_ko.gighm.rendering.targets;
+
+import static org.lwjgl.opengl.GL33C.*;
+import io.github.kale_ko.gighm.exception.GLInitializeException;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.rendering.device.RenderDevice;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * An offscreen framebuffer with a color and a depth texture to draw into instead of the window
+ * The attachments are only created once the target is first sized and are recreated whenever the size changes
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class RenderTarget {
+    /**
+     * The device the target is created on
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderDevice device;
+
+    /**
+     * The gl framebuffer id (0 until first sized)
+     * 
+     * @since 2.6.0
+     */
+    private int framebufferId = 0;
+
+    /**
+     * The gl id of the color texture (0 until first sized)
+     * 
+     * @since 2.6.0
+     */
+    private int colorTextureId = 0;
+
+    /**
+     * The gl id of the depth texture (0 until first sized)
+     * 
+     * @since 2.6.0
+     */
+    private int depthTextureId = 0;
+
+    /**
+     * The width of the attachments
+     * 
+     * @since 2.6.0
+     */
+    private int width = 0;
+
+    /**
+     * The height of the attachments
+     * 
+     * @since 2.6.0
+     */
+    private int height = 0;
+
+    /**
+     * Create a render target
+     * 
+     * @param device The device to create the target on
+     * 
+     * @since 2.6.0
+     */
+    public RenderTarget(@NotNull RenderDevice device) {
+        NullUtils.checkNulls(device, "device");
+
+        this.device = device;
+    }
+
+    /**
+     * Resize the target, recreating its attachments if the size changed (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * Leaves the target bound
+     * 
+     * @param width The new width
+     * @param height The new height
+     * 
+     * @throws InvalidDataException If the width or height is not positive
+     * @throws GLInitializeException If the device can not draw to the attachments
+     * 
+     * @since 2.6.0
+     */
+    public void resize(int width, int height) throws InvalidDataException, GLInitializeException {
+        if (width <= 0 || height <= 0) {
+            throw new InvalidDataException("Width and height must be greater than 0");
+        }
+
+        if (this.framebufferId != 0 && width == this.width && height == this.height) {
+            return;
+        }
+
+        if (this.framebufferId == 0) {
+            this.framebufferId = this.device.createFramebuffer();
+        }
+        if (this.colorTextureId != 0) {
+            this.device.deleteTexture(this.colorTextureId);
+        }
+        if (this.depthTextureId != 0) {
+            this.device.deleteTexture(this.depthTextureId);
+        }
+
+        this.width = width;
+        this.height = height;
+
+        this.colorTextureId = this.createTexture(GL_RGBA8, GL_RGBA, GL_UNSIGNED_BYTE, GL_LINEAR);
+        this.depthTextureId = this.createTexture(GL_DEPTH_COMPONENT24, GL_DEPTH_COMPONENT, GL_UNSIGNED_INT, GL_NEAREST);
+
+        this.device.bindFramebuffer(GL_FRAMEBUFFER, this.framebufferId);
+        this.device.framebufferTexture2D(GL_FRAMEBUFFER, GL_COLOR_ATTACHMENT0, GL_TEXTURE_2D, this.colorTextureId, 0);
+        this.device.framebufferTexture2D(GL_FRAMEBUFFER, GL_DEPTH_ATTACHMENT, GL_TEXTURE_2D, this.depthTextureId, 0);
+
+        int status = this.device.checkFramebufferStatus(GL_FRAMEBUFFER);
+        if (status != GL_FRAMEBUFFER_COMPLETE) {
+            throw new GLInitializeException("The render target could not be completed (Status 0x" + Integer.toHexString(status) + ")");
+        }
+    }
+
+    /**
+     * Create an attachment texture the size of the target
+     * 
+     * @param internalFormat The gl format the texture is stored in
+     * @param format The gl format of the (Empty) data
+     * @param type The gl type of the (Empty) data
+     * @param filter The filter used when the texture is sampled
+     * 
+     * @return The gl texture id
+     * 
+     * @since 2.6.0
+     */
+    private int createTexture(int internalFormat, int format, int type, int filter) {
+        int textureId = this.device.createTexture();
+        this.device.bindTexture(GL_TEXTURE_2D, textureId);
+
+        // Attachments have no mipmaps so they are complete with only the first level
+        this.device.texParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, filter);
+        this.device.texParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, filter);
+        this.device.texParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+        this.device.texParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+        this.device.texParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAX_LEVEL, 0);
+        this.device.texImage2D(GL_TEXTURE_2D, 0, internalFormat, this.width, this.height, format, type, null);
+
+        this.device.bindTexture(GL_TEXTURE_2D, 0);
+
+        return textureId;
+    }
+
+    /**
+     * Bind the target to draw into and set the viewport to its size (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window} after it is sized)
+     * 
+     * @since 2.6.0
+     */
+    public void bind() {
+        this.device.bindFramebuffer(GL_FRAMEBUFFER, this.framebufferId);
+        this.device.viewport(0, 0, this.width, this.height);
+    }
+
+    /**
+     * Copy the color of the target to the window, scaling it to fill the window (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * Leaves the window bound
+     * 
+     * @param width The width of the window
+     * @param height The height of the window
+     * 
+     * @since 2.6.0
+     */
+    public void blit(int width, int height) {
+        this.device.bindFramebuffer(GL_READ_FRAMEBUFFER, this.framebufferId);
+        this.device.bindFramebuffer(GL_DRAW_FRAMEBUFFER, 0);
+
+        this.device.blitFramebuffer(0, 0, this.width, this.height, 0, 0, width, height, GL_COLOR_BUFFER_BIT, width == this.width && height == this.height ? GL_NEAREST : GL_LINEAR);
+
+        this.device.bindFramebuffer(GL_FRAMEBUFFER, 0);
+    }
+
+    /**
+     * Delete the framebuffer and its attachments (Must be called from a {@link io.github.kale_ko.gighm.rendering.Window})
+     * 
+     * @since 2.6.0
+     */
+    public void delete() {
+        if (this.framebufferId != 0) {
+            this.device.deleteFramebuffer(this.framebufferId);
+            this.device.deleteTexture(this.colorTextureId);
+            this.device.deleteTexture(this.depthTextureId);
+
+            this.framebufferId = 0;
+            this.colorTextureId = 0;
+            this.depthTextureId = 0;
+            this.width = 0;
+            this.height = 0;
+        }
+    }
+
+    /**
+     * Get the gl framebuffer id
+     * 
+     * @return The gl framebuffer id (0 until first sized)
+     * 
+     * @since 2.6.0
+     */
+    public int getFramebufferId() {
+        return this.framebufferId;
+    }
+
+    /**
+     * Get the gl id of the color texture
+     * 
+     * @return The gl texture id (0 until first sized)
+     * 
+     * @since 2.6.0
+     */
+    public int getColorTextureId() {
+        return this.colorTextureId;
+    }
+
+    /**
+     * Get the gl id of the depth texture
+     * 
+     * @return The gl texture id (0 until first sized)
+     * 
+     * @since 2.6.0
+     */
+    public int getDepthTextureId() {
+        return this.depthTextureId;
+    }
+
+    /**
+     * Get the width of the target
+     * 
+     * @return The width
+     * 
+     * @since 2.6.0
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Get the height of the target
+     * 
+     * @return The height
+     * 
+     * @since 2.6.0
+     */
+    public int getHeight() {
+        return this.height;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+package io.github.kale_ko.gighm.rendering.targets;
+
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.rendering.PassTimer;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A controller picking the scale to render at from recent gpu frame times so a target frame rate is held
+ * The number of pixels drawn grows with the square of the scale, so the scale is moved by the square root of how far off the target the frame time is
+ * The scale drops as soon as frames are too slow but only rises one step at a time once they have room to spare, and is held after each change until the times measured at the new scale come back
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ResolutionScaler {
+    /**
+     * The amount the scale changes by (The scale is always a multiple of it so the target is not recreated every frame)
+     * 
+     * @since 2.6.0
+     */
+    public static final float STEP = 0.05f;
+
+    /**
+     * How much each new frame time moves the average
+     * 
+     * @since 2.6.0
+     */
+    public static final double SMOOTHING = 0.2;
+
+    /**
+     * The fraction of the target frame time a frame must be under before the scale rises
+     * 
+     * @since 2.6.0
+     */
+    public static final double HEADROOM = 0.85;
+
+    /**
+     * The number of frame times to wait for after a change (Gpu times arrive a few frames late)
+     * 
+     * @since 2.6.0
+     */
+    public static final int COOLDOWN = PassTimer.FRAMES + 2;
+
+    /**
+     * The frame time to hold in nanoseconds
+     * 
+     * @since 2.6.0
+     */
+    private long targetFrameTime = 1000000000L / 60;
+
+    /**
+     * The lowest scale allowed
+     * 
+     * @since 2.6.0
+     */
+    private float minScale = 0.5f;
+
+    /**
+     * The highest scale allowed
+     * 
+     * @since 2.6.0
+     */
+    private float maxScale = 1f;
+
+    /**
+     * The current scale
+     * 
+     * @since 2.6.0
+     */
+    private float scale = 1f;
+
+    /**
+     * The average of the frame times since the last change (Negative if there are none yet)
+     * 
+     * @since 2.6.0
+     */
+    private double average = -1;
+
+    /**
+     * The number of frame times left to ignore after a change
+     * 
+     * @since 2.6.0
+     */
+    private int cooldown = 0;
+
+    /**
+     * Create a resolution scaler
+     * 
+     * @since 2.6.0
+     */
+    public ResolutionScaler() {}
+
+    /**
+     * Report the gpu time of a frame and pick the scale to render at
+     * 
+     * @param frameTime The gpu time of the frame in nanoseconds (Ignored if not positive)
+     * 
+     * @return The scale to render at
+     * 
+     * @since 2.6.0
+     */
+    public float update(long frameTime) {
+        if (frameTime <= 0) {
+            return this.scale;
+        }
+
+        if (this.cooldown > 0) {
+            this.cooldown--;
+
+            return this.scale;
+        }
+
+        this.average = this.average < 0 ? frameTime : this.average + (frameTime - this.average) * SMOOTHING;
+
+        float scale = this.scale;
+        if (this.average > this.targetFrameTime) {
+            // Always drop by at least a step so frames just over the target still recover
+            float ideal = (float) (this.scale * Math.sqrt(this.targetFrameTime / this.average));
+            scale = Math.min(this.scale - STEP, (float) Math.floor(ideal / STEP) * STEP);
+        } else if (this.average < this.targetFrameTime * HEADROOM) {
+            scale = this.scale + STEP;
+        }
+
+        scale = Math.max(this.minScale, Math.min(this.maxScale, Math.round(scale / STEP) * STEP));
+
+        if (Math.abs(scale - this.scale) > STEP / 2) {
+            this.scale = scale;
+            this.average = -1;
+            this.cooldown = COOLDOWN;
+        }
+
+        return this.scale;
+    }
+
+    /**
+     * Get the scale to render at
+     * 
+     * @return The scale
+     * 
+     * @since 2.6.0
+     */
+    public float getScale() {
+        return this.scale;
+    }
+
+    /**
+     * Get the frame rate being held
+     * 
+     * @return The target frame rate
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getTargetFrameRate() {
+        return 1000000000f / this.targetFrameTime;
+    }
+
+    /**
+     * Set the frame rate to hold
+     * 
+     * @param frameRate The target frame rate
+     * 
+     * @throws InvalidDataException If the frame rate is not positive
+     * 
+     * @since 2.6.0
+     */
+    public void setTargetFrameRate(@NotNull Float frameRate) throws InvalidDataException {
+        NullUtils.checkNulls(frameRate, "frameRate");
+
+        if (frameRate <= 0) {
+            throw new InvalidDataException("Frame rate must be greater than 0");
+        }
+
+        this.targetFrameTime = (long) (1000000000d / frameRate);
+        this.average = -1;
+    }
+
+    /**
+     * Get the lowest scale allowed
+     * 
+     * @return The lowest scale
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getMinScale() {
+        return this.minScale;
+    }
+
+    /**
+     * Get the highest scale allowed
+     * 
+     * @return The highest scale
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getMaxScale() {
+        return this.maxScale;
+    }
+
+    /**
+     * Set the range the scale is kept in, clamping the current scale into it
+     * 
+     * @param minScale The lowest scale
+     * @param maxScale The highest scale
+     * 
+     * @throws InvalidDataException If the range is empty or not between 0 and 1
+     * 
+     * @since 2.6.0
+     */
+    public void setScaleRange(@NotNull Float minScale, @NotNull Float maxScale) throws InvalidDataException {
+        NullUtils.checkNulls(minScale, "minScale");
+        NullUtils.checkNulls(maxScale, "maxScale");
+
+        if (minScale <= 0 || maxScale > 1 || minScale > maxScale) {
+            throw new InvalidDataException("The scale range must be between 0 and 1 and not empty");
+        }
+
+        this.minScale = minScale;
+        this.maxScale = maxScale;
+        this.scale = Math.max(minScale, Math.min(maxScale, this.scale));
+    }
+}
\ No newline at end of file
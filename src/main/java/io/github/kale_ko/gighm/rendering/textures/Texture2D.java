@@ -1,16 +1,21 @@
 package io.github.kale_ko.gighm.rendering.textures;
 
 import java.nio.ByteBuffer;
+import java.util.stream.IntStream;
+import org.lwjgl.BufferUtils;
 import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.rendering.queue.RenderPass;
 import io.github.kale_ko.gighm.util.NotNull;
 import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
 
 /**
  * A 2D texture for applying to meshes
+ * A texture can carry a chain of mipmaps, textures without one have their mipmaps generated by the gpu when uploaded
  * 
  * @author Kale Ko
  * 
- * @version 1.3.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Texture2D {
@@ -35,6 +40,20 @@ public class Texture2D {
      */
     private @NotNull ByteBuffer data;
 
+    /**
+     * The raw data of each mipmap level after the first (Null if the texture has no mipmap chain)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable ByteBuffer[] mipmaps = null;
+
+    /**
+     * The pass the texture's alpha needs (Null until it is first requested)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable RenderPass pass = null;
+
     /**
      * Create a 2D texture
      * 
@@ -93,4 +112,196 @@ public class Texture2D {
     public @NotNull ByteBuffer getRawData() {
         return this.data;
     }
+
+    /**
+     * Get the pass the texture's alpha needs (Computed once and cached)
+     * Textures with only fully opaque pixels are opaque, textures with only fully opaque and fully clear pixels are cutout, and any other alpha is transparent
+     * 
+     * @return The pass of the texture
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull RenderPass getPass() {
+        if (this.pass == null) {
+            RenderPass pass = RenderPass.OPAQUE;
+
+            for (int i = 3; i < this.data.capacity(); i += 4) {
+                int alpha = this.data.get(i) & 0xFF;
+
+                if (alpha == 0) {
+                    pass = RenderPass.CUTOUT;
+                } else if (alpha != 255) {
+                    pass = RenderPass.TRANSPARENT;
+
+                    break;
+                }
+            }
+
+            this.pass = pass;
+        }
+
+        return this.pass;
+    }
+
+    /**
+     * Get the raw data of a mipmap level
+     * 
+     * @param level The mipmap level (0 for the full size texture)
+     * 
+     * @return The raw data of the level
+     * 
+     * @throws InvalidDataException If the texture does not have the level
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull ByteBuffer getRawData(int level) throws InvalidDataException {
+        if (level == 0) {
+            return this.data;
+        }
+
+        if (this.mipmaps == null || level < 0 || level > this.mipmaps.length) {
+            throw new InvalidDataException("The texture does not have mipmap level " + level);
+        }
+
+        return this.mipmaps[level - 1];
+    }
+
+    /**
+     * Get weather the texture carries a mipmap chain
+     * 
+     * @return Weather the texture has mipmaps
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getHasMipmaps() {
+        return this.mipmaps != null;
+    }
+
+    /**
+     * Get the number of levels in the texture including the full size one
+     * 
+     * @return The number of levels (1 if the texture has no mipmap chain)
+     * 
+     * @since 2.6.0
+     */
+    public int getLevels() {
+        return this.mipmaps != null ? this.mipmaps.length + 1 : 1;
+    }
+
+    /**
+     * Set the mipmap chain of the texture
+     * 
+     * @param mipmaps The raw data of each level after the first, each half the size of the last down to 1x1 (Null to remove the chain)
+     * 
+     * @throws InvalidDataException If the number of levels or the size of a level is wrong
+     * 
+     * @since 2.6.0
+     */
+    public void setMipmaps(@Nullable ByteBuffer[] mipmaps) throws InvalidDataException {
+        if (mipmaps != null) {
+            if (mipmaps.length != getLevels(this.width, this.height) - 1) {
+                throw new InvalidDataException("Mipmap chain must have " + (getLevels(this.width, this.height) - 1) + " levels");
+            }
+
+            for (int level = 1; level <= mipmaps.length; level++) {
+                if (mipmaps[level - 1] == null || mipmaps[level - 1].capacity() / 4 != getLevelSize(this.width, level) * getLevelSize(this.height, level)) {
+                    throw new InvalidDataException("Data size of mipmap level " + level + " does not match its width/height");
+                }
+            }
+        }
+
+        this.mipmaps = mipmaps;
+    }
+
+    /**
+     * Generate the mipmap chain of the texture on the cpu with a box filter, each level is filtered in parallel
+     * 
+     * @return This texture
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Texture2D generateMipmaps() {
+        ByteBuffer[] mipmaps = new ByteBuffer[getLevels(this.width, this.height) - 1];
+
+        ByteBuffer source = this.data;
+        int sourceWidth = this.width;
+        int sourceHeight = this.height;
+
+        for (int level = 1; level <= mipmaps.length; level++) {
+            int width = getLevelSize(this.width, level);
+            int height = getLevelSize(this.height, level);
+
+            ByteBuffer destination = BufferUtils.createByteBuffer(width * height * 4);
+            downsample(source, sourceWidth, sourceHeight, destination, width, height);
+
+            mipmaps[level - 1] = destination;
+
+            source = destination;
+            sourceWidth = width;
+            sourceHeight = height;
+        }
+
+        this.mipmaps = mipmaps;
+
+        return this;
+    }
+
+    /**
+     * Average each 2x2 block of pixels of one level into a pixel of the next
+     * 
+     * @param source The raw data of the larger level
+     * @param sourceWidth The width of the larger level
+     * @param sourceHeight The height of the larger level
+     * @param destination The raw data of the smaller level
+     * @param width The width of the smaller level
+     * @param height The height of the smaller level
+     * 
+     * @since 2.6.0
+     */
+    private static void downsample(@NotNull ByteBuffer source, int sourceWidth, int sourceHeight, @NotNull ByteBuffer destination, int width, int height) {
+        // Rows are independent and only use absolute gets and puts so they can be filtered on any thread
+        IntStream.range(0, height).parallel().forEach(y -> {
+            int y0 = Math.min(y * 2, sourceHeight - 1);
+            int y1 = Math.min(y * 2 + 1, sourceHeight - 1);
+
+            for (int x = 0; x < width; x++) {
+                int x0 = Math.min(x * 2, sourceWidth - 1);
+                int x1 = Math.min(x * 2 + 1, sourceWidth - 1);
+
+                for (int channel = 0; channel < 4; channel++) {
+                    int sum = (source.get((y0 * sourceWidth + x0) * 4 + channel) & 0xFF) + (source.get((y0 * sourceWidth + x1) * 4 + channel) & 0xFF) + (source.get((y1 * sourceWidth + x0) * 4 + channel) & 0xFF) + (source.get((y1 * sourceWidth + x1) * 4 + channel) & 0xFF);
+
+                    destination.put((y * width + x) * 4 + channel, (byte) ((sum + 2) / 4));
+                }
+            }
+        });
+    }
+
+    /**
+     * Get the number of mipmap levels a texture of a size has down to 1x1
+     * 
+     * @param width The width of the texture
+     * @param height The height of the texture
+     * 
+     * @return The number of levels including the full size one
+     * 
+     * @since 2.6.0
+     */
+    public static int getLevels(int width, int height) {
+        return 32 - Integer.numberOfLeadingZeros(Math.max(1, Math.max(width, height)));
+    }
+
+    /**
+     * Get the width or height of a mipmap level
+     * 
+     * @param size The full size width or height
+     * @param level The mipmap level
+     * 
+     * @return The width or height of the level
+     * 
+     * @since 2.6.0
+     */
+    public static int getLevelSize(int size, int level) {
+        return Math.max(1, size >> level);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,286 @@
+package io.github.kale_ko.gighm.rendering.textures;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.joml.Vector2i;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A skyline rectangle packer for placing textures in an atlas
+ * The packed area is tracked as a skyline of horizontal segments, every rectangle is placed where it keeps the skyline lowest
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class TexturePacker {
+    /**
+     * A horizontal segment of the skyline (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Segment {
+        /**
+         * The x position the segment starts at
+         * 
+         * @since 2.6.0
+         */
+        public int x;
+
+        /**
+         * The height of the skyline over the segment
+         * 
+         * @since 2.6.0
+         */
+        public int y;
+
+        /**
+         * The width of the segment
+         * 
+         * @since 2.6.0
+         */
+        public int width;
+
+        /**
+         * Create a segment (Only used internally)
+         * 
+         * @param x The x position the segment starts at
+         * @param y The height of the skyline over the segment
+         * @param width The width of the segment
+         * 
+         * @since 2.6.0
+         */
+        protected Segment(int x, int y, int width) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+        }
+    }
+
+    /**
+     * The width of the area being packed
+     * 
+     * @since 2.6.0
+     */
+    private int width;
+
+    /**
+     * The height of the area being packed
+     * 
+     * @since 2.6.0
+     */
+    private int height;
+
+    /**
+     * The segments of the skyline from left to right
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<Segment> segments = new ArrayList<Segment>();
+
+    /**
+     * The area covered by packed rectangles
+     * 
+     * @since 2.6.0
+     */
+    private long usedArea = 0;
+
+    /**
+     * Create a texture packer
+     * 
+     * @param width The width of the area to pack
+     * @param height The height of the area to pack
+     * 
+     * @throws InvalidDataException If the width or height is not positive
+     * 
+     * @since 2.6.0
+     */
+    public TexturePacker(int width, int height) throws InvalidDataException {
+        if (width <= 0 || height <= 0) {
+            throw new InvalidDataException("Width and height must be greater than 0");
+        }
+
+        this.width = width;
+        this.height = height;
+
+        this.clear();
+    }
+
+    /**
+     * Place a rectangle in the area
+     * 
+     * @param width The width of the rectangle
+     * @param height The height of the rectangle
+     * 
+     * @return The position of the rectangle (Null if it does not fit)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable Vector2i pack(int width, int height) {
+        if (width <= 0 || height <= 0 || width > this.width || height > this.height) {
+            return null;
+        }
+
+        int bestIndex = -1;
+        int bestTop = Integer.MAX_VALUE;
+        int bestWidth = Integer.MAX_VALUE;
+        int bestY = 0;
+
+        for (int i = 0; i < this.segments.size(); i++) {
+            int y = this.fit(i, width, height);
+
+            if (y >= 0) {
+                int top = y + height;
+
+                // Prefer the lowest top, then the narrowest segment so wide gaps are left for wide rectangles
+                if (top < bestTop || (top == bestTop && this.segments.get(i).width < bestWidth)) {
+                    bestIndex = i;
+                    bestTop = top;
+                    bestWidth = this.segments.get(i).width;
+                    bestY = y;
+                }
+            }
+        }
+
+        if (bestIndex == -1) {
+            return null;
+        }
+
+        int x = this.segments.get(bestIndex).x;
+        this.place(bestIndex, x, bestY + height, width);
+
+        this.usedArea += (long) width * height;
+
+        return new Vector2i(x, bestY);
+    }
+
+    /**
+     * Get the height a rectangle would be placed at if it started at a segment
+     * 
+     * @param index The index of the segment
+     * @param width The width of the rectangle
+     * @param height The height of the rectangle
+     * 
+     * @return The y position of the rectangle (-1 if it does not fit)
+     * 
+     * @since 2.6.0
+     */
+    private int fit(int index, int width, int height) {
+        int x = this.segments.get(index).x;
+        if (x + width > this.width) {
+            return -1;
+        }
+
+        // The rectangle rests on the highest segment it spans
+        int y = 0;
+        int remaining = width;
+        for (int i = index; remaining > 0; i++) {
+            Segment segment = this.segments.get(i);
+
+            y = Math.max(y, segment.y);
+            if (y + height > this.height) {
+                return -1;
+            }
+
+            remaining -= segment.width;
+        }
+
+        return y;
+    }
+
+    /**
+     * Raise the skyline under a placed rectangle
+     * 
+     * @param index The index of the segment the rectangle starts at
+     * @param x The x position of the rectangle
+     * @param top The top of the rectangle
+     * @param width The width of the rectangle
+     * 
+     * @since 2.6.0
+     */
+    private void place(int index, int x, int top, int width) {
+        this.segments.add(index, new Segment(x, top, width));
+
+        // Shrink or remove the segments now covered by the rectangle
+        int right = x + width;
+        while (index + 1 < this.segments.size()) {
+            Segment next = this.segments.get(index + 1);
+            if (next.x >= right) {
+                break;
+            }
+
+            int covered = right - next.x;
+            if (covered >= next.width) {
+                this.segments.remove(index + 1);
+            } else {
+                next.x += covered;
+                next.width -= covered;
+
+                break;
+            }
+        }
+
+        // Merge neighbours at the same height
+        for (int i = 0; i < this.segments.size() - 1; i++) {
+            Segment segment = this.segments.get(i);
+            Segment next = this.segments.get(i + 1);
+
+            if (segment.y == next.y) {
+                segment.width += next.width;
+                this.segments.remove(i + 1);
+                i--;
+            }
+        }
+    }
+
+    /**
+     * Remove every packed rectangle
+     * 
+     * @since 2.6.0
+     */
+    public void clear() {
+        this.segments.clear();
+        this.segments.add(new Segment(0, 0, this.width));
+
+        this.usedArea = 0;
+    }
+
+    /**
+     * Get the width of the area being packed
+     * 
+     * @return The width of the area
+     * 
+     * @since 2.6.0
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Get the height of the area being packed
+     * 
+     * @return The height of the area
+     * 
+     * @since 2.6.0
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Get the area covered by packed rectangles
+     * 
+     * @return The used area in pixels
+     * 
+     * @since 2.6.0
+     */
+    public long getUsedArea() {
+        return this.usedArea;
+    }
+}
\ No newline at end of file
@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Map;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
+import io.github.kale_ko.gighm.events.types.scene.ComponentAddEvent;
+import io.github.kale_ko.gighm.events.types.scene.ComponentRemoveEvent;
 import io.github.kale_ko.gighm.exception.InvalidModificationException;
 import io.github.kale_ko.gighm.scene.components.Component;
 import io.github.kale_ko.gighm.scene.components.Transform;
@@ -18,7 +20,7 @@ import io.github.kale_ko.gighm.util.Nullable;
  * 
  * @author Kale Ko
  * 
- * @version 2.0.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class GameObject {
@@ -43,6 +45,20 @@ public class GameObject {
      */
     private @NotNull Map<Class<? extends Component>, Component> components = new HashMap<Class<? extends Component>, Component>();
 
+    /**
+     * Weather the game object never moves and can be merged into a static batch
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean isStatic = false;
+
+    /**
+     * Weather the game object hides the objects behind it and is rasterized for occlusion culling
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean isOccluder = false;
+
     /**
      * Create an object that can hold different components
      * 
@@ -91,6 +107,56 @@ public class GameObject {
         this.name = name;
     }
 
+    /**
+     * Get weather the game object never moves and can be merged into a static batch
+     * 
+     * @return Weather the game object is static
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getStatic() {
+        return this.isStatic;
+    }
+
+    /**
+     * Set weather the game object never moves and can be merged into a static batch
+     * Moving a static object is not drawn until its batch is rebuilt
+     * 
+     * @param isStatic Weather the game object is static
+     * 
+     * @since 2.6.0
+     */
+    public void setStatic(@NotNull Boolean isStatic) {
+        NullUtils.checkNulls(isStatic, "isStatic");
+
+        this.isStatic = isStatic;
+    }
+
+    /**
+     * Get weather the game object hides the objects behind it and is rasterized for occlusion culling
+     * 
+     * @return Weather the game object is an occluder
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getOccluder() {
+        return this.isOccluder;
+    }
+
+    /**
+     * Set weather the game object hides the objects behind it and is rasterized for occlusion culling
+     * Only large solid meshes with few triangles make good occluders, every triangle of them is rasterized each frame
+     * 
+     * @param isOccluder Weather the game object is an occluder
+     * 
+     * @since 2.6.0
+     */
+    public void setOccluder(@NotNull Boolean isOccluder) {
+        NullUtils.checkNulls(isOccluder, "isOccluder");
+
+        this.isOccluder = isOccluder;
+    }
+
     /**
      * Get all the components from the object
      * 
@@ -102,6 +168,27 @@ public class GameObject {
         return new ArrayList<Component>(this.components.values());
     }
 
+    /**
+     * Get all the components from the object without allocating a new list
+     * 
+     * @param target The list to clear and store the components in
+     * 
+     * @return The target list
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull List<Component> getComponents(@NotNull List<Component> target) {
+        NullUtils.checkNulls(target, "target");
+
+        target.clear();
+
+        for (Component component : this.components.values()) {
+            target.add(component);
+        }
+
+        return target;
+    }
+
     /**
      * Add a component to the object
      * 
@@ -119,6 +206,10 @@ public class GameObject {
             object._setGameObject(this);
 
             this.components.put(object.getClass(), object);
+
+            if (this.scene != null) {
+                this.scene.getEventManager().emit(new ComponentAddEvent(this, object));
+            }
         } else {
             throw new InvalidModificationException("You can't add a component to multiple game objects");
         }
@@ -173,7 +264,11 @@ public class GameObject {
         if (clazz.equals(Transform.class)) {
             throw new InvalidModificationException("You can't remove an objects Transform");
         } else {
-            this.components.remove(clazz);
+            Component component = this.components.remove(clazz);
+
+            if (component != null && this.scene != null) {
+                this.scene.getEventManager().emit(new ComponentRemoveEvent(this, component));
+            }
         }
     }
 
@@ -2,6 +2,9 @@ package io.github.kale_ko.gighm.scene;
 
 import java.util.ArrayList;
 import java.util.List;
+import io.github.kale_ko.gighm.events.EventManager;
+import io.github.kale_ko.gighm.events.types.scene.ObjectAddEvent;
+import io.github.kale_ko.gighm.events.types.scene.ObjectRemoveEvent;
 import io.github.kale_ko.gighm.exception.InvalidModificationException;
 import io.github.kale_ko.gighm.util.NotNull;
 import io.github.kale_ko.gighm.util.NullUtils;
@@ -12,7 +15,7 @@ import io.github.kale_ko.gighm.util.Nullable;
  * 
  * @author Kale Ko
  * 
- * @version 1.7.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Scene {
@@ -30,6 +33,13 @@ public class Scene {
      */
     private @NotNull List<GameObject> objects = new ArrayList<GameObject>();
 
+    /**
+     * The event manager for scene events
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull EventManager eventManager = new EventManager();
+
     /**
      * Create a scene
      * 
@@ -74,6 +84,27 @@ public class Scene {
         return new ArrayList<GameObject>(this.objects);
     }
 
+    /**
+     * Get the objects inside the scene without allocating a new list
+     * 
+     * @param target The list to clear and store the objects in
+     * 
+     * @return The target list
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull List<GameObject> getObjects(@NotNull List<GameObject> target) {
+        NullUtils.checkNulls(target, "target");
+
+        target.clear();
+
+        for (int i = 0; i < this.objects.size(); i++) {
+            target.add(this.objects.get(i));
+        }
+
+        return target;
+    }
+
     /**
      * Get a list of objects inside the scene by name
      * 
@@ -164,6 +195,8 @@ public class Scene {
             object._setScene(this);
 
             this.objects.add(object);
+
+            this.eventManager.emit(new ObjectAddEvent(this, object));
         } else {
             throw new InvalidModificationException("You can't add a game object to multiple scenes");
         }
@@ -179,6 +212,19 @@ public class Scene {
     public void removeObject(@NotNull GameObject object) {
         NullUtils.checkNulls(object, "object");
 
-        this.objects.remove(object);
+        if (this.objects.remove(object)) {
+            this.eventManager.emit(new ObjectRemoveEvent(this, object));
+        }
+    }
+
+    /**
+     * Get the event manager for scene events
+     * 
+     * @return The event manager for scene events
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull EventManager getEventManager() {
+        return this.eventManager;
     }
 }
\ No newline at end of file
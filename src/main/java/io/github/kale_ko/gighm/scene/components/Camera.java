@@ -9,7 +9,7 @@ import io.github.kale_ko.gighm.util.NullUtils;
  * 
  * @author Kale Ko
  * 
- * @version 2.0.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Camera extends Component {
@@ -334,14 +334,71 @@ public class Camera extends Component {
      * @since 1.0.0
      */
     public @NotNull Matrix4f getProjection() {
-        Matrix4f target = new Matrix4f();
+        return this.getProjection(new Matrix4f());
+    }
+
+    /**
+     * Get the projection matrix of the camera
+     * 
+     * @param target The matrix to store the result in
+     * 
+     * @return The target matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getProjection(@NotNull Matrix4f target) {
+        NullUtils.checkNulls(target, "target");
+
+        Transform transform = this.getGameObject().getComponent(Transform.class);
+
+        return this.projection.rotate(transform.getRotation(), target).translate(transform.getPosition());
+    }
+
+    /**
+     * Get the view matrix of the camera (Its rotation and position without the projection)
+     * 
+     * @param target The matrix to store the result in
+     * 
+     * @return The target matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getViewMatrix(@NotNull Matrix4f target) {
+        NullUtils.checkNulls(target, "target");
+
+        Transform transform = this.getGameObject().getComponent(Transform.class);
+
+        return target.rotation(transform.getRotation()).translate(transform.getPosition());
+    }
+
+    /**
+     * Get the projection matrix of the camera without its rotation and position
+     * 
+     * @param target The matrix to store the result in
+     * 
+     * @return The target matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getProjectionMatrix(@NotNull Matrix4f target) {
+        NullUtils.checkNulls(target, "target");
 
-        Matrix4f position = new Matrix4f().translate(this.getGameObject().getComponent(Transform.class).getPosition());
-        Matrix4f rotation = new Matrix4f().rotate(this.getGameObject().getComponent(Transform.class).getRotation());
+        return target.set(this.projection);
+    }
 
-        target = projection.mul(rotation, target).mul(position);
+    /**
+     * Get the projection matrix of the camera with only its rotation applied (Used for rendering skyboxes)
+     * 
+     * @param target The matrix to store the result in
+     * 
+     * @return The target matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getRotationProjection(@NotNull Matrix4f target) {
+        NullUtils.checkNulls(target, "target");
 
-        return target;
+        return this.projection.rotate(this.getGameObject().getComponent(Transform.class).getRotation(), target);
     }
 
     /**
@@ -0,0 +1,260 @@
+package io.github.kale_ko.gighm.scene.components;
+
+import org.joml.Matrix4f;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.rendering.culling.Bounds;
+import io.github.kale_ko.gighm.rendering.objects.MeshSimplifier;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A set of meshes for drawing an object with less detail the smaller it is on screen
+ * The renderer draws the level picked by the object's projected size instead of its {@link Mesh} (The mesh is still used when the object is static)
+ * A level is only left once the size is past its threshold by the hysteresis so objects near a threshold do not switch back and forth every frame
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class LevelOfDetail extends Component {
+    /**
+     * The meshes of each level, from most to least detailed
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Mesh[] levels;
+
+    /**
+     * The screen size below which each level switches to the next one (One less than the number of levels)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float[] screenSizes;
+
+    /**
+     * The fraction past a threshold the screen size must be to switch levels
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float hysteresis = 0.1f;
+
+    /**
+     * The level currently being drawn
+     * 
+     * @since 2.6.0
+     */
+    private int level = 0;
+
+    /**
+     * Create a level of detail component
+     * 
+     * @param levels The meshes of each level, from most to least detailed
+     * @param screenSizes The screen size below which each level switches to the next one, a fraction of the screen height the object's bounding sphere covers (One less than the number of levels, decreasing)
+     * 
+     * @throws InvalidDataException If there are no levels or the screen sizes do not match them
+     * 
+     * @since 2.6.0
+     */
+    public LevelOfDetail(@NotNull Mesh[] levels, @NotNull Float[] screenSizes) throws InvalidDataException {
+        NullUtils.checkNulls(levels, "levels");
+        NullUtils.checkNulls(screenSizes, "screenSizes");
+
+        if (levels.length == 0) {
+            throw new InvalidDataException("There must be at least one level");
+        }
+        if (screenSizes.length != levels.length - 1) {
+            throw new InvalidDataException("There must be one less screen size than levels");
+        }
+        for (int i = 1; i < screenSizes.length; i++) {
+            if (screenSizes[i] > screenSizes[i - 1]) {
+                throw new InvalidDataException("Screen sizes must be decreasing");
+            }
+        }
+
+        this.levels = levels;
+        this.screenSizes = screenSizes;
+    }
+
+    /**
+     * Create a level of detail component by simplifying a mesh
+     * Each level has half the triangles of the one before and is used once the object is half the size on screen
+     * 
+     * @param mesh The most detailed level
+     * @param levelCount The number of levels to create
+     * @param screenSize The screen size below which the first level switches to the second
+     * 
+     * @return A new level of detail component
+     * 
+     * @throws InvalidDataException If the level count is not positive
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull LevelOfDetail create(@NotNull Mesh mesh, @NotNull Integer levelCount, @NotNull Float screenSize) throws InvalidDataException {
+        NullUtils.checkNulls(mesh, "mesh");
+        NullUtils.checkNulls(levelCount, "levelCount");
+        NullUtils.checkNulls(screenSize, "screenSize");
+
+        if (levelCount <= 0) {
+            throw new InvalidDataException("Level count must be greater than 0");
+        }
+
+        Mesh[] levels = new Mesh[levelCount];
+        Float[] screenSizes = new Float[levelCount - 1];
+
+        levels[0] = mesh;
+        for (int i = 1; i < levelCount; i++) {
+            levels[i] = MeshSimplifier.simplify(levels[i - 1], 0.5f);
+            screenSizes[i - 1] = screenSize / (1 << (i - 1));
+        }
+
+        return new LevelOfDetail(levels, screenSizes);
+    }
+
+    /**
+     * Get the projected size of a bounding sphere, the fraction of the screen height it covers
+     * 
+     * @param bounds The local space bounds of the object
+     * @param model The model matrix of the object
+     * @param view The view matrix of the camera
+     * @param projection The projection matrix of the camera
+     * 
+     * @return The screen size (Infinite if the camera is inside the sphere)
+     * 
+     * @since 2.6.0
+     */
+    public static float getScreenSize(@NotNull Bounds bounds, @NotNull Matrix4f model, @NotNull Matrix4f view, @NotNull Matrix4f projection) {
+        float x = bounds.getCenter().x;
+        float y = bounds.getCenter().y;
+        float z = bounds.getCenter().z;
+
+        float worldX = model.m00() * x + model.m10() * y + model.m20() * z + model.m30();
+        float worldY = model.m01() * x + model.m11() * y + model.m21() * z + model.m31();
+        float worldZ = model.m02() * x + model.m12() * y + model.m22() * z + model.m32();
+
+        float scale = (float) Math.sqrt(Math.max(model.m00() * model.m00() + model.m01() * model.m01() + model.m02() * model.m02(), Math.max(model.m10() * model.m10() + model.m11() * model.m11() + model.m12() * model.m12(), model.m20() * model.m20() + model.m21() * model.m21() + model.m22() * model.m22())));
+        float radius = bounds.getRadius() * scale;
+
+        // Orthographic projections do not shrink with distance
+        if (projection.m23() == 0) {
+            return radius * Math.abs(projection.m11());
+        }
+
+        float viewX = view.m00() * worldX + view.m10() * worldY + view.m20() * worldZ + view.m30();
+        float viewY = view.m01() * worldX + view.m11() * worldY + view.m21() * worldZ + view.m31();
+        float viewZ = view.m02() * worldX + view.m12() * worldY + view.m22() * worldZ + view.m32();
+
+        // The distance is used instead of the depth so turning the camera does not change the level
+        float distance = (float) Math.sqrt(viewX * viewX + viewY * viewY + viewZ * viewZ);
+        if (distance <= radius) {
+            return Float.POSITIVE_INFINITY;
+        }
+
+        return radius * Math.abs(projection.m11()) / distance;
+    }
+
+    /**
+     * Pick the level to draw for a screen size (Only used internally)
+     * 
+     * @param screenSize The projected size of the object
+     * 
+     * @return The mesh of the picked level
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Mesh select(float screenSize) {
+        float hysteresis = this.hysteresis;
+
+        while (this.level < this.screenSizes.length && screenSize < this.screenSizes[this.level] * (1 - hysteresis)) {
+            this.level++;
+        }
+        while (this.level > 0 && screenSize > this.screenSizes[this.level - 1] * (1 + hysteresis)) {
+            this.level--;
+        }
+
+        return this.levels[this.level];
+    }
+
+    /**
+     * Get the number of levels
+     * 
+     * @return The number of levels
+     * 
+     * @since 2.6.0
+     */
+    public int getLevelCount() {
+        return this.levels.length;
+    }
+
+    /**
+     * Get the mesh of a level
+     * 
+     * @param level The level
+     * 
+     * @return The mesh of the level
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Mesh getLevel(int level) {
+        return this.levels[level];
+    }
+
+    /**
+     * Get the screen size below which a level switches to the next one
+     * 
+     * @param level The level
+     * 
+     * @return The screen size
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getScreenSize(int level) {
+        return this.screenSizes[level];
+    }
+
+    /**
+     * Get the level currently being drawn
+     * 
+     * @return The current level
+     * 
+     * @since 2.6.0
+     */
+    public int getCurrentLevel() {
+        return this.level;
+    }
+
+    /**
+     * Get the mesh of the level currently being drawn
+     * 
+     * @return The current mesh
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Mesh getMesh() {
+        return this.levels[this.level];
+    }
+
+    /**
+     * Get the fraction past a threshold the screen size must be to switch levels
+     * 
+     * @return The hysteresis
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getHysteresis() {
+        return this.hysteresis;
+    }
+
+    /**
+     * Set the fraction past a threshold the screen size must be to switch levels
+     * 
+     * @param hysteresis The hysteresis (0 to switch exactly at the thresholds)
+     * 
+     * @since 2.6.0
+     */
+    public void setHysteresis(@NotNull Float hysteresis) {
+        NullUtils.checkNulls(hysteresis, "hysteresis");
+
+        this.hysteresis = hysteresis;
+    }
+}
\ No newline at end of file
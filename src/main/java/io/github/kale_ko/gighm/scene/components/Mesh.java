@@ -2,6 +2,8 @@ package io.github.kale_ko.gighm.scene.components;
 
 import java.awt.Color;
 import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.rendering.culling.Bounds;
+import io.github.kale_ko.gighm.rendering.queue.RenderPass;
 import io.github.kale_ko.gighm.rendering.textures.Texture2D;
 import io.github.kale_ko.gighm.util.NotNull;
 import io.github.kale_ko.gighm.util.NullUtils;
@@ -12,7 +14,7 @@ import io.github.kale_ko.gighm.util.Nullable;
  * 
  * @author Kale Ko
  * 
- * @version 1.9.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Mesh extends Component {
@@ -58,6 +60,20 @@ public class Mesh extends Component {
      */
     private @Nullable Integer[] triangles;
 
+    /**
+     * The bounds of the mesh (null until they are first requested)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Bounds bounds = null;
+
+    /**
+     * The pass the mesh is drawn in (Null to pick it from the alpha of the texture or color)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable RenderPass pass = null;
+
     /**
      * Create a mesh
      * 
@@ -209,6 +225,52 @@ public class Mesh extends Component {
         return this.triangles;
     }
 
+    /**
+     * Get the local space bounding box and bounding sphere of the mesh (Computed once and cached)
+     * 
+     * @return The bounds of the mesh
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Bounds getBounds() {
+        if (this.bounds == null) {
+            this.bounds = new Bounds(this.vertices, this.verticeSize);
+        }
+
+        return this.bounds;
+    }
+
+    /**
+     * Get the pass the mesh is drawn in
+     * Unless it was set a textured mesh uses the pass its texture's alpha needs and a colored mesh is transparent if its color is
+     * 
+     * @return The pass of the mesh
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull RenderPass getPass() {
+        if (this.pass != null) {
+            return this.pass;
+        } else if (this.texture != null && this.uvs != null) {
+            return this.texture.getPass();
+        } else if (this.color != null && this.color.getAlpha() < 255) {
+            return RenderPass.TRANSPARENT;
+        } else {
+            return RenderPass.OPAQUE;
+        }
+    }
+
+    /**
+     * Set the pass the mesh is drawn in
+     * 
+     * @param pass The pass of the mesh (Null to pick it from the alpha of the texture or color)
+     * 
+     * @since 2.6.0
+     */
+    public void setPass(@Nullable RenderPass pass) {
+        this.pass = pass;
+    }
+
     /**
      * Get the complete vertices of the mesh (The combined vertices and triangles)
      * 
@@ -234,11 +296,16 @@ public class Mesh extends Component {
      * @since 2.0.0
      */
     public Mesh copy() {
+        Mesh mesh;
         if (this.texture != null && this.uvs != null) {
-            return new Mesh(this.vertices, this.verticeSize, this.texture, this.uvs, this.triangles);
+            mesh = new Mesh(this.vertices, this.verticeSize, this.texture, this.uvs, this.triangles);
         } else {
-            return new Mesh(this.vertices, this.verticeSize, this.color, this.triangles);
+            mesh = new Mesh(this.vertices, this.verticeSize, this.color, this.triangles);
         }
+
+        mesh.pass = this.pass;
+
+        return mesh;
     }
 
     /**
@@ -12,7 +12,7 @@ import io.github.kale_ko.gighm.util.NullUtils;
  * 
  * @author Kale Ko
  * 
- * @version 1.9.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Transform extends Component {
@@ -216,7 +216,22 @@ public class Transform extends Component {
      * @since 1.0.0
      */
     public @NotNull Matrix4f getMatrix() {
-        return new Matrix4f().translate(this.position).rotate(this.rotation).scale(this.scale);
+        return this.getMatrix(new Matrix4f());
+    }
+
+    /**
+     * Get the complete matrix of the transform
+     * 
+     * @param target The matrix to store the result in
+     * 
+     * @return The target matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getMatrix(@NotNull Matrix4f target) {
+        NullUtils.checkNulls(target, "target");
+
+        return target.translation(this.position).rotate(this.rotation).scale(this.scale);
     }
 
     /**
@@ -0,0 +1,349 @@
+package io.github.kale_ko.gighm.tests;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.joml.Vector3f;
+import org.lwjgl.BufferUtils;
+import io.github.kale_ko.gighm.rendering.RenderStats;
+import io.github.kale_ko.gighm.rendering.Renderer;
+import io.github.kale_ko.gighm.rendering.device.RecordingRenderDevice;
+import io.github.kale_ko.gighm.rendering.objects.PrimitiveMeshes;
+import io.github.kale_ko.gighm.rendering.queue.RenderPass;
+import io.github.kale_ko.gighm.rendering.shaders.ProgramCache;
+import io.github.kale_ko.gighm.rendering.shaders.Shader;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderLoader;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderProgram;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.rendering.textures.Texture2DLoader;
+import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.Scene;
+import io.github.kale_ko.gighm.scene.components.Camera;
+import io.github.kale_ko.gighm.scene.components.LevelOfDetail;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.scene.components.Transform;
+
+public class HeadlessBenchmark {
+    // Frames in the second half should not allocate once the queues and caches have grown, this leaves room for the odd join that has to wait on a worker
+    private static final long STEADY_ALLOCATION_LIMIT = 64;
+
+    public static void main(String[] args) {
+        try {
+            Integer objects = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+            Integer frames = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+            Boolean sprites = args.length > 2 && args[2].equals("sprites");
+            Boolean occlusion = args.length > 2 && args[2].equals("occlusion");
+            Boolean lod = args.length > 2 && args[2].equals("lod");
+            Boolean passes = args.length > 2 && args[2].equals("passes");
+            Boolean pipelined = args.length > 2 && args[2].equals("pipelined");
+            Boolean dynamic = args.length > 2 && args[2].equals("dynamic");
+            Boolean programs = args.length > 2 && args[2].equals("programs");
+            Boolean variants = args.length > 2 && args[2].equals("variants");
+
+            Scene scene = new Scene();
+
+            GameObject cameraObject = new GameObject();
+            Camera camera = sprites ? Camera.createOrthographic(800, 600, 512f) : Camera.createPerspective(90f, 800f / 600f, 0.01f, 512f);
+            cameraObject.addComponent(camera);
+            cameraObject.getComponent(Transform.class).setPosition(new Vector3f(0, 0, -20));
+            scene.addObject(cameraObject);
+
+            Shader shader = ShaderLoader.loadDefault();
+            Renderer renderer = new Renderer(scene, camera, shader, new Color(0.8f, 0.8f, 0.8f));
+
+            RecordingRenderDevice device = new RecordingRenderDevice();
+            renderer.setDevice(device);
+            renderer.setOcclusionCulling(occlusion);
+            renderer.setSize(1600, 900);
+            renderer.setDynamicResolution(dynamic);
+            if (variants) {
+                renderer.setVariants(ShaderLoader.loadDefaultVariants());
+            }
+            renderer.init();
+
+            // Links 200 shader variants twice through a fresh cache, the second time every program should be loaded from its binary
+            if (programs) {
+                ProgramCache cache = new ProgramCache(Files.createTempDirectory("gighm-programs").toFile());
+
+                for (Integer run = 0; run < 2; run++) {
+                    long programStart = System.nanoTime();
+                    for (Integer i = 0; i < 200; i++) {
+                        Shader variant = new Shader(shader.getVertexSource() + "\n// Variant " + i + "\n", shader.getFragmentSource());
+                        new ShaderProgram(device, variant, cache).delete();
+                    }
+
+                    System.out.println((run == 0 ? "Cold" : "Warm") + " cache: " + String.format("%.3f", (System.nanoTime() - programStart) / 1000000.0) + "ms, Hits: " + cache.getHits() + ", Misses: " + cache.getMisses());
+                }
+
+                cache.clear();
+                cache.getDirectory().delete();
+
+                // Pretends new programs take 5 checks to compile in the background
+                device.setCompileLatency(5);
+            }
+
+            Texture2D[] textures = new Texture2D[] { Texture2DLoader.loadTexture(HeadlessBenchmark.class.getResourceAsStream("/assets/tests/kale.png")), Texture2DLoader.loadTexture(HeadlessBenchmark.class.getResourceAsStream("/assets/tests/noise.png")) };
+
+            Random random = new Random(0);
+
+            if (sprites) {
+                textures = new Texture2D[200];
+                for (Integer i = 0; i < textures.length; i++) {
+                    ByteBuffer data = BufferUtils.createByteBuffer(32 * 32 * 4);
+                    while (data.hasRemaining()) {
+                        data.put((byte) random.nextInt(256));
+                    }
+                    data.flip();
+
+                    textures[i] = new Texture2D(32, 32, data);
+                }
+            }
+
+            Texture2D cutout = null;
+            if (passes || variants) {
+                ByteBuffer data = BufferUtils.createByteBuffer(32 * 32 * 4);
+                for (Integer i = 0; i < 32 * 32; i++) {
+                    data.put((byte) 255).put((byte) 255).put((byte) 255).put((byte) ((i / 32 + i % 32) % 2 == 0 ? 255 : 0));
+                }
+                data.flip();
+
+                cutout = new Texture2D(32, 32, data);
+            }
+
+            Mesh sphere = createSphere(1f, 64, 32);
+            long simplifyStart = System.nanoTime();
+            LevelOfDetail sphereLevels = lod ? LevelOfDetail.create(sphere, 5, 0.1f) : null;
+            if (lod) {
+                System.out.print("Simplified in " + String.format("%.3f", (System.nanoTime() - simplifyStart) / 1000000.0) + "ms, Triangles per level:");
+                for (Integer i = 0; i < sphereLevels.getLevelCount(); i++) {
+                    System.out.print(" " + sphereLevels.getLevel(i).getTriangles().length / 3);
+                }
+                System.out.println();
+            }
+
+            for (Integer i = 0; i < objects; i++) {
+                GameObject object = new GameObject();
+                if (lod) {
+                    LevelOfDetail levels = new LevelOfDetail(new Mesh[] { sphereLevels.getLevel(0), sphereLevels.getLevel(1), sphereLevels.getLevel(2), sphereLevels.getLevel(3), sphereLevels.getLevel(4) }, new Float[] { sphereLevels.getScreenSize(0), sphereLevels.getScreenSize(1), sphereLevels.getScreenSize(2), sphereLevels.getScreenSize(3) });
+                    object.addComponent(levels);
+                    object.getComponent(Transform.class).setPosition(new Vector3f(random.nextFloat() * 400 - 200, random.nextFloat() * 400 - 200, random.nextFloat() * 400 - 200));
+                } else if (passes || variants) {
+                    if (i % 3 == 0) {
+                        object.addComponent(PrimitiveMeshes.CUBE.copy(textures[0]));
+                    } else if (i % 3 == 1) {
+                        object.addComponent(PrimitiveMeshes.CUBE.copy(cutout));
+                    } else {
+                        object.addComponent(PrimitiveMeshes.CUBE.copy(new Color(255, 0, 0, 128)));
+                    }
+                    object.getComponent(Transform.class).setPosition(new Vector3f(random.nextFloat() * 400 - 200, random.nextFloat() * 400 - 200, random.nextFloat() * 400 - 200));
+                } else if (sprites) {
+                    object.addComponent(PrimitiveMeshes.PLANE.copy(textures[i % textures.length]));
+                    object.getComponent(Transform.class).setPosition(new Vector3f(random.nextFloat() * 800 - 400, random.nextFloat() * 600 - 300, 0));
+                } else {
+                    object.addComponent(PrimitiveMeshes.CUBE.copy(textures[i % textures.length]));
+                    object.getComponent(Transform.class).setPosition(new Vector3f(random.nextFloat() * 400 - 200, random.nextFloat() * 400 - 200, random.nextFloat() * 400 - 200));
+                }
+                scene.addObject(object);
+            }
+
+            if (occlusion) {
+                GameObject wall = new GameObject();
+                wall.addComponent(PrimitiveMeshes.CUBE.copy(textures[0]));
+                wall.getComponent(Transform.class).setPosition(new Vector3f(0, 0, 10));
+                wall.getComponent(Transform.class).setScale(new Vector3f(30, 30, 1));
+                wall.setOccluder(true);
+                scene.addObject(wall);
+            }
+
+            renderer.render();
+
+            // Moves every object on another thread like ticks do, only while holding the pipeline's lock
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicInteger ticks = new AtomicInteger(0);
+            Thread simulation = null;
+            if (pipelined) {
+                List<GameObject> moving = scene.getObjects();
+
+                simulation = new Thread(() -> {
+                    while (running.get()) {
+                        synchronized (renderer.getPipeline().getLock()) {
+                            for (Integer i = 0; i < moving.size(); i++) {
+                                Transform transform = moving.get(i).getComponent(Transform.class);
+                                transform.setPosition(transform.getPosition().add(0.01f, 0, 0));
+                            }
+                        }
+
+                        ticks.incrementAndGet();
+
+                        try {
+                            Thread.sleep(1);
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                });
+                simulation.start();
+            }
+
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long thread = Thread.currentThread().getId();
+
+            long total = 0;
+            long allocated = 0;
+            long steadyAllocated = 0;
+            long longestFrame = 0;
+            Integer fallbackFrames = 0;
+            for (Integer i = 0; i < frames; i++) {
+                device.reset();
+
+                // Streams in a new shader halfway through, the frames before its program is ready are drawn with the old one
+                if (programs && i == frames / 2) {
+                    renderer.setShader(new Shader(shader.getVertexSource() + "\n// Streamed\n", shader.getFragmentSource()));
+                }
+
+                long allocatedStart = threads.getThreadAllocatedBytes(thread);
+                // Pretends the gpu takes 25ms to draw a full resolution frame, scaling with the number of pixels drawn
+                if (dynamic) {
+                    device.setQueryResult((long) (25000000.0 * renderer.getStats().getWidth() * renderer.getStats().getHeight() / (1600 * 900)));
+                }
+
+                long start = System.nanoTime();
+                if (pipelined) {
+                    synchronized (renderer.getPipeline().getLock()) {
+                        renderer.capture();
+                    }
+
+                    renderer.draw();
+                } else {
+                    renderer.render();
+                }
+                long time = System.nanoTime() - start;
+                total += time;
+                longestFrame = Math.max(longestFrame, time);
+
+                if (programs && !renderer.getShaderReady()) {
+                    fallbackFrames++;
+                }
+                long frameAllocated = threads.getThreadAllocatedBytes(thread) - allocatedStart;
+                allocated += frameAllocated;
+                if (i >= frames / 2) {
+                    steadyAllocated += frameAllocated;
+                }
+            }
+
+            if (dynamic) {
+                System.out.println("Resolution: " + renderer.getStats().getWidth() + "x" + renderer.getStats().getHeight() + " (Scale " + renderer.getScaler().getScale() + ", simulated gpu time " + String.format("%.3f", renderer.getStats().getGpuTime() / 1000000.0) + "ms)");
+            }
+
+            if (programs) {
+                System.out.println("Frames drawn with the old shader while the new one compiled: " + fallbackFrames + ", Longest frame: " + String.format("%.3f", longestFrame / 1000000.0) + "ms");
+            }
+
+            if (pipelined) {
+                running.set(false);
+                simulation.join();
+
+                System.out.println("Ticks while rendering: " + ticks.get());
+            }
+
+            if (lod) {
+                Integer[] counts = new Integer[] { 0, 0, 0, 0, 0 };
+                for (GameObject object : scene.getObjects()) {
+                    if (object.getComponent(LevelOfDetail.class) != null) {
+                        counts[object.getComponent(LevelOfDetail.class).getCurrentLevel()]++;
+                    }
+                }
+                System.out.println("Objects per level: " + java.util.Arrays.toString(counts));
+            }
+
+            RenderStats stats = renderer.getStats();
+            System.out.println("Objects: " + objects + ", Frames: " + frames);
+            System.out.println("Average frame: " + String.format("%.3f", total / (double) frames / 1000000) + "ms");
+            System.out.println("Average allocated per frame (Render thread): " + allocated / frames + " bytes");
+            long steadyFrames = frames - frames / 2;
+            System.out.println("Steady state allocated per frame (Render thread, second half): " + steadyAllocated / steadyFrames + " bytes");
+            System.out.println(stats);
+            System.out.print("Pass times (Render thread):");
+            for (RenderPass pass : RenderPass.values()) {
+                System.out.print(" " + pass + " " + String.format("%.3f", stats.getPassTime(pass) / 1000000.0) + "ms");
+            }
+            System.out.println();
+            System.out.println("Device commands: " + device.getCommandCount() + ", Draw calls: " + device.getDrawCalls() + ", State changes: " + device.getStateChanges() + ", Uploaded bytes: " + device.getUploadedBytes());
+
+            System.out.println("Resources: " + renderer.getResources().getBufferCount() + " buffers, " + renderer.getResources().getTextureCount() + " textures, " + renderer.getResources().getTextureArrayCount() + " texture arrays, " + renderer.getResources().getUsedBytes() + " bytes");
+
+            renderer.setScene(new Scene());
+            renderer.render();
+
+            System.out.println("Resources after unloading the scene: " + renderer.getResources().getBufferCount() + " buffers, " + renderer.getResources().getTextureCount() + " textures, " + renderer.getResources().getUsedBytes() + " bytes");
+
+            // Streaming in a shader compiles a new program in the second half so it is expected to allocate
+            if (!programs && steadyAllocated / steadyFrames > STEADY_ALLOCATION_LIMIT) {
+                System.err.println("Frames allocated " + steadyAllocated / steadyFrames + " bytes each in steady state, over the limit of " + STEADY_ALLOCATION_LIMIT);
+                System.exit(1);
+            }
+        } catch (IOException | InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static Mesh createSphere(Float radius, Integer slices, Integer stacks) {
+        Float[] vertices = new Float[(slices * (stacks - 1) + 2) * 3];
+        Integer[] triangles = new Integer[slices * (stacks - 1) * 6];
+
+        vertices[0] = 0f;
+        vertices[1] = radius;
+        vertices[2] = 0f;
+        for (Integer stack = 1; stack < stacks; stack++) {
+            double phi = Math.PI * stack / stacks;
+            for (Integer slice = 0; slice < slices; slice++) {
+                double theta = Math.PI * 2 * slice / slices;
+                Integer index = (1 + (stack - 1) * slices + slice) * 3;
+                vertices[index] = (float) (Math.sin(phi) * Math.cos(theta)) * radius;
+                vertices[index + 1] = (float) Math.cos(phi) * radius;
+                vertices[index + 2] = (float) (Math.sin(phi) * Math.sin(theta)) * radius;
+            }
+        }
+        Integer bottom = slices * (stacks - 1) + 1;
+        vertices[bottom * 3] = 0f;
+        vertices[bottom * 3 + 1] = -radius;
+        vertices[bottom * 3 + 2] = 0f;
+
+        Integer t = 0;
+        for (Integer slice = 0; slice < slices; slice++) {
+            Integer next = (slice + 1) % slices;
+            triangles[t++] = 0;
+            triangles[t++] = 1 + next;
+            triangles[t++] = 1 + slice;
+
+            triangles[t++] = bottom;
+            triangles[t++] = 1 + (stacks - 2) * slices + slice;
+            triangles[t++] = 1 + (stacks - 2) * slices + next;
+        }
+        for (Integer stack = 0; stack < stacks - 2; stack++) {
+            for (Integer slice = 0; slice < slices; slice++) {
+                Integer next = (slice + 1) % slices;
+                Integer a = 1 + stack * slices + slice;
+                Integer b = 1 + stack * slices + next;
+                Integer c = 1 + (stack + 1) * slices + slice;
+                Integer d = 1 + (stack + 1) * slices + next;
+
+                triangles[t++] = a;
+                triangles[t++] = b;
+                triangles[t++] = c;
+
+                triangles[t++] = b;
+                triangles[t++] = d;
+                triangles[t++] = c;
+            }
+        }
+
+        return new Mesh(vertices, 3, new Color(0.2f, 0.6f, 0.3f), triangles);
+    }
+}
\ No newline at end of file
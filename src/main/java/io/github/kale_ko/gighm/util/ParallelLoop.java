@@ -0,0 +1,135 @@
+package io.github.kale_ko.gighm.util;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * A loop over a number of chunks that runs them on the common fork join pool
+ * The tasks are kept and reused every run so running the loop each frame does not allocate, unlike a parallel stream
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ParallelLoop {
+    /**
+     * A reusable task that runs one chunk of the loop (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Chunk extends RecursiveAction {
+        /**
+         * The body of the loop
+         * 
+         * @since 2.6.0
+         */
+        private final @NotNull IntConsumer body;
+
+        /**
+         * The chunk the task runs
+         * 
+         * @since 2.6.0
+         */
+        private final int index;
+
+        /**
+         * Create a chunk task (Only used internally)
+         * 
+         * @param body The body of the loop
+         * @param index The chunk the task runs
+         * 
+         * @since 2.6.0
+         */
+        protected Chunk(@NotNull IntConsumer body, int index) {
+            this.body = body;
+            this.index = index;
+        }
+
+        /**
+         * Run the chunk
+         * 
+         * @since 2.6.0
+         */
+        @Override
+        protected void compute() {
+            this.body.accept(this.index);
+        }
+    }
+
+    /**
+     * The body of the loop, called once with the index of each chunk
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull IntConsumer body;
+
+    /**
+     * The tasks of each chunk (Grown when a run has more chunks than before)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Chunk[] chunks = new Chunk[0];
+
+    /**
+     * Create a parallel loop
+     * 
+     * @param body The body of the loop, called once with the index of each chunk (Must be safe to call from several threads at once)
+     * 
+     * @since 2.6.0
+     */
+    public ParallelLoop(@NotNull IntConsumer body) {
+        NullUtils.checkNulls(body, "body");
+
+        this.body = body;
+    }
+
+    /**
+     * Run the loop and wait for every chunk to finish
+     * The first chunk is run on the calling thread and any chunks no worker has taken yet are run on it while waiting
+     * 
+     * @param count The number of chunks
+     * 
+     * @since 2.6.0
+     */
+    public void run(int count) {
+        if (count <= 1) {
+            if (count == 1) {
+                this.body.accept(0);
+            }
+
+            return;
+        }
+
+        if (this.chunks.length < count) {
+            Chunk[] chunks = new Chunk[count];
+            System.arraycopy(this.chunks, 0, chunks, 0, this.chunks.length);
+            for (int i = this.chunks.length; i < count; i++) {
+                chunks[i] = new Chunk(this.body, i);
+            }
+            this.chunks = chunks;
+        }
+
+        for (int i = 1; i < count; i++) {
+            this.chunks[i].reinitialize();
+            this.chunks[i].fork();
+        }
+
+        try {
+            this.body.accept(0);
+        } finally {
+            // Every task has to finish before it can be reused, even if a chunk failed
+            for (int i = count - 1; i >= 1; i--) {
+                this.chunks[i].quietlyJoin();
+            }
+        }
+
+        for (int i = 1; i < count; i++) {
+            // Rethrows the exception of a failed chunk
+            this.chunks[i].join();
+        }
+    }
+}
\ No newline at end of file
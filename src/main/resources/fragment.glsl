@@ -1,18 +1,37 @@
 #version 330
 
+// Variants compiled with TEXTURED or COLORED skip the per fragment branch on hasSampler
+#if !defined(TEXTURED) && !defined(COLORED)
 uniform bool hasSampler;
+#endif
 
+#ifndef COLORED
 uniform sampler2D sampler;
+#endif
 in vec2 uv;
 
-uniform vec3 color;
+#ifndef TEXTURED
+uniform vec4 color;
+#endif
+
+uniform bool cutout;
 
 out vec4 fragColor;
 
 void main() {
+#if defined(TEXTURED)
+    fragColor = texture2D(sampler, uv);
+#elif defined(COLORED)
+    fragColor = vec4(color.r / 255, color.g / 255, color.b / 255, color.a / 255);
+#else
     if (hasSampler) {
         fragColor = texture2D(sampler, uv);
     } else {
-        fragColor = vec4(color.r / 255, color.g / 255, color.b / 255, 1);
+        fragColor = vec4(color.r / 255, color.g / 255, color.b / 255, color.a / 255);
+    }
+#endif
+
+    if (cutout && fragColor.a < 0.5) {
+        discard;
     }
 }
@@ -0,0 +1,10 @@
+#version 330
+
+uniform samplerCube sampler;
+in vec3 direction;
+
+out vec4 fragColor;
+
+void main() {
+    fragColor = texture(sampler, direction);
+}
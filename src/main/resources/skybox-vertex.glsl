@@ -0,0 +1,14 @@
+#version 330
+
+in vec3 vertices;
+
+out vec3 direction;
+
+uniform mat4 projection;
+
+void main() {
+    direction = vertices;
+
+    vec4 position = projection * vec4(vertices, 1);
+    gl_Position = position.xyww;
+}
@@ -0,0 +1,16 @@
+#version 330
+
+uniform sampler2DArray sampler;
+uniform bool cutout;
+in vec3 uv;
+in vec4 color;
+
+out vec4 fragColor;
+
+void main() {
+    fragColor = texture(sampler, uv) * color;
+
+    if (cutout && fragColor.a < 0.5) {
+        discard;
+    }
+}
@@ -0,0 +1,17 @@
+#version 330
+
+in vec3 vertices;
+in vec3 uvs;
+in vec4 colors;
+
+out vec3 uv;
+out vec4 color;
+
+uniform mat4 projection;
+
+void main() {
+    uv = uvs;
+    color = colors;
+
+    gl_Position = projection * vec4(vertices, 1);
+}
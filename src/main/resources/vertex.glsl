@@ -3,12 +3,24 @@
 in vec3 verticies;
 in vec2 uvs;
 
-out vec2 uv;
+// The camera block also declares projection so only one of them can be used
+#ifdef INSTANCED
+#include "camera.glsl"
 
+in mat4 instanceMatrix;
+#else
 uniform mat4 projection;
+#endif
+
+out vec2 uv;
 
 void main() {
     uv = uvs;
 
+#ifdef INSTANCED
+    gl_Position = viewProjection * instanceMatrix * vec4(verticies, 1);
+#else
+    // Without instancing the renderer uploads the model view projection matrix for each draw
     gl_Position = projection * vec4(verticies, 1);
+#endif
 }